@@ -0,0 +1,111 @@
+// I/O 위주 요청 부하 도구 (로컬 전용, 의존성 없음)
+// - 동시 요청 N 개를 duration 동안 유지하며 처리량/지연을 재고, --pid 를 주면 백엔드 프로세스 RSS 를 함께 기록
+// - 플랫폼 스레드 모드와 가상 스레드 모드(virtual 프로필) 비교용. 같은 조건으로 두 번 실행해 결과를 비교
+//
+// 예) 1. node _local/stub-upstreams/server.js   (LATENCY_MS=200 으로 외부 API 지연 주입)
+//     2. 백엔드 실행 (둘 중 하나, ulimit -n 도 concurrency 보다 크게)
+//        ./gradlew bootRun -PjavaVersion=21
+//        ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=virtual'
+//     3. node _local/stub-upstreams/io-load.js --concurrency 5000 --duration 60 --token <accessToken> --pid <백엔드 PID> \
+//          --method POST --path /api/quotes/validate --body @quote.json
+//   --target       백엔드 주소 (기본 http://localhost:8080)
+//   --path         요청 경로 (기본 /api/notifications/me/inbox?size=20, DB 조회만 하는 요청)
+//                  /api/quotes/validate 는 DeepSeek(stub) 호출을 기다리는 요청 (deepseek.enabled=true 필요)
+//   --method       GET / POST (기본 GET)
+//   --body         POST 본문 JSON 문자열 또는 @파일경로
+//   --token        access token (Authorization: Bearer)
+//   --concurrency  동시 요청 수 (기본 5000)
+//   --duration     측정 시간(초) (기본 30)
+//   --pid          백엔드 PID. 1초마다 RSS 를 읽어 최대/평균 출력 (ps 사용)
+// JVM 힙/스레드 수는 jcmd <PID> GC.heap_info, jcmd <PID> Thread.print 로 따로 확인
+
+const http = require("http");
+const https = require("https");
+const fs = require("fs");
+const { execFileSync } = require("child_process");
+
+function arg(name, fallback) {
+  const i = process.argv.indexOf(`--${name}`);
+  return i >= 0 && process.argv[i + 1] ? process.argv[i + 1] : fallback;
+}
+
+const target = arg("target", "http://localhost:8080");
+const path = arg("path", "/api/notifications/me/inbox?size=20");
+const method = arg("method", "GET").toUpperCase();
+const rawBody = arg("body", "");
+const token = arg("token", "");
+const concurrency = Number(arg("concurrency", 5000));
+const duration = Number(arg("duration", 30));
+const pid = arg("pid", "");
+
+const body = rawBody.startsWith("@") ? fs.readFileSync(rawBody.slice(1), "utf8") : rawBody;
+const url = new URL(path, target);
+const client = url.protocol === "https:" ? https : http;
+const agent = new client.Agent({ keepAlive: true, maxSockets: concurrency });
+
+function request() {
+  const headers = {};
+  if (token) {
+    headers.Authorization = `Bearer ${token}`;
+  }
+  if (body) {
+    headers["Content-Type"] = "application/json";
+    headers["Content-Length"] = Buffer.byteLength(body);
+  }
+  return new Promise((resolve) => {
+    const started = process.hrtime.bigint();
+    const req = client.request(url, { method, headers, agent }, (res) => {
+      res.resume();
+      res.on("end", () => resolve({ status: res.statusCode, ms: Number(process.hrtime.bigint() - started) / 1e6 }));
+    });
+    req.on("error", () => resolve({ status: 0, ms: Number(process.hrtime.bigint() - started) / 1e6 }));
+    req.end(body || undefined);
+  });
+}
+
+function rssKb() {
+  try {
+    return Number(execFileSync("ps", ["-o", "rss=", "-p", pid]).toString().trim());
+  } catch (e) {
+    return 0;
+  }
+}
+
+async function main() {
+  const latencies = [];
+  const statuses = {};
+  const rss = [];
+  const deadline = Date.now() + duration * 1000;
+  const sampler = pid ? setInterval(() => rss.push(rssKb()), 1000) : null;
+
+  const started = Date.now();
+  async function workerLoop() {
+    while (Date.now() < deadline) {
+      const { status, ms } = await request();
+      statuses[status] = (statuses[status] || 0) + 1;
+      latencies.push(ms);
+    }
+  }
+  await Promise.all(Array.from({ length: concurrency }, workerLoop));
+  const elapsed = (Date.now() - started) / 1000;
+  if (sampler) {
+    clearInterval(sampler);
+  }
+
+  latencies.sort((a, b) => a - b);
+  const pct = (p) => latencies[Math.min(latencies.length - 1, Math.floor(p * latencies.length))].toFixed(1);
+  const ok = Object.entries(statuses)
+    .filter(([code]) => code >= 200 && code < 300)
+    .reduce((sum, [, n]) => sum + n, 0);
+  console.log(`${method} ${url.pathname} concurrency=${concurrency} elapsed=${elapsed.toFixed(2)}s`);
+  console.log(`requests=${latencies.length} ok=${ok} rps=${(latencies.length / elapsed).toFixed(0)} okRps=${(ok / elapsed).toFixed(0)}`);
+  console.log(`status=${JSON.stringify(statuses)} p50=${pct(0.5)}ms p95=${pct(0.95)}ms p99=${pct(0.99)}ms`);
+  const valid = rss.filter((v) => v > 0);
+  if (valid.length > 0) {
+    const max = Math.max(...valid);
+    const avg = valid.reduce((a, b) => a + b, 0) / valid.length;
+    console.log(`rss max=${(max / 1024).toFixed(0)}MB avg=${(avg / 1024).toFixed(0)}MB samples=${valid.length}`);
+  }
+}
+
+main();
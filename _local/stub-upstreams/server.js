@@ -0,0 +1,175 @@
+// 외부 API stub 서버 (로컬 전용, 의존성 없음)
+// - 토스페이먼츠(승인/조회/취소) / odcloud 사업자 진위확인 / DeepSeek 채팅 API 를 흉내내고 지연·실패·무응답을 주입해
+//   outbound-http 타임아웃, 동시 호출 상한, 서킷 브레이커 동작을 확인하는 용도
+//
+// 실행: node _local/stub-upstreams/server.js
+// 백엔드: TOSS_PAYMENTS_BASE_URL=http://localhost:9090 ODCLOUD_API_BASE_URL=http://localhost:9090
+//         (DeepSeek 은 deepseek.api.base-url=http://localhost:9090, deepseek.enabled=true, deepseek.api.key=any)
+//
+// 환경 변수
+//   PORT        (기본 9090)
+//   LATENCY_MS  응답 지연 (기본 50)
+//   FAIL_RATE   0~1, 이 비율만큼 500 응답 (기본 0)
+//   HANG_RATE   0~1, 이 비율만큼 응답하지 않음 → 클라이언트 read-timeout 확인용 (기본 0)
+// 실행 중 변경: POST /__stub/config  {"latencyMs": 2000, "failRate": 0.5, "hangRate": 0}
+// 결제 조회 결과 등록: POST /__stub/payments {"orderId": "...", "paymentKey": "...", "amount": 1000, "status": "DONE"}
+// 통계: GET /__stub/stats
+
+const http = require("http");
+
+const config = {
+  latencyMs: Number(process.env.LATENCY_MS || 50),
+  failRate: Number(process.env.FAIL_RATE || 0),
+  hangRate: Number(process.env.HANG_RATE || 0),
+};
+const stats = { requests: 0, failed: 0, hung: 0, inFlight: 0, maxInFlight: 0, canceled: 0 };
+const payments = new Map();
+const cancels = new Map();
+
+function send(res, status, body) {
+  res.writeHead(status, { "Content-Type": "application/json; charset=utf-8" });
+  res.end(JSON.stringify(body));
+}
+
+function readBody(req) {
+  return new Promise((resolve) => {
+    const chunks = [];
+    req.on("data", (c) => chunks.push(c));
+    req.on("end", () => {
+      const raw = Buffer.concat(chunks).toString("utf8");
+      try {
+        resolve(raw ? JSON.parse(raw) : {});
+      } catch (e) {
+        resolve({});
+      }
+    });
+  });
+}
+
+function upstream(req, res, handler) {
+  stats.requests++;
+  stats.inFlight++;
+  stats.maxInFlight = Math.max(stats.maxInFlight, stats.inFlight);
+  res.on("close", () => stats.inFlight--);
+
+  if (Math.random() < config.hangRate) {
+    stats.hung++;
+    return; // 응답하지 않음 (클라이언트가 끊을 때까지)
+  }
+  setTimeout(async () => {
+    if (Math.random() < config.failRate) {
+      stats.failed++;
+      return send(res, 500, { code: "STUB_FAILURE", message: "injected failure" });
+    }
+    const body = await readBody(req);
+    handler(body);
+  }, config.latencyMs);
+}
+
+function tossPayment(paymentKey, orderId, amount) {
+  return {
+    paymentKey,
+    orderId,
+    status: "DONE",
+    totalAmount: amount,
+    approvedAt: new Date().toISOString().replace("Z", "+09:00"),
+  };
+}
+
+const server = http.createServer(async (req, res) => {
+  const url = new URL(req.url, "http://localhost");
+
+  if (url.pathname === "/__stub/config" && req.method === "POST") {
+    Object.assign(config, await readBody(req));
+    return send(res, 200, config);
+  }
+  if (url.pathname === "/__stub/payments" && req.method === "POST") {
+    // 웹훅 시뮬레이터용: 토스 결제 조회 결과 미리 등록 {orderId, paymentKey, amount, status}
+    const body = await readBody(req);
+    const payment = { ...tossPayment(body.paymentKey, body.orderId, body.amount), status: body.status || "DONE" };
+    payments.set(body.orderId, payment);
+    return send(res, 200, payment);
+  }
+  if (url.pathname === "/__stub/stats") {
+    return send(res, 200, { config, stats });
+  }
+
+  if (url.pathname === "/v1/payments/confirm" && req.method === "POST") {
+    return upstream(req, res, (body) => {
+      if (payments.has(body.orderId)) {
+        return send(res, 400, { code: "ALREADY_PROCESSED_PAYMENT", message: "이미 처리된 결제 입니다." });
+      }
+      const payment = tossPayment(body.paymentKey, body.orderId, body.amount);
+      payments.set(body.orderId, payment);
+      send(res, 200, payment);
+    });
+  }
+  const cancel = url.pathname.match(/^\/v1\/payments\/([^/]+)\/cancel$/);
+  if (cancel && req.method === "POST") {
+    // 환불 워커 부하 테스트: 같은 Idempotency-Key 재요청은 처음 응답 그대로
+    return upstream(req, res, (body) => {
+      const key = req.headers["idempotency-key"];
+      if (key && cancels.has(key)) {
+        const prev = cancels.get(key);
+        return send(res, prev.status, prev.body);
+      }
+      const paymentKey = decodeURIComponent(cancel[1]);
+      let payment = [...payments.values()].find((p) => p.paymentKey === paymentKey);
+      if (!payment) {
+        // 백엔드 DB 에만 있는 결제도 취소되도록 등록 없이 성공 처리
+        payment = tossPayment(paymentKey, `stub-${paymentKey}`, 0);
+        payments.set(payment.orderId, payment);
+      }
+      let result;
+      if (payment.status === "CANCELED") {
+        result = { status: 400, body: { code: "ALREADY_CANCELED_PAYMENT", message: "이미 취소된 결제 입니다." } };
+      } else {
+        payment.status = "CANCELED";
+        payment.cancels = [{ cancelReason: body.cancelReason, canceledAt: new Date().toISOString() }];
+        result = { status: 200, body: payment };
+      }
+      stats.canceled++;
+      if (key) {
+        cancels.set(key, result);
+      }
+      send(res, result.status, result.body);
+    });
+  }
+  const order = url.pathname.match(/^\/v1\/payments\/orders\/(.+)$/);
+  if (order && req.method === "GET") {
+    return upstream(req, res, () => {
+      const payment = payments.get(decodeURIComponent(order[1]));
+      if (!payment) {
+        return send(res, 404, { code: "NOT_FOUND_PAYMENT", message: "존재하지 않는 결제 정보 입니다." });
+      }
+      send(res, 200, payment);
+    });
+  }
+
+  if (url.pathname === "/api/nts-businessman/v1/validate" && req.method === "POST") {
+    return upstream(req, res, (body) => {
+      const businesses = body.businesses || [];
+      send(res, 200, {
+        status_code: "OK",
+        request_cnt: businesses.length,
+        valid_cnt: businesses.length,
+        data: businesses.map((b) => ({ b_no: b.b_no, valid: "01", request_param: b })),
+      });
+    });
+  }
+
+  if (url.pathname === "/chat/completions" && req.method === "POST") {
+    return upstream(req, res, () => {
+      send(res, 200, {
+        choices: [{ message: { role: "assistant", content: "stub 조언: 입력값이 일반적인 범위입니다." } }],
+      });
+    });
+  }
+
+  send(res, 404, { code: "NOT_FOUND", message: url.pathname });
+});
+
+const port = Number(process.env.PORT || 9090);
+server.listen(port, () => {
+  console.log(`stub upstreams listening on http://localhost:${port}`, config);
+});
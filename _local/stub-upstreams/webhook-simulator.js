@@ -0,0 +1,115 @@
+// 토스 결제 상태 웹훅 시뮬레이터 (로컬 부하 테스트용, 의존성 없음)
+// - 백엔드 POST /api/webhooks/toss/payments 로 PAYMENT_STATUS_CHANGED 웹훅을 동시에 전송
+// - dup-rate 비율만큼 같은 (paymentKey, status) 웹훅을 다시 보내 중복 제거 확인
+// - --stub 을 주면 stub 서버(server.js)에 같은 결제를 등록해 verify-with-api 조회가 성공하도록 함
+//
+// 예) node _local/stub-upstreams/webhook-simulator.js --events 5000 --concurrency 100 --dup-rate 0.3 \
+//       --orders FRT-AAAA,FRT-BBBB --stub http://localhost:9090
+//   --target       웹훅 URL (기본 http://localhost:8080/api/webhooks/toss/payments)
+//   --events       보낼 고유 웹훅 수 (기본 1000)
+//   --concurrency  동시 요청 수 (기본 50)
+//   --dup-rate     0~1, 고유 웹훅마다 중복 전송 확률 (기본 0.2)
+//   --orders       실제 DB 주문번호(쉼표 구분). 없으면 임의 주문번호 (결제 없음 → IGNORED)
+//   --status       웹훅 결제 상태 (기본 DONE)
+//   --amount       결제 금액 (기본 10000)
+//   --stub         stub 서버 주소 (선택)
+// 처리 결과는 GET /api/admin/payments/webhooks/stats 로 확인
+
+const http = require("http");
+const https = require("https");
+
+function arg(name, fallback) {
+  const i = process.argv.indexOf(`--${name}`);
+  return i >= 0 && process.argv[i + 1] ? process.argv[i + 1] : fallback;
+}
+
+const target = arg("target", "http://localhost:8080/api/webhooks/toss/payments");
+const events = Number(arg("events", 1000));
+const concurrency = Number(arg("concurrency", 50));
+const dupRate = Number(arg("dup-rate", 0.2));
+const orders = arg("orders", "").split(",").filter(Boolean);
+const status = arg("status", "DONE");
+const amount = Number(arg("amount", 10000));
+const stub = arg("stub", "");
+
+function post(urlString, body) {
+  const url = new URL(urlString);
+  const client = url.protocol === "https:" ? https : http;
+  const payload = JSON.stringify(body);
+  return new Promise((resolve) => {
+    const started = process.hrtime.bigint();
+    const req = client.request(
+      url,
+      { method: "POST", headers: { "Content-Type": "application/json", "Content-Length": Buffer.byteLength(payload) } },
+      (res) => {
+        res.resume();
+        res.on("end", () => resolve({ status: res.statusCode, ms: Number(process.hrtime.bigint() - started) / 1e6 }));
+      }
+    );
+    req.on("error", () => resolve({ status: 0, ms: Number(process.hrtime.bigint() - started) / 1e6 }));
+    req.end(payload);
+  });
+}
+
+function webhook(i) {
+  const orderId = orders.length > 0 ? orders[i % orders.length] : `SIM-${Date.now()}-${i}`;
+  return {
+    eventType: "PAYMENT_STATUS_CHANGED",
+    createdAt: new Date().toISOString(),
+    data: {
+      paymentKey: `sim_${orderId}`,
+      orderId,
+      status,
+      totalAmount: amount,
+      approvedAt: new Date().toISOString().replace("Z", "+09:00"),
+    },
+  };
+}
+
+async function main() {
+  const jobs = [];
+  for (let i = 0; i < events; i++) {
+    const body = webhook(i);
+    jobs.push(body);
+    if (Math.random() < dupRate) {
+      jobs.push(body);
+    }
+  }
+
+  if (stub) {
+    const seen = new Set();
+    for (const job of jobs) {
+      if (!seen.has(job.data.orderId)) {
+        seen.add(job.data.orderId);
+        await post(`${stub}/__stub/payments`, {
+          orderId: job.data.orderId,
+          paymentKey: job.data.paymentKey,
+          amount,
+          status,
+        });
+      }
+    }
+  }
+
+  const latencies = [];
+  const statuses = {};
+  let next = 0;
+  const started = Date.now();
+  async function workerLoop() {
+    while (next < jobs.length) {
+      const job = jobs[next++];
+      const { status: code, ms } = await post(target, job);
+      statuses[code] = (statuses[code] || 0) + 1;
+      latencies.push(ms);
+    }
+  }
+  await Promise.all(Array.from({ length: concurrency }, workerLoop));
+  const elapsed = (Date.now() - started) / 1000;
+
+  latencies.sort((a, b) => a - b);
+  const pct = (p) => latencies[Math.min(latencies.length - 1, Math.floor(p * latencies.length))].toFixed(1);
+  console.log(`sent=${jobs.length} unique=${events} elapsed=${elapsed.toFixed(2)}s rps=${(jobs.length / elapsed).toFixed(0)}`);
+  console.log(`status=${JSON.stringify(statuses)} p50=${pct(0.5)}ms p95=${pct(0.95)}ms p99=${pct(0.99)}ms`);
+}
+
+main();
@@ -0,0 +1,15 @@
+-- 열거형(@Enumerated STRING) 컬럼을 VARCHAR 로 변경
+-- Hibernate 6 은 MySQL 에서 열거형 컬럼을 네이티브 ENUM('A','B',...) 으로 만들고, ddl-auto: update 는 기존 컬럼을 바꾸지 않음
+-- → 열거값을 추가한 버전을 배포하면 새 값 저장 시 "Data truncated" 오류. 엔티티는 이제 VARCHAR 로 선언하므로 새 스키마는 해당 없음
+-- 기존 DB 는 배포 전에 한 번 실행 (이미 VARCHAR 여도 그대로 실행 가능)
+
+-- 결제 상태: CONFIRMING 추가 (승인 요청 ~ 결과 반영 전)
+ALTER TABLE payments MODIFY COLUMN status VARCHAR(20) NOT NULL;
+
+-- 알림 유형: MATCH_OFFERED 추가 (배차 제안). 아웃박스/보관 테이블도 같은 유형을 저장
+ALTER TABLE notifications MODIFY COLUMN type VARCHAR(50);
+ALTER TABLE notification_outbox MODIFY COLUMN type VARCHAR(50);
+ALTER TABLE notifications_archive MODIFY COLUMN type VARCHAR(50);
+
+-- 알림 유형 ANNOUNCEMENT: 응답에만 쓰는 값 (공지는 announcements 테이블에 저장, notifications 행으로 저장하지 않음)
+-- → 위 ALTER 외에 추가 작업 없음. announcements / announcement_read_marks 에는 열거형 컬럼이 없음
@@ -0,0 +1,14 @@
+package com.freight.backend.dto.match;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 묶음(합짐) 매칭 일괄 수락 요청 DTO
+ */
+@Getter
+@Setter
+public class MatchBundleAcceptRequest {
+    private List<Long> matchIds;
+}
@@ -0,0 +1,54 @@
+package com.freight.backend.dto.match;
+
+import com.freight.backend.repository.projection.ShipperMatchSummary;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 화주 매칭 목록 응답 DTO (매칭 + 견적 요약 + 최근 결제 상태)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ShipperMatchSummaryResponse {
+
+    private Long matchId;
+    private Long quoteId;
+    private Long driverId;
+    private Boolean accepted;
+    private String status;
+    private LocalDateTime acceptedAt;
+    private LocalDateTime createdAt;
+    private String originAddress;
+    private String destinationAddress;
+    private String cargoName;
+    private String vehicleType;
+    private Integer finalPrice;
+    private LocalDateTime pickupAt;
+    private String quoteStatus;
+    private Long latestPaymentId;
+    private String latestPaymentStatus;
+
+    public static ShipperMatchSummaryResponse from(ShipperMatchSummary row) {
+        return ShipperMatchSummaryResponse.builder()
+                .matchId(row.matchId())
+                .quoteId(row.quoteId())
+                .driverId(row.driverId())
+                .accepted(row.accepted())
+                .status(row.status().name())
+                .acceptedAt(row.acceptedAt())
+                .createdAt(row.createdAt())
+                .originAddress(row.originAddress())
+                .destinationAddress(row.destinationAddress())
+                .cargoName(row.cargoName())
+                .vehicleType(row.vehicleType())
+                .finalPrice(row.finalPrice())
+                .pickupAt(row.pickupAt())
+                .quoteStatus(row.quoteStatus())
+                .latestPaymentId(row.latestPaymentId())
+                .latestPaymentStatus(row.latestPaymentStatus() == null ? null : row.latestPaymentStatus().name())
+                .build();
+    }
+}
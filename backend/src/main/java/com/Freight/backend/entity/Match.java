@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -25,7 +26,7 @@ import lombok.Setter;
  * - 기사가 수락하면 driverId 설정, accepted=true
  */
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = @Index(name = "idx_matches_quote_id_status", columnList = "quote_id, status"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
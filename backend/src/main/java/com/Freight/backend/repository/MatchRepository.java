@@ -1,9 +1,20 @@
 package com.freight.backend.repository;
 
+import com.freight.backend.dispatch.DispatchTask;
 import com.freight.backend.entity.Match;
+import com.freight.backend.repository.projection.BundleMatchRow;
+import com.freight.backend.repository.projection.MatchOwnership;
+import com.freight.backend.repository.projection.MatchWithQuote;
+import com.freight.backend.repository.projection.ShipperMatchSummary;
+import com.freight.backend.schedule.ScheduleEntry;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -47,9 +58,115 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     /**
      * 화주가 생성한 매칭 목록 (해당 화주의 견적에 대한 매칭, 취소 제외)
      */
-    @Query("SELECT m FROM Match m WHERE m.quoteId IN (SELECT q.quoteId FROM Quote q WHERE q.shipperId = :shipperId) AND m.status <> 'CANCELLED'")
+    @Query("""
+            SELECT m FROM Match m JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE q.shipperId = :shipperId AND m.status <> 'CANCELLED'
+            """)
     List<Match> findByShipperIdAndStatusNotCancelled(@Param("shipperId") Long shipperId);
 
     /** 해당 견적들에 대한 모든 매칭 ID 조회 (정산/결제 목록 등용) */
     List<Match> findByQuoteIdIn(List<Long> quoteIds);
+
+    /** 일괄 배차 대상: 수락 전 READY 매칭 중 견적이 OPEN 이고 출발지 좌표가 있는 것 */
+    @Query("""
+            SELECT new com.freight.backend.dispatch.DispatchTask(
+                m.matchId, q.quoteId, q.originLat, q.originLng, q.weightKg, q.finalPrice,
+                q.pickupAt, q.deliveryAt)
+            FROM Match m JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE m.accepted = false AND m.status = 'READY'
+              AND q.status = 'OPEN'
+              AND q.originLat IS NOT NULL AND q.originLng IS NOT NULL
+            """)
+    List<DispatchTask> findDispatchTasks();
+
+    /** 기사 일정 재구성용: 수락된 READY/IN_TRANSIT 매칭의 상/하차 예정 시각 */
+    @Query("""
+            SELECT new com.freight.backend.schedule.ScheduleEntry(
+                m.matchId, m.driverId, q.pickupAt, q.deliveryAt)
+            FROM Match m JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE m.accepted = true AND m.driverId IS NOT NULL
+              AND m.status IN ('READY', 'IN_TRANSIT')
+              AND q.pickupAt IS NOT NULL
+            """)
+    List<ScheduleEntry> findCommittedSchedules();
+
+    /**
+     * 기사 한 명의 확정 일정 [match_id, pickup_at, delivery_at] (매칭 수락 시 DB 기준 겹침 확인용)
+     * - 잠금 읽기라 트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽음
+     */
+    @Query(value = """
+            SELECT m.match_id, q.pickup_at, q.delivery_at
+            FROM matches m JOIN quotes q ON q.quote_id = m.quote_id
+            WHERE m.driver_id = :driverId AND m.accepted = true
+              AND m.status IN ('READY', 'IN_TRANSIT')
+              AND q.pickup_at IS NOT NULL
+            FOR SHARE
+            """, nativeQuery = true)
+    List<Object[]> findCommittedScheduleRowsForShare(@Param("driverId") Long driverId);
+
+    /**
+     * 매칭 행 잠금 + 현재 상태 (결제 확정/매칭 취소의 환불 판단을 매칭 단위로 직렬화). 매칭이 없으면 empty
+     * - 결제 확정과 매칭 취소 모두 매칭 → 결제 순서로 잠가 교착을 피함
+     */
+    @Query(value = "SELECT status FROM matches WHERE match_id = :matchId FOR UPDATE", nativeQuery = true)
+    Optional<String> lockStatusForUpdate(@Param("matchId") Long matchId);
+
+    /** 묶음 수락 검증용: 매칭과 견적을 한 번에 조회 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.BundleMatchRow(
+                m.matchId, q.quoteId, q.shipperId, m.accepted, m.status, q.status, q.allowCombine,
+                q.pickupAt, q.deliveryAt)
+            FROM Match m JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE m.matchId IN :matchIds
+            """)
+    List<BundleMatchRow> findBundleRows(@Param("matchIds") Collection<Long> matchIds);
+
+    /** 수락 전 READY 매칭만 조건부로 일괄 수락, 갱신 건수 반환 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Match m
+            SET m.driverId = :driverId, m.accepted = true, m.acceptedAt = :now, m.updatedAt = :now
+            WHERE m.matchId IN :matchIds AND m.accepted = false AND m.status = 'READY'
+            """)
+    int acceptAll(
+            @Param("matchIds") Collection<Long> matchIds,
+            @Param("driverId") Long driverId,
+            @Param("now") LocalDateTime now
+    );
+
+    /** 권한 확인용: 매칭과 견적 소유 화주 ID를 조인 1회로 조회 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.MatchOwnership(m, q.shipperId)
+            FROM Match m JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE m.matchId = :matchId
+            """)
+    Optional<MatchOwnership> findOwnership(@Param("matchId") Long matchId);
+
+    /** 수락/취소용: 매칭과 견적 엔티티를 조인 1회로 조회 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.MatchWithQuote(m, q)
+            FROM Match m JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE m.matchId = :matchId
+            """)
+    Optional<MatchWithQuote> findWithQuote(@Param("matchId") Long matchId);
+
+    /**
+     * 화주 매칭 목록 (취소 제외, 최신순): 매칭 + 견적 요약 + 최근 결제 상태를 한 번에 조회
+     * - quotes(shipper_id) → matches(quote_id, status) → payments(match_id) 인덱스 조인
+     * - Slice 로 받아 count 쿼리 생략
+     */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.ShipperMatchSummary(
+                m.matchId, m.quoteId, m.driverId, m.accepted, m.status, m.acceptedAt, m.createdAt,
+                q.originAddress, q.destinationAddress, q.cargoName, q.vehicleType, q.finalPrice,
+                q.pickupAt, q.status, p.paymentId, p.status)
+            FROM Quote q
+            JOIN Match m ON m.quoteId = q.quoteId
+            LEFT JOIN Payment p ON p.matchId = m.matchId
+            WHERE q.shipperId = :shipperId AND m.status <> 'CANCELLED'
+              AND (p.paymentId IS NULL
+                   OR p.paymentId = (SELECT MAX(p2.paymentId) FROM Payment p2 WHERE p2.matchId = m.matchId))
+            ORDER BY m.matchId DESC
+            """)
+    Slice<ShipperMatchSummary> findShipperMatchSummaries(@Param("shipperId") Long shipperId, Pageable pageable);
 }
@@ -1,16 +1,31 @@
 package com.freight.backend.service;
 
+import com.freight.backend.common.TransactionCallbacks;
+import com.freight.backend.dto.common.SliceResponse;
 import com.freight.backend.dto.match.MatchResponse;
+import com.freight.backend.dto.match.ShipperMatchSummaryResponse;
 import com.freight.backend.entity.Match;
 import com.freight.backend.entity.Notification;
 import com.freight.backend.entity.Quote;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.geo.QuoteSpatialIndex;
 import com.freight.backend.repository.MatchRepository;
 import com.freight.backend.repository.QuoteRepository;
+import com.freight.backend.repository.projection.BundleMatchRow;
+import com.freight.backend.repository.projection.MatchWithQuote;
+import com.freight.backend.schedule.DriverScheduleRegistry;
+import com.freight.backend.schedule.ScheduleWindow;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +37,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MatchService {
 
+    private static final int MAX_BUNDLE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MatchRepository matchRepository;
     private final QuoteRepository quoteRepository;
     private final NotificationService notificationService;
+    private final QuoteSpatialIndex quoteSpatialIndex;
+    private final DriverScheduleRegistry driverScheduleRegistry;
+    private final OwnershipResolver ownershipResolver;
+    private final RefundService refundService;
 
     /**
      * 매칭 생성 (화주)
@@ -83,26 +105,37 @@ public class MatchService {
     /**
      * 매칭 수락 (기사)
      * - 아직 수락되지 않은 매칭만 수락 가능
+     * - 기사의 기존 운송 일정과 상/하차 시간이 겹치면 수락 불가
      * - 수락 시 견적 상태를 MATCHED로 변경
      */
     @Transactional
     public MatchResponse acceptMatch(Long driverId, Long matchId) {
-        Match match = matchRepository.findById(matchId)
+        MatchWithQuote matchWithQuote = matchRepository.findWithQuote(matchId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        Match match = matchWithQuote.match();
+        Quote quote = matchWithQuote.quote();
 
         // 이미 수락된 매칭인지 확인
         if (match.getAccepted()) {
             throw new CustomException(ErrorCode.MATCH_ALREADY_ACCEPTED);
         }
 
+        // 일정 예약 (DB 기준으로 겹치면 거절, 트랜잭션 롤백 시 예약 해제)
+        ScheduleWindow window = driverScheduleRegistry.window(quote.getPickupAt(), quote.getDeliveryAt());
+        if (window != null) {
+            TransactionCallbacks.afterRollback(() -> driverScheduleRegistry.release(driverId, matchId));
+            if (!driverScheduleRegistry.reserve(driverId, Map.of(matchId, window))) {
+                throw new CustomException(ErrorCode.SCHEDULE_CONFLICT);
+            }
+        }
+
         // 매칭 수락 처리
         match.accept(driverId);
 
         // 견적 상태 변경
-        Quote quote = quoteRepository.findById(match.getQuoteId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
         quote.markMatched();
         quoteRepository.save(quote);
+        quoteSpatialIndex.removeAfterCommit(quote.getQuoteId());
 
         Match saved = matchRepository.save(match);
         notificationService.createNotification(
@@ -114,27 +147,86 @@ public class MatchService {
         return MatchResponse.from(saved);
     }
 
+    /**
+     * 묶음(합짐) 매칭 일괄 수락 (기사)
+     * - 매칭/견적을 조인 1회로 검증, 2건 이상이면 모든 견적이 합짐 허용이어야 함
+     * - 조건부 UPDATE 로 매칭 수락/견적 MATCHED 를 한 번에 처리하고 갱신 건수가 다르면 전체 롤백
+     * - 알림은 배치 INSERT
+     */
+    @Transactional
+    public List<MatchResponse> acceptBundle(Long driverId, List<Long> matchIds) {
+        if (matchIds == null || matchIds.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        Set<Long> ids = new LinkedHashSet<>(matchIds);
+        if (ids.size() > MAX_BUNDLE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        List<BundleMatchRow> rows = matchRepository.findBundleRows(ids);
+        if (rows.size() != ids.size()) {
+            throw new CustomException(ErrorCode.MATCH_NOT_FOUND);
+        }
+        Map<Long, ScheduleWindow> windows = new LinkedHashMap<>();
+        List<Long> quoteIds = new ArrayList<>(rows.size());
+        for (BundleMatchRow row : rows) {
+            if (Boolean.TRUE.equals(row.accepted())) {
+                throw new CustomException(ErrorCode.MATCH_ALREADY_ACCEPTED);
+            }
+            if (row.status() != Match.Status.READY || !"OPEN".equals(row.quoteStatus())) {
+                throw new CustomException(ErrorCode.QUOTE_NOT_OPEN);
+            }
+            if (ids.size() > 1 && !Boolean.TRUE.equals(row.allowCombine())) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+            windows.put(row.matchId(), driverScheduleRegistry.window(row.pickupAt(), row.deliveryAt()));
+            quoteIds.add(row.quoteId());
+        }
+
+        // 일정 예약 (묶음 전체 기준, DB 기준으로 겹치면 거절, 롤백 시 해제)
+        TransactionCallbacks.afterRollback(() -> ids.forEach(id -> driverScheduleRegistry.release(driverId, id)));
+        if (!driverScheduleRegistry.reserve(driverId, windows)) {
+            throw new CustomException(ErrorCode.SCHEDULE_CONFLICT);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (matchRepository.acceptAll(ids, driverId, now) != ids.size()) {
+            throw new CustomException(ErrorCode.MATCH_ALREADY_ACCEPTED);
+        }
+        if (quoteRepository.markMatchedAll(quoteIds, now) != quoteIds.size()) {
+            throw new CustomException(ErrorCode.QUOTE_NOT_OPEN);
+        }
+        quoteIds.forEach(quoteSpatialIndex::removeAfterCommit);
+
+        List<Notification> notifications = new ArrayList<>(rows.size());
+        for (BundleMatchRow row : rows) {
+            notifications.add(Notification.builder()
+                    .receiverId(row.shipperId())
+                    .matchId(row.matchId())
+                    .type(Notification.Type.MATCH_ACCEPTED)
+                    .message("기사님이 매칭을 수락했습니다.")
+                    .build());
+        }
+        notificationService.createNotifications(notifications);
+
+        return matchRepository.findAllById(ids).stream()
+                .map(MatchResponse::from)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 매칭 취소 (화주 또는 기사)
      * - 화주: 본인 견적의 매칭만 취소 가능
      * - 기사: 본인이 수락한 매칭만 취소 가능
      * - 취소 시 견적 상태를 OPEN으로 되돌림
+     * - 결제 완료된 매칭이면 환불(토스 결제 취소) 작업 등록
      */
     @Transactional
     public void cancelMatch(Long userId, String role, Long matchId) {
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
-
-        Quote quote = quoteRepository.findById(match.getQuoteId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-
         // 권한 확인 (미수락 시 driverId=null)
-        boolean isShipperOwner = "ROLE_SHIPPER".equals(role) && quote.getShipperId().equals(userId);
-        boolean isMatchedDriver = "ROLE_DRIVER".equals(role) && match.getDriverId() != null && match.getDriverId().equals(userId);
-
-        if (!isShipperOwner && !isMatchedDriver) {
-            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
-        }
+        MatchWithQuote matchWithQuote = ownershipResolver.requireMatchWithQuoteParticipant(matchId, userId, role);
+        Match match = matchWithQuote.match();
+        Quote quote = matchWithQuote.quote();
 
         // 매칭 취소 및 견적 상태 복원
         match.cancel();
@@ -142,8 +234,13 @@ public class MatchService {
 
         matchRepository.save(match);
         quoteRepository.save(quote);
+        quoteSpatialIndex.indexAfterCommit(quote);
+
+        // 결제 완료된 매칭이면 환불 작업 등록 (토스 취소는 커밋 후 환불 워커가 처리)
+        refundService.requestRefunds(matchId, "ROLE_DRIVER".equals(role) ? "기사 매칭 취소" : "화주 매칭 취소");
 
         Long driverId = match.getDriverId();
+        TransactionCallbacks.afterCommit(() -> driverScheduleRegistry.release(driverId, matchId));
         if ("ROLE_SHIPPER".equals(role) && driverId != null) {
             notificationService.createNotification(
                     driverId,
@@ -162,6 +259,45 @@ public class MatchService {
         }
     }
 
+    /**
+     * 운송 시작 (기사: 본인이 수락한 매칭만)
+     * - READY 상태에서만 가능, IN_TRANSIT 으로 변경
+     */
+    @Transactional
+    public MatchResponse startTransit(Long driverId, Long matchId) {
+        Match match = requireDriverMatchInStatus(driverId, matchId, Match.Status.READY);
+        match.startTransit();
+        return MatchResponse.from(matchRepository.save(match));
+    }
+
+    /**
+     * 운송 완료 (기사: 본인이 수락한 매칭만)
+     * - IN_TRANSIT 상태에서만 가능, COMPLETED 로 변경 (정산 대상이 됨)
+     * - 커밋 후 기사 일정에서 제외
+     */
+    @Transactional
+    public MatchResponse completeMatch(Long driverId, Long matchId) {
+        Match match = requireDriverMatchInStatus(driverId, matchId, Match.Status.IN_TRANSIT);
+        match.complete();
+        Match saved = matchRepository.save(match);
+        TransactionCallbacks.afterCommit(() -> driverScheduleRegistry.release(driverId, matchId));
+        return MatchResponse.from(saved);
+    }
+
+    /** 매칭 행을 잠근 뒤(취소/결제 확정과 직렬화) 기사 본인 매칭 + 기대 상태인지 확인 */
+    private Match requireDriverMatchInStatus(Long driverId, Long matchId, Match.Status expected) {
+        String status = matchRepository.lockStatusForUpdate(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        Match match = ownershipResolver.requireMatchParticipant(matchId, driverId, "ROLE_DRIVER");
+        if (Match.Status.CANCELLED.name().equals(status)) {
+            throw new CustomException(ErrorCode.MATCH_ALREADY_CANCELLED);
+        }
+        if (!expected.name().equals(status)) {
+            throw new CustomException(ErrorCode.MATCH_INVALID_STATUS);
+        }
+        return match;
+    }
+
     /**
      * 매칭 상세 조회.
      * 해당 매칭의 견적 소유 화주 또는 수락한 기사만 조회 가능.
@@ -174,17 +310,7 @@ public class MatchService {
         if (userId == null) {
             throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
         }
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
-        Quote quote = quoteRepository.findById(match.getQuoteId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-
-        boolean isShipperOwner = "ROLE_SHIPPER".equals(role) && quote.getShipperId().equals(userId);
-        boolean isMatchedDriver = "ROLE_DRIVER".equals(role) && userId.equals(match.getDriverId());
-
-        if (!isShipperOwner && !isMatchedDriver) {
-            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
-        }
+        Match match = ownershipResolver.requireMatchParticipant(matchId, userId, role);
         return MatchResponse.from(match);
     }
 
@@ -210,6 +336,21 @@ public class MatchService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 화주 매칭 목록 페이지 (매칭 + 견적 요약 + 최근 결제 상태, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<ShipperMatchSummaryResponse> getShipperMatchSummaries(Long shipperId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        PageRequest pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        return SliceResponse.of(
+                matchRepository.findShipperMatchSummaries(shipperId, pageable),
+                ShipperMatchSummaryResponse::from
+        );
+    }
+
     /**
      * 견적 ID로 매칭 조회
      */
@@ -1,48 +1,49 @@
 package com.freight.backend.ai;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.freight.backend.http.OutboundHttpClients;
 import java.util.List;
 import java.util.Optional;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+/**
+ * DeepSeek 채팅 API 클라이언트 (견적 검증 조언)
+ * - 타임아웃/동시 호출 상한/서킷은 outbound-http.clients.deepseek. 실패 시 조언 없이 진행
+ */
 @Service
-@RequiredArgsConstructor
 public class DeepSeekClient {
     private static final Logger log = LoggerFactory.getLogger(DeepSeekClient.class);
 
-    @Value("${deepseek.enabled:false}")
-    private boolean enabled;
-
-    @Value("${deepseek.api.key:}")
-    private String apiKey;
-
-    @Value("${deepseek.api.base-url:https://api.deepseek.com}")
-    private String baseUrl;
-
-    @Value("${deepseek.api.model:deepseek-chat}")
-    private String model;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final boolean enabled;
+    private final String apiKey;
+    private final String model;
+    private final RestClient restClient;
+
+    public DeepSeekClient(
+            OutboundHttpClients outboundHttpClients,
+            @Value("${deepseek.enabled:false}") boolean enabled,
+            @Value("${deepseek.api.key:}") String apiKey,
+            @Value("${deepseek.api.base-url:https://api.deepseek.com}") String baseUrl,
+            @Value("${deepseek.api.model:deepseek-chat}") String model
+    ) {
+        this.enabled = enabled;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.restClient = outboundHttpClients.builder("deepseek").baseUrl(baseUrl).build();
+    }
 
     public Optional<String> generateAdvice(String prompt) {
         if (!enabled || apiKey == null || apiKey.isBlank()) {
             return Optional.empty();
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-
         ChatCompletionRequest body = new ChatCompletionRequest(
                 model,
                 List.of(
@@ -54,12 +55,13 @@ public class DeepSeekClient {
         );
 
         try {
-            String url = baseUrl + "/chat/completions";
-            ChatCompletionResponse response = restTemplate.postForObject(
-                    url,
-                    new HttpEntity<>(body, headers),
-                    ChatCompletionResponse.class
-            );
+            ChatCompletionResponse response = restClient.post()
+                    .uri("/chat/completions")
+                    .headers(headers -> headers.setBearerAuth(apiKey))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .body(ChatCompletionResponse.class);
             if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
                 return Optional.empty();
             }
@@ -0,0 +1,161 @@
+package com.freight.backend.auth;
+
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷, 이메일별 + IP별)
+ * - 버킷은 키 해시로 나눈 stripe 마다 HashMap + 잠금 1개 (전역 잠금 경합 없이 원자적으로 차감)
+ * - IP 는 시도마다, 이메일은 검증 실패 때만 차감 (성공하면 이메일 버킷 초기화)
+ * - 비밀번호 검증 전에 확인하므로 제한에 걸린 요청은 BCrypt 를 쓰지 않음
+ * - 가득 찬 채로 idle 한 버킷은 주기적으로 정리
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder throttled = new LongAdder();
+
+    public LoginRateLimiter(
+            @Value("${auth.login.email.capacity:5}") int emailCapacity,
+            @Value("${auth.login.email.refill-per-minute:5}") double emailRefillPerMinute,
+            @Value("${auth.login.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.login.ip.refill-per-minute:60}") double ipRefillPerMinute
+    ) {
+        this.emailLimit = new Limit(Math.max(1, emailCapacity), emailRefillPerMinute / TimeUnit.MINUTES.toNanos(1));
+        this.ipLimit = new Limit(Math.max(1, ipCapacity), ipRefillPerMinute / TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 로그인 시도 확인 (비밀번호 검증 전)
+     * - IP 버킷은 시도마다 1회 차감
+     * - 이메일 버킷은 남은 토큰만 확인 (차감은 검증 실패 때만, onFailure)
+     * - 어느 한쪽 버킷이라도 비었으면 AUTH_TOO_MANY_ATTEMPTS
+     */
+    public void acquire(String email, String clientIp) {
+        long now = System.nanoTime();
+        if (clientIp != null && !tryConsume("ip:" + clientIp, ipLimit, now)) {
+            throttled.increment();
+            throw new CustomException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        }
+        if (email != null && !hasToken(emailKey(email), emailLimit, now)) {
+            throttled.increment();
+            throw new CustomException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        }
+    }
+
+    /** 비밀번호 검증 실패 (없는 계정 포함) → 이메일 버킷 1회 차감 */
+    public void onFailure(String email) {
+        if (email != null) {
+            tryConsume(emailKey(email), emailLimit, System.nanoTime());
+        }
+    }
+
+    /** 로그인 성공 → 이메일 버킷 초기화 (앞선 실패 횟수는 잊음) */
+    public void onSuccess(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = emailKey(email);
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            stripe.buckets.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public long throttled() {
+        return throttled.sum();
+    }
+
+    /** 다시 가득 찬 버킷 제거 (제거해도 다음 시도 때 가득 찬 버킷으로 새로 만들어지므로 동작은 같음) */
+    @Scheduled(fixedDelayString = "${auth.login.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.buckets.values().removeIf(b -> b.refilled(now) >= b.limit.capacity);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private boolean hasToken(String key, Limit limit, long now) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            return bucket == null || bucket.refilled(now) >= 1;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private boolean tryConsume(String key, Limit limit, long now) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.computeIfAbsent(key, k -> new Bucket(limit, now));
+            bucket.tokens = bucket.refilled(now);
+            bucket.updatedAt = now;
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase();
+    }
+
+    private record Limit(int capacity, double tokensPerNano) {
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets = new HashMap<>();
+    }
+
+    private static final class Bucket {
+        private final Limit limit;
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(Limit limit, long now) {
+            this.limit = limit;
+            this.tokens = limit.capacity();
+            this.updatedAt = now;
+        }
+
+        private double refilled(long now) {
+            return Math.min(limit.capacity(), tokens + (now - updatedAt) * limit.tokensPerNano());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.freight.backend.auth;
+
+import com.freight.backend.dto.auth.LoginStatsResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.http.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 검증(BCrypt) 전용 실행기
+ * - BCrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아닌 코어 수 크기의 전용 스레드에서 실행
+ *   (로그인이 몰려도 견적/매칭 등 다른 API 의 요청 스레드와 CPU 를 다 가져가지 않도록)
+ * - 대기열이 차면 바로 AUTH_LOGIN_BUSY(503), 대기열에서 timeout-ms 를 넘겨도 503
+ */
+@Component
+public class PasswordVerifier {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LatencyHistogram hashLatency = new LatencyHistogram();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+
+    public PasswordVerifier(
+            BCryptPasswordEncoder passwordEncoder,
+            @Value("${auth.password.threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.timeout-ms:3000}") long timeoutMs
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                size, size,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "password-verify-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /** 비밀번호 일치 여부 (최대 timeout-ms 대기) */
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (rawPassword == null || passwordHash == null) {
+            return false;
+        }
+        long submittedAt = System.nanoTime();
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                queueWait.record(start - submittedAt);
+                try {
+                    return passwordEncoder.matches(rawPassword, passwordHash);
+                } finally {
+                    hashLatency.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.AUTH_LOGIN_BUSY);
+        }
+
+        try {
+            boolean result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            verified.increment();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new CustomException(ErrorCode.AUTH_LOGIN_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AUTH_LOGIN_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    /** 검증 현황 (throttled 는 LoginRateLimiter 값을 받아 채움) */
+    public LoginStatsResponse stats(long throttled) {
+        return LoginStatsResponse.builder()
+                .verifierThreads(executor.getMaximumPoolSize())
+                .verifierActive(executor.getActiveCount())
+                .verifierQueued(executor.getQueue().size())
+                .verified(verified.sum())
+                .rejected(rejected.sum())
+                .timedOut(timedOut.sum())
+                .throttled(throttled)
+                .hashP50Ms(hashLatency.percentileMs(0.50))
+                .hashP99Ms(hashLatency.percentileMs(0.99))
+                .queueWaitP50Ms(queueWait.percentileMs(0.50))
+                .queueWaitP99Ms(queueWait.percentileMs(0.99))
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,144 @@
+package com.freight.backend.auth;
+
+import com.freight.backend.repository.RevokedAccessTokenRepository;
+import com.freight.backend.repository.projection.RevokedTokenRow;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 access token 목록 (revoked_access_tokens 의 메모리 bloom filter)
+ * - 요청마다 bloom filter 만 확인하고, "있을 수 있음" 일 때만 DB 로 확정 (확정 결과는 rebuild 까지 기억)
+ * - poll-interval-ms 마다 id 순으로 새 행을 따라 읽음 (다른 노드의 로그아웃 반영)
+ * - rebuild-interval-ms 마다 만료 행을 지우고 새 filter 로 교체 (만료된 jti 가 계속 쌓이지 않도록)
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final int PAGE_SIZE = 1000;
+    /** id 는 커밋 순서와 다를 수 있어 마지막 위치보다 조금 앞에서부터 다시 읽음 (중복 추가는 무해) */
+    private static final long POLL_OVERLAP = 64;
+    private static final int MAX_CONFIRMED = 10_000;
+
+    private final RevokedAccessTokenRepository revokedRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    /** bloom filter 가 "있을 수 있음" 이라 DB 로 확인한 결과 (jti → 폐기 여부) */
+    private final ConcurrentHashMap<String, Boolean> confirmed = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloom;
+    private volatile boolean ready;
+    private long lastId;
+
+    public TokenRevocationList(
+            RevokedAccessTokenRepository revokedRepository,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.revokedRepository = revokedRepository;
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloom = new BloomFilter(this.expectedInsertions, falsePositiveRate);
+    }
+
+    /** jti 가 폐기됐는지 (jti 없는 이전 토큰은 폐기 불가로 봄) */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (!ready) {
+            return revokedRepository.existsByJti(jti);
+        }
+        if (!bloom.mightContain(jti)) {
+            return false;
+        }
+        Boolean known = confirmed.get(jti);
+        if (known != null) {
+            return known;
+        }
+        boolean revoked = revokedRepository.existsByJti(jti);
+        if (confirmed.size() >= MAX_CONFIRMED) {
+            confirmed.clear();
+        }
+        confirmed.put(jti, revoked);
+        return revoked;
+    }
+
+    /** jti 를 토큰 만료 시각까지 폐기 */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedRepository.insertIgnore(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), LocalDateTime.now());
+        bloom.put(jti);
+        confirmed.put(jti, Boolean.TRUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        loadLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            revokedRepository.deleteExpired(now);
+            long active = revokedRepository.countActive(now);
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, active * 2), falsePositiveRate);
+            long last = load(next, 0L, now);
+            bloom = next;
+            lastId = last;
+            confirmed.clear();
+            ready = true;
+            log.info("Token revocation list rebuilt: {} active, {} KB", active, next.sizeBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.warn("Token revocation list rebuild failed: {}", e.toString());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:2000}")
+    public void poll() {
+        if (!ready) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            BloomFilter current = bloom;
+            lastId = Math.max(lastId, load(current, Math.max(0, lastId - POLL_OVERLAP), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Token revocation list poll failed: {}", e.toString());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /** afterId 이후 행을 filter 에 추가하고 마지막 id 반환. 다른 노드에서 폐기된 jti 의 확정 결과는 지움 */
+    private long load(BloomFilter target, long afterId, LocalDateTime now) {
+        long last = afterId;
+        while (true) {
+            List<RevokedTokenRow> rows = revokedRepository.findActiveAfter(last, now, PageRequest.of(0, PAGE_SIZE));
+            for (RevokedTokenRow row : rows) {
+                target.put(row.jti());
+                confirmed.remove(row.jti(), Boolean.FALSE);
+                last = row.id();
+            }
+            if (rows.size() < PAGE_SIZE) {
+                return last;
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.freight.backend.common;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 해시 타이밍 휠 (지연 작업 다수를 스레드 1개로 예약)
+ * - tickMs 간격으로 칸을 하나씩 넘기며 만기된 작업을 executor 로 넘김 (정밀도 = tickMs)
+ * - wheelSize × tickMs 보다 긴 지연은 남은 바퀴 수(rounds)로 표현
+ * - schedule 은 어느 스레드에서나 호출 가능 (대기열에 넣고 다음 tick 에 칸 배치), 칸 자료구조는 tick 스레드만 접근
+ */
+public class TimingWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheel.class);
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final List<Entry>[] buckets;
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean running;
+    private volatile long startNanos;
+    private Thread ticker;
+    private long tick;
+
+    /**
+     * @param wheelSize 칸 수 (2의 거듭제곱으로 올림)
+     * @param executor  만기된 작업 실행 (tick 스레드에서 오래 걸리는 작업을 직접 실행하지 않도록)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(String name, long tickMs, int wheelSize, Executor executor) {
+        this.name = name;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        int n = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.mask = n - 1;
+        this.buckets = new List[n];
+        for (int i = 0; i < n; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.executor = executor;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startNanos = System.nanoTime();
+        ticker = new Thread(this::run, name + "-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+    }
+
+    /** delayMs 뒤 task 실행 예약 */
+    public void schedule(Runnable task, long delayMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        pending.add(new Entry(task, deadline));
+        size.incrementAndGet();
+    }
+
+    /** 예약되어 아직 실행되지 않은 작업 수 */
+    public int size() {
+        return size.get();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleep = deadline - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                continue;
+            }
+            transferPending();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /** 새로 예약된 작업을 만기 tick 의 칸에 배치 (이미 지난 작업은 현재 칸) */
+    private void transferPending() {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            long ticks = Math.max(tick, (entry.deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+            entry.rounds = (ticks - tick) / buckets.length;
+            buckets[(int) (ticks & mask)].add(entry);
+        }
+    }
+
+    private void expire(List<Entry> bucket) {
+        Iterator<Entry> it = bucket.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.rounds > 0) {
+                entry.rounds--;
+                continue;
+            }
+            it.remove();
+            size.decrementAndGet();
+            try {
+                executor.execute(entry.task);
+            } catch (RuntimeException e) {
+                log.warn("Timing wheel {} task rejected: {}", name, e.toString());
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long rounds;
+
+        private Entry(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
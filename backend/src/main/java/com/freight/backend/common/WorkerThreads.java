@@ -0,0 +1,41 @@
+package com.freight.backend.common;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 스레드 생성기
+ * - 외부 API 호출처럼 대부분 I/O 를 기다리는 작업용 (CPU 작업은 플랫폼 스레드 풀 그대로)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled + Java 21 이상)면 가상 스레드, 아니면 이름 붙은 daemon 플랫폼 스레드
+ * - 동시 실행 상한은 각 풀의 크기/대기열이 그대로 정함 (가상 스레드여도 upstream 보호용 상한은 유지)
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /** I/O 대기 위주 작업용 스레드 (이름: prefix-번호) */
+    public ThreadFactory io(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix + "-").getVirtualThreadFactory();
+        }
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
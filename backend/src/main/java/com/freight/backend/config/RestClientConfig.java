@@ -1,10 +1,13 @@
 package com.freight.backend.config;
 
+import com.freight.backend.http.OutboundHttpProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
 public class RestClientConfig {
 
     @Bean
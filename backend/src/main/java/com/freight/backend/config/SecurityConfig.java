@@ -3,6 +3,9 @@ package com.freight.backend.config;
 import com.freight.backend.config.jwt.JwtAccessDeniedHandler;
 import com.freight.backend.config.jwt.JwtAuthenticationEntryPoint;
 import com.freight.backend.config.jwt.JwtAuthenticationFilter;
+import com.freight.backend.idempotency.IdempotencyFilter;
+import com.freight.backend.idempotency.IdempotencyService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.Arrays;
 
@@ -26,6 +30,8 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
@@ -48,12 +54,16 @@ public class SecurityConfig {
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/driver/login",
                                 "/api/auth/driver/signup",
                                 "/api/auth/shipper/login",
                                 "/api/auth/admin/login",
+                                "/api/auth/refresh",
                                 "/api/auth/shipper/signup",
+                                "/api/webhooks/toss/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
                                 "/api-docs/**",
@@ -68,6 +78,12 @@ public class SecurityConfig {
                 UsernamePasswordAuthenticationFilter.class
         );
 
+        // 인증된 사용자 단위로 키를 구분하므로 JWT 필터 뒤에 둠
+        http.addFilterAfter(
+                new IdempotencyFilter(idempotencyService, objectMapper),
+                JwtAuthenticationFilter.class
+        );
+
         return http.build();
     }
 
@@ -81,7 +97,7 @@ public class SecurityConfig {
                 "GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"
         ));
         config.setAllowedHeaders(Arrays.asList("*"));
-        config.setExposedHeaders(Arrays.asList("Authorization"));
+        config.setExposedHeaders(Arrays.asList("Authorization", IdempotencyFilter.REPLAYED_HEADER));
 
         UrlBasedCorsConfigurationSource source =
                 new UrlBasedCorsConfigurationSource();
@@ -1,5 +1,6 @@
 package com.freight.backend.config.jwt;
 
+import com.freight.backend.auth.TokenRevocationList;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -8,19 +9,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -29,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 || "/api/auth/driver/signup".equals(uri)
                 || "/api/auth/shipper/login".equals(uri)
                 || "/api/auth/admin/login".equals(uri)
+                || "/api/auth/refresh".equals(uri)
                 || "/api/auth/shipper/signup".equals(uri);
     }
 
@@ -43,19 +44,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                jwtTokenProvider.validateTokenOrThrow(token);
-
-                String userId = jwtTokenProvider.getUserIdFromToken(token);
-                String role = jwtTokenProvider.getRoleFromToken(token);
-                String authority = toAuthority(role);
+                // 검증 + 클레임 추출을 파싱 1회로 (최근 검증한 토큰은 캐시에서)
+                JwtPrincipal principal = jwtTokenProvider.authenticate(token);
+                // 로그아웃으로 폐기된 토큰 (대부분 bloom filter 에서 바로 통과)
+                if (tokenRevocationList.isRevoked(principal.tokenId())) {
+                    throw new JwtException("Token revoked");
+                }
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
+                                principal,
                                 null,
-                                Collections.singletonList(
-                                        new SimpleGrantedAuthority(authority)
-                                )
+                                principal.getAuthorities()
                         );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -69,14 +69,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    private String toAuthority(String role) {
-        if (role == null || role.isBlank()) {
-            return "ROLE_USER";
-        }
-        if (role.startsWith("ROLE_")) {
-            return role;
-        }
-        return "ROLE_" + role;
-    }
 }
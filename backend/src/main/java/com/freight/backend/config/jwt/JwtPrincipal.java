@@ -0,0 +1,49 @@
+package com.freight.backend.config.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 검증된 access token 의 인증 정보 (토큰 1회 파싱 결과, 불변)
+ * - 컨트롤러의 @AuthenticationPrincipal UserDetails 로 받음 (getUsername = userId)
+ * - tokenId 는 jti (로그아웃 시 폐기 대상. jti 도입 전 발급된 토큰은 null)
+ */
+public record JwtPrincipal(Long userId, String authority, String tokenId, Instant expiresAt) implements UserDetails {
+
+    public static JwtPrincipal of(String subject, String role, String tokenId, Instant expiresAt) {
+        return new JwtPrincipal(Long.valueOf(subject), toAuthority(role), tokenId, expiresAt);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(authority));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return String.valueOf(userId);
+    }
+
+    private static String toAuthority(String role) {
+        if (role == null || role.isBlank()) {
+            return "ROLE_USER";
+        }
+        if (role.startsWith("ROLE_")) {
+            return role;
+        }
+        return "ROLE_" + role;
+    }
+}
@@ -1,7 +1,7 @@
 package com.freight.backend.config.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,22 +11,41 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * JWT 발급/검증
+ * - 파서(서명 키 포함)는 한 번만 만들어 재사용 (스레드 안전)
+ * - 검증에 성공한 토큰은 SHA-256 해시를 키로 만료 시각까지 캐시해 같은 토큰의 재요청은 서명 검증/파싱을 건너뜀
+ *   (캐시가 verified-cache.max-entries 에 차면 만료된 항목부터 비우고, 그래도 차 있으면 전부 비움)
+ * - access token 마다 jti 를 넣어 로그아웃 시 개별 폐기 가능 (폐기 확인은 JwtAuthenticationFilter 에서 TokenRevocationList 로)
+ */
 @Component
 public class JwtTokenProvider {
 
     private final Key key;
+    private final JwtParser parser;
     private final long accessTokenExpirationMs;
+    private final int cacheMaxEntries;
+    private final ConcurrentHashMap<String, JwtPrincipal> verified = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
-            @Value("${jwt.access-token-expiration-seconds:3600}") long expirationSeconds
+            @Value("${jwt.access-token-expiration-seconds:3600}") long expirationSeconds,
+            @Value("${jwt.verified-cache.max-entries:10000}") int cacheMaxEntries
     ) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenExpirationMs = expirationSeconds * 1000L;
+        this.cacheMaxEntries = Math.max(0, cacheMaxEntries);
     }
 
     public long getAccessTokenExpirationSeconds() {
@@ -50,40 +69,58 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(String.valueOf(userId))
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessTokenExpirationMs))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public String getUserIdFromToken(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    public String getEmailFromToken(String token) {
-        return parseClaims(token).get("email", String.class);
+    /**
+     * 토큰 검증 + 인증 정보 추출 (요청당 1회). 실패 시 JwtException / IllegalArgumentException
+     */
+    public JwtPrincipal authenticate(String token) {
+        Instant now = Instant.now();
+        String hash = cacheMaxEntries > 0 ? sha256(token) : null;
+        if (hash != null) {
+            JwtPrincipal cached = verified.get(hash);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    return cached;
+                }
+                verified.remove(hash, cached);
+            }
+        }
+        Claims claims = parseClaims(token);
+        Date expiration = claims.getExpiration();
+        JwtPrincipal principal = JwtPrincipal.of(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getId(),
+                expiration == null ? null : expiration.toInstant()
+        );
+        if (hash != null && principal.expiresAt() != null) {
+            if (verified.size() >= cacheMaxEntries) {
+                verified.values().removeIf(p -> p.isExpired(now));
+                if (verified.size() >= cacheMaxEntries) {
+                    verified.clear();
+                }
+            }
+            verified.put(hash, principal);
+        }
+        return principal;
     }
 
-    public String getRoleFromToken(String token) {
-        return parseClaims(token).get("role", String.class);
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public void validateTokenOrThrow(String token) {
+    private static String sha256(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            throw e;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,53 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.auth.LoginStatsResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 로그인 처리 현황 API
+ * Base path: /api/admin/auth
+ */
+@RestController
+@RequestMapping("/api/admin/auth")
+@RequiredArgsConstructor
+public class AdminAuthController {
+
+    private final AuthService authService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 비밀번호 검증 대기열/지연, 시도 제한 현황
+     * GET /api/admin/auth/login-stats
+     */
+    @GetMapping("/login-stats")
+    public ResponseEntity<LoginStatsResponse> loginStats(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(authService.loginStats());
+    }
+}
@@ -0,0 +1,53 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.dispatch.DispatchRunResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.DispatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 배차 API
+ * Base path: /api/admin/dispatch
+ */
+@RestController
+@RequestMapping("/api/admin/dispatch")
+@RequiredArgsConstructor
+public class AdminDispatchController {
+
+    private final DispatchService dispatchService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 일괄 배차 즉시 실행
+     * POST /api/admin/dispatch/run
+     */
+    @PostMapping("/run")
+    public ResponseEntity<DispatchRunResponse> run(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(dispatchService.run());
+    }
+}
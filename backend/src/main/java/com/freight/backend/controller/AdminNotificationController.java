@@ -0,0 +1,99 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.notification.NotificationArchiveReport;
+import com.freight.backend.dto.notification.NotificationOutboxStatsResponse;
+import com.freight.backend.dto.notification.NotificationStreamStatsResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.notification.NotificationStreamRegistry;
+import com.freight.backend.service.NotificationArchiveService;
+import com.freight.backend.service.NotificationDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 알림 전달 현황 API
+ * Base path: /api/admin/notifications
+ */
+@RestController
+@RequestMapping("/api/admin/notifications")
+@RequiredArgsConstructor
+public class AdminNotificationController {
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final NotificationArchiveService notificationArchiveService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 알림 outbox 처리 현황 (적체/지연 시간)
+     * GET /api/admin/notifications/outbox/stats
+     */
+    @GetMapping("/outbox/stats")
+    public ResponseEntity<NotificationOutboxStatsResponse> outboxStats(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(notificationDispatcher.stats());
+    }
+
+    /**
+     * 실시간 알림 스트림 현황 (이 노드의 연결 수/전송 지연)
+     * GET /api/admin/notifications/stream/stats
+     */
+    @GetMapping("/stream/stats")
+    public ResponseEntity<NotificationStreamStatsResponse> streamStats(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(notificationStreamRegistry.stats());
+    }
+
+    /**
+     * 알림 보관 작업 즉시 실행 (백그라운드, 결과는 /archive/last)
+     * POST /api/admin/notifications/archive/run
+     */
+    @PostMapping("/archive/run")
+    public ResponseEntity<Void> runArchive(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        notificationArchiveService.start();
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 마지막 알림 보관 작업 결과 (이 노드에서 실행한 것 기준, 없으면 204)
+     * GET /api/admin/notifications/archive/last
+     */
+    @GetMapping("/archive/last")
+    public ResponseEntity<NotificationArchiveReport> lastArchive(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return notificationArchiveService.lastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
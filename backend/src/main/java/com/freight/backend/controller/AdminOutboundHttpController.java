@@ -0,0 +1,54 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.http.OutboundClientStatsResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.http.OutboundHttpClients;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 외부 API 호출 상태 API
+ * Base path: /api/admin/outbound-http
+ */
+@RestController
+@RequestMapping("/api/admin/outbound-http")
+@RequiredArgsConstructor
+public class AdminOutboundHttpController {
+
+    private final OutboundHttpClients outboundHttpClients;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * upstream 별 서킷 상태, 동시 호출 수, 거절 수, 지연 시간 백분위
+     * GET /api/admin/outbound-http/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<OutboundClientStatsResponse>> stats(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(outboundHttpClients.stats());
+    }
+}
@@ -0,0 +1,69 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.payment.PaymentReconcileReport;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.PaymentReconcileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 결제 대사 API
+ * Base path: /api/admin/payments/reconcile
+ */
+@RestController
+@RequestMapping("/api/admin/payments/reconcile")
+@RequiredArgsConstructor
+public class AdminPaymentReconcileController {
+
+    private final PaymentReconcileService paymentReconcileService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 결제 대사 즉시 실행 (백그라운드, 결과는 /last)
+     * POST /api/admin/payments/reconcile/run
+     */
+    @PostMapping("/run")
+    public ResponseEntity<Void> run(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        paymentReconcileService.start();
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 마지막 결제 대사 결과 (이 노드에서 실행한 것 기준, 없으면 204)
+     * GET /api/admin/payments/reconcile/last
+     */
+    @GetMapping("/last")
+    public ResponseEntity<PaymentReconcileReport> last(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return paymentReconcileService.lastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
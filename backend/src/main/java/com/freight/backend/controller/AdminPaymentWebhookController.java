@@ -0,0 +1,72 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.payment.PaymentWebhookReplayRequest;
+import com.freight.backend.dto.payment.PaymentWebhookStatsResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.PaymentWebhookService;
+import jakarta.validation.Valid;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 결제 웹훅 API
+ * Base path: /api/admin/payments/webhooks
+ */
+@RestController
+@RequestMapping("/api/admin/payments/webhooks")
+@RequiredArgsConstructor
+public class AdminPaymentWebhookController {
+
+    private final PaymentWebhookService paymentWebhookService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 수신 시각 범위의 웹훅 재처리
+     * POST /api/admin/payments/webhooks/replay
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Integer>> replay(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody PaymentWebhookReplayRequest req
+    ) {
+        requireAdminId(userDetails);
+        int reset = paymentWebhookService.replay(req.getFrom(), req.getTo());
+        return ResponseEntity.ok(Map.of("replayed", reset));
+    }
+
+    /**
+     * 웹훅 처리 현황 (이 노드 기준)
+     * GET /api/admin/payments/webhooks/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<PaymentWebhookStatsResponse> stats(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(paymentWebhookService.stats());
+    }
+}
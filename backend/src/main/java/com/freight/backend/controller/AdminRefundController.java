@@ -0,0 +1,87 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.common.SliceResponse;
+import com.freight.backend.dto.refund.RefundJobResponse;
+import com.freight.backend.dto.refund.RefundStatsResponse;
+import com.freight.backend.entity.RefundJob;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.RefundService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 환불 API
+ * Base path: /api/admin/refunds
+ */
+@RestController
+@RequestMapping("/api/admin/refunds")
+@RequiredArgsConstructor
+public class AdminRefundController {
+
+    private final RefundService refundService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 상태별 환불 작업 목록 (최근 순)
+     * GET /api/admin/refunds?status=FAILED
+     */
+    @GetMapping
+    public ResponseEntity<SliceResponse<RefundJobResponse>> getJobs(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "FAILED") RefundJob.Status status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(refundService.getJobs(status, page, size));
+    }
+
+    /**
+     * 실패한 환불 작업 재시도
+     * POST /api/admin/refunds/{refundJobId}/retry
+     */
+    @PostMapping("/{refundJobId}/retry")
+    public ResponseEntity<RefundJobResponse> retry(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long refundJobId
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(refundService.retry(refundJobId));
+    }
+
+    /**
+     * 환불 처리 현황 (처리량/지연 시간)
+     * GET /api/admin/refunds/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<RefundStatsResponse> stats(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(refundService.stats());
+    }
+}
@@ -0,0 +1,108 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.common.SliceResponse;
+import com.freight.backend.dto.settlement.SettlementBatchResponse;
+import com.freight.backend.dto.settlement.SettlementDriverPayoutResponse;
+import com.freight.backend.dto.settlement.SettlementRunRequest;
+import com.freight.backend.entity.SettlementBatch;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.SettlementService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 정산 API
+ * Base path: /api/admin/settlements
+ */
+@RestController
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+public class AdminSettlementController {
+
+    private final SettlementService settlementService;
+
+    private static Long requireAdminId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        boolean isAdmin = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(auth -> auth.equals("ROLE_ADMIN")
+                        || auth.equals("ROLE_SUPER")
+                        || auth.equals("ROLE_OPERATOR"));
+        if (!isAdmin) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 기간 정산 실행 (백그라운드). 실패/중단된 기간은 이어서 처리
+     * POST /api/admin/settlements/run
+     */
+    @PostMapping("/run")
+    public ResponseEntity<SettlementBatchResponse> run(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody SettlementRunRequest req
+    ) {
+        requireAdminId(userDetails);
+        SettlementBatchResponse res = settlementService.start(req.getFrom(), req.getTo());
+        HttpStatus status = res.getStatus() == SettlementBatch.Status.COMPLETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(res);
+    }
+
+    /**
+     * 정산 배치 목록 (최근 순)
+     * GET /api/admin/settlements
+     */
+    @GetMapping
+    public ResponseEntity<SliceResponse<SettlementBatchResponse>> getBatches(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(settlementService.getBatches(page, size));
+    }
+
+    /**
+     * 정산 배치 상태/합계
+     * GET /api/admin/settlements/{batchId}
+     */
+    @GetMapping("/{batchId}")
+    public ResponseEntity<SettlementBatchResponse> getBatch(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long batchId
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(settlementService.getBatch(batchId));
+    }
+
+    /**
+     * 배치의 기사별 지급액 (기사 ID 순, 완료된 배치만 채워짐)
+     * GET /api/admin/settlements/{batchId}/payouts
+     */
+    @GetMapping("/{batchId}/payouts")
+    public ResponseEntity<SliceResponse<SettlementDriverPayoutResponse>> getPayouts(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long batchId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        requireAdminId(userDetails);
+        return ResponseEntity.ok(settlementService.getPayouts(batchId, page, size));
+    }
+}
@@ -1,6 +1,8 @@
 package com.freight.backend.controller;
 
+import com.freight.backend.config.jwt.JwtPrincipal;
 import com.freight.backend.dto.auth.LoginRequest;
+import com.freight.backend.dto.auth.RefreshTokenRequest;
 import com.freight.backend.dto.auth.TokenResponse;
 import com.freight.backend.dto.driver.DriverSignupRequest;
 import com.freight.backend.dto.driver.DriverSignupResponse;
@@ -12,8 +14,11 @@ import com.freight.backend.dto.shipper.ShipperSignupRequest;
 import com.freight.backend.dto.shipper.ShipperSignupResponse;
 import com.freight.backend.service.AuthService;
 import com.freight.backend.service.ShipperSignupService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -29,18 +34,18 @@ public class AuthController {
     private final ShipperSignupService shipperSignupService;
 
     @PostMapping("/driver/login")
-    public ResponseEntity<TokenResponse> driverLogin(@RequestBody LoginRequest req) {
-        return ResponseEntity.ok(authService.loginDriver(req));
+    public ResponseEntity<TokenResponse> driverLogin(@RequestBody LoginRequest req, HttpServletRequest request) {
+        return ResponseEntity.ok(authService.loginDriver(req, request.getRemoteAddr()));
     }
 
     @PostMapping("/shipper/login")
-    public ResponseEntity<TokenResponse> shipperLogin(@RequestBody LoginRequest req) {
-        return ResponseEntity.ok(authService.loginShipper(req));
+    public ResponseEntity<TokenResponse> shipperLogin(@RequestBody LoginRequest req, HttpServletRequest request) {
+        return ResponseEntity.ok(authService.loginShipper(req, request.getRemoteAddr()));
     }
 
     @PostMapping("/admin/login")
-    public ResponseEntity<TokenResponse> adminLogin(@RequestBody LoginRequest req) {
-        return ResponseEntity.ok(authService.loginAdmin(req));
+    public ResponseEntity<TokenResponse> adminLogin(@RequestBody LoginRequest req, HttpServletRequest request) {
+        return ResponseEntity.ok(authService.loginAdmin(req, request.getRemoteAddr()));
     }
 
     @PostMapping("/shipper/signup")
@@ -53,8 +58,17 @@ public class AuthController {
         return ResponseEntity.ok(driverSignupService.signup(req));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody RefreshTokenRequest req) {
+        return ResponseEntity.ok(authService.refresh(req));
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout() {
+    public ResponseEntity<Void> logout(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody(required = false) RefreshTokenRequest req
+    ) {
+        authService.logout(userDetails instanceof JwtPrincipal principal ? principal : null, req);
         return ResponseEntity.noContent().build();
     }
 }
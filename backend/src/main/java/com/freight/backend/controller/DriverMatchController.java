@@ -1,5 +1,6 @@
 package com.freight.backend.controller;
 
+import com.freight.backend.dto.match.MatchBundleAcceptRequest;
 import com.freight.backend.dto.match.MatchResponse;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -76,6 +78,51 @@ public class DriverMatchController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 묶음(합짐) 매칭 일괄 수락 (기사) - 전부 성공하거나 전부 실패
+     * POST /api/driver/matches/bundle/accept
+     */
+    @PostMapping("/bundle/accept")
+    public ResponseEntity<List<MatchResponse>> acceptBundle(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody MatchBundleAcceptRequest request
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        List<MatchResponse> responses = matchService.acceptBundle(
+                driverId,
+                request == null ? null : request.getMatchIds()
+        );
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 운송 시작 (기사: 본인이 수락한 매칭만)
+     * POST /api/driver/matches/{matchId}/start
+     */
+    @PostMapping("/{matchId}/start")
+    public ResponseEntity<MatchResponse> startTransit(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long matchId
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        MatchResponse response = matchService.startTransit(driverId, matchId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 운송 완료 (기사: 본인이 수락한 매칭만)
+     * POST /api/driver/matches/{matchId}/complete
+     */
+    @PostMapping("/{matchId}/complete")
+    public ResponseEntity<MatchResponse> completeMatch(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long matchId
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        MatchResponse response = matchService.completeMatch(driverId, matchId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 매칭 취소 (기사: 본인이 수락한 매칭만)
      * DELETE /api/driver/matches/{matchId}
@@ -0,0 +1,115 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.dto.driver.DriverHomeRequest;
+import com.freight.backend.dto.driver.DriverHomeResponse;
+import com.freight.backend.dto.driver.DriverLocationRequest;
+import com.freight.backend.dto.route.ReturnRouteQuoteResponse;
+import com.freight.backend.dto.route.RouteSequenceRequest;
+import com.freight.backend.dto.route.RouteSequenceResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.DispatchService;
+import com.freight.backend.service.ReturnRouteService;
+import com.freight.backend.service.RouteSequenceService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 기사용 현재 위치 / 귀가 위치 / 귀가노선 추천 / 경로 순서 API
+ * Base path: /api/driver
+ * 인증: JWT (Bearer), ROLE_DRIVER
+ */
+@RestController
+@RequestMapping("/api/driver")
+@RequiredArgsConstructor
+public class DriverRouteController {
+
+    private final ReturnRouteService returnRouteService;
+    private final RouteSequenceService routeSequenceService;
+    private final DispatchService dispatchService;
+
+    private static Long requireDriverId(UserDetails userDetails) {
+        if (userDetails == null || !userDetails.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_DRIVER"))) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    /**
+     * 현재 위치 보고 (일괄 배차 후보 계산용)
+     * PUT /api/driver/location
+     */
+    @PutMapping("/location")
+    public ResponseEntity<Void> updateLocation(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody DriverLocationRequest request
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        dispatchService.updateDriverLocation(driverId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 귀가 위치 등록/변경
+     * PUT /api/driver/home
+     */
+    @PutMapping("/home")
+    public ResponseEntity<DriverHomeResponse> updateHome(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody DriverHomeRequest request
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        return ResponseEntity.ok(returnRouteService.updateHome(driverId, request));
+    }
+
+    /**
+     * 귀가 위치 조회
+     * GET /api/driver/home
+     */
+    @GetMapping("/home")
+    public ResponseEntity<DriverHomeResponse> getHome(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        return ResponseEntity.ok(returnRouteService.getHome(driverId));
+    }
+
+    /**
+     * 귀가노선 추천 견적 (현재 위치 → 귀가 위치)
+     * GET /api/driver/recommendations/return-route?lat=&lng=&corridorKm=
+     */
+    @GetMapping("/recommendations/return-route")
+    public ResponseEntity<List<ReturnRouteQuoteResponse>> getReturnRouteQuotes(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(required = false) Double corridorKm
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        return ResponseEntity.ok(returnRouteService.findReturnRouteQuotes(driverId, lat, lng, corridorKm));
+    }
+
+    /**
+     * 여러 견적 묶음의 상/하차 순서 계산
+     * POST /api/driver/routes/sequence
+     */
+    @PostMapping("/routes/sequence")
+    public ResponseEntity<RouteSequenceResponse> sequenceRoute(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody RouteSequenceRequest request
+    ) {
+        Long driverId = requireDriverId(userDetails);
+        return ResponseEntity.ok(routeSequenceService.sequenceBundle(driverId, request));
+    }
+}
@@ -1,20 +1,31 @@
 package com.freight.backend.controller;
 
+import com.freight.backend.dto.notification.NotificationInboxResponse;
+import com.freight.backend.dto.notification.NotificationReadRequest;
+import com.freight.backend.dto.notification.NotificationReadResponse;
 import com.freight.backend.dto.notification.NotificationResponse;
 import com.freight.backend.dto.notification.UnreadCountResponse;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
 import com.freight.backend.service.NotificationService;
+import com.freight.backend.service.NotificationStreamService;
+import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -22,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     private static Long requireUserId(UserDetails userDetails) {
         if (userDetails == null) {
@@ -30,6 +42,18 @@ public class NotificationController {
         return Long.parseLong(userDetails.getUsername());
     }
 
+    /** 공지 읽음 위치 구분용 역할 (기사/화주 ID 가 겹칠 수 있음) */
+    private static String roleOf(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse("ROLE_USER");
+    }
+
+    /**
+     * 최근 알림 100건 (이전에는 전체 반환, 그 이전 알림은 /me/inbox 로 페이지 조회)
+     * GET /api/notifications/me
+     */
     @GetMapping("/me")
     public ResponseEntity<List<NotificationResponse>> getMyNotifications(
             @AuthenticationPrincipal UserDetails userDetails
@@ -38,12 +62,41 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getMyNotifications(userId));
     }
 
+    /**
+     * 알림함 (키셋 페이지)
+     * GET /api/notifications/me/inbox?cursor=&size=20
+     */
+    @GetMapping("/me/inbox")
+    public ResponseEntity<NotificationInboxResponse> getInbox(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = requireUserId(userDetails);
+        return ResponseEntity.ok(notificationService.getInbox(userId, roleOf(userDetails), cursor, size));
+    }
+
+    /**
+     * 실시간 알림 스트림 (SSE, event: notification / id: notificationId)
+     * GET /api/notifications/stream
+     * 재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후 알림을 먼저 보냄
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(required = false) Long lastEventId
+    ) {
+        Long userId = requireUserId(userDetails);
+        return notificationStreamService.connect(userId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
     @GetMapping("/me/unread-count")
     public ResponseEntity<UnreadCountResponse> getUnreadCount(
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         Long userId = requireUserId(userDetails);
-        return ResponseEntity.ok(notificationService.getUnreadCount(userId));
+        return ResponseEntity.ok(notificationService.getUnreadCount(userId, roleOf(userDetails)));
     }
 
     @PatchMapping("/{notificationId}/read")
@@ -55,4 +108,30 @@ public class NotificationController {
         notificationService.markRead(userId, notificationId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 일괄 읽음 처리
+     * PATCH /api/notifications/me/read
+     */
+    @PatchMapping("/me/read")
+    public ResponseEntity<NotificationReadResponse> markReadBulk(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody NotificationReadRequest req
+    ) {
+        Long userId = requireUserId(userDetails);
+        return ResponseEntity.ok(notificationService.markReadBulk(userId, roleOf(userDetails), req));
+    }
+
+    /**
+     * 공지 읽음 처리 (upToAnnouncementId 공지까지, 없으면 전부)
+     * PATCH /api/notifications/me/announcements/read
+     */
+    @PatchMapping("/me/announcements/read")
+    public ResponseEntity<UnreadCountResponse> markAnnouncementsRead(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) Long upToAnnouncementId
+    ) {
+        Long userId = requireUserId(userDetails);
+        return ResponseEntity.ok(notificationService.markAnnouncementsRead(userId, roleOf(userDetails), upToAnnouncementId));
+    }
 }
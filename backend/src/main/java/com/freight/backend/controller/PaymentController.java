@@ -4,12 +4,14 @@ import com.freight.backend.dto.payment.PaymentConfirmRequest;
 import com.freight.backend.dto.payment.PaymentPrepareRequest;
 import com.freight.backend.dto.payment.PaymentPrepareResponse;
 import com.freight.backend.dto.payment.PaymentResponse;
+import com.freight.backend.entity.Payment.PaymentStatus;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
 import com.freight.backend.service.PaymentService;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -59,7 +61,10 @@ public class PaymentController {
             @Valid @RequestBody PaymentConfirmRequest req
     ) {
         Long shipperId = requireShipperId(userDetails);
-        return ResponseEntity.ok(paymentService.confirmWithToss(req, shipperId));
+        PaymentResponse response = paymentService.confirmWithToss(req, shipperId);
+        // 승인 결과 확인 중(CONFIRMING)이면 202: 복구 작업이 확정한 뒤 단건 조회로 확인
+        HttpStatus status = response.getStatus() == PaymentStatus.CONFIRMING ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
     }
 
     /** 화주가 결제한 결제 목록 조회 (내 결제 목록, 최신순) */
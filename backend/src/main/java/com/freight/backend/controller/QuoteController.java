@@ -6,6 +6,7 @@ import com.freight.backend.dto.quote.QuoteDetailResponse;
 import com.freight.backend.dto.quote.QuoteListResponse;
 import com.freight.backend.dto.quote.QuoteUpdateRequest;
 import com.freight.backend.dto.quote.QuoteValidationResponse;
+import com.freight.backend.dto.route.RouteSequenceResponse;
 import com.freight.backend.service.QuoteService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -54,6 +55,11 @@ public class QuoteController {
         return ResponseEntity.ok(quoteService.updateQuote(quoteId, req));
     }
 
+    @PostMapping("/{quoteId}/stops/optimize")
+    public ResponseEntity<RouteSequenceResponse> optimizeStops(@PathVariable Long quoteId) {
+        return ResponseEntity.ok(quoteService.optimizeStops(quoteId));
+    }
+
     @DeleteMapping("/{quoteId}")
     public ResponseEntity<Void> deleteQuote(@PathVariable Long quoteId) {
         quoteService.deleteQuote(quoteId);
@@ -1,7 +1,9 @@
 package com.freight.backend.controller;
 
+import com.freight.backend.dto.common.SliceResponse;
 import com.freight.backend.dto.match.MatchCreateRequest;
 import com.freight.backend.dto.match.MatchResponse;
+import com.freight.backend.dto.match.ShipperMatchSummaryResponse;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
 import com.freight.backend.service.MatchService;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -65,6 +68,20 @@ public class ShipperMatchController {
         return ResponseEntity.ok(matches);
     }
 
+    /**
+     * 화주 매칭 목록 페이지 (견적 요약 + 최근 결제 상태 포함, 취소 제외)
+     * GET /api/shipper/matches/me/summaries?page=0&size=20
+     */
+    @GetMapping("/me/summaries")
+    public ResponseEntity<SliceResponse<ShipperMatchSummaryResponse>> getMyMatchSummaries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long shipperId = requireShipperId(userDetails);
+        return ResponseEntity.ok(matchService.getShipperMatchSummaries(shipperId, page, size));
+    }
+
     /**
      * 매칭 취소 (화주: 본인 견적의 매칭만)
      * DELETE /api/shipper/matches/{matchId}
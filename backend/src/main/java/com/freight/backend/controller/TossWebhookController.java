@@ -0,0 +1,31 @@
+package com.freight.backend.controller;
+
+import com.freight.backend.service.PaymentWebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 토스페이먼츠 웹훅 수신 (인증 없음, 토스 개발자센터에 URL 등록)
+ * Base path: /api/webhooks/toss
+ */
+@RestController
+@RequestMapping("/api/webhooks/toss")
+@RequiredArgsConstructor
+public class TossWebhookController {
+
+    private final PaymentWebhookService paymentWebhookService;
+
+    /**
+     * 결제 상태 변경 (PAYMENT_STATUS_CHANGED). 저장 후 바로 200, 상태 반영은 비동기
+     * POST /api/webhooks/toss/payments
+     */
+    @PostMapping("/payments")
+    public ResponseEntity<Void> paymentStatusChanged(@RequestBody String body) {
+        paymentWebhookService.receive(body);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.freight.backend.dispatch;
+
+import java.util.Arrays;
+
+/**
+ * 희소 할당 문제용 경매(auction) 알고리즘
+ * - 행(배차 대상)이 열(기사)에 입찰, 각 행은 이익 0 인 "미배정" 선택지를 가짐
+ * - 모든 가격 0 에서 시작해 최종 eps 로 한 번에 경매 (오차 ≤ rows × eps)
+ *   eps-scaling 으로 이전 단계 가격을 이어 쓰면 가격이 이익보다 높아진 열을 모든 행이 포기해 배정이 비는 경우가 있어 쓰지 않음
+ *   (미배정 선택지가 있는 비대칭 문제는 초기 가격이 모두 같아야 정방향 경매만으로 eps-최적)
+ * - 시간 예산을 넘기면 그때까지의 배정(유효한 1:1 매칭)을 반환
+ */
+public final class AuctionAssignmentSolver {
+
+    private static final int UNASSIGNED = -1;
+
+    private final double eps;
+    private final long timeBudgetNanos;
+
+    public AuctionAssignmentSolver(double eps, long timeBudgetMs) {
+        this.eps = eps;
+        this.timeBudgetNanos = timeBudgetMs * 1_000_000L;
+    }
+
+    /**
+     * @return 행별 배정된 열 인덱스 (미배정 -1)
+     */
+    public int[] solve(SparseBenefitMatrix matrix) {
+        int rows = matrix.rows();
+        int[] rowStart = matrix.rowStart();
+        int[] colIdx = matrix.colIdx();
+        double[] benefit = matrix.benefit();
+
+        int[] assignment = new int[rows];
+        Arrays.fill(assignment, UNASSIGNED);
+        if (rows == 0 || matrix.arcs() == 0) {
+            return assignment;
+        }
+
+        double[] price = new double[matrix.cols()];
+        int[] owner = new int[matrix.cols()];
+        Arrays.fill(owner, UNASSIGNED);
+        int[] queue = new int[rows];
+        long deadline = System.nanoTime() + timeBudgetNanos;
+
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < rows; i++) {
+            if (rowStart[i + 1] > rowStart[i]) {
+                queue[tail++] = i;
+            }
+        }
+        // 원형 큐: 대기 행은 항상 rows 개 이하
+        int pending = tail;
+        tail %= rows;
+        int bids = 0;
+        while (pending > 0) {
+            if ((++bids & 0x3ff) == 0 && System.nanoTime() > deadline) {
+                return assignment;
+            }
+            int i = queue[head];
+            head = (head + 1) % rows;
+            pending--;
+
+            double best = 0;
+            double second = 0;
+            int bestCol = UNASSIGNED;
+            for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+                double value = benefit[k] - price[colIdx[k]];
+                if (value > best) {
+                    second = best;
+                    best = value;
+                    bestCol = colIdx[k];
+                } else if (value > second) {
+                    second = value;
+                }
+            }
+            if (bestCol == UNASSIGNED) {
+                continue;
+            }
+            price[bestCol] += best - second + eps;
+            int previous = owner[bestCol];
+            owner[bestCol] = i;
+            assignment[i] = bestCol;
+            if (previous != UNASSIGNED) {
+                assignment[previous] = UNASSIGNED;
+                queue[tail] = previous;
+                tail = (tail + 1) % rows;
+                pending++;
+            }
+        }
+        return assignment;
+    }
+}
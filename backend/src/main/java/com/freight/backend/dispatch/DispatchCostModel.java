@@ -0,0 +1,59 @@
+package com.freight.backend.dispatch;
+
+import com.freight.backend.geo.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배차 이익(benefit) 계산 (단위: km 환산값, 클수록 좋음)
+ * - 공차 이동거리(기사 현재 위치 → 상차지)가 짧을수록 이익 증가
+ * - 화물 중량이 차량 적재한도에 가까울수록 이익 증가, 초과하면 배정 불가
+ * - 운임이 높을수록 우선 배정 (wonPerKm 원 = 공차 1km)
+ */
+@Component
+public class DispatchCostModel {
+
+    private final double maxDeadheadKm;
+    private final double capacityPenaltyKm;
+    private final double wonPerKm;
+
+    public DispatchCostModel(
+            @Value("${dispatch.cost.max-deadhead-km:50}") double maxDeadheadKm,
+            @Value("${dispatch.cost.capacity-penalty-km:20}") double capacityPenaltyKm,
+            @Value("${dispatch.cost.won-per-km:10000}") double wonPerKm
+    ) {
+        this.maxDeadheadKm = maxDeadheadKm;
+        this.capacityPenaltyKm = capacityPenaltyKm;
+        this.wonPerKm = wonPerKm;
+    }
+
+    public double maxDeadheadKm() {
+        return maxDeadheadKm;
+    }
+
+    public double deadheadKm(DispatchTask task, double driverLat, double driverLng) {
+        return GeoUtils.haversineKm(driverLat, driverLng, task.originLat(), task.originLng());
+    }
+
+    /**
+     * @return 배정 이익, 배정 불가면 NaN
+     */
+    public double benefit(DispatchTask task, double deadheadKm, double capacityKg) {
+        if (deadheadKm > maxDeadheadKm) {
+            return Double.NaN;
+        }
+        Integer weightKg = task.weightKg();
+        double fitPenalty;
+        if (capacityKg > 0 && weightKg != null && weightKg > 0) {
+            if (weightKg > capacityKg) {
+                return Double.NaN;
+            }
+            fitPenalty = (1.0 - weightKg / capacityKg) * capacityPenaltyKm;
+        } else {
+            fitPenalty = capacityPenaltyKm / 2;
+        }
+        double priceBonus = task.finalPrice() == null ? 0 : task.finalPrice() / wonPerKm;
+        double benefit = maxDeadheadKm - deadheadKm - fitPenalty + priceBonus;
+        return benefit > 0 ? benefit : Double.NaN;
+    }
+}
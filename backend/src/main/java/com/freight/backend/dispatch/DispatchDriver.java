@@ -0,0 +1,26 @@
+package com.freight.backend.dispatch;
+
+import java.math.BigDecimal;
+
+/**
+ * 배차 후보 기사: 승인된 차량이 있고 최근 위치를 보고한 기사 (차량별 1행)
+ */
+public record DispatchDriver(
+        Long driverId,
+        Double lat,
+        Double lng,
+        BigDecimal maxWeight,
+        BigDecimal tonnage
+) {
+
+    /** 적재 가능 중량(kg), 알 수 없으면 0 */
+    public double capacityKg() {
+        if (maxWeight != null && maxWeight.signum() > 0) {
+            return maxWeight.doubleValue();
+        }
+        if (tonnage != null && tonnage.signum() > 0) {
+            return tonnage.doubleValue() * 1000.0;
+        }
+        return 0;
+    }
+}
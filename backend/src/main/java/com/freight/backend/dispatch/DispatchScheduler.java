@@ -0,0 +1,32 @@
+package com.freight.backend.dispatch;
+
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.service.DispatchService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 배차 주기 실행 (dispatch.batch.enabled=true 일 때만)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dispatch.batch.enabled", havingValue = "true")
+public class DispatchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchScheduler.class);
+
+    private final DispatchService dispatchService;
+
+    @Scheduled(fixedDelayString = "${dispatch.batch.interval-ms:60000}")
+    public void runBatch() {
+        try {
+            dispatchService.run();
+        } catch (CustomException e) {
+            log.info("Dispatch batch skipped: {}", e.getErrorCode());
+        }
+    }
+}
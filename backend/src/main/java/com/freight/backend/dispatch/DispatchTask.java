@@ -0,0 +1,18 @@
+package com.freight.backend.dispatch;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배차 대상: 아직 수락되지 않은 READY 매칭과 견적 정보
+ */
+public record DispatchTask(
+        Long matchId,
+        Long quoteId,
+        Double originLat,
+        Double originLng,
+        Integer weightKg,
+        Integer finalPrice,
+        LocalDateTime pickupAt,
+        LocalDateTime deliveryAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.freight.backend.dispatch;
+
+/**
+ * 행(배차 대상) × 열(기사) 희소 이익 행렬 (CSR)
+ * - 행 i 의 간선: colIdx/benefit[rowStart[i] .. rowStart[i + 1])
+ * - 간선이 없는 칸은 배정 불가
+ */
+public record SparseBenefitMatrix(
+        int rows,
+        int cols,
+        int[] rowStart,
+        int[] colIdx,
+        double[] benefit
+) {
+
+    public int arcs() {
+        return rowStart[rows];
+    }
+}
@@ -0,0 +1,32 @@
+package com.freight.backend.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로그인 처리 현황 (이 노드 기준 누적)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LoginStatsResponse {
+
+    /** 비밀번호 검증 스레드 수 / 실행 중 / 대기열 */
+    private int verifierThreads;
+    private int verifierActive;
+    private int verifierQueued;
+    private long verified;
+    /** 대기열이 차서 503 으로 돌려보낸 수 */
+    private long rejected;
+    /** 대기열에서 timeout-ms 를 넘겨 503 으로 돌려보낸 수 */
+    private long timedOut;
+    /** 시도 제한(429)에 걸린 수 */
+    private long throttled;
+    /** BCrypt 1회 소요 시간 */
+    private double hashP50Ms;
+    private double hashP99Ms;
+    /** 제출 ~ 검증 시작 */
+    private double queueWaitP50Ms;
+    private double queueWaitP99Ms;
+}
@@ -0,0 +1,10 @@
+package com.freight.backend.dto.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
@@ -9,4 +9,6 @@ public class TokenResponse {
     private String accessToken;
     private String tokenType;
     private long expiresIn;
+    private String refreshToken;
+    private long refreshExpiresIn;
 }
@@ -0,0 +1,29 @@
+package com.freight.backend.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 페이지 응답 (전체 건수 없이 다음 페이지 존재 여부만)
+ */
+@Getter
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public static <S, T> SliceResponse<T> of(Slice<S> slice, Function<S, T> mapper) {
+        return new SliceResponse<>(
+                slice.getContent().stream().map(mapper).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.freight.backend.dto.dispatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 배차 실행 결과
+ * - candidateArcs: 후보 (매칭, 기사) 쌍 수
+ * - offered: 배차 제안 알림을 보낸 건수
+ */
+@Getter
+@AllArgsConstructor
+public class DispatchRunResponse {
+    private Integer tasks;
+    private Integer drivers;
+    private Integer candidateArcs;
+    private Integer offered;
+    private Double totalDeadheadKm;
+    private Long elapsedMs;
+}
@@ -0,0 +1,12 @@
+package com.freight.backend.dto.driver;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DriverHomeRequest {
+    private String homeAddress;
+    private Double homeLat;
+    private Double homeLng;
+}
@@ -0,0 +1,17 @@
+package com.freight.backend.dto.driver;
+
+import com.freight.backend.entity.Driver;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DriverHomeResponse {
+    private String homeAddress;
+    private Double homeLat;
+    private Double homeLng;
+
+    public static DriverHomeResponse from(Driver driver) {
+        return new DriverHomeResponse(driver.getHomeAddress(), driver.getHomeLat(), driver.getHomeLng());
+    }
+}
@@ -0,0 +1,11 @@
+package com.freight.backend.dto.driver;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DriverLocationRequest {
+    private Double lat;
+    private Double lng;
+}
@@ -0,0 +1,27 @@
+package com.freight.backend.dto.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 API 클라이언트 상태 (서킷/동시 호출/지연 시간)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OutboundClientStatsResponse {
+
+    private String name;
+    private String circuitState;
+    private long circuitOpens;
+    private int inFlight;
+    private int maxConcurrent;
+    private long rejected;
+    private long calls;
+    private double meanMs;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maxMs;
+}
@@ -0,0 +1,32 @@
+package com.freight.backend.dto.notification;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 알림 보관 작업 실행 결과 요약
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationArchiveReport {
+
+    private String owner;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    /** 이 시각 이전에 만든 읽은 알림을 보관 */
+    private LocalDateTime cutoff;
+    /** 처리한 ID 구간 수 / 마지막 구간 끝 ID */
+    private long chunks;
+    private long scannedUpToId;
+    /** notifications 에서 보관 테이블로 옮긴 건수 */
+    private long archived;
+    /** 구간 사이 쉬어 간 시간 합계 */
+    private long throttledMs;
+    /** max-rows-per-run 도달로 멈춤 (다음 실행에서 이어서) */
+    private boolean truncated;
+    /** 잠금 연장 실패로 중단 */
+    private boolean aborted;
+}
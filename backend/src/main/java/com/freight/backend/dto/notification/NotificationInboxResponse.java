@@ -0,0 +1,16 @@
+package com.freight.backend.dto.notification;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 알림함 페이지 (최근 순). 다음 페이지는 nextCursor 로 요청
+ */
+@Getter
+@Builder
+public class NotificationInboxResponse {
+    private List<NotificationResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,35 @@
+package com.freight.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 알림 outbox 처리 현황 (누적 건수/지연은 이 노드 기준, backlog/oldest 는 전체)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationOutboxStatsResponse {
+
+    private long written;
+    private long stored;
+    private long pushed;
+    private long pushRetried;
+    private long dropped;
+    /** notifications 로 옮기지 않은 outbox 행 수 */
+    private long pendingBacklog;
+    /** 푸시 전송 대기 행 수 */
+    private long storedBacklog;
+    /** 가장 오래된 PENDING 행의 대기 시간 (현재 지연) */
+    private long oldestPendingAgeMs;
+    /** outbox 기록 ~ notifications 저장 */
+    private double storeLagP50Ms;
+    private double storeLagP95Ms;
+    private double storeLagP99Ms;
+    /** outbox 기록 ~ 푸시 채널 전송 완료 */
+    private double pushLagP50Ms;
+    private double pushLagP95Ms;
+    private double pushLagP99Ms;
+    private int channels;
+}
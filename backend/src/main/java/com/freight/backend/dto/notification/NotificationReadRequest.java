@@ -0,0 +1,23 @@
+package com.freight.backend.dto.notification;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 일괄 읽음 처리. notificationIds 또는 upToId 중 하나만 지정
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReadRequest {
+
+    /** 읽음 처리할 알림 ID 목록 */
+    @Size(max = 500, message = "notificationIds must not exceed 500")
+    private List<Long> notificationIds;
+
+    /** 이 ID 이하의 내 알림 전부 읽음 처리 (알림함에서 받은 가장 최근 notificationId) */
+    private Long upToId;
+}
@@ -0,0 +1,12 @@
+package com.freight.backend.dto.notification;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NotificationReadResponse {
+    /** 이번 요청으로 읽음 처리된 건수 (이미 읽은 알림 제외) */
+    private int updated;
+    private long unreadCount;
+}
@@ -1,6 +1,7 @@
 package com.freight.backend.dto.notification;
 
 import com.freight.backend.entity.Notification;
+import com.freight.backend.repository.projection.AnnouncementBroadcast;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,8 @@ import lombok.Getter;
 @Builder
 public class NotificationResponse {
     private Long notificationId;
+    /** type 이 ANNOUNCEMENT 일 때만 (notificationId 는 null) */
+    private Long announcementId;
     private Long matchId;
     private String type;
     private String message;
@@ -25,4 +28,15 @@ public class NotificationResponse {
                 .createdAt(notification.getCreatedAt())
                 .build();
     }
+
+    /** 전체 공지 (사용자별 알림 행 없이 알림함에 합쳐 보여줌) */
+    public static NotificationResponse from(AnnouncementBroadcast broadcast, boolean isRead) {
+        return NotificationResponse.builder()
+                .announcementId(broadcast.announcementId())
+                .type(Notification.Type.ANNOUNCEMENT.name())
+                .message(broadcast.title())
+                .isRead(isRead)
+                .createdAt(broadcast.publishedAt())
+                .build();
+    }
 }
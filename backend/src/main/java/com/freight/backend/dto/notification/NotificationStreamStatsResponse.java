@@ -0,0 +1,29 @@
+package com.freight.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실시간 알림 스트림 현황 (이 노드 기준)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationStreamStatsResponse {
+
+    /** 현재 연결 수 / 연결된 수신자 수 */
+    private int connections;
+    private int receivers;
+    private long opened;
+    private long closed;
+    private long framesSent;
+    private long sendFailures;
+    /** 알림 1건을 수신자의 모든 연결에 쓰는 데 걸린 시간 */
+    private double fanoutP50Ms;
+    private double fanoutP99Ms;
+    /** 알림 생성 ~ 전송 */
+    private double deliveryLagP50Ms;
+    private double deliveryLagP95Ms;
+    private double deliveryLagP99Ms;
+}
@@ -6,11 +6,14 @@ import lombok.Getter;
 @Getter
 @Builder
 public class UnreadCountResponse {
+    /** 안 읽은 알림 + 안 읽은 공지 */
     private long unreadCount;
+    private long announcementUnreadCount;
 
-    public static UnreadCountResponse of(long unreadCount) {
+    public static UnreadCountResponse of(long notificationUnread, long announcementUnread) {
         return UnreadCountResponse.builder()
-                .unreadCount(unreadCount)
+                .unreadCount(notificationUnread + announcementUnread)
+                .announcementUnreadCount(announcementUnread)
                 .build();
     }
 }
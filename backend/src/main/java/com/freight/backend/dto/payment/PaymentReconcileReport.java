@@ -0,0 +1,33 @@
+package com.freight.backend.dto.payment;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 결제 대사 실행 결과 요약
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentReconcileReport {
+
+    private String owner;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    /** 조회한 결제 수 */
+    private long scanned;
+    /** 토스 조회 실패 (다음 실행에서 다시 확인) */
+    private long lookupFailed;
+    /** → COMPLETED (미반영 승인, 실패 처리 후 실제 청구) */
+    private long completed;
+    /** → FAILED (토스에 없음/중단/만료) */
+    private long failed;
+    /** → REFUNDED (토스에서 취소됨) */
+    private long refunded;
+    /** 변경 없음 */
+    private long unchanged;
+    /** 잠금 연장 실패로 중단 */
+    private boolean aborted;
+}
@@ -0,0 +1,21 @@
+package com.freight.backend.dto.payment;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookReplayRequest {
+
+    /** 수신 시각 범위 시작 (포함) */
+    @NotNull(message = "from is required")
+    private LocalDateTime from;
+
+    /** 수신 시각 범위 끝 (제외) */
+    @NotNull(message = "to is required")
+    private LocalDateTime to;
+}
@@ -0,0 +1,24 @@
+package com.freight.backend.dto.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 웹훅 처리 현황 (서버 기동 이후 누적, 노드별)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentWebhookStatsResponse {
+
+    private long received;
+    private long duplicates;
+    private long overflowed;
+    private long applied;
+    private long ignored;
+    private long retried;
+    private long failed;
+    private int queueSize;
+    private int queueCapacity;
+}
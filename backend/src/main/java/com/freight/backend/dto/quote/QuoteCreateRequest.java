@@ -1,5 +1,6 @@
 package com.freight.backend.dto.quote;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -28,6 +29,8 @@ public class QuoteCreateRequest {
     private Boolean allowCombine;
     private String loadMethod;
     private String unloadMethod;
+    private LocalDateTime pickupAt;
+    private LocalDateTime deliveryAt;
     private List<QuoteChecklistItemRequest> checklistItems;
     private List<QuoteStopRequest> stops;
 }
@@ -33,6 +33,8 @@ public class QuoteDetailResponse {
     private Boolean allowCombine;
     private String loadMethod;
     private String unloadMethod;
+    private LocalDateTime pickupAt;
+    private LocalDateTime deliveryAt;
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,43 @@
+package com.freight.backend.dto.refund;
+
+import com.freight.backend.entity.RefundJob;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefundJobResponse {
+
+    private Long refundJobId;
+    private Long paymentId;
+    private Long matchId;
+    private Integer amount;
+    private String reason;
+    private RefundJob.Status status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static RefundJobResponse from(RefundJob j) {
+        return RefundJobResponse.builder()
+                .refundJobId(j.getId())
+                .paymentId(j.getPaymentId())
+                .matchId(j.getMatchId())
+                .amount(j.getAmount())
+                .reason(j.getReason())
+                .status(j.getStatus())
+                .attempts(j.getAttempts())
+                .nextAttemptAt(j.getNextAttemptAt())
+                .lastError(j.getLastError())
+                .createdAt(j.getCreatedAt())
+                .completedAt(j.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.freight.backend.dto.refund;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 환불 파이프라인 현황 (누적 건수/지연 시간은 이 노드 기준, pending/failedJobs 는 전체)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RefundStatsResponse {
+
+    private long enqueued;
+    private long attempts;
+    private long succeeded;
+    private long retried;
+    private long failed;
+    private int inFlight;
+    private int maxConcurrency;
+    /** 휠/워커 대기열에 예약된 작업 수 */
+    private int scheduled;
+    private long pendingJobs;
+    private long failedJobs;
+    /** 토스 취소 호출 지연 시간 */
+    private double callMeanMs;
+    private double callP50Ms;
+    private double callP95Ms;
+    private double callP99Ms;
+    /** 작업 생성 ~ 환불 완료 (재시도 대기 포함) */
+    private double completionP50Ms;
+    private double completionP95Ms;
+    private double completionP99Ms;
+}
@@ -0,0 +1,34 @@
+package com.freight.backend.dto.route;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 귀가노선 추천 견적
+ * - matchId: 수락 가능한 매칭이 있으면 해당 ID, 없으면 null
+ * - offRouteKm: 출발/도착지 중 귀가 경로에서 더 먼 쪽까지의 거리
+ * - detourKm: 견적을 수행할 때 귀가 직행 대비 추가 주행 거리(직선 기준)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReturnRouteQuoteResponse {
+    private Long quoteId;
+    private Long matchId;
+    private String originAddress;
+    private String destinationAddress;
+    private Double originLat;
+    private Double originLng;
+    private Double destinationLat;
+    private Double destinationLng;
+    private Integer distanceKm;
+    private String vehicleType;
+    private String cargoName;
+    private Integer finalPrice;
+    private LocalDateTime pickupAt;
+    private LocalDateTime deliveryAt;
+    private Double offRouteKm;
+    private Double detourKm;
+}
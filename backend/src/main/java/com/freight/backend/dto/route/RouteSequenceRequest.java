@@ -0,0 +1,13 @@
+package com.freight.backend.dto.route;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RouteSequenceRequest {
+    private List<Long> quoteIds;
+    private Double startLat;
+    private Double startLng;
+}
@@ -0,0 +1,12 @@
+package com.freight.backend.dto.route;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RouteSequenceResponse {
+    private Double totalKm;
+    private List<RouteSequenceStopResponse> stops;
+}
@@ -0,0 +1,17 @@
+package com.freight.backend.dto.route;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RouteSequenceStopResponse {
+    private Integer seq;
+    private String type;
+    private Long quoteId;
+    private Long quoteStopId;
+    private String address;
+    private Double lat;
+    private Double lng;
+    private Double legKm;
+}
@@ -0,0 +1,66 @@
+package com.freight.backend.dto.settlement;
+
+import com.freight.backend.entity.SettlementBatch;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementBatchResponse {
+
+    private Long batchId;
+    private LocalDate periodFrom;
+    private LocalDate periodTo;
+    private SettlementBatch.Status status;
+    private BigDecimal feeRate;
+    /** 처리 진행률 (paymentId 구간 기준, 0~100) */
+    private int progressPercent;
+    private Long itemCount;
+    private Long driverCount;
+    private Long grossAmount;
+    private Long feeAmount;
+    private Long adjustmentAmount;
+    private Long payoutAmount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static SettlementBatchResponse from(SettlementBatch b) {
+        return SettlementBatchResponse.builder()
+                .batchId(b.getBatchId())
+                .periodFrom(b.getPeriodFrom())
+                .periodTo(b.getPeriodTo())
+                .status(b.getStatus())
+                .feeRate(b.getFeeRate())
+                .progressPercent(progressPercent(b))
+                .itemCount(b.getItemCount())
+                .driverCount(b.getDriverCount())
+                .grossAmount(b.getGrossAmount())
+                .feeAmount(b.getFeeAmount())
+                .adjustmentAmount(b.getAdjustmentAmount())
+                .payoutAmount(b.getPayoutAmount())
+                .errorMessage(b.getErrorMessage())
+                .createdAt(b.getCreatedAt())
+                .completedAt(b.getCompletedAt())
+                .build();
+    }
+
+    private static int progressPercent(SettlementBatch b) {
+        if (b.getStatus() == SettlementBatch.Status.COMPLETED) {
+            return 100;
+        }
+        long total = b.getMaxPaymentId() - b.getMinPaymentId() + 1;
+        long done = b.getCheckpointPaymentId() - b.getMinPaymentId() + 1;
+        if (total <= 0 || done <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, done * 100 / total);
+    }
+}
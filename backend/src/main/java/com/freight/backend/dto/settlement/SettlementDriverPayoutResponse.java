@@ -0,0 +1,34 @@
+package com.freight.backend.dto.settlement;
+
+import com.freight.backend.entity.SettlementDriverPayout;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementDriverPayoutResponse {
+
+    private Long batchId;
+    private Long driverId;
+    private Long matchCount;
+    private Long grossAmount;
+    private Long feeAmount;
+    private Long adjustmentAmount;
+    private Long payoutAmount;
+
+    public static SettlementDriverPayoutResponse from(SettlementDriverPayout p) {
+        return SettlementDriverPayoutResponse.builder()
+                .batchId(p.getBatchId())
+                .driverId(p.getDriverId())
+                .matchCount(p.getMatchCount())
+                .grossAmount(p.getGrossAmount())
+                .feeAmount(p.getFeeAmount())
+                .adjustmentAmount(p.getAdjustmentAmount())
+                .payoutAmount(p.getPayoutAmount())
+                .build();
+    }
+}
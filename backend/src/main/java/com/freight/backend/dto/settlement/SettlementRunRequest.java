@@ -0,0 +1,21 @@
+package com.freight.backend.dto.settlement;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRunRequest {
+
+    /** 정산 기간 시작일 (포함) */
+    @NotNull(message = "from is required")
+    private LocalDate from;
+
+    /** 정산 기간 종료일 (제외) */
+    @NotNull(message = "to is required")
+    private LocalDate to;
+}
@@ -0,0 +1,44 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 공지 읽음 위치 (이 시각까지 게시된 공지는 읽은 것으로 봄)
+ * - 공지는 사용자별 알림 행 없이 한 번만 저장하고, 알림함/안 읽은 수 조회 때 이 위치와 비교해 합침
+ * - 기사/화주 ID 가 겹칠 수 있어 역할과 함께 구분
+ * - 행 생성/갱신은 AnnouncementReadMarkRepository.advance 로만 함
+ */
+@Entity
+@Table(name = "announcement_read_marks", uniqueConstraints = @UniqueConstraint(
+        name = "uk_announcement_read_marks_user", columnNames = {"user_role", "user_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnnouncementReadMark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "read_mark_id")
+    private Long id;
+
+    @Column(name = "user_role", nullable = false, length = 20)
+    private String userRole;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "read_up_to", nullable = false)
+    private LocalDateTime readUpTo;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
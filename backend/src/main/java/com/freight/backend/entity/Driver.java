@@ -46,6 +46,24 @@ public class Driver {
     @Column(name = "address_detail")
     private String addressDetail;
 
+    @Column(name = "home_address")
+    private String homeAddress;
+
+    @Column(name = "home_lat")
+    private Double homeLat;
+
+    @Column(name = "home_lng")
+    private Double homeLng;
+
+    @Column(name = "current_lat")
+    private Double currentLat;
+
+    @Column(name = "current_lng")
+    private Double currentLng;
+
+    @Column(name = "location_updated_at")
+    private LocalDateTime locationUpdatedAt;
+
     @Column(name = "bank_name")
     private String bankName;
 
@@ -74,4 +92,29 @@ public class Driver {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 귀가(차고지) 위치 변경
+     */
+    public void updateHome(String homeAddress, Double homeLat, Double homeLng) {
+        this.homeAddress = homeAddress;
+        this.homeLat = homeLat;
+        this.homeLng = homeLng;
+    }
+
+    /**
+     * 현재 위치 갱신 (배차 후보 계산용)
+     */
+    public void updateLocation(Double lat, Double lng) {
+        this.currentLat = lat;
+        this.currentLng = lng;
+        this.locationUpdatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 귀가 위치 좌표가 등록되어 있는지 확인
+     */
+    public boolean hasHomeLocation() {
+        return homeLat != null && homeLng != null;
+    }
 }
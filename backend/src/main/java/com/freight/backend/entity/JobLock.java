@@ -0,0 +1,35 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주기 작업 잠금 (다중 노드에서 한 노드만 실행)
+ * - lockedUntil 이 지나면 다른 노드가 가져갈 수 있음 (실행 중 노드는 주기적으로 연장)
+ * - 행 생성/갱신은 JobLockRepository 의 조건부 쿼리로만 함
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -16,7 +17,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_receiver_created", columnList = "receiver_id, created_at"),
+        @Index(name = "idx_notifications_receiver_read", columnList = "receiver_id, is_read"),
+        @Index(name = "idx_notifications_type_created", columnList = "type, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
@@ -27,7 +32,10 @@ public class Notification {
         MATCH_CANCELLED,
         COUNTER_OFFER_CREATED,
         COUNTER_OFFER_ACCEPTED,
-        COUNTER_OFFER_REJECTED
+        COUNTER_OFFER_REJECTED,
+        MATCH_OFFERED,
+        /** 전체 공지. notifications 행으로 저장하지 않고 조회 시 announcements 에서 합침 (DB 컬럼 변경 불필요) */
+        ANNOUNCEMENT
     }
 
 
@@ -42,8 +50,9 @@ public class Notification {
     @Column(name = "receiver_id", nullable = false)
     private Long receiverId;
 
+    /** 네이티브 ENUM 이면 유형 추가 때마다 ALTER 가 필요해 VARCHAR 로 고정 (기존 DB: docs/migrations/enum-columns-to-varchar.sql) */
     @Enumerated(EnumType.STRING)
-    @Column(name = "type", length = 50)
+    @Column(name = "type", length = 50, columnDefinition = "VARCHAR(50)")
     private Type type;
 
     @Column(name = "message", columnDefinition = "TEXT")
@@ -56,12 +65,13 @@ public class Notification {
     private LocalDateTime createdAt;
 
     @Builder
-    private Notification(Long matchId, Long receiverId, Type type, String message) {
+    private Notification(Long matchId, Long receiverId, Type type, String message, LocalDateTime createdAt) {
         this.matchId = matchId;
         this.receiverId = receiverId;
         this.type = type;
         this.message = message;
         this.isRead = false;
+        this.createdAt = createdAt;
     }
 
     @PrePersist
@@ -0,0 +1,51 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 읽은 알림 (notifications 에서 옮겨 옴, ID 유지)
+ * - 행 생성은 NotificationArchiveRepository.archiveWindow (INSERT ... SELECT) 로만 함
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = @Index(
+        name = "idx_notifications_archive_receiver_created", columnList = "receiver_id, created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    @Column(name = "notification_id")
+    private Long id;
+
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 50, columnDefinition = "VARCHAR(50)")
+    private Notification.Type type;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
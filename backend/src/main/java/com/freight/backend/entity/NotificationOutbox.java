@@ -0,0 +1,76 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 outbox (업무 트랜잭션에서 알림 대신 기록)
+ * - PENDING: 아직 notifications 에 옮기지 않음
+ * - STORED: notifications 저장 완료, 푸시 채널 전송 대기 (전송 후 삭제)
+ * - 행 생성은 NotificationOutboxRepository.insertAll (JDBC 배치) 로만 함
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_status_id", columnList = "status, outbox_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    public enum Status {
+        PENDING,
+        STORED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 50, columnDefinition = "VARCHAR(50)")
+    private Notification.Type type;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    /** 푸시 전송 시도 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** notifications 저장 시각 (STORED 상태에서 푸시 선점 시각으로 갱신) */
+    @Column(name = "stored_at")
+    private LocalDateTime storedAt;
+
+    public Notification toNotification() {
+        return Notification.builder()
+                .receiverId(receiverId)
+                .matchId(matchId)
+                .type(type)
+                .message(message)
+                .createdAt(createdAt)
+                .build();
+    }
+}
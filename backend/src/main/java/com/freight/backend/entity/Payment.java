@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -22,7 +23,13 @@ import lombok.NoArgsConstructor;
  * - 토스 결제 시: orderNo에 orderId 저장, pgRef에 토스 paymentKey 저장
  */
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_match_id", columnList = "match_id"),
+        @Index(name = "idx_payments_order_no", columnList = "order_no"),
+        @Index(name = "idx_payments_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_payments_status_paid_at", columnList = "status, paid_at"),
+        @Index(name = "idx_payments_status_confirm_requested_at", columnList = "status, confirm_requested_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -47,9 +54,12 @@ public class Payment {
     @Column(name = "method", length = 20)
     private PaymentMethod method;
 
-    /** 결제 상태: PENDING → COMPLETED / FAILED */
+    /**
+     * 결제 상태: PENDING → CONFIRMING → COMPLETED / FAILED
+     * - MySQL 네이티브 ENUM 이면 값 추가 때마다 ALTER 가 필요해 VARCHAR 로 고정 (기존 DB: docs/migrations/enum-columns-to-varchar.sql)
+     */
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false, length = 20)
+    @Column(name = "status", nullable = false, length = 20, columnDefinition = "VARCHAR(20)")
     private PaymentStatus status;
 
     /** 결제 완료 시각 */
@@ -74,12 +84,17 @@ public class Payment {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /** 승인 요청 시작 시각 (CONFIRMING 전환 시각, 복구 대상 판단용) */
+    @Column(name = "confirm_requested_at")
+    private LocalDateTime confirmRequestedAt;
+
     public enum PaymentMethod {
         CARD, TRANSFER, PREPAID
     }
 
     public enum PaymentStatus {
         PENDING,   // 대기 (준비 완료 ~ 승인 전)
+        CONFIRMING, // 승인 중 (PG 승인 요청 ~ 결과 반영 전)
         COMPLETED, // 완료
         FAILED,    // 실패
         REFUNDED   // 환불
@@ -0,0 +1,83 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토스 결제 상태 변경 웹훅 수신 기록
+ * - (paymentKey, status) 당 1행: 같은 상태 웹훅 재전송은 저장 단계에서 무시
+ * - processedAt 이 null 이면 미처리 (재기동/대기열 초과 시 주기 작업이 다시 대기열에 넣음)
+ * - 행 생성은 PaymentWebhookEventRepository.insertIgnore 로만 함
+ */
+@Entity
+@Table(
+        name = "payment_webhook_events",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_payment_webhook_events_key_status",
+                columnNames = {"payment_key", "status"}
+        ),
+        indexes = @Index(name = "idx_payment_webhook_events_processed_at", columnList = "processed_at, event_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentWebhookEvent {
+
+    public enum Result {
+        APPLIED,  // 결제 상태 반영
+        IGNORED,  // 반영할 전이 없음 (이미 같은 상태, 알 수 없는 주문 등)
+        FAILED    // 재시도 한도 초과
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "payment_key", nullable = false, length = 200)
+    private String paymentKey;
+
+    @Column(name = "order_id", nullable = false, length = 100)
+    private String orderId;
+
+    /** 토스 결제 상태 (DONE, CANCELED, ABORTED, EXPIRED ...) */
+    @Column(name = "status", nullable = false, length = 30)
+    private String status;
+
+    /**
+     * 처리 시 토스 결제 조회로 확인한 상태 (verify-with-api=false 면 웹훅 상태 그대로, 조회 실패/없는 주문이면 null)
+     * - status 와 다르면 검증되지 않은 웹훅이었던 것 → 같은 (paymentKey, status) 가 다시 오면 재처리
+     */
+    @Column(name = "verified_status", length = 30)
+    private String verifiedStatus;
+
+    @Column(name = "event_type", length = 50)
+    private String eventType;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "result", length = 20)
+    private Result result;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -16,7 +17,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "quotes")
+@Table(name = "quotes", indexes = @Index(name = "idx_quotes_shipper_id", columnList = "shipper_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -103,6 +104,12 @@ public class Quote {
     @Column(name = "status", nullable = false)
     private String status;
 
+    @Column(name = "pickup_at")
+    private LocalDateTime pickupAt;
+
+    @Column(name = "delivery_at")
+    private LocalDateTime deliveryAt;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -173,6 +180,14 @@ public class Quote {
         this.unloadMethod = unloadMethod;
     }
 
+    /**
+     * 상차/하차 예정 시각 변경
+     */
+    public void updateSchedule(LocalDateTime pickupAt, LocalDateTime deliveryAt) {
+        this.pickupAt = pickupAt;
+        this.deliveryAt = deliveryAt;
+    }
+
     /**
      * 견적 상태를 MATCHED로 변경 (기사가 수락 시)
      */
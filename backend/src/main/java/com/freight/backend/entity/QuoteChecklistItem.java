@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
@@ -16,7 +17,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "quote_checklist_items")
+@Table(name = "quote_checklist_items", indexes = @Index(name = "idx_quote_checklist_items_quote_id", columnList = "quote_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -40,6 +41,10 @@ public class QuoteChecklistItem {
     @Column(name = "extra_fee", nullable = false)
     private BigDecimal extraFee;
 
+    /** 운송 완료 후 이행 여부 (null: 미확인, false: 미이행 → 정산 시 extraFee 차감) */
+    @Column(name = "fulfilled")
+    private Boolean fulfilled;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -61,4 +61,11 @@ public class QuoteStop {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    /**
+     * 방문 순서 변경 (경로 최적화 결과 반영)
+     */
+    public void updateSeq(Integer seq) {
+        this.seq = seq;
+    }
 }
@@ -0,0 +1,84 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 환불(토스 결제 취소) 작업
+ * - 결제당 1행 (payment_id 유니크): 매칭 취소가 중복돼도 환불 요청은 한 번
+ * - nextAttemptAt: PENDING 이면 다음 시도 시각, IN_PROGRESS 면 처리 노드의 임대 만료 시각
+ *   (만료되면 처리 중이던 노드가 죽은 것으로 보고 다른 노드/재기동 후 다시 가져감)
+ * - 행 생성/상태 변경은 RefundJobRepository 의 조건부 쿼리로만 함
+ */
+@Entity
+@Table(
+        name = "refund_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refund_jobs_payment_id", columnNames = "payment_id"),
+        indexes = @Index(name = "idx_refund_jobs_status_next_attempt_at", columnList = "status, next_attempt_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefundJob {
+
+    public enum Status {
+        PENDING,      // 시도 대기 (첫 시도 또는 재시도)
+        IN_PROGRESS,  // 토스 취소 호출 중
+        SUCCEEDED,    // 취소 완료 (결제 REFUNDED)
+        FAILED        // 재시도 불가 오류 또는 재시도 한도 초과 (관리자 재시도 가능)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refund_job_id")
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    /** 토스 paymentKey (취소 API 경로) */
+    @Column(name = "payment_key", nullable = false, length = 200)
+    private String paymentKey;
+
+    @Column(name = "amount")
+    private Integer amount;
+
+    @Column(name = "reason", nullable = false, length = 200)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
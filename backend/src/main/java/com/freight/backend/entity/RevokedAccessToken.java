@@ -0,0 +1,42 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 폐기된 access token (jti). 토큰 만료 시각이 지나면 삭제
+ * - 각 노드는 TokenRevocationList 에 bloom filter 로 올려 두고 id 순으로 새 행을 따라 읽음
+ * - 행 생성은 RevokedAccessTokenRepository.insertIgnore 로만 함
+ */
+@Entity
+@Table(name = "revoked_access_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_revoked_access_tokens_jti", columnNames = "jti"),
+        indexes = @Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revoked_token_id")
+    private Long id;
+
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,121 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 배치 (기간 단위)
+ * - 결제 완료 시각이 [paidFrom, periodTo) 인 결제 중 아직 정산되지 않은 것을 정산 (paidFrom 은 periodFrom 보다 이전)
+ * - paymentId 구간 [minPaymentId, maxPaymentId] 를 chunk 단위로 처리, 처리한 위치를 checkpointPaymentId 에 기록 (재시작 시 이어서)
+ * - 합계 컬럼은 완료 시 settlement_items 집계로 채움
+ */
+@Entity
+@Table(name = "settlement_batches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_batches_period", columnNames = {"period_from", "period_to"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SettlementBatch {
+
+    public enum Status {
+        RUNNING,    // 처리 중 (또는 중단되어 재시작 대기)
+        COMPLETED,  // 완료
+        FAILED      // 오류로 중단 (재실행 시 checkpoint 부터 이어서)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "batch_id")
+    private Long batchId;
+
+    @Column(name = "period_from", nullable = false)
+    private LocalDate periodFrom;
+
+    @Column(name = "period_to", nullable = false)
+    private LocalDate periodTo;
+
+    /** 대상 결제 완료 시각 하한 (periodFrom 이전 기간에 정산되지 못한 결제 포함) */
+    @Column(name = "paid_from", nullable = false)
+    private LocalDateTime paidFrom;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    /** 플랫폼 수수료율 (결제 금액 = 기사 운임 × (1 + rate)) */
+    @Column(name = "fee_rate", nullable = false, precision = 5, scale = 4)
+    private BigDecimal feeRate;
+
+    /** 처리 대상 paymentId 구간 (배치 생성 시 고정) */
+    @Column(name = "min_payment_id", nullable = false)
+    private Long minPaymentId;
+
+    @Column(name = "max_payment_id", nullable = false)
+    private Long maxPaymentId;
+
+    /** 이 paymentId 까지 처리 완료 */
+    @Column(name = "checkpoint_payment_id", nullable = false)
+    private Long checkpointPaymentId;
+
+    @Column(name = "item_count")
+    private Long itemCount;
+
+    @Column(name = "driver_count")
+    private Long driverCount;
+
+    @Column(name = "gross_amount")
+    private Long grossAmount;
+
+    @Column(name = "fee_amount")
+    private Long feeAmount;
+
+    @Column(name = "adjustment_amount")
+    private Long adjustmentAmount;
+
+    @Column(name = "payout_amount")
+    private Long payoutAmount;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (status == null) {
+            status = Status.RUNNING;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,54 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치별 기사 지급액 (settlement_items 를 기사 단위로 집계)
+ * - 행 생성/갱신은 SettlementDriverPayoutRepository 의 INSERT ... SELECT 로만 함
+ */
+@Entity
+@Table(name = "settlement_driver_payouts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_driver_payouts_batch_driver", columnNames = {"batch_id", "driver_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementDriverPayout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "payout_id")
+    private Long payoutId;
+
+    @Column(name = "batch_id", nullable = false)
+    private Long batchId;
+
+    @Column(name = "driver_id", nullable = false)
+    private Long driverId;
+
+    @Column(name = "match_count", nullable = false)
+    private Long matchCount;
+
+    @Column(name = "gross_amount", nullable = false)
+    private Long grossAmount;
+
+    @Column(name = "fee_amount", nullable = false)
+    private Long feeAmount;
+
+    @Column(name = "adjustment_amount", nullable = false)
+    private Long adjustmentAmount;
+
+    @Column(name = "payout_amount", nullable = false)
+    private Long payoutAmount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,64 @@
+package com.freight.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 항목 (매칭 1건 = 1행)
+ * - match_id 유니크: 한 매칭은 한 번만 정산 (배치 재실행/기간 중복에도 안전)
+ * - 행 생성은 SettlementItemRepository 의 INSERT ... SELECT 로만 함
+ */
+@Entity
+@Table(name = "settlement_items",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_items_match_id", columnNames = "match_id"),
+        indexes = @Index(name = "idx_settlement_items_batch_id_driver_id", columnList = "batch_id, driver_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "batch_id", nullable = false)
+    private Long batchId;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "driver_id", nullable = false)
+    private Long driverId;
+
+    /** 결제 금액 */
+    @Column(name = "gross_amount", nullable = false)
+    private Long grossAmount;
+
+    /** 플랫폼 수수료 */
+    @Column(name = "fee_amount", nullable = false)
+    private Long feeAmount;
+
+    /** 체크리스트 미이행 차감액 */
+    @Column(name = "adjustment_amount", nullable = false)
+    private Long adjustmentAmount;
+
+    /** 기사 실수령액 = 결제 금액 - 수수료 - 차감액 (0 미만이면 0) */
+    @Column(name = "payout_amount", nullable = false)
+    private Long payoutAmount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
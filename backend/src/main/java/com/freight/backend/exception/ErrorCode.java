@@ -11,6 +11,8 @@ public enum ErrorCode {
     AUTH_EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "Token expired."),
     AUTH_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Authentication required."),
     AUTH_FORBIDDEN(HttpStatus.FORBIDDEN, "Access denied."),
+    AUTH_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts. Please try again later."),
+    AUTH_LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Login is busy. Please try again shortly."),
 
     /* =========================
        REQUEST / VALIDATION
@@ -26,7 +28,47 @@ public enum ErrorCode {
     MATCH_NOT_FOUND(HttpStatus.NOT_FOUND, "매칭을 찾을 수 없습니다."),
     MATCH_ALREADY_ACCEPTED(HttpStatus.CONFLICT, "이미 수락된 매칭입니다."),
     MATCH_ALREADY_EXISTS(HttpStatus.CONFLICT, "해당 견적에 이미 매칭이 존재합니다."),
+    MATCH_ALREADY_CANCELLED(HttpStatus.CONFLICT, "취소된 매칭입니다."),
+    MATCH_INVALID_STATUS(HttpStatus.CONFLICT, "현재 매칭 상태에서 처리할 수 없습니다."),
     QUOTE_NOT_OPEN(HttpStatus.BAD_REQUEST, "견적이 공개 상태가 아닙니다."),
+    SCHEDULE_CONFLICT(HttpStatus.CONFLICT, "기존 운송 일정과 시간이 겹칩니다."),
+    DISPATCH_ALREADY_RUNNING(HttpStatus.CONFLICT, "일괄 배차가 이미 실행 중입니다."),
+
+    /* =========================
+       ROUTE
+       ========================= */
+    DRIVER_HOME_NOT_SET(HttpStatus.BAD_REQUEST, "귀가 위치가 등록되지 않았습니다."),
+    ROUTE_STOP_LOCATION_MISSING(HttpStatus.BAD_REQUEST, "좌표가 없는 지점이 있어 경로를 계산할 수 없습니다."),
+    ROUTE_TOO_MANY_STOPS(HttpStatus.BAD_REQUEST, "경로 계산 가능한 지점 수를 초과했습니다."),
+
+    /* =========================
+       PAYMENT
+       ========================= */
+    PAYMENT_NOT_PENDING(HttpStatus.CONFLICT, "이미 승인 중이거나 처리된 결제입니다."),
+    PAYMENT_CONFIRM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "결제 승인 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    PAYMENT_WEBHOOK_INVALID(HttpStatus.BAD_REQUEST, "웹훅 본문이 올바르지 않습니다."),
+    RECONCILE_ALREADY_RUNNING(HttpStatus.CONFLICT, "결제 대사가 이미 실행 중입니다."),
+    REFUND_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "환불 작업을 찾을 수 없습니다."),
+    REFUND_JOB_NOT_FAILED(HttpStatus.CONFLICT, "실패한 환불 작업만 다시 시도할 수 있습니다."),
+
+    /* =========================
+       SETTLEMENT
+       ========================= */
+    SETTLEMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "정산 배치를 찾을 수 없습니다."),
+    SETTLEMENT_ALREADY_RUNNING(HttpStatus.CONFLICT, "정산이 이미 실행 중입니다."),
+
+    /* =========================
+       NOTIFICATION
+       ========================= */
+    NOTIFICATION_STREAM_FULL(HttpStatus.SERVICE_UNAVAILABLE, "실시간 알림 연결이 많습니다. 잠시 후 다시 연결해 주세요."),
+    NOTIFICATION_ARCHIVE_ALREADY_RUNNING(HttpStatus.CONFLICT, "알림 보관 작업이 이미 실행 중입니다."),
+
+    /* =========================
+       IDEMPOTENCY
+       ========================= */
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.BAD_REQUEST, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."),
 
     /* =========================
        EXTERNAL API
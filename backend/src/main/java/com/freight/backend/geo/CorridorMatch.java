@@ -0,0 +1,16 @@
+package com.freight.backend.geo;
+
+/**
+ * 노선 버퍼(corridor) 조회 결과
+ *
+ * @param offRouteKm 출발지/도착지 중 노선에서 더 멀리 떨어진 쪽의 거리(km)
+ * @param detourKm   현재 위치 → 출발지 → 도착지 → 목적지로 돌아갈 때 늘어나는 거리(km)
+ */
+public record CorridorMatch(
+        long quoteId,
+        double originProgress,
+        double destinationProgress,
+        double offRouteKm,
+        double detourKm
+) {
+}
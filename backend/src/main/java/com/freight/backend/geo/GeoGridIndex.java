@@ -0,0 +1,126 @@
+package com.freight.backend.geo;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 위경도 격자(grid) 공간 인덱스
+ * - 점(id, lat, lng)을 cellSizeDeg 크기의 격자 셀에 보관
+ * - 조회 시 반경/선분 버퍼에 걸치는 셀만 훑어서 후보 id를 돌려줌 (정확한 거리 판정은 호출 측에서)
+ * - 셀 단위 갱신은 ConcurrentHashMap.compute로 원자적으로 처리
+ */
+public class GeoGridIndex {
+
+    private final double cellSizeDeg;
+    private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> cellById = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellSizeDeg) {
+        if (cellSizeDeg <= 0) {
+            throw new IllegalArgumentException("cellSizeDeg must be positive");
+        }
+        this.cellSizeDeg = cellSizeDeg;
+    }
+
+    public int size() {
+        return cellById.size();
+    }
+
+    public void put(long id, double lat, double lng) {
+        long cell = cellKey(row(lat), col(lng));
+        Long previous = cellById.put(id, cell);
+        if (previous != null && previous != cell) {
+            removeFromCell(previous, id);
+        }
+        cells.compute(cell, (key, ids) -> {
+            Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(id);
+            return target;
+        });
+    }
+
+    public void remove(long id) {
+        Long cell = cellById.remove(id);
+        if (cell != null) {
+            removeFromCell(cell, id);
+        }
+    }
+
+    /** (lat, lng) 반경 radiusKm 안에 걸치는 셀의 후보 id */
+    public void forEachNear(double lat, double lng, double radiusKm, LongConsumer consumer) {
+        Set<Long> covered = new HashSet<>();
+        cover(lat, lng, radiusKm / GeoUtils.KM_PER_DEG_LAT, lngDelta(radiusKm, Math.abs(lat)), covered);
+        visit(covered, consumer);
+    }
+
+    /** 선분 (from → to) 주변 bufferKm 버퍼에 걸치는 셀의 후보 id */
+    public void forEachAlongSegment(
+            double fromLat,
+            double fromLng,
+            double toLat,
+            double toLng,
+            double bufferKm,
+            LongConsumer consumer
+    ) {
+        double latDelta = bufferKm / GeoUtils.KM_PER_DEG_LAT;
+        double lngDelta = lngDelta(bufferKm, Math.max(Math.abs(fromLat), Math.abs(toLat)));
+        double spanDeg = Math.max(Math.abs(toLat - fromLat), Math.abs(toLng - fromLng));
+        int steps = Math.max(1, (int) Math.ceil(spanDeg / (cellSizeDeg / 2)));
+
+        Set<Long> covered = new HashSet<>();
+        for (int i = 0; i <= steps; i++) {
+            double t = (double) i / steps;
+            cover(fromLat + (toLat - fromLat) * t, fromLng + (toLng - fromLng) * t, latDelta, lngDelta, covered);
+        }
+        visit(covered, consumer);
+    }
+
+    private void cover(double lat, double lng, double latDelta, double lngDelta, Set<Long> covered) {
+        int minRow = row(lat - latDelta);
+        int maxRow = row(lat + latDelta);
+        int minCol = col(lng - lngDelta);
+        int maxCol = col(lng + lngDelta);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                covered.add(cellKey(r, c));
+            }
+        }
+    }
+
+    private void visit(Set<Long> covered, LongConsumer consumer) {
+        for (Long cell : covered) {
+            Set<Long> ids = cells.get(cell);
+            if (ids != null) {
+                for (Long id : ids) {
+                    consumer.accept(id);
+                }
+            }
+        }
+    }
+
+    private void removeFromCell(long cell, long id) {
+        cells.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private double lngDelta(double km, double absLat) {
+        double cos = Math.cos(Math.toRadians(Math.min(absLat, 89.0)));
+        return km / (GeoUtils.KM_PER_DEG_LAT * cos);
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellSizeDeg);
+    }
+
+    private int col(double lng) {
+        return (int) Math.floor(lng / cellSizeDeg);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
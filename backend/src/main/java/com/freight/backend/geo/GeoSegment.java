@@ -0,0 +1,53 @@
+package com.freight.backend.geo;
+
+/**
+ * 두 지점을 잇는 선분
+ * - 선분 중간 위도 기준 등장방형(equirectangular) 평면 투영으로 계산 (수백 km 이내에서 충분한 정확도)
+ * - progress: 선분 시작(0) ~ 끝(1) 기준 투영 위치, distanceKm: 선분까지 최단 거리
+ */
+public final class GeoSegment {
+
+    private final double cosLat;
+    private final double startX;
+    private final double startY;
+    private final double dx;
+    private final double dy;
+    private final double lengthSq;
+
+    public GeoSegment(double fromLat, double fromLng, double toLat, double toLng) {
+        this.cosLat = Math.cos(Math.toRadians((fromLat + toLat) / 2));
+        this.startX = x(fromLng);
+        this.startY = y(fromLat);
+        this.dx = x(toLng) - startX;
+        this.dy = y(toLat) - startY;
+        this.lengthSq = dx * dx + dy * dy;
+    }
+
+    public double lengthKm() {
+        return Math.sqrt(lengthSq);
+    }
+
+    /** 선분 방향으로의 투영 위치 (0=시작, 1=끝, 범위 밖이면 0 미만 또는 1 초과) */
+    public double progress(double lat, double lng) {
+        if (lengthSq == 0) {
+            return 0;
+        }
+        return ((x(lng) - startX) * dx + (y(lat) - startY) * dy) / lengthSq;
+    }
+
+    /** 선분까지 최단 거리(km) */
+    public double distanceKm(double lat, double lng) {
+        double t = Math.max(0, Math.min(1, progress(lat, lng)));
+        double px = startX + t * dx;
+        double py = startY + t * dy;
+        return Math.hypot(x(lng) - px, y(lat) - py);
+    }
+
+    private double x(double lng) {
+        return lng * GeoUtils.KM_PER_DEG_LAT * cosLat;
+    }
+
+    private double y(double lat) {
+        return lat * GeoUtils.KM_PER_DEG_LAT;
+    }
+}
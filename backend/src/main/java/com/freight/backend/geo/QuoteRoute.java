@@ -0,0 +1,33 @@
+package com.freight.backend.geo;
+
+import com.freight.backend.entity.Quote;
+
+/**
+ * 공간 인덱스에 올리는 견적 좌표 (출발지 → 도착지)
+ */
+public record QuoteRoute(
+        Long quoteId,
+        Double originLat,
+        Double originLng,
+        Double destinationLat,
+        Double destinationLng
+) {
+
+    /** 공개(OPEN) 상태이고 좌표가 모두 있는 견적만 변환, 아니면 null */
+    public static QuoteRoute indexable(Quote quote) {
+        if (quote == null || quote.getQuoteId() == null || !quote.isOpen()) {
+            return null;
+        }
+        if (!GeoUtils.isValid(quote.getOriginLat(), quote.getOriginLng())
+                || !GeoUtils.isValid(quote.getDestinationLat(), quote.getDestinationLng())) {
+            return null;
+        }
+        return new QuoteRoute(
+                quote.getQuoteId(),
+                quote.getOriginLat(),
+                quote.getOriginLng(),
+                quote.getDestinationLat(),
+                quote.getDestinationLng()
+        );
+    }
+}
@@ -0,0 +1,213 @@
+package com.freight.backend.geo;
+
+import com.freight.backend.common.TransactionCallbacks;
+import com.freight.backend.entity.Quote;
+import com.freight.backend.repository.QuoteRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개(OPEN) 견적 출발지 공간 인덱스 (노드별 인메모리)
+ * - 기동 시 DB에서 적재, 이후 견적/매칭 변경 커밋 시 증분 반영
+ * - 다른 노드에서 일어난 변경은 주기적 재적재로 맞춤
+ * - 재적재 중 들어온 증분 반영은 기록해 두었다가 새 스냅샷에 다시 적용한 뒤 교체 (DB 를 읽은 뒤 커밋된 변경 유실 방지)
+ */
+@Component
+public class QuoteSpatialIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(QuoteSpatialIndex.class);
+
+    private final QuoteRepository quoteRepository;
+    private final double cellSizeDeg;
+
+    private volatile Snapshot snapshot;
+    /** 증분 반영과 스냅샷 교체 직렬화 (조회는 잠금 없이 snapshot 을 읽음) */
+    private final ReentrantLock updateLock = new ReentrantLock();
+    /** 재적재를 한 번에 하나만 */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    /** 재적재 중 들어온 증분 반영 (재적재 중이 아니면 null, updateLock 으로 보호) */
+    private List<Consumer<Snapshot>> pendingUpdates;
+
+    public QuoteSpatialIndex(
+            QuoteRepository quoteRepository,
+            @Value("${route.index.cell-size-deg:0.05}") double cellSizeDeg
+    ) {
+        this.quoteRepository = quoteRepository;
+        this.cellSizeDeg = cellSizeDeg;
+        this.snapshot = new Snapshot(new GeoGridIndex(cellSizeDeg), new ConcurrentHashMap<>());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${route.index.refresh-interval-ms:300000}",
+            fixedDelayString = "${route.index.refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        rebuild();
+    }
+
+    /** DB 기준으로 인덱스 전체 재적재 (새 스냅샷을 만든 뒤 교체). 이미 재적재 중이면 건너뜀 */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            // DB 를 읽기 전부터 기록해야 읽은 뒤 커밋된 변경도 빠짐없이 다시 적용됨
+            setPendingUpdates(new ArrayList<>());
+            Snapshot next = new Snapshot(new GeoGridIndex(cellSizeDeg), new ConcurrentHashMap<>());
+            for (QuoteRoute route : quoteRepository.findOpenQuoteRoutes()) {
+                if (GeoUtils.isValid(route.originLat(), route.originLng())
+                        && GeoUtils.isValid(route.destinationLat(), route.destinationLng())) {
+                    next.put(route);
+                }
+            }
+            updateLock.lock();
+            try {
+                pendingUpdates.forEach(update -> update.accept(next));
+                snapshot = next;
+            } finally {
+                updateLock.unlock();
+            }
+            log.debug("Quote spatial index rebuilt: {} open quotes", next.routes.size());
+        } finally {
+            setPendingUpdates(null);
+            rebuildLock.unlock();
+        }
+    }
+
+    public int size() {
+        return snapshot.routes.size();
+    }
+
+    /** 견적 저장/상태 변경 커밋 후 인덱스 반영 (OPEN이 아니거나 좌표가 없으면 제거) */
+    public void indexAfterCommit(Quote quote) {
+        Long quoteId = quote.getQuoteId();
+        QuoteRoute route = QuoteRoute.indexable(quote);
+        TransactionCallbacks.afterCommit(() -> apply(current -> {
+            if (route != null) {
+                current.put(route);
+            } else {
+                current.remove(quoteId);
+            }
+        }));
+    }
+
+    /** 견적 삭제/매칭 확정 커밋 후 인덱스에서 제거 */
+    public void removeAfterCommit(Long quoteId) {
+        TransactionCallbacks.afterCommit(() -> apply(current -> current.remove(quoteId)));
+    }
+
+    /** 현재 스냅샷에 반영하고, 재적재 중이면 새 스냅샷에도 다시 적용하도록 기록 */
+    private void apply(Consumer<Snapshot> update) {
+        updateLock.lock();
+        try {
+            update.accept(snapshot);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void setPendingUpdates(List<Consumer<Snapshot>> updates) {
+        updateLock.lock();
+        try {
+            pendingUpdates = updates;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 선분 (from → to) 버퍼 안에 출발지/도착지가 모두 있고, 진행 방향이 같은 견적 조회
+     * - 출발지가 도착지보다 선분 진행 방향으로 앞에 있어야 함
+     * - 우회 거리(detourKm) 오름차순
+     */
+    public List<CorridorMatch> findAlongSegment(
+            double fromLat,
+            double fromLng,
+            double toLat,
+            double toLng,
+            double corridorKm,
+            int limit
+    ) {
+        Snapshot current = snapshot;
+        GeoSegment segment = new GeoSegment(fromLat, fromLng, toLat, toLng);
+        double directKm = GeoUtils.haversineKm(fromLat, fromLng, toLat, toLng);
+        List<CorridorMatch> matches = new ArrayList<>();
+
+        current.grid.forEachAlongSegment(fromLat, fromLng, toLat, toLng, corridorKm, quoteId -> {
+            QuoteRoute route = current.routes.get(quoteId);
+            if (route == null) {
+                return;
+            }
+            double originOff = segment.distanceKm(route.originLat(), route.originLng());
+            if (originOff > corridorKm) {
+                return;
+            }
+            double destinationOff = segment.distanceKm(route.destinationLat(), route.destinationLng());
+            if (destinationOff > corridorKm) {
+                return;
+            }
+            double originProgress = segment.progress(route.originLat(), route.originLng());
+            double destinationProgress = segment.progress(route.destinationLat(), route.destinationLng());
+            if (destinationProgress <= originProgress) {
+                return;
+            }
+            double detourKm = GeoUtils.haversineKm(fromLat, fromLng, route.originLat(), route.originLng())
+                    + GeoUtils.haversineKm(route.originLat(), route.originLng(),
+                            route.destinationLat(), route.destinationLng())
+                    + GeoUtils.haversineKm(route.destinationLat(), route.destinationLng(), toLat, toLng)
+                    - directKm;
+            matches.add(new CorridorMatch(
+                    quoteId,
+                    originProgress,
+                    destinationProgress,
+                    Math.max(originOff, destinationOff),
+                    Math.max(0, detourKm)
+            ));
+        });
+
+        matches.sort(Comparator.comparingDouble(CorridorMatch::detourKm));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private static final class Snapshot {
+        private final GeoGridIndex grid;
+        private final ConcurrentHashMap<Long, QuoteRoute> routes;
+
+        private Snapshot(GeoGridIndex grid, ConcurrentHashMap<Long, QuoteRoute> routes) {
+            this.grid = grid;
+            this.routes = routes;
+        }
+
+        private void put(QuoteRoute route) {
+            routes.put(route.quoteId(), route);
+            grid.put(route.quoteId(), route.originLat(), route.originLng());
+        }
+
+        private void remove(Long quoteId) {
+            if (quoteId == null) {
+                return;
+            }
+            routes.remove(quoteId);
+            grid.remove(quoteId);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.freight.backend.http;
+
+import java.time.Duration;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ * - CLOSED: 최근 slidingWindowSize 호출의 실패율이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 즉시 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ * 상태 갱신만 잠그고 I/O 는 잠금 밖에서 일어남
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean probeInFlight;
+    private long opens;
+
+    public CircuitBreaker(int failureRateThreshold, int slidingWindowSize, int minimumCalls, Duration openDuration) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[Math.max(1, slidingWindowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /** 호출 허용 여부. 허용 후에는 onSuccess / onFailure / onIgnored 중 하나를 반드시 호출 */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    /** 허용은 받았지만 호출하지 않은 경우 (bulkhead 거절 등) */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized long opens() {
+        return opens;
+    }
+
+    private void record(boolean failure) {
+        if (calls == window.length) {
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[index] = failure;
+        if (failure) {
+            failures++;
+        }
+        index = (index + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        probeInFlight = false;
+        opens++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        index = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.freight.backend.http;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간(ms) 지연 시간 히스토그램. 기록은 잠금 없이 LongAdder, 백분위는 구간 상한으로 근사
+ */
+public class LatencyHistogram {
+
+    private static final long[] BOUNDS_MS = {
+            1, 2, 3, 5, 8, 13, 20, 30, 50, 75, 100, 150, 200, 300, 500, 750,
+            1_000, 1_500, 2_000, 3_000, 5_000, 10_000, 30_000, 60_000, Long.MAX_VALUE
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos) {
+        long micros = Math.max(0, elapsedNanos / 1_000);
+        int i = Arrays.binarySearch(BOUNDS_MS, (micros + 999) / 1_000);
+        buckets[i >= 0 ? i : -i - 1].increment();
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double meanMs() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalMicros.sum() / 1_000.0 / n;
+    }
+
+    public double maxMs() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /** p(0~1) 백분위 근사값(ms). 마지막 구간이면 최대값 */
+    public double percentileMs(double p) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return i == counts.length - 1 ? maxMs() : Math.min(BOUNDS_MS[i], maxMs());
+            }
+        }
+        return maxMs();
+    }
+}
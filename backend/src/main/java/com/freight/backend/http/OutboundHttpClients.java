@@ -0,0 +1,53 @@
+package com.freight.backend.http;
+
+import com.freight.backend.dto.http.OutboundClientStatsResponse;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 외부 API 클라이언트 공용 생성기
+ * - upstream(이름)마다 별도 JDK HttpClient (연결 풀 분리) + 연결/응답 타임아웃 + ResilienceInterceptor
+ * - 설정: outbound-http.clients.<이름>
+ * - 유휴 연결 유지 시간은 JDK HttpClient 전역 설정이라 JVM 옵션으로 지정 (-Djdk.httpclient.keepalive.timeout=초, build.gradle bootRun 참고)
+ */
+@Component
+public class OutboundHttpClients {
+
+    private final RestClient.Builder restClientBuilder;
+    private final OutboundHttpProperties properties;
+    private final Map<String, ResilienceInterceptor> interceptors = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(RestClient.Builder restClientBuilder, OutboundHttpProperties properties) {
+        this.restClientBuilder = restClientBuilder;
+        this.properties = properties;
+    }
+
+    /** name 용 RestClient.Builder (공용 빌더 복제본이라 baseUrl 등 추가 설정 가능) */
+    public RestClient.Builder builder(String name) {
+        OutboundHttpProperties.Client settings = properties.client(name);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.getReadTimeout());
+
+        ResilienceInterceptor interceptor = interceptors.computeIfAbsent(
+                name, n -> new ResilienceInterceptor(n, settings)
+        );
+        return restClientBuilder.clone()
+                .requestFactory(requestFactory)
+                .requestInterceptor(interceptor);
+    }
+
+    public List<OutboundClientStatsResponse> stats() {
+        return interceptors.values().stream()
+                .map(ResilienceInterceptor::stats)
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .toList();
+    }
+}
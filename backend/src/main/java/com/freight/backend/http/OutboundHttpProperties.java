@@ -0,0 +1,50 @@
+package com.freight.backend.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 호출 설정 (outbound-http.*)
+ * - clients.<이름> 별로 타임아웃/동시 호출 상한/서킷 브레이커 설정. 없는 항목은 기본값
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound-http")
+public class OutboundHttpProperties {
+
+    private Map<String, Client> clients = new HashMap<>();
+
+    public Client client(String name) {
+        return clients.getOrDefault(name, new Client());
+    }
+
+    @Getter
+    @Setter
+    public static class Client {
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        private Duration readTimeout = Duration.ofSeconds(5);
+
+        /** 동시 호출 상한 (bulkhead). 상한 = 해당 upstream 으로 열리는 연결 수 상한 */
+        private int maxConcurrent = 20;
+
+        /** 동시 호출 상한일 때 자리 대기 시간. 초과 시 호출하지 않고 거절 */
+        private Duration acquireTimeout = Duration.ofMillis(100);
+
+        /** 최근 sliding-window-size 호출 중 실패율(%)이 이 값 이상이면 서킷 open */
+        private int failureRateThreshold = 50;
+
+        private int slidingWindowSize = 20;
+
+        /** 실패율 판단 최소 호출 수 */
+        private int minimumCalls = 10;
+
+        /** open 유지 시간. 지나면 시험 호출 1건 허용(half-open) */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
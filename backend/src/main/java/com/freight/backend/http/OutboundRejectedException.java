@@ -0,0 +1,13 @@
+package com.freight.backend.http;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷 open 또는 동시 호출 상한으로 요청을 보내지 않고 거절함 (upstream 에 도달하지 않았음이 확실)
+ */
+public class OutboundRejectedException extends RestClientException {
+
+    public OutboundRejectedException(String message) {
+        super(message);
+    }
+}
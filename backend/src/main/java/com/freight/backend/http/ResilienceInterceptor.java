@@ -0,0 +1,78 @@
+package com.freight.backend.http;
+
+import com.freight.backend.dto.http.OutboundClientStatsResponse;
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * upstream 1개에 대한 서킷 브레이커 + 동시 호출 상한 + 지연 시간 기록
+ * - 네트워크 오류(타임아웃 포함)와 5xx 는 실패, 4xx 는 성공으로 봄 (요청 문제이지 upstream 장애가 아님)
+ * - 거절 시 OutboundRejectedException (요청을 보내지 않았음)
+ */
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public ResilienceInterceptor(String name, OutboundHttpProperties.Client settings) {
+        this.name = name;
+        this.circuitBreaker = new CircuitBreaker(
+                settings.getFailureRateThreshold(),
+                settings.getSlidingWindowSize(),
+                settings.getMinimumCalls(),
+                settings.getOpenDuration()
+        );
+        this.bulkhead = new Bulkhead(settings.getMaxConcurrent(), settings.getAcquireTimeout());
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new OutboundRejectedException(name + " circuit is open");
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            throw new OutboundRejectedException(name + " concurrency limit reached");
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start);
+            bulkhead.release();
+        }
+    }
+
+    public OutboundClientStatsResponse stats() {
+        return OutboundClientStatsResponse.builder()
+                .name(name)
+                .circuitState(circuitBreaker.state().name())
+                .circuitOpens(circuitBreaker.opens())
+                .inFlight(bulkhead.inFlight())
+                .maxConcurrent(bulkhead.maxConcurrent())
+                .rejected(bulkhead.rejected())
+                .calls(latency.count())
+                .meanMs(latency.meanMs())
+                .p50Ms(latency.percentileMs(0.50))
+                .p95Ms(latency.percentileMs(0.95))
+                .p99Ms(latency.percentileMs(0.99))
+                .maxMs(latency.maxMs())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.freight.backend.idempotency;
+
+import com.freight.backend.entity.IdempotencyRecord;
+import com.freight.backend.repository.IdempotencyRecordRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 멱등 키 저장소 (다중 노드용, idempotency_keys)
+ * - 선점은 INSERT IGNORE / 만료 항목 조건부 UPDATE 라서 노드 간에도 한 요청만 ACQUIRED
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "db")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Override
+    public IdempotencyClaim claim(String key, String fingerprint, Instant now, Instant leaseExpiresAt) {
+        LocalDateTime nowAt = toLocal(now);
+        LocalDateTime leaseAt = toLocal(leaseExpiresAt);
+        // 삽입 → 만료 항목 재선점 → 기존 항목 조회. 조회 직전에 삭제된 경우만 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (idempotencyRecordRepository.insertIfAbsent(key, fingerprint, leaseAt, nowAt) == 1
+                    || idempotencyRecordRepository.reclaimExpired(
+                            key, fingerprint, IdempotencyRecord.Status.IN_PROGRESS, leaseAt, nowAt) == 1) {
+                return IdempotencyClaim.acquired(fingerprint);
+            }
+            Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(key);
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                if (record.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+                    StoredResponse response = new StoredResponse(
+                            record.getResponseStatus(), record.getContentType(), record.getResponseBody()
+                    );
+                    return new IdempotencyClaim(IdempotencyClaim.Status.COMPLETED, record.getFingerprint(), response);
+                }
+                return new IdempotencyClaim(IdempotencyClaim.Status.IN_PROGRESS, record.getFingerprint(), null);
+            }
+        }
+        return new IdempotencyClaim(IdempotencyClaim.Status.IN_PROGRESS, fingerprint, null);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Instant expiresAt) {
+        idempotencyRecordRepository.complete(
+                key, IdempotencyRecord.Status.COMPLETED,
+                response.status(), response.contentType(), response.body(), toLocal(expiresAt)
+        );
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyRecordRepository.deleteByKeyAndStatus(key, IdempotencyRecord.Status.IN_PROGRESS);
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        return idempotencyRecordRepository.deleteExpired(toLocal(now));
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,19 @@
+package com.freight.backend.idempotency;
+
+/**
+ * 멱등 키 선점 결과
+ * - ACQUIRED: 이 요청이 처리 담당
+ * - IN_PROGRESS: 다른 요청(다른 노드 포함)이 처리 중
+ * - COMPLETED: 이미 처리됨, response 재생
+ * fingerprint 는 키를 먼저 잡은 요청의 본문 지문 (같은 키로 다른 요청을 보냈는지 확인용)
+ */
+public record IdempotencyClaim(Status status, String fingerprint, StoredResponse response) {
+
+    public enum Status {
+        ACQUIRED, IN_PROGRESS, COMPLETED
+    }
+
+    public static IdempotencyClaim acquired(String fingerprint) {
+        return new IdempotencyClaim(Status.ACQUIRED, fingerprint, null);
+    }
+}
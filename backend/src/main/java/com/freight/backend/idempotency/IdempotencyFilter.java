@@ -0,0 +1,199 @@
+package com.freight.backend.idempotency;
+
+import com.freight.backend.dto.common.ErrorResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Idempotency-Key 헤더 처리 (JWT 인증 필터 뒤, SecurityConfig 에서 등록)
+ * - 대상: idempotency.paths 의 POST 요청 중 헤더가 있는 것만
+ * - 키는 사용자 + 경로 단위로 구분, 본문 지문(SHA-256)이 다르면 400
+ * - 재생 응답에는 Idempotent-Replayed: true 헤더
+ * 빈으로 등록하지 않음 (서블릿 필터로 자동 등록되면 인증 전에 한 번 실행되어 버림)
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !idempotencyService.appliesTo(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            // 인증 실패는 뒤쪽 인가 단계에서 처리
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String headerKey = request.getHeader(HEADER).trim();
+        if (headerKey.isEmpty() || headerKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_INVALID);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = authentication.getName() + "|" + request.getRequestURI() + "|" + headerKey;
+        String fingerprint = fingerprint(request.getRequestURI(), cachedRequest.body);
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+
+        StoredResponse replay;
+        try {
+            replay = idempotencyService.execute(key, fingerprint, () -> {
+                filterChain.doFilter(cachedRequest, cachingResponse);
+                return new StoredResponse(
+                        cachingResponse.getStatus(),
+                        cachingResponse.getContentType(),
+                        cachingResponse.getContentAsByteArray()
+                );
+            });
+        } catch (CustomException e) {
+            writeError(response, e.getErrorCode());
+            return;
+        }
+
+        if (replay == null) {
+            cachingResponse.copyBodyToResponse();
+            return;
+        }
+        response.setStatus(replay.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (replay.contentType() != null) {
+            response.setContentType(replay.contentType());
+        }
+        if (replay.body() != null) {
+            response.getOutputStream().write(replay.body());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode code) throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .success(false)
+                .status(code.getStatus().value())
+                .message(code.getMessage())
+                .build();
+        response.setStatus(code.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(body));
+    }
+
+    private static String fingerprint(String uri, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(uri.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 지문 계산 후에도 컨트롤러가 본문을 다시 읽을 수 있도록 미리 읽어 둔 요청 */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /** 본문이 이미 메모리에 있으므로 바로 읽기 가능 → 즉시 onDataAvailable, 다 읽었으면 onAllDataRead */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    if (listener == null) {
+                        throw new NullPointerException("listener");
+                    }
+                    if (!isAsyncStarted()) {
+                        // 원래 요청 스트림과 같이 비동기 처리 중에만 허용
+                        throw new IllegalStateException("Async processing has not been started");
+                    }
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.freight.backend.idempotency;
+
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 키 처리
+ * - 같은 노드의 동시 중복 요청은 먼저 온 요청의 결과(CompletableFuture)를 기다렸다가 같은 응답을 받음 (single-flight)
+ * - 이후 중복 요청은 저장소의 완료 응답을 재생. 다른 노드에서 처리 중이면 409
+ * - 5xx/예외는 저장하지 않고 키를 해제해 같은 키로 재시도 가능
+ * - 202(처리 중, 예: 결제 승인 결과 확인 중)는 최종 응답이 아니라 accepted-ttl-seconds 동안만 재생.
+ *   이후 같은 키 요청은 다시 실행돼 그때 상태로 응답
+ */
+@Component
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    /** 요청 처리 (filter chain 실행 후 응답 캡처) */
+    @FunctionalInterface
+    public interface Execution {
+        StoredResponse run() throws IOException, ServletException;
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<StoredResponse> future) {
+    }
+
+    private final IdempotencyStore store;
+    private final List<String> paths;
+    private final Duration ttl;
+    private final Duration acceptedTtl;
+    private final Duration lease;
+    private final long waitTimeoutMs;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyStore store,
+            @Value("${idempotency.paths:/api/shipper/payments/confirm,/api/shipper/quotes}") List<String> paths,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.accepted-ttl-seconds:10}") long acceptedTtlSeconds,
+            @Value("${idempotency.lease-seconds:60}") long leaseSeconds,
+            @Value("${idempotency.wait-timeout-ms:15000}") long waitTimeoutMs
+    ) {
+        this.store = store;
+        this.paths = List.copyOf(paths);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.acceptedTtl = Duration.ofSeconds(acceptedTtlSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    /** 멱등 키 적용 대상 경로 (POST) */
+    public boolean appliesTo(String uri) {
+        return paths.contains(uri);
+    }
+
+    /**
+     * key 로 요청 1회만 실행.
+     * @return 이 요청이 실행했으면 null (응답은 호출 측이 그대로 전송), 중복 요청이면 재생할 응답
+     */
+    public StoredResponse execute(String key, String fingerprint, Execution execution)
+            throws IOException, ServletException {
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            requireSameRequest(existing.fingerprint(), fingerprint);
+            return await(existing.future());
+        }
+
+        try {
+            Instant now = Instant.now();
+            IdempotencyClaim claim = store.claim(key, fingerprint, now, now.plus(lease));
+            if (claim.status() != IdempotencyClaim.Status.ACQUIRED) {
+                requireSameRequest(claim.fingerprint(), fingerprint);
+                if (claim.status() == IdempotencyClaim.Status.IN_PROGRESS) {
+                    throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+                }
+                mine.future().complete(claim.response());
+                return claim.response();
+            }
+
+            StoredResponse response;
+            try {
+                response = execution.run();
+            } catch (IOException | ServletException | RuntimeException e) {
+                store.release(key);
+                throw e;
+            }
+            if (response.status() >= 500) {
+                store.release(key);
+            } else {
+                Duration keep = response.status() == HttpStatus.ACCEPTED.value() ? acceptedTtl : ttl;
+                store.complete(key, response, Instant.now().plus(keep));
+            }
+            mine.future().complete(response);
+            return null;
+        } catch (IOException | ServletException | RuntimeException e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 만료 항목 정리 */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int removed = store.purgeExpired(Instant.now());
+        if (removed > 0) {
+            log.debug("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 먼저 온 요청이 실패했거나 아직 끝나지 않음 → 클라이언트가 재시도
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+    }
+
+    private static void requireSameRequest(String storedFingerprint, String fingerprint) {
+        if (!storedFingerprint.equals(fingerprint)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+}
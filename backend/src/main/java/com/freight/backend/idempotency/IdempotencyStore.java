@@ -0,0 +1,23 @@
+package com.freight.backend.idempotency;
+
+import java.time.Instant;
+
+/**
+ * 멱등 키 저장소
+ * - 처리 중 항목은 lease 만료 시각까지, 완료 항목은 TTL 만료 시각까지 유지. 만료 항목은 다시 선점 가능
+ * - idempotency.store=memory(기본, 단일 노드) / db(idempotency_keys 테이블, 다중 노드)
+ */
+public interface IdempotencyStore {
+
+    /** key 선점 시도. 없거나 만료된 항목이면 처리 중으로 기록 후 ACQUIRED */
+    IdempotencyClaim claim(String key, String fingerprint, Instant now, Instant leaseExpiresAt);
+
+    /** 처리 완료 응답 저장 */
+    void complete(String key, StoredResponse response, Instant expiresAt);
+
+    /** 처리 중 항목 해제 (실패/5xx → 같은 키로 재시도 가능) */
+    void release(String key);
+
+    /** 만료 항목 삭제, 삭제 건수 반환 */
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,105 @@
+package com.freight.backend.idempotency;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 멱등 키 저장소 (단일 노드용)
+ * - 키 해시로 나눈 stripe 마다 HashMap + 락. 서로 다른 키는 대부분 다른 락을 잡음
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public InMemoryIdempotencyStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public IdempotencyClaim claim(String key, String fingerprint, Instant now, Instant leaseExpiresAt) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry == null || entry.expiresAtMillis <= now.toEpochMilli()) {
+                stripe.entries.put(key, new Entry(fingerprint, null, leaseExpiresAt.toEpochMilli()));
+                return IdempotencyClaim.acquired(fingerprint);
+            }
+            if (entry.response == null) {
+                return new IdempotencyClaim(IdempotencyClaim.Status.IN_PROGRESS, entry.fingerprint, null);
+            }
+            return new IdempotencyClaim(IdempotencyClaim.Status.COMPLETED, entry.fingerprint, entry.response);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Instant expiresAt) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null) {
+                stripe.entries.put(key, new Entry(entry.fingerprint, response, expiresAt.toEpochMilli()));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null && entry.response == null) {
+                stripe.entries.remove(key);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                int before = stripe.entries.size();
+                stripe.entries.values().removeIf(e -> e.expiresAtMillis <= nowMillis);
+                removed += before - stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return removed;
+    }
+
+    private Stripe stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    /** response == null 이면 처리 중 */
+    private record Entry(String fingerprint, StoredResponse response, long expiresAtMillis) {
+    }
+}
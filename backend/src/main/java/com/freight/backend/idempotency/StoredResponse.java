@@ -0,0 +1,7 @@
+package com.freight.backend.idempotency;
+
+/**
+ * 멱등 키로 저장한 응답 (재요청 시 그대로 재생)
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,80 @@
+package com.freight.backend.notification;
+
+import com.freight.backend.repository.AnnouncementRepository;
+import com.freight.backend.repository.projection.AnnouncementBroadcast;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시된 공지 목록의 메모리 사본 (전체 사용자 알림함/안 읽은 수에 공지를 합칠 때 DB 를 읽지 않도록)
+ * - 게시/수정/삭제 커밋 후와 refresh-interval-ms 마다 다시 읽음 (다른 노드의 변경 반영)
+ * - 최근 게시 순 (publishedAt, announcementId 내림차순)
+ */
+@Component
+public class BroadcastIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BroadcastIndex.class);
+
+    private final AnnouncementRepository announcementRepository;
+    private volatile List<AnnouncementBroadcast> published = List.of();
+
+    public BroadcastIndex(AnnouncementRepository announcementRepository) {
+        this.announcementRepository = announcementRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${notification.broadcast.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            published = List.copyOf(announcementRepository.findBroadcasts());
+        } catch (RuntimeException e) {
+            log.warn("Broadcast index refresh failed: {}", e.toString());
+        }
+    }
+
+    /** after 보다 나중에 게시된 공지 수 */
+    public long countPublishedAfter(LocalDateTime after) {
+        long count = 0;
+        for (AnnouncementBroadcast b : published) {
+            if (!b.publishedAt().isAfter(after)) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /** (beforeAt, beforeId) 보다 오래된 공지 최대 limit 건. beforeAt 이 null 이면 처음부터 */
+    public List<AnnouncementBroadcast> page(LocalDateTime beforeAt, Long beforeId, int limit) {
+        List<AnnouncementBroadcast> result = new ArrayList<>(Math.min(limit, 16));
+        for (AnnouncementBroadcast b : published) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (beforeAt == null
+                    || b.publishedAt().isBefore(beforeAt)
+                    || (b.publishedAt().isEqual(beforeAt) && b.announcementId() < beforeId)) {
+                result.add(b);
+            }
+        }
+        return result;
+    }
+
+    public Optional<AnnouncementBroadcast> find(Long announcementId) {
+        return published.stream().filter(b -> b.announcementId().equals(announcementId)).findFirst();
+    }
+
+    /** 가장 최근 게시 시각 (게시된 공지가 없으면 null) */
+    public LocalDateTime latestPublishedAt() {
+        List<AnnouncementBroadcast> snapshot = published;
+        return snapshot.isEmpty() ? null : snapshot.get(0).publishedAt();
+    }
+}
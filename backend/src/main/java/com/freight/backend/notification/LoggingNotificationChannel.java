@@ -0,0 +1,30 @@
+package com.freight.backend.notification;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 확인용 채널: 전달받은 알림을 로그로만 남김
+ */
+@Component
+@ConditionalOnProperty(name = "notification.channels.log.enabled", havingValue = "true")
+public class LoggingNotificationChannel implements NotificationChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationChannel.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(List<NotificationMessage> messages) {
+        for (NotificationMessage m : messages) {
+            log.info("Notification push: eventId={}, receiverId={}, type={}, message={}",
+                    m.eventId(), m.receiverId(), m.type(), m.message());
+        }
+    }
+}
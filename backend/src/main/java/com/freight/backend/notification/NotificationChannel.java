@@ -0,0 +1,15 @@
+package com.freight.backend.notification;
+
+import java.util.List;
+
+/**
+ * 알림 푸시 채널 (앱 푸시, 실시간 스트림 등). 빈으로 등록하면 outbox 디스패처가 묶음으로 전달
+ * - 최소 한 번 전달: 실패하거나 서버가 중간에 죽으면 같은 알림을 다시 보냄 (eventId 로 중복 제거)
+ * - 예외를 던지면 묶음 전체를 나중에 다시 보냄
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    void deliver(List<NotificationMessage> messages);
+}
@@ -0,0 +1,28 @@
+package com.freight.backend.notification;
+
+import com.freight.backend.entity.NotificationOutbox;
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 채널로 보내는 알림. eventId(outbox ID)가 같으면 같은 알림 (재전송 중복 제거용)
+ */
+public record NotificationMessage(
+        Long eventId,
+        Long receiverId,
+        Long matchId,
+        String type,
+        String message,
+        LocalDateTime createdAt
+) {
+
+    public static NotificationMessage from(NotificationOutbox outbox) {
+        return new NotificationMessage(
+                outbox.getId(),
+                outbox.getReceiverId(),
+                outbox.getMatchId(),
+                outbox.getType() == null ? null : outbox.getType().name(),
+                outbox.getMessage(),
+                outbox.getCreatedAt()
+        );
+    }
+}
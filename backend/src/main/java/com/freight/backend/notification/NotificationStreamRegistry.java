@@ -0,0 +1,259 @@
+package com.freight.backend.notification;
+
+import com.freight.backend.dto.notification.NotificationStreamStatsResponse;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.http.LatencyHistogram;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 노드에 연결된 실시간 알림(SSE) 수신자 목록
+ * - 수신자별 연결 집합 (여러 기기 허용, max-per-receiver 초과 시 가장 오래된 연결 종료)
+ * - 프레임(JSON)은 알림마다 한 번만 직렬화해 같은 수신자의 모든 연결에 그대로 씀
+ * - 연결별로 보낸 ID 를 기억해 재전송/따라잡기 중복 제거 (tail 은 커밋 순서대로 보내므로 ID 가 거꾸로 올 수 있음)
+ * - 재연결 따라잡기 중 도착한 프레임은 버퍼에 모았다가 이어서 보냄
+ */
+@Component
+public class NotificationStreamRegistry {
+
+    /** 연결별로 기억하는 최근 전송 ID 수 (따라잡기 replay-limit 과 tail 재확인 구간보다 넉넉하게) */
+    private static final int RECENT_SENT_IDS = 1024;
+
+    private final ConcurrentHashMap<Long, Set<Connection>> byReceiver = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final int maxConnections;
+    private final int maxPerReceiver;
+    private final long timeoutMs;
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LatencyHistogram fanout = new LatencyHistogram();
+    private final LatencyHistogram deliveryLag = new LatencyHistogram();
+
+    public NotificationStreamRegistry(
+            @Value("${notification.stream.max-connections:50000}") int maxConnections,
+            @Value("${notification.stream.max-per-receiver:5}") int maxPerReceiver,
+            @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs
+    ) {
+        this.maxConnections = Math.max(1, maxConnections);
+        this.maxPerReceiver = Math.max(1, maxPerReceiver);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 연결 등록 (따라잡기 상태로 시작, 끝나면 finishReplay 호출)
+     * @param lastEventId 클라이언트가 마지막으로 받은 notificationId (없으면 0)
+     */
+    public Connection open(Long receiverId, long lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new CustomException(ErrorCode.NOTIFICATION_STREAM_FULL);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(receiverId, emitter, lastEventId);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        Set<Connection> set = byReceiver.computeIfAbsent(receiverId, id -> ConcurrentHashMap.newKeySet());
+        set.add(connection);
+        opened.increment();
+        if (set.size() > maxPerReceiver) {
+            set.stream()
+                    .filter(c -> c != connection)
+                    .min((a, b) -> Long.compare(a.openedAtNanos, b.openedAtNanos))
+                    .ifPresent(Connection::close);
+        }
+        return connection;
+    }
+
+    public boolean isEmpty() {
+        return connections.get() == 0;
+    }
+
+    public boolean isConnected(Long receiverId) {
+        Set<Connection> set = byReceiver.get(receiverId);
+        return set != null && !set.isEmpty();
+    }
+
+    /** 수신자의 모든 연결에 프레임 전송 (연결이 없으면 아무것도 하지 않음) */
+    public void publish(Frame frame) {
+        Set<Connection> set = byReceiver.get(frame.receiverId());
+        if (set == null || set.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (Connection connection : set) {
+            connection.send(frame);
+        }
+        fanout.record(System.nanoTime() - start);
+        if (frame.createdAt() != null) {
+            deliveryLag.record(Math.max(0, Duration.between(frame.createdAt(), LocalDateTime.now()).toNanos()));
+        }
+    }
+
+    /** 연결 유지용 주석 프레임 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리) */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        List<Connection> all = new ArrayList<>();
+        byReceiver.values().forEach(all::addAll);
+        for (Connection connection : all) {
+            connection.heartbeat();
+        }
+    }
+
+    public NotificationStreamStatsResponse stats() {
+        return NotificationStreamStatsResponse.builder()
+                .connections(connections.get())
+                .receivers(byReceiver.size())
+                .opened(opened.sum())
+                .closed(closed.sum())
+                .framesSent(framesSent.sum())
+                .sendFailures(sendFailures.sum())
+                .fanoutP50Ms(fanout.percentileMs(0.50))
+                .fanoutP99Ms(fanout.percentileMs(0.99))
+                .deliveryLagP50Ms(deliveryLag.percentileMs(0.50))
+                .deliveryLagP95Ms(deliveryLag.percentileMs(0.95))
+                .deliveryLagP99Ms(deliveryLag.percentileMs(0.99))
+                .build();
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.removed.compareAndSet(false, true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        closed.increment();
+        byReceiver.computeIfPresent(connection.receiverId, (id, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /** 직렬화된 알림 프레임 */
+    public record Frame(Long notificationId, Long receiverId, String json, LocalDateTime createdAt) {
+    }
+
+    public final class Connection {
+        private final Long receiverId;
+        private final SseEmitter emitter;
+        private final long openedAtNanos = System.nanoTime();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        /** emitter.send 는 느린 클라이언트에서 소켓 쓰기로 막힐 수 있음. synchronized 로 감싸면 Java 21 가상 스레드는 그동안 캐리어에 고정됨 */
+        private final ReentrantLock lock = new ReentrantLock();
+        /** 클라이언트가 이미 받은 마지막 ID (Last-Event-ID). 이하는 보내지 않음 */
+        private final long lastEventId;
+        private final Set<Long> recentSentIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > RECENT_SENT_IDS;
+            }
+        });
+        private List<Frame> buffered = new ArrayList<>();
+
+        private Connection(Long receiverId, SseEmitter emitter, long lastEventId) {
+            this.receiverId = receiverId;
+            this.emitter = emitter;
+            this.lastEventId = lastEventId;
+        }
+
+        public SseEmitter emitter() {
+            return emitter;
+        }
+
+        /** 따라잡기 전송 (DB 에서 읽은 lastEventId 이후 알림) */
+        public void replay(Frame frame) {
+            lock.lock();
+            try {
+                write(frame);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** 따라잡기 종료: 그동안 모인 프레임을 이어서 보내고 실시간 전송으로 전환 */
+        public void finishReplay() {
+            lock.lock();
+            try {
+                List<Frame> pending = buffered;
+                buffered = null;
+                if (pending != null) {
+                    pending.forEach(this::write);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void send(Frame frame) {
+            lock.lock();
+            try {
+                if (buffered != null) {
+                    buffered.add(frame);
+                    return;
+                }
+                write(frame);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void write(Frame frame) {
+            if (removed.get() || frame.notificationId() <= lastEventId
+                    || recentSentIds.contains(frame.notificationId())) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(frame.notificationId()))
+                        .name("notification")
+                        .data(frame.json()));
+                recentSentIds.add(frame.notificationId());
+                framesSent.increment();
+            } catch (IOException | IllegalStateException e) {
+                sendFailures.increment();
+                close();
+            }
+        }
+
+        private void heartbeat() {
+            lock.lock();
+            try {
+                if (removed.get()) {
+                    return;
+                }
+                try {
+                    emitter.send(SseEmitter.event().comment("hb"));
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
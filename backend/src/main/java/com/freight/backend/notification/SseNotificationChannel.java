@@ -0,0 +1,27 @@
+package com.freight.backend.notification;
+
+import com.freight.backend.service.NotificationStreamService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 알림(SSE) 채널: 이 노드에서 알림이 저장되면 스트림 tail 을 바로 깨움
+ * - 실제 전송은 NotificationStreamService 가 notifications 를 읽어 처리 (다른 노드에 연결된 수신자도 받도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class SseNotificationChannel implements NotificationChannel {
+
+    private final NotificationStreamService notificationStreamService;
+
+    @Override
+    public String name() {
+        return "sse";
+    }
+
+    @Override
+    public void deliver(List<NotificationMessage> messages) {
+        notificationStreamService.wakeUp();
+    }
+}
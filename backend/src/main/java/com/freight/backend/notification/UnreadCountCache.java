@@ -0,0 +1,145 @@
+package com.freight.backend.notification;
+
+import com.freight.backend.repository.NotificationRepository;
+import com.freight.backend.repository.projection.ReceiverUnreadCount;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신자별 안 읽은 알림 수 (배지 폴링이 매번 COUNT 쿼리를 치지 않도록)
+ * - 처음 조회할 때 DB 에서 1회 읽어 채우고, 이후 알림 저장 커밋 시 증가 / 읽음 처리 커밋 시 감소
+ * - 채우는 도중 끼어든 증감이나 다른 노드에서 저장된 알림으로 생기는 오차는 주기 보정(refresh-interval-ms)으로 맞춤
+ * - idle-ttl 동안 조회가 없는 수신자는 버림. max-entries 를 넘으면 새 수신자는 캐시하지 않고 DB 로 조회
+ */
+@Component
+public class UnreadCountCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UnreadCountCache.class);
+    private static final int REFRESH_CHUNK = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final int maxEntries;
+    private final long idleTtlMs;
+    private final ConcurrentHashMap<Long, Entry> counters = new ConcurrentHashMap<>();
+
+    public UnreadCountCache(
+            NotificationRepository notificationRepository,
+            @Value("${notification.unread-cache.max-entries:200000}") int maxEntries,
+            @Value("${notification.unread-cache.idle-ttl-seconds:1800}") long idleTtlSeconds
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.idleTtlMs = Math.max(1, idleTtlSeconds) * 1000;
+    }
+
+    public long get(Long receiverId) {
+        Entry entry = counters.get(receiverId);
+        if (entry == null) {
+            if (counters.size() >= maxEntries) {
+                return notificationRepository.countByReceiverIdAndIsReadFalse(receiverId);
+            }
+            entry = counters.computeIfAbsent(receiverId, id -> new Entry());
+        }
+        entry.lastAccessMs = System.currentTimeMillis();
+        if (!entry.seeded) {
+            seed(receiverId, entry);
+        }
+        return Math.max(0, entry.count.sum());
+    }
+
+    /** 알림 저장 커밋 후 호출 (아직 DB 에서 채우지 않은 수신자는 그때 읽은 값에 포함되므로 무시) */
+    public void increment(Long receiverId, long delta) {
+        Entry entry = counters.get(receiverId);
+        if (entry != null && entry.seeded) {
+            entry.count.add(delta);
+        }
+    }
+
+    /** 읽음 처리 커밋 후 호출 */
+    public void decrement(Long receiverId, long delta) {
+        increment(receiverId, -delta);
+    }
+
+    /** DB 값으로 다시 맞출 수신자 (예: 일괄 삭제 후) */
+    public void invalidate(Long receiverId) {
+        counters.remove(receiverId);
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /** 오래 조회되지 않은 수신자 제거 + 나머지는 DB 값으로 보정 */
+    @Scheduled(fixedDelayString = "${notification.unread-cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        long idleBefore = System.currentTimeMillis() - idleTtlMs;
+        counters.entrySet().removeIf(e -> e.getValue().lastAccessMs < idleBefore);
+
+        List<Long> ids = new ArrayList<>(REFRESH_CHUNK);
+        for (Map.Entry<Long, Entry> e : counters.entrySet()) {
+            if (e.getValue().seeded) {
+                ids.add(e.getKey());
+            }
+            if (ids.size() == REFRESH_CHUNK) {
+                correct(ids);
+                ids = new ArrayList<>(REFRESH_CHUNK);
+            }
+        }
+        if (!ids.isEmpty()) {
+            correct(ids);
+        }
+    }
+
+    private void correct(List<Long> receiverIds) {
+        try {
+            Map<Long, Long> actual = new HashMap<>();
+            for (ReceiverUnreadCount row : notificationRepository.countUnreadByReceiverIds(receiverIds)) {
+                actual.put(row.receiverId(), row.unread());
+            }
+            for (Long receiverId : receiverIds) {
+                Entry entry = counters.get(receiverId);
+                if (entry == null) {
+                    continue;
+                }
+                long expected = actual.getOrDefault(receiverId, 0L);
+                long drift = expected - entry.count.sum();
+                if (drift != 0) {
+                    entry.count.add(drift);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unread count refresh failed for {} receivers: {}", receiverIds.size(), e.toString());
+        }
+    }
+
+    /** COUNT 쿼리를 잠금 안에서 기다림 (synchronized 가 아닌 ReentrantLock 이라 가상 스레드 모드에서도 pinning 없음) */
+    private void seed(Long receiverId, Entry entry) {
+        entry.seedLock.lock();
+        try {
+            if (entry.seeded) {
+                return;
+            }
+            entry.count.add(notificationRepository.countByReceiverIdAndIsReadFalse(receiverId));
+            entry.seeded = true;
+        } finally {
+            entry.seedLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+        private final LongAdder count = new LongAdder();
+        private final ReentrantLock seedLock = new ReentrantLock();
+        private volatile boolean seeded;
+        private volatile long lastAccessMs = System.currentTimeMillis();
+    }
+}
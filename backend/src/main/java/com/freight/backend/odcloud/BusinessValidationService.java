@@ -0,0 +1,267 @@
+package com.freight.backend.odcloud;
+
+import com.freight.backend.common.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사업자 진위확인 (odcloud) 묶음 호출 + 결과 캐시
+ * - 동시에 들어온 확인 요청을 모아 batch-size 건이 차거나 linger-ms 가 지나면 한 번에 호출
+ * - 같은 입력값이 이미 확인 중이면 그 결과를 같이 기다림
+ * - 결과는 입력값 기준으로 캐시 (유효: cache-ttl, 무효: negative-cache-ttl)
+ */
+@Component
+public class BusinessValidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BusinessValidationService.class);
+    private static final String VALID = "01";
+    private static final int API_MAX_BATCH = 100;
+
+    private record Pending(String key, OdcloudValidateRequest.Business business, CompletableFuture<Boolean> future) {
+    }
+
+    private record Verdict(boolean valid, long expiresAtNanos) {
+    }
+
+    private final OdcloudClient odcloudClient;
+    private final int batchSize;
+    private final long lingerMs;
+    private final long waitTimeoutMs;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final int cacheMaxEntries;
+
+    private final Map<String, Verdict> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private List<Pending> queue = new ArrayList<>();
+    private boolean flushScheduled;
+
+    private final ScheduledExecutorService timer;
+    private final ExecutorService callers;
+
+    public BusinessValidationService(
+            OdcloudClient odcloudClient,
+            WorkerThreads workerThreads,
+            @Value("${odcloud.validate.batch-size:100}") int batchSize,
+            @Value("${odcloud.validate.linger-ms:20}") long lingerMs,
+            @Value("${odcloud.validate.wait-timeout-ms:8000}") long waitTimeoutMs,
+            @Value("${odcloud.validate.cache-ttl-minutes:1440}") long cacheTtlMinutes,
+            @Value("${odcloud.validate.negative-cache-ttl-minutes:10}") long negativeCacheTtlMinutes,
+            @Value("${odcloud.validate.cache-max-entries:10000}") int cacheMaxEntries,
+            @Value("${odcloud.validate.max-concurrent-batches:2}") int maxConcurrentBatches
+    ) {
+        this.odcloudClient = odcloudClient;
+        this.batchSize = Math.max(1, Math.min(batchSize, API_MAX_BATCH));
+        this.lingerMs = Math.max(0, lingerMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.positiveTtlNanos = TimeUnit.MINUTES.toNanos(cacheTtlMinutes);
+        this.negativeTtlNanos = TimeUnit.MINUTES.toNanos(negativeCacheTtlMinutes);
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemon("odcloud-batch-timer"));
+        this.callers = Executors.newFixedThreadPool(Math.max(1, maxConcurrentBatches), workerThreads.io("odcloud-batch"));
+    }
+
+    /**
+     * 사업자 진위 여부 (valid == "01"). 최대 wait-timeout-ms 대기.
+     * @throws OdcloudUnavailableException 진위확인 API 실패/대기 시간 초과
+     */
+    public boolean isValid(OdcloudValidateRequest.Business business) {
+        String key = cacheKey(business);
+        Verdict cached = cache.get(key);
+        if (cached != null && cached.expiresAtNanos() - System.nanoTime() > 0) {
+            return cached.valid();
+        }
+
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            future = existing;
+        } else {
+            enqueue(new Pending(key, business, future));
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OdcloudUnavailableException("interrupted", e);
+        } catch (ExecutionException e) {
+            throw new OdcloudUnavailableException("validate call failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new OdcloudUnavailableException("validate call timed out", e);
+        }
+    }
+
+    /** 만료 캐시 정리 */
+    @Scheduled(fixedDelayString = "${odcloud.validate.cache-purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        cache.values().removeIf(v -> v.expiresAtNanos() - now <= 0);
+    }
+
+    private void enqueue(Pending pending) {
+        List<Pending> full = null;
+        queueLock.lock();
+        try {
+            queue.add(pending);
+            if (queue.size() >= batchSize) {
+                full = queue;
+                queue = new ArrayList<>();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                timer.schedule(this::flushQueued, lingerMs, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+        if (full != null) {
+            submit(full);
+        }
+    }
+
+    private void flushQueued() {
+        List<Pending> batch;
+        queueLock.lock();
+        try {
+            flushScheduled = false;
+            if (queue.isEmpty()) {
+                return;
+            }
+            batch = queue;
+            queue = new ArrayList<>();
+        } finally {
+            queueLock.unlock();
+        }
+        submit(batch);
+    }
+
+    private void submit(List<Pending> batch) {
+        try {
+            callers.execute(() -> call(batch));
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+
+    private void call(List<Pending> batch) {
+        List<OdcloudValidateRequest.Business> businesses = batch.stream().map(Pending::business).toList();
+        List<OdcloudValidateResponse.ValidationData> matched;
+        try {
+            OdcloudValidateResponse response = odcloudClient.validateBusinesses(businesses);
+            List<OdcloudValidateResponse.ValidationData> data = response != null ? response.getData() : null;
+            if (data == null || data.size() != batch.size()) {
+                throw new IllegalStateException("unexpected validate response size: "
+                        + (data == null ? "null" : data.size()) + " for " + batch.size());
+            }
+            matched = matchByBusinessNumber(batch, data);
+        } catch (RuntimeException e) {
+            log.warn("Odcloud batch validate failed: size={}, {}", batch.size(), e.getMessage());
+            fail(batch, e);
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            boolean valid = VALID.equals(matched.get(i).getValid());
+            if (cache.size() < cacheMaxEntries) {
+                cache.put(pending.key(), new Verdict(valid, now + (valid ? positiveTtlNanos : negativeTtlNanos)));
+            }
+            inFlight.remove(pending.key(), pending.future());
+            pending.future().complete(valid);
+        }
+    }
+
+    /**
+     * 응답 항목을 b_no 로 요청과 짝지음 (응답 순서를 믿지 않음). 같은 b_no 가 여러 번이면 그 안에서 순서대로.
+     * 하나라도 짝이 없으면 묶음 전체 실패
+     */
+    private static List<OdcloudValidateResponse.ValidationData> matchByBusinessNumber(
+            List<Pending> batch, List<OdcloudValidateResponse.ValidationData> data
+    ) {
+        Map<String, ArrayDeque<OdcloudValidateResponse.ValidationData>> byNumber = new HashMap<>();
+        for (OdcloudValidateResponse.ValidationData item : data) {
+            if (item == null) {
+                throw new IllegalStateException("null item in validate response");
+            }
+            byNumber.computeIfAbsent(businessNumber(item.getBusinessNumber()), k -> new ArrayDeque<>()).add(item);
+        }
+        List<OdcloudValidateResponse.ValidationData> matched = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            String number = businessNumber(pending.business().getBusinessNumber());
+            ArrayDeque<OdcloudValidateResponse.ValidationData> items = byNumber.get(number);
+            if (items == null || items.isEmpty()) {
+                throw new IllegalStateException("validate response has no item for b_no " + number);
+            }
+            matched.add(items.poll());
+        }
+        return matched;
+    }
+
+    /** 사업자번호 비교용 (숫자만) */
+    private static String businessNumber(String value) {
+        return Objects.toString(value, "").replaceAll("[^0-9]", "");
+    }
+
+    private void fail(List<Pending> batch, Throwable cause) {
+        for (Pending pending : batch) {
+            inFlight.remove(pending.key(), pending.future());
+            pending.future().completeExceptionally(cause);
+        }
+    }
+
+    /** 캐시 키: 진위확인에 보내는 입력값 전체 (같은 사업자번호라도 입력이 다르면 결과가 다를 수 있음) */
+    private static String cacheKey(OdcloudValidateRequest.Business b) {
+        return String.join("|",
+                normalize(b.getBusinessNumber()),
+                normalize(b.getStartDate()),
+                normalize(b.getOwnerName()),
+                normalize(b.getOwnerName2()),
+                normalize(b.getBusinessName()),
+                normalize(b.getCorporateNumber()),
+                normalize(b.getSector()),
+                normalize(b.getType()),
+                normalize(b.getAddress()));
+    }
+
+    private static String normalize(String value) {
+        return Objects.toString(value, "").trim();
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        callers.shutdown();
+    }
+}
@@ -1,11 +1,16 @@
 package com.freight.backend.odcloud;
 
+import com.freight.backend.http.OutboundHttpClients;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+/**
+ * 국세청 사업자등록 진위확인 API 클라이언트 (공공데이터포털 odcloud)
+ * - 타임아웃/동시 호출 상한/서킷은 outbound-http.clients.odcloud
+ */
 @Component
 public class OdcloudClient {
 
@@ -13,16 +18,21 @@ public class OdcloudClient {
     private final String apiKey;
 
     public OdcloudClient(
-            RestClient.Builder restClientBuilder,
+            OutboundHttpClients outboundHttpClients,
             @Value("${odcloud.api.base-url}") String baseUrl,
             @Value("${odcloud.api.key}") String apiKey
     ) {
-        this.restClient = restClientBuilder.baseUrl(baseUrl).build();
+        this.restClient = outboundHttpClients.builder("odcloud").baseUrl(baseUrl).build();
         this.apiKey = apiKey;
     }
 
     public OdcloudValidateResponse validateBusiness(OdcloudValidateRequest.Business business) {
-        OdcloudValidateRequest request = new OdcloudValidateRequest(List.of(business));
+        return validateBusinesses(List.of(business));
+    }
+
+    /** 여러 사업자 한 번에 진위확인 (API 상한 100건). 응답 data 는 요청 순서와 같음 */
+    public OdcloudValidateResponse validateBusinesses(List<OdcloudValidateRequest.Business> businesses) {
+        OdcloudValidateRequest request = new OdcloudValidateRequest(businesses);
         return restClient.post()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/nts-businessman/v1/validate")
@@ -0,0 +1,11 @@
+package com.freight.backend.odcloud;
+
+/**
+ * 사업자 진위확인 결과를 받지 못함 (API 실패/대기 시간 초과)
+ */
+public class OdcloudUnavailableException extends RuntimeException {
+
+    public OdcloudUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,28 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.AnnouncementReadMark;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AnnouncementReadMarkRepository extends JpaRepository<AnnouncementReadMark, Long> {
+
+    Optional<AnnouncementReadMark> findByUserRoleAndUserId(String userRole, Long userId);
+
+    /** 읽음 위치 생성 또는 앞으로만 이동 (뒤로 되돌리지 않음) */
+    @Modifying
+    @Query(value = """
+            INSERT INTO announcement_read_marks (user_role, user_id, read_up_to, updated_at)
+            VALUES (:userRole, :userId, :readUpTo, :now)
+            ON DUPLICATE KEY UPDATE
+                read_up_to = GREATEST(read_up_to, VALUES(read_up_to)),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int advance(@Param("userRole") String userRole,
+                @Param("userId") Long userId,
+                @Param("readUpTo") LocalDateTime readUpTo,
+                @Param("now") LocalDateTime now);
+}
@@ -1,11 +1,22 @@
 package com.freight.backend.repository;
 
 import com.freight.backend.entity.Announcement;
+import com.freight.backend.repository.projection.AnnouncementBroadcast;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
     List<Announcement> findAllByOrderByCreatedAtDesc();
 
     List<Announcement> findAllByPublishedAtIsNotNullOrderByIsPinnedDescPublishedAtDescCreatedAtDesc();
+
+    /** 게시된 공지 요약 (최근 게시 순) */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.AnnouncementBroadcast(a.announcementId, a.title, a.publishedAt)
+            FROM Announcement a
+            WHERE a.publishedAt IS NOT NULL
+            ORDER BY a.publishedAt DESC, a.announcementId DESC
+            """)
+    List<AnnouncementBroadcast> findBroadcasts();
 }
@@ -1,8 +1,12 @@
 package com.freight.backend.repository;
 
 import com.freight.backend.entity.CounterOffer;
+import com.freight.backend.repository.projection.CounterOfferOwnership;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CounterOfferRepository extends JpaRepository<CounterOffer, Long> {
     List<CounterOffer> findByQuoteIdOrderByCreatedAtDesc(Long quoteId);
@@ -10,4 +14,12 @@ public interface CounterOfferRepository extends JpaRepository<CounterOffer, Long
     List<CounterOffer> findByDriverIdOrderByCreatedAtDesc(Long driverId);
 
     boolean existsByQuoteIdAndDriverIdAndStatus(Long quoteId, Long driverId, CounterOffer.Status status);
+
+    /** 권한 확인용: 역제안과 견적 소유 화주 ID를 조인 1회로 조회 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.CounterOfferOwnership(o, q.shipperId)
+            FROM CounterOffer o JOIN Quote q ON q.quoteId = o.quoteId
+            WHERE o.counterOfferId = :offerId
+            """)
+    Optional<CounterOfferOwnership> findOwnership(@Param("offerId") Long offerId);
 }
@@ -1,10 +1,34 @@
 package com.freight.backend.repository;
 
+import com.freight.backend.dispatch.DispatchDriver;
 import com.freight.backend.entity.Driver;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DriverRepository extends JpaRepository<Driver, Long> {
 
     Optional<Driver> findByEmail(String email);
+
+    /** 기사 행 잠금 (같은 기사의 매칭 수락을 노드와 무관하게 직렬화). 기사가 없으면 empty */
+    @Query(value = "SELECT driver_id FROM drivers WHERE driver_id = :driverId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockForUpdate(@Param("driverId") Long driverId);
+
+    /**
+     * 일괄 배차 후보: 승인된 차량이 있고, since 이후 위치를 보고했고, 운송 중 매칭이 없는 기사 (차량별 1행)
+     */
+    @Query("""
+            SELECT new com.freight.backend.dispatch.DispatchDriver(
+                d.driverId, d.currentLat, d.currentLng, t.maxWeight, t.tonnage)
+            FROM Driver d JOIN Truck t ON t.driverId = d.driverId
+            WHERE t.approved = true
+              AND d.currentLat IS NOT NULL AND d.currentLng IS NOT NULL
+              AND d.locationUpdatedAt >= :since
+              AND NOT EXISTS (
+                  SELECT 1 FROM Match m WHERE m.driverId = d.driverId AND m.status = 'IN_TRANSIT')
+            """)
+    List<DispatchDriver> findDispatchDrivers(@Param("since") LocalDateTime since);
 }
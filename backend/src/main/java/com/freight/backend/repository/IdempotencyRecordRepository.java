@@ -0,0 +1,64 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.IdempotencyRecord;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /** 키가 없을 때만 처리 중(IN_PROGRESS)으로 삽입. 삽입되면 1 */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO idempotency_keys (idem_key, fingerprint, status, expires_at, created_at)
+            VALUES (:key, :fingerprint, 'IN_PROGRESS', :expiresAt, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key,
+                       @Param("fingerprint") String fingerprint,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("now") LocalDateTime now);
+
+    /** 만료된 항목을 처리 중으로 다시 선점. 선점되면 1 */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.fingerprint = :fingerprint, r.status = :status, r.responseStatus = NULL,
+                r.contentType = NULL, r.responseBody = NULL, r.expiresAt = :expiresAt, r.createdAt = :now
+            WHERE r.key = :key AND r.expiresAt <= :now
+            """)
+    int reclaimExpired(@Param("key") String key,
+                       @Param("fingerprint") String fingerprint,
+                       @Param("status") IdempotencyRecord.Status status,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.status = :status, r.responseStatus = :responseStatus, r.contentType = :contentType,
+                r.responseBody = :responseBody, r.expiresAt = :expiresAt
+            WHERE r.key = :key
+            """)
+    int complete(@Param("key") String key,
+                 @Param("status") IdempotencyRecord.Status status,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") byte[] responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.status = :status")
+    int deleteByKeyAndStatus(@Param("key") String key, @Param("status") IdempotencyRecord.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,43 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.JobLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /** 잠금 행이 없으면 만료 상태로 생성 */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO job_locks (job_name, owner, locked_until, updated_at)
+            VALUES (:jobName, NULL, :epoch, :epoch)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName, @Param("epoch") LocalDateTime epoch);
+
+    /** 만료됐거나 이미 내 잠금이면 lockedUntil 까지 잡음 (획득/연장 성공 시 1) */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE JobLock l
+            SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.updatedAt = :now
+            WHERE l.jobName = :jobName AND (l.lockedUntil < :now OR l.owner = :owner)
+            """)
+    int acquire(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE JobLock l
+            SET l.lockedUntil = :now, l.updatedAt = :now
+            WHERE l.jobName = :jobName AND l.owner = :owner
+            """)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,35 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.NotificationArchive;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    /** 구간 (fromId, toId] 에서 cutoff 이전에 만든 읽은 알림을 보관 테이블로 복사 */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO notifications_archive
+                (notification_id, match_id, receiver_id, type, message, is_read, created_at, archived_at)
+            SELECT notification_id, match_id, receiver_id, type, message, is_read, created_at, :now
+            FROM notifications
+            WHERE notification_id > :fromId AND notification_id <= :toId
+              AND is_read = TRUE AND created_at < :cutoff
+            """, nativeQuery = true)
+    int archiveWindow(@Param("fromId") long fromId,
+                      @Param("toId") long toId,
+                      @Param("cutoff") LocalDateTime cutoff,
+                      @Param("now") LocalDateTime now);
+
+    /** 구간 (fromId, toId] 에서 보관 테이블에 있는 알림만 삭제 (복사 후 읽음 처리된 행이 사라지지 않도록) */
+    @Modifying
+    @Query(value = """
+            DELETE n FROM notifications n
+            JOIN notifications_archive a ON a.notification_id = n.notification_id
+            WHERE n.notification_id > :fromId AND n.notification_id <= :toId
+            """, nativeQuery = true)
+    int deleteArchivedWindow(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,67 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.Notification;
+import com.freight.backend.entity.NotificationOutbox;
+import com.freight.backend.repository.projection.MatchReceiver;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface NotificationOutboxRepository
+        extends JpaRepository<NotificationOutbox, Long>, NotificationOutboxRepositoryCustom {
+
+    /** PENDING 행 잠금 조회 (오래된 순). 다른 노드가 잠근 행은 건너뜀 */
+    @Query(value = """
+            SELECT * FROM notification_outbox
+            WHERE status = 'PENDING'
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> lockPending(@Param("limit") int limit);
+
+    /** storedBefore 이전에 저장(또는 푸시 선점)된 뒤 삭제되지 않은 STORED 행 잠금 조회 */
+    @Query(value = """
+            SELECT * FROM notification_outbox
+            WHERE status = 'STORED' AND stored_at < :storedBefore
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> lockStaleStored(@Param("storedBefore") LocalDateTime storedBefore,
+                                             @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = :stored, o.storedAt = :now, o.attempts = o.attempts + 1
+            WHERE o.id IN :ids
+            """)
+    int markStored(@Param("ids") Collection<Long> ids,
+                   @Param("stored") NotificationOutbox.Status stored,
+                   @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 아직 notifications 에 저장되지 않은(PENDING) type 알림의 (매칭, 수신자) 쌍 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.MatchReceiver(o.matchId, o.receiverId)
+            FROM NotificationOutbox o
+            WHERE o.status = com.freight.backend.entity.NotificationOutbox.Status.PENDING
+              AND o.type = :type AND o.matchId IS NOT NULL
+            """)
+    List<MatchReceiver> findPendingMatchReceivers(@Param("type") Notification.Type type);
+
+    long countByStatus(NotificationOutbox.Status status);
+
+    @Query("SELECT MIN(o.createdAt) FROM NotificationOutbox o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") NotificationOutbox.Status status);
+}
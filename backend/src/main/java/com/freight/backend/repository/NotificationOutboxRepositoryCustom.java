@@ -0,0 +1,12 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.Notification;
+import java.util.List;
+
+public interface NotificationOutboxRepositoryCustom {
+
+    /**
+     * 알림을 outbox 에 JDBC 배치 INSERT 로 기록 (PENDING)
+     */
+    void insertAll(List<Notification> notifications);
+}
@@ -0,0 +1,41 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.Notification;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox (receiver_id, match_id, type, message, status, attempts, created_at)
+            VALUES (?, ?, ?, ?, 'PENDING', 0, ?)
+            """;
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (notifications.size() == 1) {
+            Notification n = notifications.get(0);
+            jdbcTemplate.update(INSERT_SQL, n.getReceiverId(), n.getMatchId(),
+                    n.getType() == null ? null : n.getType().name(), n.getMessage(), now);
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, n) -> {
+            ps.setLong(1, n.getReceiverId());
+            ps.setObject(2, n.getMatchId());
+            ps.setString(3, n.getType() == null ? null : n.getType().name());
+            ps.setString(4, n.getMessage());
+            ps.setTimestamp(5, now);
+        });
+    }
+}
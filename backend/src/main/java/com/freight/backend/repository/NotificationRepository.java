@@ -1,11 +1,97 @@
 package com.freight.backend.repository;
 
 import com.freight.backend.entity.Notification;
+import com.freight.backend.repository.projection.MatchReceiver;
+import com.freight.backend.repository.projection.ReceiverUnreadCount;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByReceiverIdOrderByCreatedAtDesc(Long receiverId);
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
+    @Query("SELECT MAX(n.id) FROM Notification n")
+    Long findMaxId();
+
+    /** 보관 작업 구간 끝: afterId 다음부터 offset 번째 알림 ID (남은 행이 그보다 적으면 null) */
+    @Query(value = """
+            SELECT notification_id FROM notifications
+            WHERE notification_id > :afterId
+            ORDER BY notification_id
+            LIMIT 1 OFFSET :offset
+            """, nativeQuery = true)
+    Long findIdAtOffset(@Param("afterId") long afterId, @Param("offset") int offset);
+
+    @Query("SELECT n.createdAt FROM Notification n WHERE n.id = :id")
+    LocalDateTime findCreatedAtById(@Param("id") Long id);
+
+    /** 실시간 스트림 tail: afterId 이후 저장된 알림 (ID 순) */
+    List<Notification> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /** 실시간 스트림 재연결 따라잡기: 수신자의 afterId 이후 알림 (ID 순) */
+    List<Notification> findByReceiverIdAndIdGreaterThanOrderByIdAsc(Long receiverId, Long afterId, Pageable pageable);
+
+    /** 알림함 첫 페이지 (최근 순, idx_notifications_receiver_created) */
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findInbox(@Param("receiverId") Long receiverId, Pageable pageable);
+
+    /** 알림함 다음 페이지: (createdAt, id) 커서보다 오래된 알림 */
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId
+              AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findInboxBefore(@Param("receiverId") Long receiverId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /** since 이후 저장된 type 알림의 (매칭, 수신자) 쌍 (idx_notifications_type_created) */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.MatchReceiver(n.matchId, n.receiverId)
+            FROM Notification n
+            WHERE n.type = :type AND n.createdAt >= :since AND n.matchId IS NOT NULL
+            """)
+    List<MatchReceiver> findMatchReceiversSince(@Param("type") Notification.Type type,
+                                                @Param("since") LocalDateTime since);
 
     long countByReceiverIdAndIsReadFalse(Long receiverId);
+
+    /** 안 읽은 알림만 읽음 처리 (동시 요청 중 한 건만 1 반환) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markReadIfUnread(@Param("id") Long id);
+
+    /** 내 알림 중 지정한 ID 들을 읽음 처리 (UPDATE 1회) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n SET n.isRead = true
+            WHERE n.receiverId = :receiverId AND n.id IN :ids AND n.isRead = false
+            """)
+    int markReadByIds(@Param("receiverId") Long receiverId, @Param("ids") Collection<Long> ids);
+
+    /** 내 알림 중 upToId 이하 전부 읽음 처리 (UPDATE 1회) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n SET n.isRead = true
+            WHERE n.receiverId = :receiverId AND n.id <= :upToId AND n.isRead = false
+            """)
+    int markReadUpTo(@Param("receiverId") Long receiverId, @Param("upToId") Long upToId);
+
+    /** 여러 수신자의 안 읽은 알림 수 (0건인 수신자는 결과에 없음) */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.ReceiverUnreadCount(n.receiverId, COUNT(n))
+            FROM Notification n
+            WHERE n.receiverId IN :receiverIds AND n.isRead = false
+            GROUP BY n.receiverId
+            """)
+    List<ReceiverUnreadCount> countUnreadByReceiverIds(@Param("receiverIds") Collection<Long> receiverIds);
 }
@@ -0,0 +1,12 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.Notification;
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+    /**
+     * 알림 여러 건을 JDBC 배치 INSERT 로 저장 (IDENTITY 키라 JPA saveAll 은 건별 INSERT)
+     */
+    void insertAll(List<Notification> notifications);
+}
@@ -0,0 +1,36 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.Notification;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (match_id, receiver_id, type, message, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, n) -> {
+            ps.setObject(1, n.getMatchId());
+            ps.setLong(2, n.getReceiverId());
+            ps.setString(3, n.getType() == null ? null : n.getType().name());
+            ps.setString(4, n.getMessage());
+            ps.setBoolean(5, Boolean.TRUE.equals(n.getIsRead()));
+            ps.setTimestamp(6, n.getCreatedAt() == null ? now : Timestamp.valueOf(n.getCreatedAt()));
+        });
+    }
+}
@@ -1,16 +1,136 @@
 package com.freight.backend.repository;
 
 import com.freight.backend.entity.Payment;
+import com.freight.backend.repository.projection.PaymentOwnership;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     List<Payment> findByMatchId(Long matchId);
 
+    /** 매칭의 결제 잠금 읽기 (환불 작업 생성용). 트랜잭션 스냅샷이 아닌 최신 커밋 상태를 읽음 */
+    @Query(value = "SELECT * FROM payments WHERE match_id = :matchId FOR UPDATE", nativeQuery = true)
+    List<Payment> findByMatchIdForUpdate(@Param("matchId") Long matchId);
+
     /** 여러 매칭에 대한 결제 목록 (최신순). 화주 내 결제 목록 조회용 */
     List<Payment> findByMatchIdInOrderByCreatedAtDesc(List<Long> matchIds);
 
     Optional<Payment> findByOrderNo(String orderNo);
+
+    List<Payment> findByOrderNoIn(Collection<String> orderNos);
+
+    /** 화주 본인 견적의 매칭에 대한 모든 결제 (최신순) */
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN Match m ON m.matchId = p.matchId
+            JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE q.shipperId = :shipperId
+            ORDER BY p.createdAt DESC
+            """)
+    List<Payment> findByShipperId(@Param("shipperId") Long shipperId);
+
+    /** 권한 확인용: 결제 → 매칭 → 견적을 조인 1회로 조회 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.PaymentOwnership(p, q.shipperId, m.driverId)
+            FROM Payment p
+            JOIN Match m ON m.matchId = p.matchId
+            JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE p.paymentId = :paymentId
+            """)
+    Optional<PaymentOwnership> findOwnershipById(@Param("paymentId") Long paymentId);
+
+    /** 권한 확인용: 주문번호(orderId)로 결제 → 매칭 → 견적을 조인 1회로 조회 */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.PaymentOwnership(p, q.shipperId, m.driverId)
+            FROM Payment p
+            JOIN Match m ON m.matchId = p.matchId
+            JOIN Quote q ON q.quoteId = m.quoteId
+            WHERE p.orderNo = :orderNo
+            """)
+    Optional<PaymentOwnership> findOwnershipByOrderNo(@Param("orderNo") String orderNo);
+
+    /** 승인 시작: from 상태일 때만 CONFIRMING 전환 + paymentKey 기록 (동시 승인 요청은 0건 갱신) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Payment p
+            SET p.status = :to, p.pgRef = :paymentKey, p.confirmRequestedAt = :requestedAt
+            WHERE p.paymentId = :paymentId AND p.status = :from
+            """)
+    int beginConfirm(@Param("paymentId") Long paymentId,
+                     @Param("paymentKey") String paymentKey,
+                     @Param("requestedAt") LocalDateTime requestedAt,
+                     @Param("from") Payment.PaymentStatus from,
+                     @Param("to") Payment.PaymentStatus to);
+
+    /** 승인 완료: from 상태일 때만 COMPLETED 전환 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Payment p
+            SET p.status = :to, p.paidAt = :paidAt, p.pgRef = COALESCE(:paymentKey, p.pgRef)
+            WHERE p.paymentId = :paymentId AND p.status = :from
+            """)
+    int completeIfStatus(@Param("paymentId") Long paymentId,
+                         @Param("paidAt") LocalDateTime paidAt,
+                         @Param("paymentKey") String paymentKey,
+                         @Param("from") Payment.PaymentStatus from,
+                         @Param("to") Payment.PaymentStatus to);
+
+    /** 상태만 조건부 전환 (실패 처리, 승인 시작 취소 등) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :to WHERE p.paymentId = :paymentId AND p.status = :from")
+    int updateStatusIfStatus(@Param("paymentId") Long paymentId,
+                             @Param("from") Payment.PaymentStatus from,
+                             @Param("to") Payment.PaymentStatus to);
+
+    /**
+     * 대사(reconciliation) 대상 keyset 조회: paymentId > afterId 인 statuses 상태 결제 중
+     * createdAt 이 [createdFrom, createdTo) 인 것 (paymentId 오름차순)
+     */
+    @Query("""
+            SELECT p FROM Payment p
+            WHERE p.paymentId > :afterId
+              AND p.status IN :statuses
+              AND p.createdAt >= :createdFrom AND p.createdAt < :createdTo
+            ORDER BY p.paymentId ASC
+            """)
+    List<Payment> findReconcileChunk(@Param("afterId") Long afterId,
+                                     @Param("statuses") Collection<Payment.PaymentStatus> statuses,
+                                     @Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo,
+                                     Pageable pageable);
+
+    /** 정산 대상 paymentId 구간 (paidAt 이 [from, to) 인 status 결제). 없으면 null */
+    @Query("""
+            SELECT MIN(p.paymentId) FROM Payment p
+            WHERE p.status = :status
+              AND p.paidAt >= :from AND p.paidAt < :to
+            """)
+    Long findMinPaymentIdByStatusAndPaidAt(@Param("status") Payment.PaymentStatus status,
+                                          @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+            SELECT MAX(p.paymentId) FROM Payment p
+            WHERE p.status = :status
+              AND p.paidAt >= :from AND p.paidAt < :to
+            """)
+    Long findMaxPaymentIdByStatusAndPaidAt(@Param("status") Payment.PaymentStatus status,
+                                          @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** 복구 대상: 승인 시작 후 cutoff 이전부터 결과가 반영되지 않은 결제 (오래된 순) */
+    @Query("""
+            SELECT p FROM Payment p
+            WHERE p.status = :status AND p.confirmRequestedAt < :cutoff
+            ORDER BY p.confirmRequestedAt ASC
+            """)
+    List<Payment> findStaleByStatus(@Param("status") Payment.PaymentStatus status,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
 }
@@ -0,0 +1,99 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.PaymentWebhookEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    /** (paymentKey, status) 가 없을 때만 저장. 저장되면 1, 중복이면 0 */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO payment_webhook_events
+                (payment_key, order_id, status, event_type, payload, received_at, attempts)
+            VALUES (:paymentKey, :orderId, :status, :eventType, :payload, :receivedAt, 0)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("paymentKey") String paymentKey,
+                     @Param("orderId") String orderId,
+                     @Param("status") String status,
+                     @Param("eventType") String eventType,
+                     @Param("payload") String payload,
+                     @Param("receivedAt") LocalDateTime receivedAt);
+
+    /**
+     * 이미 있는 (paymentKey, status) 행이 처리됐지만 그 상태가 조회로 확인되지 않았으면 새 수신으로 다시 미처리로 되돌림
+     * - 서명 없는 웹훅이 먼저 같은 키를 차지해도 실제 웹훅이 버려지지 않게 함. 되돌리면 1, 중복이면 0
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE payment_webhook_events
+            SET order_id = :orderId, event_type = :eventType, payload = :payload, received_at = :receivedAt,
+                processed_at = NULL, result = NULL, verified_status = NULL, attempts = 0
+            WHERE payment_key = :paymentKey AND status = :status
+              AND processed_at IS NOT NULL
+              AND (verified_status IS NULL OR verified_status <> status)
+            """, nativeQuery = true)
+    int reopenUnverified(@Param("paymentKey") String paymentKey,
+                         @Param("orderId") String orderId,
+                         @Param("status") String status,
+                         @Param("eventType") String eventType,
+                         @Param("payload") String payload,
+                         @Param("receivedAt") LocalDateTime receivedAt);
+
+    @Query("SELECT e.id FROM PaymentWebhookEvent e WHERE e.paymentKey = :paymentKey AND e.status = :status")
+    Optional<Long> findIdByPaymentKeyAndStatus(@Param("paymentKey") String paymentKey, @Param("status") String status);
+
+    /** 미처리 이벤트 중 receivedBefore 이전 수신분 (오래된 순) */
+    @Query("""
+            SELECT e.id FROM PaymentWebhookEvent e
+            WHERE e.processedAt IS NULL AND e.receivedAt < :receivedBefore
+            ORDER BY e.id ASC
+            """)
+    List<Long> findUnprocessedIds(@Param("receivedBefore") LocalDateTime receivedBefore, Pageable pageable);
+
+    @Query("SELECT e FROM PaymentWebhookEvent e WHERE e.id IN :ids AND e.processedAt IS NULL")
+    List<PaymentWebhookEvent> findUnprocessedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE PaymentWebhookEvent e
+            SET e.processedAt = :processedAt, e.result = :result, e.attempts = e.attempts + 1
+            WHERE e.id IN :ids AND e.processedAt IS NULL
+            """)
+    int markProcessed(@Param("ids") Collection<Long> ids,
+                      @Param("result") PaymentWebhookEvent.Result result,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    /** 토스 조회로 확인한 상태 기록 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.verifiedStatus = :verifiedStatus WHERE e.id IN :ids")
+    int markVerified(@Param("ids") Collection<Long> ids, @Param("verifiedStatus") String verifiedStatus);
+
+    /** 처리 보류 (재시도 대상): 시도 횟수만 증가 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids AND e.processedAt IS NULL")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    /** 재처리: 수신 시각 범위의 이벤트를 미처리로 되돌림 */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE PaymentWebhookEvent e
+            SET e.processedAt = NULL, e.result = NULL, e.attempts = 0
+            WHERE e.receivedAt >= :from AND e.receivedAt < :to
+            """)
+    int resetForReplay(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,9 +1,36 @@
 package com.freight.backend.repository;
 
 import com.freight.backend.entity.Quote;
+import com.freight.backend.geo.QuoteRoute;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface QuoteRepository extends JpaRepository<Quote, Long> {
     List<Quote> findByShipperId(Long shipperId);
+
+    /**
+     * 공간 인덱스 적재용: 좌표가 있는 OPEN 견적의 출발/도착 좌표만 조회
+     */
+    @Query("""
+            SELECT new com.freight.backend.geo.QuoteRoute(
+                q.quoteId, q.originLat, q.originLng, q.destinationLat, q.destinationLng)
+            FROM Quote q
+            WHERE q.status = 'OPEN'
+              AND q.originLat IS NOT NULL AND q.originLng IS NOT NULL
+              AND q.destinationLat IS NOT NULL AND q.destinationLng IS NOT NULL
+            """)
+    List<QuoteRoute> findOpenQuoteRoutes();
+
+    /** OPEN 견적만 조건부로 일괄 MATCHED 처리, 갱신 건수 반환 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Quote q SET q.status = 'MATCHED', q.updatedAt = :now
+            WHERE q.quoteId IN :quoteIds AND q.status = 'OPEN'
+            """)
+    int markMatchedAll(@Param("quoteIds") Collection<Long> quoteIds, @Param("now") LocalDateTime now);
 }
@@ -7,4 +7,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface QuoteStopRepository extends JpaRepository<QuoteStop, Long> {
     List<QuoteStop> findByQuoteIdOrderBySeqAsc(Long quoteId);
     void deleteByQuoteId(Long quoteId);
+    List<QuoteStop> findByQuoteIdInOrderByQuoteIdAscSeqAsc(List<Long> quoteIds);
 }
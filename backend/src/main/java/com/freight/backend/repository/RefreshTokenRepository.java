@@ -0,0 +1,44 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO refresh_tokens (token_hash, family_id, account_type, user_id, expires_at, created_at)
+            VALUES (:tokenHash, :familyId, :accountType, :userId, :expiresAt, :now)
+            """, nativeQuery = true)
+    int insert(@Param("tokenHash") String tokenHash,
+               @Param("familyId") String familyId,
+               @Param("accountType") String accountType,
+               @Param("userId") Long userId,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    /** 사용 가능(미폐기, 미만료)한 토큰이면 폐기 처리. 처리되면 1 (동시에 같은 토큰으로 재발급해도 한 요청만 성공) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RefreshToken t SET t.revokedAt = :now
+            WHERE t.tokenHash = :tokenHash AND t.revokedAt IS NULL AND t.expiresAt > :now
+            """)
+    int consume(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,90 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.RefundJob;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefundJobRepository extends JpaRepository<RefundJob, Long> {
+
+    /** 결제에 환불 작업이 없을 때만 생성. 생성되면 1, 이미 있으면 0 */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO refund_jobs
+                (payment_id, match_id, payment_key, amount, reason, status, attempts,
+                 next_attempt_at, created_at, updated_at)
+            VALUES (:paymentId, :matchId, :paymentKey, :amount, :reason, 'PENDING', 0, :now, :now, :now)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("paymentId") Long paymentId,
+                     @Param("matchId") Long matchId,
+                     @Param("paymentKey") String paymentKey,
+                     @Param("amount") Integer amount,
+                     @Param("reason") String reason,
+                     @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.id FROM RefundJob r WHERE r.paymentId = :paymentId")
+    Optional<Long> findIdByPaymentId(@Param("paymentId") Long paymentId);
+
+    /** dueBefore 이전에 시도할 작업 (임대 만료된 IN_PROGRESS 포함, 오래된 순) */
+    @Query("""
+            SELECT r.id FROM RefundJob r
+            WHERE r.status IN :statuses AND r.nextAttemptAt <= :dueBefore
+            ORDER BY r.nextAttemptAt ASC
+            """)
+    List<Long> findDueIds(@Param("statuses") Collection<RefundJob.Status> statuses,
+                          @Param("dueBefore") LocalDateTime dueBefore,
+                          Pageable pageable);
+
+    /** 시도 선점: 시도 시각이 됐거나 임대가 만료된 작업만. 성공 시 1 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RefundJob r
+            SET r.status = :inProgress, r.attempts = r.attempts + 1,
+                r.nextAttemptAt = :leaseUntil, r.updatedAt = :now
+            WHERE r.id = :id AND r.status IN :claimable AND r.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id,
+              @Param("claimable") Collection<RefundJob.Status> claimable,
+              @Param("inProgress") RefundJob.Status inProgress,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    /** 시도 결과 반영 (현재 상태가 from 일 때만) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RefundJob r
+            SET r.status = :to, r.nextAttemptAt = :nextAttemptAt, r.lastError = :lastError,
+                r.completedAt = :completedAt, r.updatedAt = :now
+            WHERE r.id = :id AND r.status = :from
+            """)
+    int updateStatusIfStatus(@Param("id") Long id,
+                             @Param("from") RefundJob.Status from,
+                             @Param("to") RefundJob.Status to,
+                             @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                             @Param("lastError") String lastError,
+                             @Param("completedAt") LocalDateTime completedAt,
+                             @Param("now") LocalDateTime now);
+
+    /** 관리자 재시도: FAILED 를 시도 횟수 0 으로 되돌림 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RefundJob r
+            SET r.status = :pending, r.attempts = 0, r.nextAttemptAt = :now, r.updatedAt = :now
+            WHERE r.id = :id AND r.status = :failed
+            """)
+    int resetFailed(@Param("id") Long id,
+                    @Param("failed") RefundJob.Status failed,
+                    @Param("pending") RefundJob.Status pending,
+                    @Param("now") LocalDateTime now);
+
+    long countByStatus(RefundJob.Status status);
+
+    Slice<RefundJob> findByStatusOrderByIdDesc(RefundJob.Status status, Pageable pageable);
+}
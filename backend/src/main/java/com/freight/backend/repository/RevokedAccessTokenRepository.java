@@ -0,0 +1,47 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.RevokedAccessToken;
+import com.freight.backend.repository.projection.RevokedTokenRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    boolean existsByJti(String jti);
+
+    /** 이미 폐기된 jti 면 무시 */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO revoked_access_tokens (jti, expires_at, created_at)
+            VALUES (:jti, :expiresAt, :now)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("jti") String jti,
+                     @Param("expiresAt") LocalDateTime expiresAt,
+                     @Param("now") LocalDateTime now);
+
+    /** afterId 이후 폐기된, 아직 만료되지 않은 토큰 (id 오름차순) */
+    @Query("""
+            SELECT new com.freight.backend.repository.projection.RevokedTokenRow(r.id, r.jti)
+            FROM RevokedAccessToken r
+            WHERE r.id > :afterId AND r.expiresAt > :now
+            ORDER BY r.id ASC
+            """)
+    List<RevokedTokenRow> findActiveAfter(@Param("afterId") Long afterId,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    long countActive(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,72 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.SettlementBatch;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SettlementBatchRepository extends JpaRepository<SettlementBatch, Long> {
+
+    Optional<SettlementBatch> findByPeriodFromAndPeriodTo(LocalDate periodFrom, LocalDate periodTo);
+
+    Slice<SettlementBatch> findAllByOrderByBatchIdDesc(Pageable pageable);
+
+    /** checkpoint 이동 (from 에서 to 로). 다른 실행이 먼저 옮겼으면 0 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE SettlementBatch b
+            SET b.checkpointPaymentId = :to, b.updatedAt = :now
+            WHERE b.batchId = :batchId AND b.checkpointPaymentId = :from
+            """)
+    int advanceCheckpoint(@Param("batchId") Long batchId,
+                          @Param("from") Long from,
+                          @Param("to") Long to,
+                          @Param("now") LocalDateTime now);
+
+    /** 현재 상태가 from 일 때만 to 로 변경 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE SettlementBatch b
+            SET b.status = :to, b.errorMessage = :errorMessage, b.updatedAt = :now
+            WHERE b.batchId = :batchId AND b.status = :from
+            """)
+    int updateStatusIfStatus(@Param("batchId") Long batchId,
+                             @Param("from") SettlementBatch.Status from,
+                             @Param("to") SettlementBatch.Status to,
+                             @Param("errorMessage") String errorMessage,
+                             @Param("now") LocalDateTime now);
+
+    /** settlement_items 집계로 합계 채우고 COMPLETED 처리 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE settlement_batches b
+            JOIN (
+                SELECT COUNT(*) AS item_count,
+                       COUNT(DISTINCT driver_id) AS driver_count,
+                       COALESCE(SUM(gross_amount), 0) AS gross_amount,
+                       COALESCE(SUM(fee_amount), 0) AS fee_amount,
+                       COALESCE(SUM(adjustment_amount), 0) AS adjustment_amount,
+                       COALESCE(SUM(payout_amount), 0) AS payout_amount
+                FROM settlement_items
+                WHERE batch_id = :batchId
+            ) t
+            SET b.item_count = t.item_count,
+                b.driver_count = t.driver_count,
+                b.gross_amount = t.gross_amount,
+                b.fee_amount = t.fee_amount,
+                b.adjustment_amount = t.adjustment_amount,
+                b.payout_amount = t.payout_amount,
+                b.status = 'COMPLETED',
+                b.error_message = NULL,
+                b.completed_at = :now,
+                b.updated_at = :now
+            WHERE b.batch_id = :batchId AND b.status = 'RUNNING'
+            """, nativeQuery = true)
+    int complete(@Param("batchId") Long batchId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.SettlementDriverPayout;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SettlementDriverPayoutRepository extends JpaRepository<SettlementDriverPayout, Long> {
+
+    Slice<SettlementDriverPayout> findByBatchIdOrderByDriverIdAsc(Long batchId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM settlement_driver_payouts WHERE batch_id = :batchId", nativeQuery = true)
+    int deleteByBatch(@Param("batchId") Long batchId);
+
+    /** 배치의 settlement_items 를 기사별로 집계해 저장 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO settlement_driver_payouts
+                (batch_id, driver_id, match_count,
+                 gross_amount, fee_amount, adjustment_amount, payout_amount, created_at)
+            SELECT batch_id, driver_id, COUNT(*),
+                   SUM(gross_amount), SUM(fee_amount), SUM(adjustment_amount), SUM(payout_amount), :now
+            FROM settlement_items
+            WHERE batch_id = :batchId
+            GROUP BY batch_id, driver_id
+            """, nativeQuery = true)
+    int insertForBatch(@Param("batchId") Long batchId, @Param("now") LocalDateTime now);
+}
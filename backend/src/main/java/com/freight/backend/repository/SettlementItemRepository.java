@@ -0,0 +1,55 @@
+package com.freight.backend.repository;
+
+import com.freight.backend.entity.SettlementItem;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SettlementItemRepository extends JpaRepository<SettlementItem, Long> {
+
+    /**
+     * paymentId 구간 (afterId, uptoId] 의 정산 항목 생성 (DB 안에서 INSERT ... SELECT, 애플리케이션으로 행을 읽지 않음)
+     * - 대상: 결제 COMPLETED + paidAt 이 [paidFrom, paidBefore) + 매칭 COMPLETED (기사 배정됨)
+     * - 수수료: 결제 금액 × rate / (1 + rate) (PricingCalculator: 결제 금액 = 운임 + 운임 × rate)
+     * - 차감: 미이행(fulfilled = false) 체크리스트 추가 요금 합
+     * - 이미 정산된 매칭은 무시 (match_id 유니크)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT IGNORE INTO settlement_items
+                (batch_id, match_id, payment_id, driver_id,
+                 gross_amount, fee_amount, adjustment_amount, payout_amount, created_at)
+            SELECT :batchId, x.match_id, x.payment_id, x.driver_id,
+                   x.gross_amount, x.fee_amount, x.adjustment_amount,
+                   GREATEST(x.gross_amount - x.fee_amount - x.adjustment_amount, 0), :now
+            FROM (
+                SELECT m.match_id, p.payment_id, m.driver_id,
+                       p.total_amount AS gross_amount,
+                       ROUND(p.total_amount * :feeRate / (1 + :feeRate)) AS fee_amount,
+                       COALESCE((
+                           SELECT ROUND(SUM(q.extra_fee))
+                           FROM quote_checklist_items q
+                           WHERE q.quote_id = m.quote_id AND q.fulfilled = FALSE
+                       ), 0) AS adjustment_amount
+                FROM payments p
+                JOIN matches m ON m.match_id = p.match_id
+                WHERE p.payment_id > :afterId AND p.payment_id <= :uptoId
+                  AND p.status = 'COMPLETED'
+                  AND p.paid_at >= :paidFrom AND p.paid_at < :paidBefore
+                  AND p.total_amount IS NOT NULL
+                  AND m.status = 'COMPLETED'
+                  AND m.driver_id IS NOT NULL
+                ORDER BY p.payment_id
+            ) x
+            """, nativeQuery = true)
+    int insertChunk(@Param("batchId") Long batchId,
+                    @Param("afterId") Long afterId,
+                    @Param("uptoId") Long uptoId,
+                    @Param("paidFrom") LocalDateTime paidFrom,
+                    @Param("paidBefore") LocalDateTime paidBefore,
+                    @Param("feeRate") BigDecimal feeRate,
+                    @Param("now") LocalDateTime now);
+}
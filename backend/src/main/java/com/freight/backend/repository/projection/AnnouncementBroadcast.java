@@ -0,0 +1,13 @@
+package com.freight.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시된 공지 요약 (알림함 병합용, 본문 제외)
+ */
+public record AnnouncementBroadcast(
+        Long announcementId,
+        String title,
+        LocalDateTime publishedAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.freight.backend.repository.projection;
+
+import com.freight.backend.entity.Match;
+import java.time.LocalDateTime;
+
+/**
+ * 묶음 수락 검증용 매칭 + 견적 조인 결과
+ */
+public record BundleMatchRow(
+        Long matchId,
+        Long quoteId,
+        Long shipperId,
+        Boolean accepted,
+        Match.Status status,
+        String quoteStatus,
+        Boolean allowCombine,
+        LocalDateTime pickupAt,
+        LocalDateTime deliveryAt
+) {
+}
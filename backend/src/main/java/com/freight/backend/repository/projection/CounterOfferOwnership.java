@@ -0,0 +1,12 @@
+package com.freight.backend.repository.projection;
+
+import com.freight.backend.entity.CounterOffer;
+
+/**
+ * 역제안 + 견적 소유 화주 ID (권한 확인용)
+ */
+public record CounterOfferOwnership(
+        CounterOffer offer,
+        Long shipperId
+) {
+}
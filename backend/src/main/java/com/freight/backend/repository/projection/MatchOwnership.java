@@ -0,0 +1,16 @@
+package com.freight.backend.repository.projection;
+
+import com.freight.backend.entity.Match;
+
+/**
+ * 매칭 + 견적 소유 화주 ID (권한 확인용, 견적 엔티티는 로딩하지 않음)
+ */
+public record MatchOwnership(
+        Match match,
+        Long shipperId
+) {
+
+    public Long driverId() {
+        return match.getDriverId();
+    }
+}
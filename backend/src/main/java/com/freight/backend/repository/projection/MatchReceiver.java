@@ -0,0 +1,10 @@
+package com.freight.backend.repository.projection;
+
+/**
+ * (매칭, 수신자) 쌍 (배차 제안 재발송 제한용)
+ */
+public record MatchReceiver(
+        Long matchId,
+        Long receiverId
+) {
+}
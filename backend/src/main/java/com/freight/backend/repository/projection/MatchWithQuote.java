@@ -0,0 +1,13 @@
+package com.freight.backend.repository.projection;
+
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Quote;
+
+/**
+ * 매칭 + 견적 (둘 다 상태를 바꾸는 수락/취소용)
+ */
+public record MatchWithQuote(
+        Match match,
+        Quote quote
+) {
+}
@@ -0,0 +1,13 @@
+package com.freight.backend.repository.projection;
+
+import com.freight.backend.entity.Payment;
+
+/**
+ * 결제 + 매칭 기사 ID + 견적 소유 화주 ID (권한 확인용)
+ */
+public record PaymentOwnership(
+        Payment payment,
+        Long shipperId,
+        Long driverId
+) {
+}
@@ -0,0 +1,10 @@
+package com.freight.backend.repository.projection;
+
+/**
+ * 수신자별 안 읽은 알림 수 (UnreadCountCache 보정용)
+ */
+public record ReceiverUnreadCount(
+        Long receiverId,
+        Long unread
+) {
+}
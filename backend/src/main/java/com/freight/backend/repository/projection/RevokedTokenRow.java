@@ -0,0 +1,10 @@
+package com.freight.backend.repository.projection;
+
+/**
+ * 폐기된 access token (TokenRevocationList 적재용)
+ */
+public record RevokedTokenRow(
+        Long id,
+        String jti
+) {
+}
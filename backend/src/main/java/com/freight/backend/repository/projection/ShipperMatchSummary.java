@@ -0,0 +1,28 @@
+package com.freight.backend.repository.projection;
+
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Payment;
+import java.time.LocalDateTime;
+
+/**
+ * 화주 매칭 목록 1행: 매칭 + 견적 요약 + 최근 결제 (결제 없으면 null)
+ */
+public record ShipperMatchSummary(
+        Long matchId,
+        Long quoteId,
+        Long driverId,
+        Boolean accepted,
+        Match.Status status,
+        LocalDateTime acceptedAt,
+        LocalDateTime createdAt,
+        String originAddress,
+        String destinationAddress,
+        String cargoName,
+        String vehicleType,
+        Integer finalPrice,
+        LocalDateTime pickupAt,
+        String quoteStatus,
+        Long latestPaymentId,
+        Payment.PaymentStatus latestPaymentStatus
+) {
+}
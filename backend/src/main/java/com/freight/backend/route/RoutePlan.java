@@ -0,0 +1,15 @@
+package com.freight.backend.route;
+
+/**
+ * 경로 순서 계산 결과
+ * - order: 방문 순서대로 나열한 입력 지점 인덱스
+ * - legKm: order[i] 지점까지 직전 지점(또는 출발 위치)에서 이동한 거리
+ * - timedOut: 시간 예산 안에 개선을 끝내지 못하고 중단했는지 여부
+ */
+public record RoutePlan(
+        int[] order,
+        double[] legKm,
+        double totalKm,
+        boolean timedOut
+) {
+}
@@ -0,0 +1,353 @@
+package com.freight.backend.route;
+
+import com.freight.backend.geo.GeoUtils;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 경유지 방문 순서 계산기
+ * - 지점 간 직선(haversine) 거리 행렬을 한 번 만들어 두고 모든 개선 단계에서 재사용
+ * - 최근접 이웃으로 초기 경로 생성 → 2-opt / Or-opt 로 개선 (시간 예산 내)
+ * - 상차 전 하차 금지(predecessor), 마지막 지점 고정(도착지) 제약을 지킴
+ */
+@Component
+public class RouteSequencer {
+
+    private static final double EPS = 1e-9;
+    private static final int MAX_OR_OPT_SEGMENT = 3;
+
+    private final long timeBudgetNanos;
+
+    public RouteSequencer(@Value("${route.sequence.time-budget-ms:200}") long timeBudgetMs) {
+        this.timeBudgetNanos = Math.max(1, timeBudgetMs) * 1_000_000L;
+    }
+
+    /**
+     * @param stops     방문 지점 (predecessor 는 같은 목록 안의 인덱스)
+     * @param startLat  출발 위치 위도 (null 이면 첫 지점부터 계산)
+     * @param startLng  출발 위치 경도
+     * @param lastFixed true 면 목록의 마지막 지점을 항상 마지막에 방문
+     */
+    public RoutePlan sequence(List<RouteStop> stops, Double startLat, Double startLng, boolean lastFixed) {
+        int n = stops.size();
+        if (n == 0) {
+            return new RoutePlan(new int[0], new double[0], 0, false);
+        }
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        boolean hasStart = startLat != null && startLng != null;
+        Problem p = new Problem(stops, hasStart, startLat, startLng, lastFixed);
+
+        int[] order = seed(p, deadline);
+        int[] pos = positions(order);
+        boolean timedOut = false;
+        boolean improved = true;
+        while (improved) {
+            if (System.nanoTime() > deadline) {
+                timedOut = true;
+                break;
+            }
+            improved = twoOpt(p, order, pos, deadline);
+            improved |= orOpt(p, order, pos, deadline);
+        }
+        return toPlan(p, order, timedOut);
+    }
+
+    /** 최근접 이웃 초기 경로. 출발 위치가 없으면 가능한 첫 지점마다 시도해 가장 짧은 경로 선택 */
+    private int[] seed(Problem p, long deadline) {
+        if (p.hasStart || p.movable == 0) {
+            return nearestNeighbour(p, -1);
+        }
+        int[] best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (int first = 0; first < p.n; first++) {
+            if (p.pred[first] >= 0 || first == p.fixedEnd) {
+                continue;
+            }
+            int[] candidate = nearestNeighbour(p, first);
+            double cost = cost(p, candidate);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = candidate;
+            }
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+        }
+        if (best == null) {
+            throw new IllegalArgumentException("no feasible first stop");
+        }
+        return best;
+    }
+
+    private int[] nearestNeighbour(Problem p, int first) {
+        int n = p.n;
+        int[] order = new int[n];
+        boolean[] placed = new boolean[n];
+        int size = 0;
+        int current = p.hasStart ? p.startIdx : -1;
+        if (first >= 0) {
+            order[size++] = first;
+            placed[first] = true;
+            current = first;
+        }
+        while (size < p.movable) {
+            int next = -1;
+            double nextDist = Double.MAX_VALUE;
+            for (int c = 0; c < n; c++) {
+                if (placed[c] || c == p.fixedEnd || (p.pred[c] >= 0 && !placed[p.pred[c]])) {
+                    continue;
+                }
+                double d = current < 0 ? 0 : p.d(current, c);
+                if (d < nextDist) {
+                    nextDist = d;
+                    next = c;
+                }
+            }
+            if (next < 0) {
+                throw new IllegalArgumentException("unsatisfiable stop precedence");
+            }
+            order[size++] = next;
+            placed[next] = true;
+            current = next;
+        }
+        if (p.fixedEnd >= 0) {
+            order[n - 1] = p.fixedEnd;
+        }
+        return order;
+    }
+
+    /** 구간 뒤집기. 거리 행렬이 대칭이므로 구간 양 끝 간선만 비교 */
+    private boolean twoOpt(Problem p, int[] order, int[] pos, long deadline) {
+        boolean improved = false;
+        for (int i = 0; i < p.movable - 1; i++) {
+            if (System.nanoTime() > deadline) {
+                return improved;
+            }
+            int a = i == 0 ? p.head() : order[i - 1];
+            int b = order[i];
+            for (int j = i + 1; j < p.movable; j++) {
+                int c = order[j];
+                int e = j + 1 < p.n ? order[j + 1] : -1;
+                double delta = 0;
+                if (a >= 0) {
+                    delta += p.d(a, c) - p.d(a, b);
+                }
+                if (e >= 0) {
+                    delta += p.d(b, e) - p.d(c, e);
+                }
+                if (delta < -EPS && reversible(p, order, pos, i, j)) {
+                    reverse(order, pos, i, j);
+                    b = order[i];
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /** 같은 구간 안에 선행 관계가 있으면 뒤집을 수 없음 */
+    private boolean reversible(Problem p, int[] order, int[] pos, int i, int j) {
+        for (int k = i; k <= j; k++) {
+            int pred = p.pred[order[k]];
+            if (pred >= 0 && pos[pred] >= i && pos[pred] <= j) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reverse(int[] order, int[] pos, int i, int j) {
+        while (i < j) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+            pos[order[i]] = i;
+            pos[order[j]] = j;
+            i++;
+            j--;
+        }
+    }
+
+    /** 1~3개 연속 지점을 다른 위치로 옮기기 */
+    private boolean orOpt(Problem p, int[] order, int[] pos, long deadline) {
+        boolean improved = false;
+        int[] buffer = new int[p.n];
+        for (int len = 1; len <= MAX_OR_OPT_SEGMENT; len++) {
+            for (int i = 0; i + len <= p.movable; i++) {
+                if (System.nanoTime() > deadline) {
+                    return improved;
+                }
+                int first = order[i];
+                int last = order[i + len - 1];
+                int prev = i == 0 ? p.head() : order[i - 1];
+                int next = i + len < p.n ? order[i + len] : -1;
+                double removeDelta = 0;
+                if (prev >= 0) {
+                    removeDelta -= p.d(prev, first);
+                }
+                if (next >= 0) {
+                    removeDelta -= p.d(last, next);
+                }
+                if (prev >= 0 && next >= 0) {
+                    removeDelta += p.d(prev, next);
+                }
+
+                int bestK = Integer.MIN_VALUE;
+                double bestDelta = -EPS;
+                for (int k = -1; k < p.movable; k++) {
+                    if (k >= i - 1 && k <= i + len - 1) {
+                        continue;
+                    }
+                    int u = k < 0 ? p.head() : order[k];
+                    int v = k + 1 < p.n ? order[k + 1] : -1;
+                    double insertDelta = 0;
+                    if (u >= 0) {
+                        insertDelta += p.d(u, first);
+                    }
+                    if (v >= 0) {
+                        insertDelta += p.d(last, v);
+                    }
+                    if (u >= 0 && v >= 0) {
+                        insertDelta -= p.d(u, v);
+                    }
+                    double delta = removeDelta + insertDelta;
+                    if (delta < bestDelta && movable(p, order, pos, i, len, k)) {
+                        bestDelta = delta;
+                        bestK = k;
+                    }
+                }
+                if (bestK != Integer.MIN_VALUE) {
+                    move(order, pos, buffer, i, len, bestK);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * 구간 [i, i+len) 을 order[k] 뒤로 옮겨도 선행 관계가 유지되는지 확인
+     * - 앞으로 옮길 때: 구간 지점의 선행 지점이 건너뛰는 범위(k, i) 안에 있으면 안 됨
+     * - 뒤로 옮길 때: 건너뛰는 범위(i+len, k] 안의 지점이 구간 지점을 선행으로 가지면 안 됨
+     */
+    private boolean movable(Problem p, int[] order, int[] pos, int i, int len, int k) {
+        if (k < i) {
+            for (int s = i; s < i + len; s++) {
+                int pred = p.pred[order[s]];
+                if (pred >= 0 && pos[pred] > k && pos[pred] < i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int s = i + len; s <= k; s++) {
+            int pred = p.pred[order[s]];
+            if (pred >= 0 && pos[pred] >= i && pos[pred] < i + len) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void move(int[] order, int[] pos, int[] buffer, int i, int len, int k) {
+        System.arraycopy(order, i, buffer, 0, len);
+        if (k < i) {
+            System.arraycopy(order, k + 1, order, k + 1 + len, i - k - 1);
+            System.arraycopy(buffer, 0, order, k + 1, len);
+            for (int s = k + 1; s < i + len; s++) {
+                pos[order[s]] = s;
+            }
+        } else {
+            System.arraycopy(order, i + len, order, i, k - i - len + 1);
+            System.arraycopy(buffer, 0, order, k - len + 1, len);
+            for (int s = i; s <= k; s++) {
+                pos[order[s]] = s;
+            }
+        }
+    }
+
+    private double cost(Problem p, int[] order) {
+        double total = p.hasStart ? p.d(p.startIdx, order[0]) : 0;
+        for (int i = 1; i < order.length; i++) {
+            total += p.d(order[i - 1], order[i]);
+        }
+        return total;
+    }
+
+    private RoutePlan toPlan(Problem p, int[] order, boolean timedOut) {
+        double[] legs = new double[p.n];
+        double total = 0;
+        for (int i = 0; i < p.n; i++) {
+            int from = i == 0 ? p.head() : order[i - 1];
+            legs[i] = from < 0 ? 0 : p.d(from, order[i]);
+            total += legs[i];
+        }
+        return new RoutePlan(order, legs, total, timedOut);
+    }
+
+    private static int[] positions(int[] order) {
+        int[] pos = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            pos[order[i]] = i;
+        }
+        return pos;
+    }
+
+    /** 입력 지점 + (선택) 출발 위치의 거리 행렬과 제약 */
+    private static final class Problem {
+        private final int n;
+        private final int size;
+        private final boolean hasStart;
+        private final int startIdx;
+        private final int fixedEnd;
+        private final int movable;
+        private final int[] pred;
+        private final double[] dist;
+
+        private Problem(List<RouteStop> stops, boolean hasStart, Double startLat, Double startLng, boolean lastFixed) {
+            this.n = stops.size();
+            this.hasStart = hasStart;
+            this.startIdx = n;
+            this.size = hasStart ? n + 1 : n;
+            this.fixedEnd = lastFixed ? n - 1 : -1;
+            this.movable = lastFixed ? n - 1 : n;
+            this.pred = new int[n];
+
+            double[] lat = new double[size];
+            double[] lng = new double[size];
+            for (int i = 0; i < n; i++) {
+                RouteStop stop = stops.get(i);
+                lat[i] = stop.lat();
+                lng[i] = stop.lng();
+                int predecessor = stop.predecessor();
+                if (predecessor >= n || predecessor == i || (predecessor >= 0 && predecessor == fixedEnd)) {
+                    throw new IllegalArgumentException("invalid predecessor at " + i);
+                }
+                pred[i] = predecessor;
+            }
+            if (hasStart) {
+                lat[startIdx] = startLat;
+                lng[startIdx] = startLng;
+            }
+
+            this.dist = new double[size * size];
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    double d = GeoUtils.haversineKm(lat[i], lng[i], lat[j], lng[j]);
+                    dist[i * size + j] = d;
+                    dist[j * size + i] = d;
+                }
+            }
+        }
+
+        /** 첫 지점 앞 노드 (출발 위치가 없으면 -1) */
+        private int head() {
+            return hasStart ? startIdx : -1;
+        }
+
+        private double d(int from, int to) {
+            return dist[from * size + to];
+        }
+    }
+}
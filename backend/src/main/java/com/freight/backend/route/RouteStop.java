@@ -0,0 +1,22 @@
+package com.freight.backend.route;
+
+/**
+ * 경로 순서 계산 대상 지점
+ * - predecessor: 이 지점보다 먼저 방문해야 하는 지점의 인덱스 (없으면 -1)
+ *   예) 하차지는 같은 견적의 상차지 인덱스를 가짐
+ */
+public record RouteStop(
+        Type type,
+        Long quoteId,
+        Long quoteStopId,
+        String address,
+        double lat,
+        double lng,
+        int predecessor
+) {
+
+    public enum Type {
+        PICKUP,
+        DROPOFF
+    }
+}
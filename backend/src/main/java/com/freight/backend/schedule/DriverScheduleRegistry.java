@@ -0,0 +1,283 @@
+package com.freight.backend.schedule;
+
+import com.freight.backend.repository.DriverRepository;
+import com.freight.backend.repository.MatchRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기사별 확정 운송 일정 (노드별 인메모리 사본)
+ * - 기사마다 구간 트리 1개, 기사 단위로 잠가서 "겹침 확인 + 예약"을 원자적으로 처리
+ * - 매칭 수락 시 reserve: 트리로 빠르게 확인한 뒤 DB 기준으로 최종 판단 (트리만 보고 거절하지 않음), 취소/롤백 시 release
+ * - 다른 노드에서 수락/취소된 일정은 resync-interval-ms 마다 DB 에서 다시 읽어 반영
+ *   (그 사이 배차/복귀 경로 추천의 겹침 판단은 이 사본 기준이므로 최대 한 주기만큼 늦을 수 있음)
+ */
+@Component
+public class DriverScheduleRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverScheduleRegistry.class);
+
+    private final MatchRepository matchRepository;
+    private final DriverRepository driverRepository;
+    private final long defaultDurationMinutes;
+    private final long resyncGraceMs;
+    private final ConcurrentHashMap<Long, DriverSchedule> schedules = new ConcurrentHashMap<>();
+    /** 최근 release 된 매칭 (matchId → 시각). 재동기화 중 읽은 DB 값이 release 보다 오래됐을 수 있어 구분용 */
+    private final ConcurrentHashMap<Long, Long> recentReleases = new ConcurrentHashMap<>();
+
+    public DriverScheduleRegistry(
+            MatchRepository matchRepository,
+            DriverRepository driverRepository,
+            @Value("${schedule.default-duration-minutes:240}") long defaultDurationMinutes,
+            @Value("${schedule.resync-grace-ms:30000}") long resyncGraceMs
+    ) {
+        this.matchRepository = matchRepository;
+        this.driverRepository = driverRepository;
+        this.defaultDurationMinutes = defaultDurationMinutes;
+        this.resyncGraceMs = Math.max(0, resyncGraceMs);
+    }
+
+    /**
+     * DB 의 확정 일정으로 전체 재구성
+     * - 이 노드에서 resync-grace-ms 안에 예약된 일정은 아직 커밋 전일 수 있어 DB 에 없어도 유지
+     * - 읽기 시작 후 release 된 매칭은 DB 에 남아 있어도 제외
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${schedule.resync-interval-ms:60000}",
+            fixedDelayString = "${schedule.resync-interval-ms:60000}"
+    )
+    public void resync() {
+        long startedAtMs = System.currentTimeMillis();
+        Map<Long, Map<Long, ScheduleWindow>> committed = new HashMap<>();
+        int loaded = 0;
+        try {
+            for (ScheduleEntry entry : matchRepository.findCommittedSchedules()) {
+                ScheduleWindow window = window(entry.pickupAt(), entry.deliveryAt());
+                if (window != null) {
+                    committed.computeIfAbsent(entry.driverId(), id -> new HashMap<>()).put(entry.matchId(), window);
+                    loaded++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Driver schedule resync failed: {}", e.toString());
+            return;
+        }
+
+        Set<Long> driverIds = new HashSet<>(schedules.keySet());
+        driverIds.addAll(committed.keySet());
+        long keepLocalAfterMs = startedAtMs - resyncGraceMs;
+        for (Long driverId : driverIds) {
+            schedule(driverId).replace(committed.getOrDefault(driverId, Map.of()), keepLocalAfterMs, startedAtMs);
+        }
+        recentReleases.values().removeIf(releasedAtMs -> releasedAtMs < keepLocalAfterMs);
+        log.debug("Driver schedules resynced: {} windows, {} drivers", loaded, driverIds.size());
+    }
+
+    /** 상/하차 예정 시각으로 일정 구간 계산 (상차 시각이 없으면 null) */
+    public ScheduleWindow window(LocalDateTime pickupAt, LocalDateTime deliveryAt) {
+        return ScheduleWindow.of(pickupAt, deliveryAt, defaultDurationMinutes);
+    }
+
+    /**
+     * 매칭 수락 시 일정 예약 (매칭 수락 트랜잭션 안에서 호출, 겹치면 false)
+     * - 이 노드의 트리로 먼저 예약을 시도하고(빠른 경로), 결과와 무관하게 DB 기준으로 최종 확인
+     * - 기사 행을 잠가 같은 기사의 수락을 노드와 무관하게 직렬화하고, 커밋된 일정을 잠금 읽기로 다시 읽어 비교
+     *   (다른 노드에서 수락된 일정은 트리에 아직 없을 수 있고, 다른 노드에서 취소된 일정은 트리에 남아 있을 수 있음)
+     * - 트리에서 겹쳤지만 DB 에서 겹치지 않으면 트리를 DB 값으로 교체한 뒤 예약 (트리만 보고 거절하지 않음)
+     * - 묶음 안의 구간끼리 겹쳐도 실패, 같은 매칭이 이미 예약돼 있으면 그대로 통과 (재시도 안전)
+     * @param windows 이번에 수락하는 매칭별 구간 (일정 없는 매칭은 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean reserve(Long driverId, Map<Long, ScheduleWindow> windows) {
+        Map<Long, ScheduleWindow> scheduled = new HashMap<>();
+        windows.forEach((matchId, window) -> {
+            if (window != null) {
+                scheduled.put(matchId, window);
+            }
+        });
+        if (scheduled.isEmpty()) {
+            return true;
+        }
+        if (overlapEachOther(scheduled)) {
+            return false;
+        }
+        DriverSchedule schedule = schedule(driverId);
+        boolean reservedLocally = schedule.tryReserveAll(scheduled);
+
+        long readStartedAtMs = System.currentTimeMillis();
+        driverRepository.lockForUpdate(driverId);
+        Map<Long, ScheduleWindow> committed = new HashMap<>();
+        for (Object[] row : matchRepository.findCommittedScheduleRowsForShare(driverId)) {
+            Long matchId = ((Number) row[0]).longValue();
+            ScheduleWindow window = window(toLocalDateTime(row[1]), toLocalDateTime(row[2]));
+            if (window != null && !scheduled.containsKey(matchId)) {
+                committed.put(matchId, window);
+            }
+        }
+        for (ScheduleWindow existing : committed.values()) {
+            if (overlapsAny(existing, scheduled.values())) {
+                return false;
+            }
+        }
+
+        if (reservedLocally) {
+            committed.forEach(schedule::put);
+        } else {
+            // 트리에만 남은 일정 때문에 겹친 것 → DB 값으로 교체 (기사 행을 잠갔으므로 DB 가 기준)
+            log.debug("Driver {} schedule was stale, replaced from DB", driverId);
+            schedule.replace(committed, Long.MAX_VALUE, readStartedAtMs);
+        }
+        // 그 사이 다른 트랜잭션의 교체로 빠졌을 수 있어 항상 다시 반영
+        schedule.reserveAll(scheduled);
+        return true;
+    }
+
+    public void release(Long driverId, Long matchId) {
+        if (driverId == null || matchId == null) {
+            return;
+        }
+        recentReleases.put(matchId, System.currentTimeMillis());
+        DriverSchedule schedule = schedules.get(driverId);
+        if (schedule != null) {
+            schedule.release(matchId);
+        }
+    }
+
+    /** 일정 구간이 기사의 기존 일정과 겹치는지 (일정 없는 작업은 겹치지 않음) */
+    public boolean conflicts(Long driverId, ScheduleWindow window) {
+        if (window == null) {
+            return false;
+        }
+        DriverSchedule schedule = schedules.get(driverId);
+        return schedule != null && schedule.overlaps(window);
+    }
+
+    private static boolean overlapEachOther(Map<Long, ScheduleWindow> windows) {
+        IntervalTree tree = new IntervalTree();
+        for (Map.Entry<Long, ScheduleWindow> entry : windows.entrySet()) {
+            ScheduleWindow window = entry.getValue();
+            if (tree.overlaps(window.start(), window.end())) {
+                return true;
+            }
+            tree.insert(window.start(), window.end(), entry.getKey());
+        }
+        return false;
+    }
+
+    private static boolean overlapsAny(ScheduleWindow window, Iterable<ScheduleWindow> others) {
+        for (ScheduleWindow other : others) {
+            if (window.start() < other.end() && other.start() < window.end()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DriverSchedule schedule(Long driverId) {
+        return schedules.computeIfAbsent(driverId, id -> new DriverSchedule());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private final class DriverSchedule {
+        private IntervalTree tree = new IntervalTree();
+        private Map<Long, ScheduleWindow> byMatch = new HashMap<>();
+        /** 이 노드에서 예약한 일정의 예약 시각 (DB 에서 읽은 일정은 없음) */
+        private final Map<Long, Long> reservedAtMs = new HashMap<>();
+
+        private synchronized void put(Long matchId, ScheduleWindow window) {
+            ScheduleWindow existing = byMatch.remove(matchId);
+            if (existing != null) {
+                tree.remove(existing.start(), matchId);
+            }
+            tree.insert(window.start(), window.end(), matchId);
+            byMatch.put(matchId, window);
+        }
+
+        private synchronized boolean tryReserveAll(Map<Long, ScheduleWindow> windows) {
+            IntervalTree pending = new IntervalTree();
+            for (Map.Entry<Long, ScheduleWindow> entry : windows.entrySet()) {
+                if (byMatch.containsKey(entry.getKey())) {
+                    continue;
+                }
+                ScheduleWindow window = entry.getValue();
+                if (tree.overlaps(window.start(), window.end())
+                        || pending.overlaps(window.start(), window.end())) {
+                    return false;
+                }
+                pending.insert(window.start(), window.end(), entry.getKey());
+            }
+            long now = System.currentTimeMillis();
+            windows.forEach((matchId, window) -> {
+                if (!byMatch.containsKey(matchId)) {
+                    put(matchId, window);
+                    reservedAtMs.put(matchId, now);
+                }
+            });
+            return true;
+        }
+
+        /** 겹침 확인 없이 예약 (DB 기준 확인이 끝난 뒤 호출) */
+        private synchronized void reserveAll(Map<Long, ScheduleWindow> windows) {
+            long now = System.currentTimeMillis();
+            windows.forEach((matchId, window) -> {
+                put(matchId, window);
+                reservedAtMs.put(matchId, now);
+            });
+        }
+
+        private synchronized void release(Long matchId) {
+            reservedAtMs.remove(matchId);
+            ScheduleWindow window = byMatch.remove(matchId);
+            if (window != null) {
+                tree.remove(window.start(), matchId);
+            }
+        }
+
+        private synchronized boolean overlaps(ScheduleWindow window) {
+            return tree.overlaps(window.start(), window.end());
+        }
+
+        /** DB 값으로 교체 (최근 로컬 예약은 유지, 읽기 시작 후 release 된 매칭은 제외) */
+        private synchronized void replace(Map<Long, ScheduleWindow> committed, long keepLocalAfterMs, long readStartedAtMs) {
+            Map<Long, ScheduleWindow> next = new HashMap<>();
+            committed.forEach((matchId, window) -> {
+                Long releasedAtMs = recentReleases.get(matchId);
+                if (releasedAtMs == null || releasedAtMs < readStartedAtMs) {
+                    next.put(matchId, window);
+                }
+            });
+            reservedAtMs.values().removeIf(at -> at < keepLocalAfterMs);
+            reservedAtMs.keySet().forEach(matchId -> {
+                ScheduleWindow local = byMatch.get(matchId);
+                if (local != null) {
+                    next.putIfAbsent(matchId, local);
+                }
+            });
+            IntervalTree rebuilt = new IntervalTree();
+            next.forEach((matchId, window) -> rebuilt.insert(window.start(), window.end(), matchId));
+            tree = rebuilt;
+            byMatch = next;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.freight.backend.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 일정 재구성용: 수락된 진행 중 매칭의 상/하차 예정 시각
+ */
+public record ScheduleEntry(
+        Long matchId,
+        Long driverId,
+        LocalDateTime pickupAt,
+        LocalDateTime deliveryAt
+) {
+}
@@ -0,0 +1,29 @@
+package com.freight.backend.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 운송 일정 구간 [start, end) (epoch millis, 비교 전용이므로 UTC 기준으로 환산)
+ */
+public record ScheduleWindow(long start, long end) {
+
+    /**
+     * 상차/하차 예정 시각으로 구간 생성
+     * - 상차 시각이 없으면 일정 없음(null)
+     * - 하차 시각이 없거나 상차보다 빠르면 상차 + defaultDurationMinutes
+     */
+    public static ScheduleWindow of(LocalDateTime pickupAt, LocalDateTime deliveryAt, long defaultDurationMinutes) {
+        if (pickupAt == null) {
+            return null;
+        }
+        LocalDateTime end = deliveryAt != null && deliveryAt.isAfter(pickupAt)
+                ? deliveryAt
+                : pickupAt.plusMinutes(Math.max(1, defaultDurationMinutes));
+        return new ScheduleWindow(toMillis(pickupAt), toMillis(end));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
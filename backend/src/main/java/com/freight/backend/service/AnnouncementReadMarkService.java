@@ -0,0 +1,77 @@
+package com.freight.backend.service;
+
+import com.freight.backend.common.TransactionCallbacks;
+import com.freight.backend.entity.AnnouncementReadMark;
+import com.freight.backend.repository.AnnouncementReadMarkRepository;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 공지 읽음 위치
+ * - 배지 폴링마다 DB 를 읽지 않도록 메모리에 두고 cache-ttl-seconds 마다 다시 읽음 (다른 노드에서 읽음 처리한 경우 반영)
+ * - 읽음 위치가 없거나 unread-window-days 보다 오래됐으면 그 기간 이전 공지는 읽은 것으로 봄 (신규 가입자에게 과거 공지 전체가 쌓이지 않도록)
+ */
+@Service
+public class AnnouncementReadMarkService {
+
+    private final AnnouncementReadMarkRepository readMarkRepository;
+    private final long unreadWindowDays;
+    private final long cacheTtlMs;
+    private final ConcurrentHashMap<Key, Cached> cache = new ConcurrentHashMap<>();
+
+    public AnnouncementReadMarkService(
+            AnnouncementReadMarkRepository readMarkRepository,
+            @Value("${notification.broadcast.unread-window-days:30}") long unreadWindowDays,
+            @Value("${notification.broadcast.read-mark-cache-ttl-seconds:300}") long cacheTtlSeconds
+    ) {
+        this.readMarkRepository = readMarkRepository;
+        this.unreadWindowDays = Math.max(1, unreadWindowDays);
+        this.cacheTtlMs = Math.max(1, cacheTtlSeconds) * 1000;
+    }
+
+    /** 이 시각 이후 게시된 공지만 안 읽은 것으로 봄 */
+    public LocalDateTime watermark(String userRole, Long userId) {
+        Key key = new Key(userRole, userId);
+        long now = System.currentTimeMillis();
+        Cached cached = cache.get(key);
+        if (cached == null || now - cached.loadedAtMs > cacheTtlMs) {
+            LocalDateTime readUpTo = readMarkRepository.findByUserRoleAndUserId(userRole, userId)
+                    .map(AnnouncementReadMark::getReadUpTo)
+                    .orElse(null);
+            cached = new Cached(readUpTo, now);
+            cache.put(key, cached);
+        }
+        LocalDateTime floor = LocalDateTime.now().minusDays(unreadWindowDays);
+        return cached.readUpTo == null || cached.readUpTo.isBefore(floor) ? floor : cached.readUpTo;
+    }
+
+    /** readUpTo 까지 게시된 공지를 읽음 처리 (앞으로만 이동) */
+    @Transactional
+    public void advance(String userRole, Long userId, LocalDateTime readUpTo) {
+        readMarkRepository.advance(userRole, userId, readUpTo, LocalDateTime.now());
+        Key key = new Key(userRole, userId);
+        TransactionCallbacks.afterCommit(() -> cache.compute(key, (k, old) -> {
+            LocalDateTime merged = old == null || old.readUpTo == null || old.readUpTo.isBefore(readUpTo)
+                    ? readUpTo
+                    : old.readUpTo;
+            return new Cached(merged, old == null ? System.currentTimeMillis() : old.loadedAtMs);
+        }));
+    }
+
+    /** TTL 이 지난 항목 정리 (조회가 없는 사용자 메모리 반환) */
+    @Scheduled(fixedDelayString = "${notification.broadcast.refresh-interval-ms:30000}")
+    public void evictExpired() {
+        long expiredBefore = System.currentTimeMillis() - cacheTtlMs;
+        cache.values().removeIf(c -> c.loadedAtMs < expiredBefore);
+    }
+
+    private record Key(String userRole, Long userId) {
+    }
+
+    private record Cached(LocalDateTime readUpTo, long loadedAtMs) {
+    }
+}
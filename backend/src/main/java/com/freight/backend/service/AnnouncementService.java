@@ -1,11 +1,13 @@
 package com.freight.backend.service;
 
+import com.freight.backend.common.TransactionCallbacks;
 import com.freight.backend.dto.announcement.AnnouncementCreateRequest;
 import com.freight.backend.dto.announcement.AnnouncementResponse;
 import com.freight.backend.dto.announcement.AnnouncementUpdateRequest;
 import com.freight.backend.entity.Announcement;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.notification.BroadcastIndex;
 import com.freight.backend.repository.AnnouncementRepository;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -13,11 +15,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 공지 관리
+ * - 게시된 공지는 사용자별 알림 행 없이 알림함/안 읽은 수에 합쳐짐 (BroadcastIndex)
+ * - 변경 커밋 후 이 노드의 BroadcastIndex 를 바로 갱신 (다른 노드는 주기 갱신)
+ */
 @Service
 @RequiredArgsConstructor
 public class AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
+    private final BroadcastIndex broadcastIndex;
 
     @Transactional
     public AnnouncementResponse create(Long adminId, AnnouncementCreateRequest request) {
@@ -31,6 +39,7 @@ public class AnnouncementService {
             announcement.publish();
         }
         Announcement saved = announcementRepository.save(announcement);
+        TransactionCallbacks.afterCommit(broadcastIndex::refresh);
         return AnnouncementResponse.from(saved);
     }
 
@@ -47,6 +56,7 @@ public class AnnouncementService {
             }
         }
         Announcement saved = announcementRepository.save(announcement);
+        TransactionCallbacks.afterCommit(broadcastIndex::refresh);
         return AnnouncementResponse.from(saved);
     }
 
@@ -56,6 +66,7 @@ public class AnnouncementService {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
         announcementRepository.deleteById(announcementId);
+        TransactionCallbacks.afterCommit(broadcastIndex::refresh);
     }
 
     @Transactional(readOnly = true)
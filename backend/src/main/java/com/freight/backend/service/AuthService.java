@@ -1,7 +1,13 @@
 package com.freight.backend.service;
 
+import com.freight.backend.auth.LoginRateLimiter;
+import com.freight.backend.auth.PasswordVerifier;
+import com.freight.backend.auth.TokenRevocationList;
+import com.freight.backend.config.jwt.JwtPrincipal;
 import com.freight.backend.config.jwt.JwtTokenProvider;
 import com.freight.backend.dto.auth.LoginRequest;
+import com.freight.backend.dto.auth.LoginStatsResponse;
+import com.freight.backend.dto.auth.RefreshTokenRequest;
 import com.freight.backend.dto.auth.TokenResponse;
 import com.freight.backend.entity.Admin;
 import com.freight.backend.entity.Driver;
@@ -11,11 +17,16 @@ import com.freight.backend.exception.ErrorCode;
 import com.freight.backend.repository.AdminRepository;
 import com.freight.backend.repository.DriverRepository;
 import com.freight.backend.repository.ShipperRepository;
-import jakarta.transaction.Transactional;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+/**
+ * 로그인
+ * - 시도 제한(이메일/IP) → 계정 조회 → 비밀번호 검증(PasswordVerifier 전용 스레드) 순서
+ * - 트랜잭션 없이 조회만 하므로 BCrypt 를 기다리는 동안 DB 커넥션을 잡고 있지 않음
+ * - access token 과 함께 refresh token 발급. 재발급(refresh)은 비밀번호 검증 없이 회전만 함
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -24,48 +35,94 @@ public class AuthService {
     private final ShipperRepository shipperRepository;
     private final AdminRepository adminRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
 
-    @Transactional
-    public TokenResponse loginDriver(LoginRequest req) {
+    public TokenResponse loginDriver(LoginRequest req, String clientIp) {
+        loginRateLimiter.acquire(req.getEmail(), clientIp);
         Driver driver = driverRepository.findByEmail(req.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_UNAUTHORIZED));
+                .orElseThrow(() -> loginFailed(req));
+        verifyPassword(req, driver.getPasswordHash());
 
-        if (!passwordEncoder.matches(req.getPassword(), driver.getPasswordHash())) {
-            throw new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
-        }
-
-        return issueAccessToken(driver.getDriverId(), driver.getEmail(), "DRIVER");
+        return issueTokens("DRIVER", driver.getDriverId(), driver.getEmail(), "DRIVER");
     }
 
-    @Transactional
-    public TokenResponse loginShipper(LoginRequest req) {
+    public TokenResponse loginShipper(LoginRequest req, String clientIp) {
+        loginRateLimiter.acquire(req.getEmail(), clientIp);
         Shipper shipper = shipperRepository.findByEmail(req.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_UNAUTHORIZED));
+                .orElseThrow(() -> loginFailed(req));
+        verifyPassword(req, shipper.getPasswordHash());
 
-        if (!passwordEncoder.matches(req.getPassword(), shipper.getPasswordHash())) {
-            throw new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
+        return issueTokens("SHIPPER", shipper.getShipperId(), shipper.getEmail(), "SHIPPER");
+    }
+
+    public TokenResponse loginAdmin(LoginRequest req, String clientIp) {
+        loginRateLimiter.acquire(req.getEmail(), clientIp);
+        Admin admin = adminRepository.findByEmail(req.getEmail())
+                .orElseThrow(() -> loginFailed(req));
+        verifyPassword(req, admin.getPasswordHash());
+
+        return issueTokens("ADMIN", admin.getAdminId(), admin.getEmail(), adminRole(admin));
+    }
+
+    /** 비밀번호 확인 (실패 시 이메일 시도 횟수 차감, 성공 시 초기화) */
+    private void verifyPassword(LoginRequest req, String passwordHash) {
+        if (!passwordVerifier.matches(req.getPassword(), passwordHash)) {
+            throw loginFailed(req);
         }
+        loginRateLimiter.onSuccess(req.getEmail());
+    }
 
-        return issueAccessToken(shipper.getShipperId(), shipper.getEmail(), "SHIPPER");
+    private CustomException loginFailed(LoginRequest req) {
+        loginRateLimiter.onFailure(req.getEmail());
+        return new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
     }
 
-    @Transactional
-    public TokenResponse loginAdmin(LoginRequest req) {
-        Admin admin = adminRepository.findByEmail(req.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_UNAUTHORIZED));
+    /** refresh token 회전 + access token 재발급 (계정 정보/관리자 권한은 다시 조회) */
+    public TokenResponse refresh(RefreshTokenRequest req) {
+        RefreshTokenService.Rotated rotated = refreshTokenService.rotate(req == null ? null : req.getRefreshToken())
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_INVALID_TOKEN));
+        String refreshToken = rotated.refreshToken();
+
+        Optional<TokenResponse> response = switch (rotated.accountType()) {
+            case "DRIVER" -> driverRepository.findById(rotated.userId())
+                    .map(d -> toTokenResponse(d.getDriverId(), d.getEmail(), "DRIVER", refreshToken));
+            case "SHIPPER" -> shipperRepository.findById(rotated.userId())
+                    .map(s -> toTokenResponse(s.getShipperId(), s.getEmail(), "SHIPPER", refreshToken));
+            case "ADMIN" -> adminRepository.findById(rotated.userId())
+                    .map(a -> toTokenResponse(a.getAdminId(), a.getEmail(), adminRole(a), refreshToken));
+            default -> Optional.empty();
+        };
+        return response.orElseThrow(() -> new CustomException(ErrorCode.AUTH_UNAUTHORIZED));
+    }
 
-        if (!passwordEncoder.matches(req.getPassword(), admin.getPasswordHash())) {
-            throw new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
+    /** 현재 access token 폐기 + (있으면) refresh token family 폐기 */
+    public void logout(JwtPrincipal principal, RefreshTokenRequest req) {
+        if (principal != null) {
+            tokenRevocationList.revoke(principal.tokenId(), principal.expiresAt());
         }
+        if (req != null) {
+            refreshTokenService.revoke(req.getRefreshToken());
+        }
+    }
 
-        String role = admin.getRole() == null || admin.getRole().isBlank()
+    public LoginStatsResponse loginStats() {
+        return passwordVerifier.stats(loginRateLimiter.throttled());
+    }
+
+    private static String adminRole(Admin admin) {
+        return admin.getRole() == null || admin.getRole().isBlank()
                 ? "ADMIN"
                 : admin.getRole();
-        return issueAccessToken(admin.getAdminId(), admin.getEmail(), role);
     }
 
-    private TokenResponse issueAccessToken(Long userId, String email, String role) {
+    private TokenResponse issueTokens(String accountType, Long userId, String email, String role) {
+        return toTokenResponse(userId, email, role, refreshTokenService.issue(accountType, userId));
+    }
+
+    private TokenResponse toTokenResponse(Long userId, String email, String role, String refreshToken) {
         String accessToken = jwtTokenProvider.generateAccessToken(
                 userId,
                 email,
@@ -75,7 +132,9 @@ public class AuthService {
         return new TokenResponse(
                 accessToken,
                 "Bearer",
-                jwtTokenProvider.getAccessTokenExpirationSeconds()
+                jwtTokenProvider.getAccessTokenExpirationSeconds(),
+                refreshToken,
+                refreshTokenService.getExpirationSeconds()
         );
     }
 }
@@ -21,6 +21,7 @@ public class CounterOfferService {
     private final CounterOfferRepository counterOfferRepository;
     private final QuoteRepository quoteRepository;
     private final NotificationService notificationService;
+    private final OwnershipResolver ownershipResolver;
 
     @Transactional
     public CounterOfferResponse createOffer(Long driverId, Long quoteId, CounterOfferCreateRequest request) {
@@ -79,14 +80,7 @@ public class CounterOfferService {
 
     @Transactional
     public void acceptOffer(Long shipperId, Long offerId) {
-        CounterOffer offer = counterOfferRepository.findById(offerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-        Quote quote = quoteRepository.findById(offer.getQuoteId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-
-        if (!quote.getShipperId().equals(shipperId)) {
-            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
-        }
+        CounterOffer offer = ownershipResolver.requireShipperOwnsCounterOffer(offerId, shipperId);
         if (offer.getStatus() != CounterOffer.Status.PENDING) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
@@ -104,14 +98,7 @@ public class CounterOfferService {
 
     @Transactional
     public void rejectOffer(Long shipperId, Long offerId) {
-        CounterOffer offer = counterOfferRepository.findById(offerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-        Quote quote = quoteRepository.findById(offer.getQuoteId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-
-        if (!quote.getShipperId().equals(shipperId)) {
-            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
-        }
+        CounterOffer offer = ownershipResolver.requireShipperOwnsCounterOffer(offerId, shipperId);
         if (offer.getStatus() != CounterOffer.Status.PENDING) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
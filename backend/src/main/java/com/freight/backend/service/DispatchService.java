@@ -0,0 +1,318 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dispatch.AuctionAssignmentSolver;
+import com.freight.backend.dispatch.DispatchCostModel;
+import com.freight.backend.dispatch.DispatchDriver;
+import com.freight.backend.dispatch.DispatchTask;
+import com.freight.backend.dispatch.SparseBenefitMatrix;
+import com.freight.backend.dto.dispatch.DispatchRunResponse;
+import com.freight.backend.dto.driver.DriverLocationRequest;
+import com.freight.backend.entity.Driver;
+import com.freight.backend.entity.Notification;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.geo.GeoGridIndex;
+import com.freight.backend.geo.GeoUtils;
+import com.freight.backend.repository.DriverRepository;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.NotificationOutboxRepository;
+import com.freight.backend.repository.NotificationRepository;
+import com.freight.backend.repository.projection.MatchReceiver;
+import com.freight.backend.schedule.DriverScheduleRegistry;
+import com.freight.backend.schedule.ScheduleWindow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일괄 배차 서비스
+ * - READY 매칭 × 배차 가능 기사(승인 차량, 최근 위치, 운송 중 아님) 희소 이익 행렬 구성
+ * - 기사의 확정 일정과 시간이 겹치는 (매칭, 기사) 쌍은 후보에서 제외
+ * - 경매 알고리즘으로 전체 배정을 구한 뒤 기사에게 배차 제안(MATCH_OFFERED) 알림
+ * - 같은 (매칭, 기사) 쌍은 offer-cooldown 동안 다시 제안하지 않음
+ *   (실행마다 최근 MATCH_OFFERED 알림과 아직 outbox 에 있는 제안에서 계산. 노드가 바뀌거나 재기동돼도 유지)
+ * - 노드 간에는 job_locks 로 한 번에 한 노드만 실행 (여러 노드가 같은 매칭을 각자 제안하지 않게)
+ */
+@Service
+public class DispatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchService.class);
+    private static final String JOB_NAME = "dispatch";
+
+    private final MatchRepository matchRepository;
+    private final DriverRepository driverRepository;
+    private final NotificationService notificationService;
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final DispatchCostModel costModel;
+    private final DriverScheduleRegistry driverScheduleRegistry;
+    private final JobLockService jobLockService;
+    private final AuctionAssignmentSolver solver;
+    private final double cellSizeDeg;
+    private final int maxCandidatesPerTask;
+    private final long locationMaxAgeMinutes;
+    private final Duration offerCooldown;
+    private final Duration lockTtl;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public DispatchService(
+            MatchRepository matchRepository,
+            DriverRepository driverRepository,
+            NotificationService notificationService,
+            NotificationRepository notificationRepository,
+            NotificationOutboxRepository notificationOutboxRepository,
+            DispatchCostModel costModel,
+            DriverScheduleRegistry driverScheduleRegistry,
+            JobLockService jobLockService,
+            @Value("${route.index.cell-size-deg:0.05}") double cellSizeDeg,
+            @Value("${dispatch.max-candidates-per-match:30}") int maxCandidatesPerTask,
+            @Value("${dispatch.location-max-age-minutes:30}") long locationMaxAgeMinutes,
+            @Value("${dispatch.offer-cooldown-minutes:30}") long offerCooldownMinutes,
+            @Value("${dispatch.solver.final-eps:0.01}") double finalEps,
+            @Value("${dispatch.solver.time-budget-ms:5000}") long solverTimeBudgetMs,
+            @Value("${dispatch.batch.lock-ttl-seconds:300}") long lockTtlSeconds
+    ) {
+        this.matchRepository = matchRepository;
+        this.driverRepository = driverRepository;
+        this.notificationService = notificationService;
+        this.notificationRepository = notificationRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.costModel = costModel;
+        this.driverScheduleRegistry = driverScheduleRegistry;
+        this.jobLockService = jobLockService;
+        this.cellSizeDeg = cellSizeDeg;
+        this.maxCandidatesPerTask = maxCandidatesPerTask;
+        this.locationMaxAgeMinutes = locationMaxAgeMinutes;
+        this.offerCooldown = Duration.ofMinutes(offerCooldownMinutes);
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.solver = new AuctionAssignmentSolver(finalEps, solverTimeBudgetMs);
+    }
+
+    /**
+     * 기사 현재 위치 갱신
+     */
+    @Transactional
+    public void updateDriverLocation(Long driverId, DriverLocationRequest req) {
+        if (req == null || !GeoUtils.isValid(req.getLat(), req.getLng())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        Driver driver = driverRepository.findById(driverId)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_FORBIDDEN));
+        driver.updateLocation(req.getLat(), req.getLng());
+    }
+
+    /**
+     * 일괄 배차 1회 실행 (전체 노드에서 동시에 한 번만)
+     * - job_locks 소유자는 노드 단위라 같은 노드 안의 중복 실행은 runLock 으로 막음
+     */
+    public DispatchRunResponse run() {
+        if (!runLock.tryLock()) {
+            throw new CustomException(ErrorCode.DISPATCH_ALREADY_RUNNING);
+        }
+        try {
+            if (!jobLockService.tryAcquire(JOB_NAME, lockTtl)) {
+                throw new CustomException(ErrorCode.DISPATCH_ALREADY_RUNNING);
+            }
+            try {
+                return runExclusive();
+            } finally {
+                jobLockService.release(JOB_NAME);
+            }
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private DispatchRunResponse runExclusive() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<DispatchTask> tasks = matchRepository.findDispatchTasks();
+        DriverTable drivers = DriverTable.of(driverRepository.findDispatchDrivers(
+                now.minusMinutes(locationMaxAgeMinutes)));
+        Set<OfferKey> recentOffers = recentOffers(now.minus(offerCooldown));
+
+        SparseBenefitMatrix matrix = buildMatrix(tasks, drivers, recentOffers);
+        int[] assignment = solver.solve(matrix);
+
+        List<Notification> offers = new ArrayList<>();
+        double totalDeadheadKm = 0;
+        for (int i = 0; i < assignment.length; i++) {
+            int col = assignment[i];
+            if (col < 0) {
+                continue;
+            }
+            DispatchTask task = tasks.get(i);
+            long driverId = drivers.ids[col];
+            totalDeadheadKm += costModel.deadheadKm(task, drivers.lat[col], drivers.lng[col]);
+            offers.add(Notification.builder()
+                    .receiverId(driverId)
+                    .matchId(task.matchId())
+                    .type(Notification.Type.MATCH_OFFERED)
+                    .message("가까운 곳에 배차 제안이 도착했습니다.")
+                    .build());
+        }
+        notificationService.createNotifications(offers);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Dispatch run: tasks={}, drivers={}, arcs={}, offered={}, elapsedMs={}",
+                tasks.size(), drivers.size(), matrix.arcs(), offers.size(), elapsedMs);
+        return new DispatchRunResponse(
+                tasks.size(),
+                drivers.size(),
+                matrix.arcs(),
+                offers.size(),
+                Math.round(totalDeadheadKm * 10.0) / 10.0,
+                elapsedMs
+        );
+    }
+
+    /** since 이후 제안한 (매칭, 기사) 쌍: 저장된 MATCH_OFFERED 알림 + 아직 outbox 에 있는 제안 */
+    private Set<OfferKey> recentOffers(LocalDateTime since) {
+        Set<OfferKey> offers = new HashSet<>();
+        for (MatchReceiver row : notificationRepository.findMatchReceiversSince(Notification.Type.MATCH_OFFERED, since)) {
+            offers.add(new OfferKey(row.matchId(), row.receiverId()));
+        }
+        for (MatchReceiver row : notificationOutboxRepository.findPendingMatchReceivers(Notification.Type.MATCH_OFFERED)) {
+            offers.add(new OfferKey(row.matchId(), row.receiverId()));
+        }
+        return offers;
+    }
+
+    /**
+     * 기사 위치 격자 인덱스로 공차 반경 안 후보만 추려 행별 간선을 병렬 계산
+     * - 행마다 이익 상위 maxCandidatesPerTask 개만 유지
+     * - offer-cooldown 안에 이미 제안한 (매칭, 기사) 쌍은 제외
+     */
+    private SparseBenefitMatrix buildMatrix(List<DispatchTask> tasks, DriverTable drivers, Set<OfferKey> recentOffers) {
+        GeoGridIndex grid = new GeoGridIndex(cellSizeDeg);
+        for (int j = 0; j < drivers.size(); j++) {
+            grid.put(j, drivers.lat[j], drivers.lng[j]);
+        }
+
+        int rows = tasks.size();
+        int[][] rowCols = new int[rows][];
+        double[][] rowBenefits = new double[rows][];
+        IntStream.range(0, rows).parallel().forEach(i -> {
+            DispatchTask task = tasks.get(i);
+            ScheduleWindow window = driverScheduleRegistry.window(task.pickupAt(), task.deliveryAt());
+            CandidateBuffer buffer = new CandidateBuffer(maxCandidatesPerTask);
+            grid.forEachNear(task.originLat(), task.originLng(), costModel.maxDeadheadKm(), id -> {
+                int j = (int) id;
+                if (recentOffers.contains(new OfferKey(task.matchId(), drivers.ids[j]))) {
+                    return;
+                }
+                if (driverScheduleRegistry.conflicts(drivers.ids[j], window)) {
+                    return;
+                }
+                double deadhead = costModel.deadheadKm(task, drivers.lat[j], drivers.lng[j]);
+                double benefit = costModel.benefit(task, deadhead, drivers.capacityKg[j]);
+                if (!Double.isNaN(benefit)) {
+                    buffer.offer(j, benefit);
+                }
+            });
+            rowCols[i] = Arrays.copyOf(buffer.cols, buffer.size);
+            rowBenefits[i] = Arrays.copyOf(buffer.benefits, buffer.size);
+        });
+
+        int[] rowStart = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            rowStart[i + 1] = rowStart[i] + rowCols[i].length;
+        }
+        int[] colIdx = new int[rowStart[rows]];
+        double[] benefit = new double[rowStart[rows]];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(rowCols[i], 0, colIdx, rowStart[i], rowCols[i].length);
+            System.arraycopy(rowBenefits[i], 0, benefit, rowStart[i], rowBenefits[i].length);
+        }
+        return new SparseBenefitMatrix(rows, drivers.size(), rowStart, colIdx, benefit);
+    }
+
+    private record OfferKey(long matchId, long driverId) {
+    }
+
+    /** 이익 상위 k 개 후보 보관 (가득 차면 최솟값 교체) */
+    private static final class CandidateBuffer {
+        private final int[] cols;
+        private final double[] benefits;
+        private int size;
+
+        private CandidateBuffer(int capacity) {
+            this.cols = new int[capacity];
+            this.benefits = new double[capacity];
+        }
+
+        private void offer(int col, double benefit) {
+            if (size < cols.length) {
+                cols[size] = col;
+                benefits[size] = benefit;
+                size++;
+                return;
+            }
+            int min = 0;
+            for (int k = 1; k < size; k++) {
+                if (benefits[k] < benefits[min]) {
+                    min = k;
+                }
+            }
+            if (benefit > benefits[min]) {
+                cols[min] = col;
+                benefits[min] = benefit;
+            }
+        }
+    }
+
+    /** 기사별 1행 (차량이 여러 대면 적재한도가 가장 큰 차량 기준) */
+    private static final class DriverTable {
+        private final long[] ids;
+        private final double[] lat;
+        private final double[] lng;
+        private final double[] capacityKg;
+
+        private DriverTable(int size) {
+            this.ids = new long[size];
+            this.lat = new double[size];
+            this.lng = new double[size];
+            this.capacityKg = new double[size];
+        }
+
+        private static DriverTable of(List<DispatchDriver> rows) {
+            Map<Long, DispatchDriver> best = new LinkedHashMap<>();
+            for (DispatchDriver row : rows) {
+                if (!GeoUtils.isValid(row.lat(), row.lng())) {
+                    continue;
+                }
+                best.merge(row.driverId(), row, (a, b) -> a.capacityKg() >= b.capacityKg() ? a : b);
+            }
+            DriverTable table = new DriverTable(best.size());
+            int j = 0;
+            for (DispatchDriver driver : best.values()) {
+                table.ids[j] = driver.driverId();
+                table.lat[j] = driver.lat();
+                table.lng[j] = driver.lng();
+                table.capacityKg[j] = driver.capacityKg();
+                j++;
+            }
+            return table;
+        }
+
+        private int size() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.freight.backend.service;
+
+import com.freight.backend.repository.JobLockRepository;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다중 노드 주기 작업 잠금 (job_locks)
+ * - tryAcquire 성공한 노드만 실행, 긴 작업은 중간중간 renew 로 연장
+ * - 노드가 죽으면 ttl 이 지난 뒤 다른 노드가 가져감
+ */
+@Service
+public class JobLockService {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobLockRepository jobLockRepository;
+    private final String owner;
+
+    public JobLockService(JobLockRepository jobLockRepository) {
+        this.jobLockRepository = jobLockRepository;
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public boolean tryAcquire(String jobName, Duration ttl) {
+        jobLockRepository.insertIfAbsent(jobName, EPOCH);
+        return renew(jobName, ttl);
+    }
+
+    /** 내 잠금 연장. 이미 다른 노드가 가져갔으면 false */
+    public boolean renew(String jobName, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobLockRepository.acquire(jobName, owner, now.plus(ttl), now) == 1;
+    }
+
+    public void release(String jobName) {
+        jobLockRepository.release(jobName, owner, LocalDateTime.now());
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return host.length() > 60 ? host.substring(0, 60) : host;
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.freight.backend.service;
+
+import com.freight.backend.repository.NotificationArchiveRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 보관 구간 1개 처리 (복사 + 삭제를 한 트랜잭션으로)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationArchiveChunkService {
+
+    private final NotificationArchiveRepository archiveRepository;
+
+    /** @return 삭제(= 보관 완료)한 알림 수 */
+    @Transactional
+    public int archive(long fromId, long toId, LocalDateTime cutoff) {
+        archiveRepository.archiveWindow(fromId, toId, cutoff, LocalDateTime.now());
+        return archiveRepository.deleteArchivedWindow(fromId, toId);
+    }
+}
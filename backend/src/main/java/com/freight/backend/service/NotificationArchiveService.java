@@ -0,0 +1,199 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.notification.NotificationArchiveReport;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.NotificationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림 보관 작업: retention-days 가 지난 읽은 알림을 notifications_archive 로 옮겨 notifications 를 작게 유지
+ * - notification_id 순으로 chunk-size 개씩 구간을 나눠 구간마다 INSERT ... SELECT + DELETE (트랜잭션 1개)
+ * - 구간 끝 알림이 cutoff 이후에 만들어졌으면 그 뒤는 모두 최근 알림이므로 멈춤
+ * - 구간 사이에 쉬어 감: 처리에 걸린 시간 × (1 - duty-cycle) / duty-cycle, 최소 pause-ms
+ *   (쓰기량을 제한해 복제 지연이 쌓이지 않도록. 복제본 지연을 직접 재지는 않음)
+ * - 한 번에 max-rows-per-run 건까지만 옮기고 나머지는 다음 실행에서 처리
+ * - 여러 노드 중 job_locks 를 잡은 한 노드만 실행, 별도 스레드에서 돌아 다른 주기 작업을 막지 않음
+ */
+@Service
+public class NotificationArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationArchiveService.class);
+    private static final String JOB_NAME = "notification-archive";
+
+    private final NotificationArchiveChunkService chunkService;
+    private final NotificationRepository notificationRepository;
+    private final JobLockService jobLockService;
+    private final boolean enabled;
+    private final long retentionDays;
+    private final int chunkSize;
+    private final long maxRowsPerRun;
+    private final long pauseMs;
+    private final double dutyCycle;
+    private final Duration lockTtl;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "notification-archive-runner");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile NotificationArchiveReport lastReport;
+
+    public NotificationArchiveService(
+            NotificationArchiveChunkService chunkService,
+            NotificationRepository notificationRepository,
+            JobLockService jobLockService,
+            @Value("${notification.archive.enabled:true}") boolean enabled,
+            @Value("${notification.archive.retention-days:90}") long retentionDays,
+            @Value("${notification.archive.chunk-size:2000}") int chunkSize,
+            @Value("${notification.archive.max-rows-per-run:1000000}") long maxRowsPerRun,
+            @Value("${notification.archive.pause-ms:100}") long pauseMs,
+            @Value("${notification.archive.duty-cycle:0.5}") double dutyCycle,
+            @Value("${notification.archive.lock-ttl-seconds:300}") long lockTtlSeconds
+    ) {
+        this.chunkService = chunkService;
+        this.notificationRepository = notificationRepository;
+        this.jobLockService = jobLockService;
+        this.enabled = enabled;
+        this.retentionDays = Math.max(1, retentionDays);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRowsPerRun = Math.max(1, maxRowsPerRun);
+        this.pauseMs = Math.max(0, pauseMs);
+        this.dutyCycle = Math.min(1.0, Math.max(0.05, dutyCycle));
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+    }
+
+    @Scheduled(
+            initialDelayString = "${notification.archive.interval-ms:21600000}",
+            fixedDelayString = "${notification.archive.interval-ms:21600000}"
+    )
+    public void scheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            start();
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.NOTIFICATION_ARCHIVE_ALREADY_RUNNING) {
+                throw e;
+            }
+            log.debug("Notification archive skipped: already running");
+        }
+    }
+
+    /**
+     * 보관 작업 시작 (백그라운드). 이미 실행 중이면 NOTIFICATION_ARCHIVE_ALREADY_RUNNING
+     */
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorCode.NOTIFICATION_ARCHIVE_ALREADY_RUNNING);
+        }
+        if (!jobLockService.tryAcquire(JOB_NAME, lockTtl)) {
+            running.set(false);
+            throw new CustomException(ErrorCode.NOTIFICATION_ARCHIVE_ALREADY_RUNNING);
+        }
+        try {
+            runner.execute(() -> {
+                try {
+                    NotificationArchiveReport report = run();
+                    lastReport = report;
+                    log.info("Notification archive finished: archived={}, chunks={}, upToId={}, throttledMs={}, "
+                                    + "truncated={}, aborted={}",
+                            report.getArchived(), report.getChunks(), report.getScannedUpToId(),
+                            report.getThrottledMs(), report.isTruncated(), report.isAborted());
+                } catch (RuntimeException e) {
+                    log.error("Notification archive failed", e);
+                } finally {
+                    jobLockService.release(JOB_NAME);
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            jobLockService.release(JOB_NAME);
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public Optional<NotificationArchiveReport> lastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private NotificationArchiveReport run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoff = startedAt.minusDays(retentionDays);
+        long afterId = 0;
+        long chunks = 0;
+        long archived = 0;
+        long throttledMs = 0;
+        boolean truncated = false;
+        boolean aborted = false;
+
+        while (true) {
+            Long end = notificationRepository.findIdAtOffset(afterId, chunkSize - 1);
+            boolean lastWindow = end == null;
+            if (lastWindow) {
+                end = notificationRepository.findMaxId();
+                if (end == null || end <= afterId) {
+                    break;
+                }
+            }
+            LocalDateTime endCreatedAt = notificationRepository.findCreatedAtById(end);
+
+            long start = System.nanoTime();
+            archived += chunkService.archive(afterId, end, cutoff);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            afterId = end;
+            chunks++;
+
+            if (lastWindow || endCreatedAt == null || !endCreatedAt.isBefore(cutoff)) {
+                break;
+            }
+            if (archived >= maxRowsPerRun) {
+                truncated = true;
+                break;
+            }
+            if (!jobLockService.renew(JOB_NAME, lockTtl)) {
+                log.warn("Notification archive lock lost, stopping at notificationId={}", afterId);
+                aborted = true;
+                break;
+            }
+            long pause = Math.max(pauseMs, (long) (elapsedMs * (1 - dutyCycle) / dutyCycle));
+            if (pause > 0) {
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    aborted = true;
+                    break;
+                }
+                throttledMs += pause;
+            }
+        }
+
+        return NotificationArchiveReport.builder()
+                .owner(jobLockService.owner())
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .cutoff(cutoff)
+                .chunks(chunks)
+                .scannedUpToId(afterId)
+                .archived(archived)
+                .throttledMs(throttledMs)
+                .truncated(truncated)
+                .aborted(aborted)
+                .build();
+    }
+}
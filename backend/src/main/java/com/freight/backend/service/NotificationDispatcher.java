@@ -0,0 +1,209 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.notification.NotificationOutboxStatsResponse;
+import com.freight.backend.entity.NotificationOutbox;
+import com.freight.backend.http.LatencyHistogram;
+import com.freight.backend.notification.NotificationChannel;
+import com.freight.backend.notification.NotificationMessage;
+import com.freight.backend.repository.NotificationOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림 outbox 디스패처
+ * - 업무 트랜잭션 커밋 후 wakeUp, 그 외에는 poll-interval 마다 outbox 확인
+ * - batch-size 씩 notifications 배치 INSERT (트랜잭션 1회) → 푸시 채널에 묶음 전달 → outbox 행 삭제
+ * - 푸시 실패/서버 중단으로 남은 STORED 행은 주기 작업이 retry-delay 뒤 다시 전달 (최소 한 번), max-attempts 초과 시 버림
+ */
+@Service
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationOutboxRepository outboxRepository;
+    private final List<NotificationChannel> channels;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long retryDelaySeconds;
+    private final int maxAttempts;
+
+    private final BlockingQueue<Boolean> signal = new ArrayBlockingQueue<>(1);
+    private final LongAdder written = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder pushed = new LongAdder();
+    private final LongAdder pushRetried = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LatencyHistogram storeLag = new LatencyHistogram();
+    private final LatencyHistogram pushLag = new LatencyHistogram();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationDispatcher(
+            NotificationOutboxService outboxService,
+            NotificationOutboxRepository outboxRepository,
+            List<NotificationChannel> channels,
+            @Value("${notification.outbox.batch-size:500}") int batchSize,
+            @Value("${notification.outbox.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${notification.outbox.retry-delay-seconds:30}") long retryDelaySeconds,
+            @Value("${notification.outbox.max-attempts:5}") int maxAttempts
+    ) {
+        this.outboxService = outboxService;
+        this.outboxRepository = outboxRepository;
+        this.channels = channels;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalMs = Math.max(10, pollIntervalMs);
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /** outbox 기록 커밋 후 호출: 대기 중인 워커를 바로 깨움 */
+    public void wakeUp(int count) {
+        written.add(count);
+        signal.offer(Boolean.TRUE);
+    }
+
+    public NotificationOutboxStatsResponse stats() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt(NotificationOutbox.Status.PENDING);
+        return NotificationOutboxStatsResponse.builder()
+                .written(written.sum())
+                .stored(stored.sum())
+                .pushed(pushed.sum())
+                .pushRetried(pushRetried.sum())
+                .dropped(dropped.sum())
+                .pendingBacklog(outboxRepository.countByStatus(NotificationOutbox.Status.PENDING))
+                .storedBacklog(outboxRepository.countByStatus(NotificationOutbox.Status.STORED))
+                .oldestPendingAgeMs(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .storeLagP50Ms(storeLag.percentileMs(0.50))
+                .storeLagP95Ms(storeLag.percentileMs(0.95))
+                .storeLagP99Ms(storeLag.percentileMs(0.99))
+                .pushLagP50Ms(pushLag.percentileMs(0.50))
+                .pushLagP95Ms(pushLag.percentileMs(0.95))
+                .pushLagP99Ms(pushLag.percentileMs(0.99))
+                .channels(channels.size())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /** 푸시가 끝나지 않은 STORED 행 재전달 */
+    @Scheduled(fixedDelayString = "${notification.outbox.retry-interval-ms:10000}")
+    public void retryStored() {
+        if (!running) {
+            return;
+        }
+        try {
+            List<NotificationOutbox> rows;
+            do {
+                rows = outboxService.claimStaleStored(LocalDateTime.now().minusSeconds(retryDelaySeconds), batchSize);
+                if (rows.isEmpty()) {
+                    return;
+                }
+                List<NotificationOutbox> retry = new ArrayList<>(rows.size());
+                List<Long> giveUp = new ArrayList<>();
+                for (NotificationOutbox row : rows) {
+                    if (row.getAttempts() >= maxAttempts) {
+                        giveUp.add(row.getId());
+                    } else {
+                        retry.add(row);
+                    }
+                }
+                if (!giveUp.isEmpty()) {
+                    outboxRepository.deleteByIdIn(giveUp);
+                    dropped.add(giveUp.size());
+                    log.warn("Dropped {} notification pushes after {} attempts", giveUp.size(), maxAttempts);
+                }
+                pushRetried.add(retry.size());
+                push(retry);
+            } while (rows.size() == batchSize && running);
+        } catch (RuntimeException e) {
+            log.error("Notification push retry failed", e);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                signal.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                drain();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // outbox 에 그대로 남아 다음 주기에 다시 처리
+                log.error("Notification outbox drain failed", e);
+            }
+        }
+    }
+
+    private void drain() {
+        List<NotificationOutbox> rows;
+        do {
+            rows = outboxService.storePending(batchSize);
+            if (rows.isEmpty()) {
+                return;
+            }
+            stored.add(rows.size());
+            LocalDateTime now = LocalDateTime.now();
+            for (NotificationOutbox row : rows) {
+                storeLag.record(lagNanos(row, now));
+            }
+            push(rows);
+        } while (rows.size() == batchSize && running);
+    }
+
+    /** 모든 채널에 전달되면 outbox 행 삭제. 하나라도 실패하면 남겨 두고 재시도 */
+    private void push(List<NotificationOutbox> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<NotificationMessage> messages = rows.stream().map(NotificationMessage::from).toList();
+        for (NotificationChannel channel : channels) {
+            try {
+                channel.deliver(messages);
+            } catch (RuntimeException e) {
+                log.warn("Notification channel {} failed for {} messages: {}", channel.name(), messages.size(), e.toString());
+                return;
+            }
+        }
+        outboxRepository.deleteByIdIn(rows.stream().map(NotificationOutbox::getId).toList());
+        pushed.add(rows.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationOutbox row : rows) {
+            pushLag.record(lagNanos(row, now));
+        }
+    }
+
+    private static long lagNanos(NotificationOutbox row, LocalDateTime now) {
+        return Math.max(0, Duration.between(row.getCreatedAt(), now).toNanos());
+    }
+}
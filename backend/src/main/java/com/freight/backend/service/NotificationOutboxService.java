@@ -0,0 +1,54 @@
+package com.freight.backend.service;
+
+import com.freight.backend.common.TransactionCallbacks;
+import com.freight.backend.entity.NotificationOutbox;
+import com.freight.backend.notification.UnreadCountCache;
+import com.freight.backend.repository.NotificationOutboxRepository;
+import com.freight.backend.repository.NotificationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 outbox 단계별 트랜잭션 (NotificationDispatcher 에서 호출)
+ * - 행 잠금(SKIP LOCKED)으로 여러 노드가 같은 행을 동시에 처리하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UnreadCountCache unreadCountCache;
+
+    /** PENDING 최대 limit 건을 notifications 에 배치 INSERT 후 STORED 로 (같은 트랜잭션), 커밋 후 안 읽은 수 증가 */
+    @Transactional
+    public List<NotificationOutbox> storePending(int limit) {
+        List<NotificationOutbox> rows = outboxRepository.lockPending(limit);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        notificationRepository.insertAll(rows.stream().map(NotificationOutbox::toNotification).toList());
+        outboxRepository.markStored(rows.stream().map(NotificationOutbox::getId).toList(),
+                NotificationOutbox.Status.STORED, LocalDateTime.now());
+        Map<Long, Long> perReceiver = rows.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getReceiverId, Collectors.counting()));
+        TransactionCallbacks.afterCommit(() -> perReceiver.forEach(unreadCountCache::increment));
+        return rows;
+    }
+
+    /** 푸시가 끝나지 않은 STORED 행 재선점 (storedAt 갱신 + 시도 횟수 증가) */
+    @Transactional
+    public List<NotificationOutbox> claimStaleStored(LocalDateTime storedBefore, int limit) {
+        List<NotificationOutbox> rows = outboxRepository.lockStaleStored(storedBefore, limit);
+        if (!rows.isEmpty()) {
+            outboxRepository.markStored(rows.stream().map(NotificationOutbox::getId).toList(),
+                    NotificationOutbox.Status.STORED, LocalDateTime.now());
+        }
+        return rows;
+    }
+}
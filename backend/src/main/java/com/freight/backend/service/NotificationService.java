@@ -1,14 +1,27 @@
 package com.freight.backend.service;
 
+import com.freight.backend.common.TransactionCallbacks;
+import com.freight.backend.dto.notification.NotificationInboxResponse;
+import com.freight.backend.dto.notification.NotificationReadRequest;
+import com.freight.backend.dto.notification.NotificationReadResponse;
 import com.freight.backend.dto.notification.NotificationResponse;
 import com.freight.backend.dto.notification.UnreadCountResponse;
 import com.freight.backend.entity.Notification;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.notification.BroadcastIndex;
+import com.freight.backend.notification.UnreadCountCache;
+import com.freight.backend.repository.NotificationOutboxRepository;
 import com.freight.backend.repository.NotificationRepository;
+import com.freight.backend.repository.projection.AnnouncementBroadcast;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,8 +29,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadCountCache unreadCountCache;
+    private final BroadcastIndex broadcastIndex;
+    private final AnnouncementReadMarkService announcementReadMarkService;
 
+    /**
+     * 알림 1건을 outbox 에 기록 (호출한 업무 트랜잭션과 함께 커밋, 저장/푸시는 NotificationDispatcher)
+     */
     @Transactional
     public void createNotification(Long receiverId, Long matchId, Notification.Type type, String message) {
         Notification notification = Notification.builder()
@@ -26,21 +49,100 @@ public class NotificationService {
                 .type(type)
                 .message(message)
                 .build();
-        notificationRepository.save(notification);
+        createNotifications(List.of(notification));
+    }
+
+    /**
+     * 알림 여러 건을 outbox 에 배치 INSERT (일괄 배차 제안, 묶음 수락 등)
+     */
+    @Transactional
+    public void createNotifications(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
+        }
+        notificationOutboxRepository.insertAll(notifications);
+        int count = notifications.size();
+        TransactionCallbacks.afterCommit(() -> notificationDispatcher.wakeUp(count));
     }
 
+    /**
+     * 최근 알림 MAX_PAGE_SIZE 건 (이전 버전 호환용, 전체 이력은 getInbox 로 페이지 조회)
+     */
     @Transactional(readOnly = true)
     public List<NotificationResponse> getMyNotifications(Long receiverId) {
-        return notificationRepository.findByReceiverIdOrderByCreatedAtDesc(receiverId)
+        return notificationRepository.findInbox(receiverId, PageRequest.of(0, MAX_PAGE_SIZE))
                 .stream()
                 .map(NotificationResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 알림함 키셋 페이지 (최근 순). cursor 가 없으면 첫 페이지
+     * - 내 알림과 게시된 공지(BroadcastIndex)를 시각 순으로 합침. 공지는 읽음 위치 이후 게시된 것만 isRead=false
+     */
     @Transactional(readOnly = true)
-    public UnreadCountResponse getUnreadCount(Long receiverId) {
-        long count = notificationRepository.countByReceiverIdAndIsReadFalse(receiverId);
-        return UnreadCountResponse.of(count);
+    public NotificationInboxResponse getInbox(Long receiverId, String userRole, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Cursor c = cursor == null || cursor.isBlank() ? Cursor.START : Cursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Notification> rows = c.notificationAt() == null
+                ? notificationRepository.findInbox(receiverId, page)
+                : notificationRepository.findInboxBefore(receiverId, c.notificationAt(), c.notificationId(), page);
+        List<AnnouncementBroadcast> broadcasts = broadcastIndex.page(c.announcementAt(), c.announcementId(), limit + 1);
+        LocalDateTime watermark = announcementReadMarkService.watermark(userRole, receiverId);
+
+        List<NotificationResponse> content = new ArrayList<>(limit);
+        int ni = 0;
+        int ai = 0;
+        Cursor next = c;
+        while (content.size() < limit && (ni < rows.size() || ai < broadcasts.size())) {
+            boolean takeNotification = ai >= broadcasts.size()
+                    || (ni < rows.size() && !rows.get(ni).getCreatedAt().isBefore(broadcasts.get(ai).publishedAt()));
+            if (takeNotification) {
+                Notification n = rows.get(ni++);
+                content.add(NotificationResponse.from(n));
+                next = next.withNotification(n.getCreatedAt(), n.getId());
+            } else {
+                AnnouncementBroadcast b = broadcasts.get(ai++);
+                content.add(NotificationResponse.from(b, !b.publishedAt().isAfter(watermark)));
+                next = next.withAnnouncement(b.publishedAt(), b.announcementId());
+            }
+        }
+        boolean hasNext = ni < rows.size() || ai < broadcasts.size();
+        return NotificationInboxResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? next.encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 배지 폴링용: 메모리 카운터 + 읽음 위치 이후 게시된 공지 수 (수신자별 첫 조회만 DB)
+     */
+    public UnreadCountResponse getUnreadCount(Long receiverId, String userRole) {
+        return UnreadCountResponse.of(unreadCountCache.get(receiverId), unreadAnnouncements(receiverId, userRole));
+    }
+
+    /**
+     * 공지 읽음 처리: upToAnnouncementId 공지(없으면 가장 최근 공지)까지 게시된 공지 전부
+     */
+    public UnreadCountResponse markAnnouncementsRead(Long userId, String userRole, Long upToAnnouncementId) {
+        LocalDateTime readUpTo;
+        if (upToAnnouncementId == null) {
+            readUpTo = broadcastIndex.latestPublishedAt();
+        } else {
+            readUpTo = broadcastIndex.find(upToAnnouncementId)
+                    .map(AnnouncementBroadcast::publishedAt)
+                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+        }
+        if (readUpTo != null) {
+            announcementReadMarkService.advance(userRole, userId, readUpTo);
+        }
+        return getUnreadCount(userId, userRole);
+    }
+
+    private long unreadAnnouncements(Long userId, String userRole) {
+        return broadcastIndex.countPublishedAfter(announcementReadMarkService.watermark(userRole, userId));
     }
 
     @Transactional
@@ -50,7 +152,79 @@ public class NotificationService {
         if (!notification.getReceiverId().equals(receiverId)) {
             throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
         }
-        notification.markRead();
-        notificationRepository.save(notification);
+        if (notificationRepository.markReadIfUnread(notificationId) == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> unreadCountCache.decrement(receiverId, 1));
+    }
+
+    /**
+     * 일괄 읽음 처리 (ID 목록 또는 upToId 이하 전부, UPDATE 1회)
+     */
+    @Transactional
+    public NotificationReadResponse markReadBulk(Long receiverId, String userRole, NotificationReadRequest req) {
+        boolean byIds = req.getNotificationIds() != null && !req.getNotificationIds().isEmpty();
+        if (byIds == (req.getUpToId() != null)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        // UPDATE 전에 읽어야 처음 채우는 경우에도 아래 감소와 겹치지 않음
+        long unread = unreadCountCache.get(receiverId);
+        int updated = byIds
+                ? notificationRepository.markReadByIds(receiverId, req.getNotificationIds())
+                : notificationRepository.markReadUpTo(receiverId, req.getUpToId());
+        if (updated > 0) {
+            TransactionCallbacks.afterCommit(() -> unreadCountCache.decrement(receiverId, updated));
+            unread = Math.max(0, unread - updated);
+        }
+        return NotificationReadResponse.builder()
+                .updated(updated)
+                .unreadCount(unread + unreadAnnouncements(receiverId, userRole))
+                .build();
+    }
+
+    /**
+     * 알림함 커서: 알림/공지 각각 마지막으로 내려준 위치 (시각, ID). base64url 로 감쌈
+     */
+    private record Cursor(LocalDateTime notificationAt, Long notificationId,
+                          LocalDateTime announcementAt, Long announcementId) {
+
+        static final Cursor START = new Cursor(null, null, null, null);
+
+        Cursor withNotification(LocalDateTime at, Long id) {
+            return new Cursor(at, id, announcementAt, announcementId);
+        }
+
+        Cursor withAnnouncement(LocalDateTime at, Long id) {
+            return new Cursor(notificationAt, notificationId, at, id);
+        }
+
+        String encode() {
+            String raw = part(notificationAt, notificationId) + "~" + part(announcementAt, announcementId);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('~');
+                String n = raw.substring(0, sep);
+                String a = raw.substring(sep + 1);
+                return new Cursor(at(n), id(n), at(a), id(a));
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+        }
+
+        private static String part(LocalDateTime at, Long id) {
+            return at == null ? "" : at + "_" + id;
+        }
+
+        private static LocalDateTime at(String part) {
+            return part.isEmpty() ? null : LocalDateTime.parse(part.substring(0, part.lastIndexOf('_')));
+        }
+
+        private static Long id(String part) {
+            return part.isEmpty() ? null : Long.parseLong(part.substring(part.lastIndexOf('_') + 1));
+        }
     }
 }
@@ -0,0 +1,193 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.notification.NotificationResponse;
+import com.freight.backend.entity.Notification;
+import com.freight.backend.notification.NotificationStreamRegistry;
+import com.freight.backend.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 실시간 알림 스트림 (SSE)
+ * - 노드마다 tail 스레드 1개가 notifications 를 ID 순으로 따라가며 이 노드에 연결된 수신자에게만 전송
+ *   (어느 노드가 저장했든 모든 노드가 보게 됨, 쿼리는 연결 수와 무관하게 노드당 1개)
+ * - auto-increment ID 는 커밋 순서가 아니라서 (먼저 번호를 받은 트랜잭션이 늦게 커밋) 빈 번호가 있으면
+ *   그 아래(floor)부터 다시 읽음. 빈 번호는 commit-grace-ms 동안 기다린 뒤 건너뜀 (롤백된 번호)
+ * - 이 노드에서 저장된 알림은 SseNotificationChannel 이 tail 을 바로 깨워 커밋 직후 전송, 다른 노드 것은 tail-interval-ms 이내
+ * - 재연결 시 Last-Event-ID 이후 알림을 replay-limit 건까지 다시 보냄 (그보다 오래된 것은 알림함 조회)
+ * - 연결이 없는 동안에는 DB 를 읽지 않음 (다시 연결되면 첫 연결 직전의 최대 ID 부터 따라감)
+ */
+@Service
+public class NotificationStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStreamService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationStreamRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final long tailIntervalMs;
+    private final int batchSize;
+    private final int replayLimit;
+    private final long commitGraceMs;
+
+    private final BlockingQueue<Boolean> signal = new ArrayBlockingQueue<>(1);
+    /** 연결 직전에 읽은 최대 ID 중 가장 작은 값 (tail 재시작 지점, 없으면 Long.MAX_VALUE) */
+    private final AtomicLong startHint = new AtomicLong(Long.MAX_VALUE);
+    private volatile boolean running;
+    private Thread tail;
+    // 아래는 tail 스레드만 사용
+    /** 이 ID 까지는 모두 처리 (빈 번호 포함) */
+    private long floor;
+    /** floor 위에서 이미 전송한 알림 ID → 처음 읽은 시각(ms). 앞에 빈 번호가 있어 floor 를 못 올린 것들 */
+    private final TreeMap<Long, Long> seenAboveFloor = new TreeMap<>();
+    private boolean stale = true;
+
+    public NotificationStreamService(
+            NotificationRepository notificationRepository,
+            NotificationStreamRegistry registry,
+            ObjectMapper objectMapper,
+            @Value("${notification.stream.tail-interval-ms:1000}") long tailIntervalMs,
+            @Value("${notification.stream.batch-size:500}") int batchSize,
+            @Value("${notification.stream.replay-limit:100}") int replayLimit,
+            @Value("${notification.stream.commit-grace-ms:10000}") long commitGraceMs
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.tailIntervalMs = Math.max(10, tailIntervalMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.replayLimit = Math.max(0, replayLimit);
+        this.commitGraceMs = Math.max(0, commitGraceMs);
+    }
+
+    /**
+     * 스트림 연결
+     * @param lastEventId 마지막으로 받은 notificationId (Last-Event-ID), 없으면 지금부터
+     */
+    public SseEmitter connect(Long receiverId, Long lastEventId) {
+        // 등록 전에 읽어야 tail 이 (재)시작할 때 등록~시작 사이에 저장된 알림을 빠뜨리지 않음
+        Long maxId = notificationRepository.findMaxId();
+        startHint.accumulateAndGet(maxId == null ? 0 : maxId, Math::min);
+        NotificationStreamRegistry.Connection connection =
+                registry.open(receiverId, lastEventId == null ? 0 : lastEventId);
+        signal.offer(Boolean.TRUE);
+        try {
+            if (lastEventId != null && replayLimit > 0) {
+                List<Notification> missed = notificationRepository.findByReceiverIdAndIdGreaterThanOrderByIdAsc(
+                        receiverId, lastEventId, PageRequest.of(0, replayLimit));
+                for (Notification n : missed) {
+                    connection.replay(toFrame(n));
+                }
+            }
+        } finally {
+            connection.finishReplay();
+        }
+        return connection.emitter();
+    }
+
+    /** 이 노드에서 알림이 저장된 직후 호출 */
+    public void wakeUp() {
+        signal.offer(Boolean.TRUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        tail = new Thread(this::runTail, "notification-stream-tail");
+        tail.setDaemon(true);
+        tail.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (tail != null) {
+            tail.interrupt();
+        }
+    }
+
+    private void runTail() {
+        while (running) {
+            try {
+                signal.poll(tailIntervalMs, TimeUnit.MILLISECONDS);
+                if (registry.isEmpty()) {
+                    stale = true;
+                    continue;
+                }
+                long hint = startHint.getAndSet(Long.MAX_VALUE);
+                if (stale) {
+                    if (hint == Long.MAX_VALUE) {
+                        Long maxId = notificationRepository.findMaxId();
+                        hint = maxId == null ? 0 : maxId;
+                    }
+                    floor = hint;
+                    seenAboveFloor.clear();
+                    stale = false;
+                }
+                drain();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Notification stream tail failed: {}", e.toString());
+            }
+        }
+    }
+
+    private void drain() {
+        long now = System.currentTimeMillis();
+        long after = floor;
+        List<Notification> rows;
+        do {
+            rows = notificationRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, batchSize));
+            for (Notification n : rows) {
+                after = n.getId();
+                if (seenAboveFloor.putIfAbsent(n.getId(), now) != null) {
+                    continue;
+                }
+                if (registry.isConnected(n.getReceiverId())) {
+                    registry.publish(toFrame(n));
+                }
+            }
+        } while (rows.size() == batchSize && running);
+        advanceFloor(now);
+    }
+
+    /** 앞이 빈틈없이 이어졌거나 빈 번호를 commit-grace-ms 넘게 기다린 ID 까지 floor 를 올림 */
+    private void advanceFloor(long now) {
+        Iterator<Map.Entry<Long, Long>> it = seenAboveFloor.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Long> entry = it.next();
+            if (entry.getKey() != floor + 1 && now - entry.getValue() < commitGraceMs) {
+                return;
+            }
+            floor = entry.getKey();
+            it.remove();
+        }
+    }
+
+    private NotificationStreamRegistry.Frame toFrame(Notification n) {
+        return new NotificationStreamRegistry.Frame(
+                n.getId(),
+                n.getReceiverId(),
+                objectMapper.writeValueAsString(NotificationResponse.from(n)),
+                n.getCreatedAt()
+        );
+    }
+}
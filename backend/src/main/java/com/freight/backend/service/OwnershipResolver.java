@@ -0,0 +1,102 @@
+package com.freight.backend.service;
+
+import com.freight.backend.entity.CounterOffer;
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Payment;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.CounterOfferRepository;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.repository.projection.CounterOfferOwnership;
+import com.freight.backend.repository.projection.MatchOwnership;
+import com.freight.backend.repository.projection.MatchWithQuote;
+import com.freight.backend.repository.projection.PaymentOwnership;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 소유권(권한) 확인
+ * - 대상 엔티티와 견적 소유 화주 / 수락 기사 ID를 조인 1회로 조회해서 검사
+ * - 호출 측 트랜잭션 안에서 쓰면 반환 엔티티는 영속 상태
+ */
+@Service
+@RequiredArgsConstructor
+public class OwnershipResolver {
+
+    private final MatchRepository matchRepository;
+    private final PaymentRepository paymentRepository;
+    private final CounterOfferRepository counterOfferRepository;
+
+    /** 견적 소유 화주(ROLE_SHIPPER) 또는 수락한 기사(ROLE_DRIVER)만 조회 가능한 매칭 */
+    public Match requireMatchParticipant(Long matchId, Long userId, String role) {
+        MatchOwnership ownership = matchRepository.findOwnership(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        if (!isParticipant(ownership.shipperId(), ownership.driverId(), userId, role)) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return ownership.match();
+    }
+
+    /** 견적 소유 화주 또는 수락한 기사만 변경 가능한 매칭 + 견적 */
+    public MatchWithQuote requireMatchWithQuoteParticipant(Long matchId, Long userId, String role) {
+        MatchWithQuote matchWithQuote = matchRepository.findWithQuote(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        Long shipperId = matchWithQuote.quote().getShipperId();
+        Long driverId = matchWithQuote.match().getDriverId();
+        if (!isParticipant(shipperId, driverId, userId, role)) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return matchWithQuote;
+    }
+
+    /** 해당 매칭 견적의 소유 화주인지 확인 */
+    public Match requireShipperOwnsMatch(Long matchId, Long shipperId) {
+        MatchOwnership ownership = matchRepository.findOwnership(matchId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
+        if (!ownership.shipperId().equals(shipperId)) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return ownership.match();
+    }
+
+    /** 결제 ID로 조회, 해당 결제 매칭 견적의 소유 화주만 가능 */
+    public Payment requireShipperOwnsPayment(Long paymentId, Long shipperId) {
+        PaymentOwnership ownership = paymentRepository.findOwnershipById(paymentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+        return requireShipper(ownership, shipperId);
+    }
+
+    /** 주문번호(orderId)로 조회, 해당 결제 매칭 견적의 소유 화주만 가능 */
+    public Payment requireShipperOwnsPaymentByOrderNo(String orderNo, Long shipperId) {
+        PaymentOwnership ownership = paymentRepository.findOwnershipByOrderNo(orderNo)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+        return requireShipper(ownership, shipperId);
+    }
+
+    /** 역제안 대상 견적의 소유 화주만 가능 */
+    public CounterOffer requireShipperOwnsCounterOffer(Long offerId, Long shipperId) {
+        CounterOfferOwnership ownership = counterOfferRepository.findOwnership(offerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+        if (!ownership.shipperId().equals(shipperId)) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return ownership.offer();
+    }
+
+    private Payment requireShipper(PaymentOwnership ownership, Long shipperId) {
+        if (!ownership.shipperId().equals(shipperId)) {
+            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        return ownership.payment();
+    }
+
+    private static boolean isParticipant(Long shipperId, Long driverId, Long userId, String role) {
+        if (userId == null) {
+            return false;
+        }
+        boolean isShipperOwner = "ROLE_SHIPPER".equals(role) && userId.equals(shipperId);
+        boolean isMatchedDriver = "ROLE_DRIVER".equals(role) && userId.equals(driverId);
+        return isShipperOwner || isMatchedDriver;
+    }
+}
@@ -0,0 +1,238 @@
+package com.freight.backend.service;
+
+import com.freight.backend.common.WorkerThreads;
+import com.freight.backend.dto.payment.PaymentReconcileReport;
+import com.freight.backend.entity.Payment;
+import com.freight.backend.entity.Payment.PaymentStatus;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.tosspayments.TossPaymentConfirmResponse;
+import com.freight.backend.tosspayments.TossPaymentsClient;
+import com.freight.backend.tosspayments.TossStatusChange;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * 결제 대사 (토스 상태와 DB 결제 상태 맞추기)
+ * - 대상: 오래된 PENDING/CONFIRMING, 최근 FAILED (실패 처리했지만 실제 청구된 경우)
+ * - paymentId keyset 으로 chunk-size 씩 읽고, chunk 마다 토스 조회를 concurrency 개씩 병렬 → 상태 반영 트랜잭션 1회
+ * - job_locks 로 다중 노드 중 한 노드만 실행, chunk 마다 잠금 연장
+ * - 잠금 owner 는 노드 단위라 같은 노드 안의 중복 실행(주기 실행 + 관리자 실행)은 running 플래그로 막음
+ * - 실행은 전용 스레드 1개에서 (요청/스케줄러 스레드를 붙잡지 않음)
+ */
+@Service
+public class PaymentReconcileService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconcileService.class);
+    private static final String JOB_NAME = "payment-reconcile";
+    private static final List<PaymentStatus> TARGET_STATUSES =
+            List.of(PaymentStatus.PENDING, PaymentStatus.CONFIRMING, PaymentStatus.FAILED);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentTransitionService paymentTransitionService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final JobLockService jobLockService;
+    private final ExecutorService lookupExecutor;
+    private final int chunkSize;
+    private final Duration staleAfter;
+    private final Duration lookback;
+    private final Duration lockTtl;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "payment-reconcile-runner");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile PaymentReconcileReport lastReport;
+
+    public PaymentReconcileService(
+            PaymentRepository paymentRepository,
+            PaymentTransitionService paymentTransitionService,
+            TossPaymentsClient tossPaymentsClient,
+            JobLockService jobLockService,
+            WorkerThreads workerThreads,
+            @Value("${toss.payments.reconcile.concurrency:8}") int concurrency,
+            @Value("${toss.payments.reconcile.chunk-size:200}") int chunkSize,
+            @Value("${toss.payments.reconcile.stale-after-minutes:30}") long staleAfterMinutes,
+            @Value("${toss.payments.reconcile.lookback-days:7}") long lookbackDays,
+            @Value("${toss.payments.reconcile.lock-ttl-seconds:300}") long lockTtlSeconds
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.paymentTransitionService = paymentTransitionService;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.jobLockService = jobLockService;
+        this.lookupExecutor = Executors.newFixedThreadPool(Math.max(1, concurrency),
+                workerThreads.io("payment-reconcile"));
+        this.chunkSize = Math.max(1, chunkSize);
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+        this.lookback = Duration.ofDays(lookbackDays);
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+    }
+
+    /**
+     * 대사 시작 (백그라운드, 결과는 lastReport). 이 노드나 다른 노드에서 실행 중이면 RECONCILE_ALREADY_RUNNING
+     */
+    public void start() {
+        if (!tossPaymentsClient.isConfigured()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorCode.RECONCILE_ALREADY_RUNNING);
+        }
+        if (!jobLockService.tryAcquire(JOB_NAME, lockTtl)) {
+            running.set(false);
+            throw new CustomException(ErrorCode.RECONCILE_ALREADY_RUNNING);
+        }
+        try {
+            runner.execute(() -> {
+                try {
+                    PaymentReconcileReport report = reconcile();
+                    lastReport = report;
+                    log.info("Payment reconcile finished: scanned={}, completed={}, failed={}, refunded={}, "
+                                    + "unchanged={}, lookupFailed={}, aborted={}",
+                            report.getScanned(), report.getCompleted(), report.getFailed(), report.getRefunded(),
+                            report.getUnchanged(), report.getLookupFailed(), report.isAborted());
+                } catch (RuntimeException e) {
+                    log.error("Payment reconcile failed", e);
+                } finally {
+                    jobLockService.release(JOB_NAME);
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            jobLockService.release(JOB_NAME);
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public Optional<PaymentReconcileReport> lastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private PaymentReconcileReport reconcile() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime createdFrom = startedAt.minus(lookback);
+        LocalDateTime createdTo = startedAt.minus(staleAfter);
+
+        long scanned = 0;
+        long lookupFailed = 0;
+        long completed = 0;
+        long failed = 0;
+        long refunded = 0;
+        long unchanged = 0;
+        boolean aborted = false;
+
+        long afterId = 0;
+        while (true) {
+            List<Payment> chunk = paymentRepository.findReconcileChunk(
+                    afterId, TARGET_STATUSES, createdFrom, createdTo, PageRequest.of(0, chunkSize)
+            );
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getPaymentId();
+            scanned += chunk.size();
+
+            // 토스 조회 (트랜잭션 밖, 병렬)
+            List<CompletableFuture<Optional<TossStatusChange>>> lookups = chunk.stream()
+                    .map(p -> CompletableFuture.supplyAsync(() -> lookup(p), lookupExecutor)
+                            .exceptionally(e -> null))
+                    .toList();
+
+            List<TossStatusChange> changes = new ArrayList<>();
+            for (CompletableFuture<Optional<TossStatusChange>> lookup : lookups) {
+                Optional<TossStatusChange> change = lookup.join();
+                if (change == null) {
+                    lookupFailed++;
+                } else if (change.isPresent()) {
+                    changes.add(change.get());
+                } else {
+                    unchanged++;
+                }
+            }
+
+            if (!changes.isEmpty()) {
+                List<Boolean> applied = paymentTransitionService.applyTossStatuses(changes);
+                for (int i = 0; i < applied.size(); i++) {
+                    if (!applied.get(i)) {
+                        unchanged++;
+                        continue;
+                    }
+                    switch (changes.get(i).status().toUpperCase()) {
+                        case "DONE" -> completed++;
+                        case "CANCELED" -> refunded++;
+                        default -> failed++;
+                    }
+                }
+            }
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            if (!jobLockService.renew(JOB_NAME, lockTtl)) {
+                log.warn("Payment reconcile lock lost, stopping at paymentId={}", afterId);
+                aborted = true;
+                break;
+            }
+        }
+
+        return PaymentReconcileReport.builder()
+                .owner(jobLockService.owner())
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .scanned(scanned)
+                .lookupFailed(lookupFailed)
+                .completed(completed)
+                .failed(failed)
+                .refunded(refunded)
+                .unchanged(unchanged)
+                .aborted(aborted)
+                .build();
+    }
+
+    /**
+     * 토스 기준 상태. 반영할 게 없으면 empty, 조회 실패 시 예외
+     * - 토스에 주문이 없으면: 결제창에서 인증 전에 이탈한 결제 → EXPIRED 로 처리
+     */
+    private Optional<TossStatusChange> lookup(Payment payment) {
+        if (payment.getOrderNo() == null) {
+            return Optional.empty();
+        }
+        TossPaymentConfirmResponse tossPayment;
+        try {
+            tossPayment = tossPaymentsClient.getPaymentByOrderId(payment.getOrderNo());
+        } catch (HttpClientErrorException.NotFound e) {
+            if (payment.getStatus() == PaymentStatus.FAILED) {
+                return Optional.empty();
+            }
+            return Optional.of(new TossStatusChange(payment.getOrderNo(), null, "EXPIRED", null, null));
+        }
+        if (tossPayment == null || tossPayment.getStatus() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(TossStatusChange.from(tossPayment));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+        lookupExecutor.shutdownNow();
+    }
+}
@@ -8,11 +8,9 @@ import com.freight.backend.entity.Payment;
 import com.freight.backend.entity.Payment.PaymentMethod;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
-import com.freight.backend.entity.Match;
-import com.freight.backend.entity.Quote;
-import com.freight.backend.repository.MatchRepository;
 import com.freight.backend.repository.PaymentRepository;
-import com.freight.backend.repository.QuoteRepository;
+import com.freight.backend.tosspayments.TossConfirmExecutor;
+import com.freight.backend.tosspayments.TossConfirmOutcome;
 import com.freight.backend.tosspayments.TossPaymentConfirmResponse;
 import com.freight.backend.tosspayments.TossPaymentsClient;
 import jakarta.transaction.Transactional;
@@ -21,45 +19,49 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
 /**
  * 결제 서비스
- * - 토스 결제 준비/승인, 조회
+ * - 토스 결제 준비/승인, 조회, 승인 결과 미반영 결제 복구
  */
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
+
     private final PaymentRepository paymentRepository;
-    private final MatchRepository matchRepository;
-    private final QuoteRepository quoteRepository;
     private final TossPaymentsClient tossPaymentsClient;
+    private final TossConfirmExecutor tossConfirmExecutor;
+    private final PaymentTransitionService paymentTransitionService;
+    private final OwnershipResolver ownershipResolver;
 
     @Value("${toss.payments.client-key:}")
     private String clientKey;
 
+    @Value("${toss.payments.confirm.recovery.stale-after-seconds:60}")
+    private long recoveryStaleAfterSeconds;
+
+    @Value("${toss.payments.confirm.recovery.batch-size:100}")
+    private int recoveryBatchSize;
+
     /**
      * 해당 매칭의 견적을 만든 화주만 결제 가능.
-     * matchId → Match → Quote → shipperId와 요청자 shipperId 일치 여부 검사.
+     * Match ⋈ Quote 조인 1회로 shipperId와 요청자 shipperId 일치 여부 검사.
      */
     private void ensureShipperOwnsMatch(Long matchId, Long shipperId) {
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MATCH_NOT_FOUND));
-        Quote quote = quoteRepository.findById(match.getQuoteId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-        if (!quote.getShipperId().equals(shipperId)) {
-            throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
-        }
+        ownershipResolver.requireShipperOwnsMatch(matchId, shipperId);
     }
 
     /** 결제 단건 조회 (해당 결제의 매칭 견적 소유 화주만 가능) */
     @Transactional
     public PaymentResponse getById(Long paymentId, Long shipperId) {
-        Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
-        ensureShipperOwnsMatch(payment.getMatchId(), shipperId);
+        Payment payment = ownershipResolver.requireShipperOwnsPayment(paymentId, shipperId);
         return PaymentResponse.from(payment);
     }
 
@@ -75,19 +77,7 @@ public class PaymentService {
     /** 화주가 결제한 결제 목록 조회 (본인 견적의 매칭에 대한 모든 결제, 최신순) */
     @Transactional
     public List<PaymentResponse> getShipperPayments(Long shipperId) {
-        List<Long> quoteIds = quoteRepository.findByShipperId(shipperId).stream()
-                .map(Quote::getQuoteId)
-                .collect(Collectors.toList());
-        if (quoteIds.isEmpty()) {
-            return List.of();
-        }
-        List<Long> matchIds = matchRepository.findByQuoteIdIn(quoteIds).stream()
-                .map(Match::getMatchId)
-                .collect(Collectors.toList());
-        if (matchIds.isEmpty()) {
-            return List.of();
-        }
-        return paymentRepository.findByMatchIdInOrderByCreatedAtDesc(matchIds).stream()
+        return paymentRepository.findByShipperId(shipperId).stream()
                 .map(PaymentResponse::from)
                 .collect(Collectors.toList());
     }
@@ -129,56 +119,88 @@ public class PaymentService {
     }
 
     /**
-     * 토스 결제 승인.
-     * orderId로 DB 결제 조회 → 금액 일치 검증 → 토스 승인 API 호출 → 성공 시 COMPLETED, pgRef(paymentKey) 저장.
+     * 토스 결제 승인 (DB 커넥션을 잡은 채 PG를 기다리지 않도록 3단계로 분리).
+     * 1) 짧은 트랜잭션: 소유 화주/금액 확인 후 PENDING → CONFIRMING
+     * 2) 트랜잭션 밖: 제한된 실행기에서 토스 승인 API 호출 (타임아웃)
+     * 3) 짧은 트랜잭션: 결과 반영 (COMPLETED / FAILED). 결과를 알 수 없으면 CONFIRMING 유지 → 복구 작업이 확정
      * 해당 매칭의 견적 소유 화주만 호출 가능.
      */
-    @Transactional
     public PaymentResponse confirmWithToss(PaymentConfirmRequest req, Long shipperId) {
-        Payment payment = paymentRepository.findByOrderNo(req.getOrderId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+        Payment payment = paymentTransitionService.beginConfirm(
+                req.getOrderId(), req.getPaymentKey(), req.getAmount(), shipperId
+        );
+        Long paymentId = payment.getPaymentId();
+
+        TossConfirmOutcome outcome = tossConfirmExecutor.confirm(
+                req.getPaymentKey(),
+                req.getOrderId(),
+                req.getAmount()
+        );
+
+        switch (outcome.result()) {
+            case APPROVED -> {
+                // 승인 성공: 결제 완료 처리, pgRef에 토스 paymentKey 저장
+                TossPaymentConfirmResponse tossResponse = outcome.response();
+                paymentTransitionService.complete(
+                        paymentId, tossResponse.getApprovedAtAsLocalDateTime(), tossResponse.getPaymentKey()
+                );
+            }
+            case DECLINED -> {
+                paymentTransitionService.fail(paymentId);
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+            case REJECTED -> {
+                paymentTransitionService.revertToPending(paymentId);
+                throw new CustomException(ErrorCode.PAYMENT_CONFIRM_BUSY);
+            }
+            case UNKNOWN -> {
+                // CONFIRMING 유지, 응답으로 현재 상태 반환
+            }
+        }
 
-        ensureShipperOwnsMatch(payment.getMatchId(), shipperId);
+        return PaymentResponse.from(paymentTransitionService.get(paymentId));
+    }
 
-        if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST);
+    /**
+     * 승인 결과가 반영되지 않은 결제(CONFIRMING) 복구.
+     * 승인 시작 후 stale-after 가 지난 건을 토스에 주문번호로 조회해 COMPLETED / FAILED 로 확정.
+     * 토스에서 아직 진행 중이면 다음 주기에 다시 확인.
+     * @return 확정한 건수
+     */
+    public int recoverStaleConfirms() {
+        if (!tossPaymentsClient.isConfigured()) {
+            return 0;
         }
-
-        // 준비 시 저장한 금액과 요청 금액 일치 여부 검증 (위변조 방지)
-        Integer expectedAmount = payment.getTotalAmount();
-        if (expectedAmount == null || req.getAmount() == null
-                || expectedAmount.longValue() != req.getAmount()) {
-            payment.fail();
-            paymentRepository.flush();
-            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(recoveryStaleAfterSeconds);
+        int resolved = 0;
+        for (Payment payment : paymentTransitionService.findStaleConfirming(cutoff, recoveryBatchSize)) {
+            if (resolveConfirming(payment)) {
+                resolved++;
+            }
         }
+        return resolved;
+    }
 
-        // 토스페이먼츠 승인 API 호출
-        TossPaymentConfirmResponse tossResponse;
+    private boolean resolveConfirming(Payment payment) {
+        TossPaymentConfirmResponse tossPayment;
         try {
-            tossResponse = tossPaymentsClient.confirm(
-                    req.getPaymentKey(),
-                    req.getOrderId(),
-                    req.getAmount()
-            );
+            tossPayment = tossPaymentsClient.getPaymentByOrderId(payment.getOrderNo());
+        } catch (HttpClientErrorException.NotFound e) {
+            // 토스에 주문이 없음 → 승인 요청이 도달하지 않은 결제
+            return paymentTransitionService.fail(payment.getPaymentId());
         } catch (Exception e) {
-            payment.fail();
-            paymentRepository.flush();
-            throw new CustomException(ErrorCode.INVALID_REQUEST);
+            log.warn("Toss payment lookup failed: orderId={}", payment.getOrderNo(), e);
+            return false;
         }
 
-        // 토스 응답이 성공이 아니면 실패 처리
-        if (tossResponse == null || !tossResponse.isDone()) {
-            payment.fail();
-            paymentRepository.flush();
-            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        if (tossPayment != null && tossPayment.isDone()) {
+            return paymentTransitionService.complete(
+                    payment.getPaymentId(), tossPayment.getApprovedAtAsLocalDateTime(), tossPayment.getPaymentKey()
+            );
         }
-
-        // 승인 성공: 결제 완료 처리, pgRef에 토스 paymentKey 저장
-        LocalDateTime approvedAt = tossResponse.getApprovedAtAsLocalDateTime();
-        payment.complete(approvedAt != null ? approvedAt : LocalDateTime.now(), tossResponse.getPaymentKey());
-        paymentRepository.flush();
-
-        return PaymentResponse.from(payment);
+        if (tossPayment == null || tossPayment.isTerminalFailure()) {
+            return paymentTransitionService.fail(payment.getPaymentId());
+        }
+        return false;
     }
 }
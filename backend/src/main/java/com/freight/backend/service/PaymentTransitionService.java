@@ -0,0 +1,231 @@
+package com.freight.backend.service;
+
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Payment;
+import com.freight.backend.entity.Payment.PaymentStatus;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.tosspayments.TossStatusChange;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 상태 전환 (짧은 트랜잭션 단위)
+ * - 모든 전환은 현재 상태 조건부 UPDATE 라서 승인 요청/복구 작업이 겹쳐도 한쪽만 반영됨
+ * - PG 호출은 이 클래스 밖(트랜잭션 밖)에서 할 것
+ * - COMPLETED 전환 시 매칭 행을 먼저 잠가, 이미 취소된 매칭이면 같은 트랜잭션에서 환불 작업 생성
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentTransitionService {
+
+    private static final String CANCELLED_MATCH_REFUND_REASON = "취소된 매칭의 결제 승인";
+
+    private final PaymentRepository paymentRepository;
+    private final MatchRepository matchRepository;
+    private final OwnershipResolver ownershipResolver;
+    private final RefundService refundService;
+
+    /**
+     * 승인 1단계: 소유 화주 확인 + 매칭 취소 여부 + 금액 검증 후 PENDING → CONFIRMING.
+     * 취소된 매칭/금액 불일치는 FAILED 로 남기고 예외 (예외가 나도 FAILED 전환은 커밋).
+     */
+    @Transactional(noRollbackFor = CustomException.class)
+    public Payment beginConfirm(String orderId, String paymentKey, Long amount, Long shipperId) {
+        Payment payment = ownershipResolver.requireShipperOwnsPaymentByOrderNo(orderId, shipperId);
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            throw new CustomException(ErrorCode.PAYMENT_NOT_PENDING);
+        }
+
+        // 취소된 매칭은 승인하지 않음 (이 검사 직후 취소되는 경우는 complete 에서 환불로 처리)
+        boolean matchCancelled = matchRepository.findById(payment.getMatchId())
+                .map(match -> match.getStatus() == Match.Status.CANCELLED)
+                .orElse(true);
+        if (matchCancelled) {
+            paymentRepository.updateStatusIfStatus(payment.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.FAILED);
+            throw new CustomException(ErrorCode.MATCH_ALREADY_CANCELLED);
+        }
+
+        // 준비 시 저장한 금액과 요청 금액 일치 여부 검증 (위변조 방지)
+        Integer expectedAmount = payment.getTotalAmount();
+        if (expectedAmount == null || amount == null || expectedAmount.longValue() != amount) {
+            paymentRepository.updateStatusIfStatus(payment.getPaymentId(), PaymentStatus.PENDING, PaymentStatus.FAILED);
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        int updated = paymentRepository.beginConfirm(
+                payment.getPaymentId(), paymentKey, LocalDateTime.now(),
+                PaymentStatus.PENDING, PaymentStatus.CONFIRMING
+        );
+        if (updated == 0) {
+            // 같은 결제에 대한 동시 승인 요청
+            throw new CustomException(ErrorCode.PAYMENT_NOT_PENDING);
+        }
+        return payment;
+    }
+
+    /**
+     * 승인 3단계(성공): CONFIRMING → COMPLETED. 이미 다른 쪽에서 확정했으면 false
+     * - 그사이 매칭이 취소됐으면 환불 작업 생성 (토스 취소는 커밋 후 환불 워커가 처리)
+     */
+    @Transactional
+    public boolean complete(Long paymentId, LocalDateTime paidAt, String paymentKey) {
+        String key = paymentKey != null && !paymentKey.isBlank() ? paymentKey : null;
+        Long matchId = paymentRepository.findById(paymentId).map(Payment::getMatchId).orElse(null);
+        boolean matchCancelled = matchId != null && isCancelled(matchRepository.lockStatusForUpdate(matchId));
+        boolean completed = paymentRepository.completeIfStatus(
+                paymentId, paidAt != null ? paidAt : LocalDateTime.now(), key,
+                PaymentStatus.CONFIRMING, PaymentStatus.COMPLETED
+        ) == 1;
+        if (completed && matchCancelled) {
+            refundService.requestRefunds(matchId, CANCELLED_MATCH_REFUND_REASON);
+        }
+        return completed;
+    }
+
+    /** 승인 3단계(거절): CONFIRMING → FAILED */
+    @Transactional
+    public boolean fail(Long paymentId) {
+        return paymentRepository.updateStatusIfStatus(paymentId, PaymentStatus.CONFIRMING, PaymentStatus.FAILED) == 1;
+    }
+
+    /** PG 호출 전에 중단된 경우: CONFIRMING → PENDING (재시도 가능) */
+    @Transactional
+    public boolean revertToPending(Long paymentId) {
+        return paymentRepository.updateStatusIfStatus(paymentId, PaymentStatus.CONFIRMING, PaymentStatus.PENDING) == 1;
+    }
+
+    /**
+     * 토스 기준 상태를 결제에 반영 (웹훅 묶음 처리, 트랜잭션 1회)
+     * - DONE: PENDING/CONFIRMING/FAILED → COMPLETED (금액 불일치면 반영하지 않음, FAILED 는 실패 처리 후 실제 청구된 경우)
+     *   취소된 매칭의 결제면 환불 작업 생성
+     * - CANCELED: COMPLETED → REFUNDED
+     * - ABORTED/EXPIRED: PENDING/CONFIRMING → FAILED
+     * @return changes 순서대로 반영 여부
+     */
+    @Transactional
+    public List<Boolean> applyTossStatuses(List<TossStatusChange> changes) {
+        Map<String, Payment> byOrderNo = paymentRepository.findByOrderNoIn(
+                        changes.stream().map(TossStatusChange::orderId).collect(Collectors.toSet())
+                ).stream()
+                .collect(Collectors.toMap(Payment::getOrderNo, Function.identity(), (a, b) -> a));
+
+        // 같은 묶음에 한 결제의 상태 변경이 여러 번 있을 수 있어 반영 후 상태를 따로 추적
+        Map<String, PaymentStatus> currentByOrderNo = new HashMap<>();
+        byOrderNo.forEach((orderNo, payment) -> currentByOrderNo.put(orderNo, payment.getStatus()));
+        Set<Long> cancelledMatchIds = lockCancelledMatches(changes, byOrderNo);
+
+        List<Boolean> applied = new ArrayList<>(changes.size());
+        Set<Long> refundMatchIds = new TreeSet<>();
+        for (TossStatusChange change : changes) {
+            Payment payment = byOrderNo.get(change.orderId());
+            PaymentStatus next = payment == null
+                    ? null
+                    : applyTossStatus(payment, currentByOrderNo.get(change.orderId()), change);
+            if (next != null) {
+                currentByOrderNo.put(change.orderId(), next);
+            }
+            if (next == PaymentStatus.COMPLETED && cancelledMatchIds.contains(payment.getMatchId())) {
+                refundMatchIds.add(payment.getMatchId());
+            }
+            applied.add(next != null);
+        }
+        refundMatchIds.forEach(matchId -> refundService.requestRefunds(matchId, CANCELLED_MATCH_REFUND_REASON));
+        return applied;
+    }
+
+    /**
+     * DONE 반영 대상 결제의 매칭을 ID 순으로 잠그고, 그중 취소된 매칭 ID 반환
+     * (잠금 순서를 고정해 웹훅/대사 묶음끼리 교착하지 않게 함)
+     */
+    private Set<Long> lockCancelledMatches(List<TossStatusChange> changes, Map<String, Payment> byOrderNo) {
+        Set<Long> matchIds = new TreeSet<>();
+        for (TossStatusChange change : changes) {
+            Payment payment = byOrderNo.get(change.orderId());
+            if (payment != null && payment.getMatchId() != null && "DONE".equalsIgnoreCase(change.status())) {
+                matchIds.add(payment.getMatchId());
+            }
+        }
+        Set<Long> cancelled = new HashSet<>();
+        for (Long matchId : matchIds) {
+            if (isCancelled(matchRepository.lockStatusForUpdate(matchId))) {
+                cancelled.add(matchId);
+            }
+        }
+        return cancelled;
+    }
+
+    private static boolean isCancelled(Optional<String> matchStatus) {
+        return matchStatus.map(Match.Status.CANCELLED.name()::equals).orElse(false);
+    }
+
+    /** @return 반영했으면 새 상태, 아니면 null */
+    private PaymentStatus applyTossStatus(Payment payment, PaymentStatus current, TossStatusChange change) {
+        boolean open = current == PaymentStatus.PENDING || current == PaymentStatus.CONFIRMING;
+        String status = change.status() == null ? "" : change.status().toUpperCase();
+        PaymentStatus next;
+        int updated;
+        switch (status) {
+            case "DONE" -> {
+                if (!(open || current == PaymentStatus.FAILED) || !amountMatches(payment, change.totalAmount())) {
+                    return null;
+                }
+                next = PaymentStatus.COMPLETED;
+                LocalDateTime paidAt = change.approvedAt() != null ? change.approvedAt() : LocalDateTime.now();
+                updated = paymentRepository.completeIfStatus(
+                        payment.getPaymentId(), paidAt, change.paymentKey(), current, next
+                );
+            }
+            case "CANCELED" -> {
+                if (current != PaymentStatus.COMPLETED) {
+                    return null;
+                }
+                next = PaymentStatus.REFUNDED;
+                updated = paymentRepository.updateStatusIfStatus(payment.getPaymentId(), current, next);
+            }
+            case "ABORTED", "EXPIRED" -> {
+                if (!open) {
+                    return null;
+                }
+                next = PaymentStatus.FAILED;
+                updated = paymentRepository.updateStatusIfStatus(payment.getPaymentId(), current, next);
+            }
+            default -> {
+                return null;
+            }
+        }
+        return updated == 1 ? next : null;
+    }
+
+    private static boolean amountMatches(Payment payment, Long amount) {
+        return amount == null
+                || (payment.getTotalAmount() != null && payment.getTotalAmount().longValue() == amount);
+    }
+
+    @Transactional(readOnly = true)
+    public Payment get(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+    }
+
+    /** cutoff 이전에 승인 시작 후 결과가 반영되지 않은 결제 (오래된 순, 최대 limit 건) */
+    @Transactional(readOnly = true)
+    public List<Payment> findStaleConfirming(LocalDateTime cutoff, int limit) {
+        return paymentRepository.findStaleByStatus(PaymentStatus.CONFIRMING, cutoff, PageRequest.of(0, limit));
+    }
+}
@@ -0,0 +1,303 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.payment.PaymentWebhookStatsResponse;
+import com.freight.backend.entity.PaymentWebhookEvent;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.PaymentWebhookEventRepository;
+import com.freight.backend.tosspayments.TossPaymentConfirmResponse;
+import com.freight.backend.tosspayments.TossPaymentsClient;
+import com.freight.backend.tosspayments.TossStatusChange;
+import com.freight.backend.tosspayments.TossWebhookPayload;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 토스 결제 상태 웹훅 처리
+ * - 수신: 토스 결제 상태값만 허용, (paymentKey, status) 중복 제거 후 테이블 저장 → 메모리 대기열에 ID 추가 → 즉시 응답
+ *   (중복이어도 기존 행의 상태가 조회로 확인되지 않았으면 다시 처리. 서명 없는 웹훅이 실제 웹훅을 막지 못하게)
+ * - 처리: 워커 스레드 1개가 대기열을 batch-size 씩 꺼내 결제 상태 반영 (트랜잭션 1회/묶음)
+ * - 대기열이 가득 찼거나 서버가 재기동되면 주기 작업이 테이블의 미처리 이벤트를 다시 대기열에 넣음
+ * - verify-with-api=true 면 웹훅 본문 대신 토스 결제 조회 결과를 기준으로 반영 (웹훅은 서명이 없음)
+ */
+@Service
+public class PaymentWebhookService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentWebhookService.class);
+
+    /** 토스 결제 상태값 (Payment 객체 status) */
+    private static final Set<String> TOSS_STATUSES = Set.of(
+            "READY", "IN_PROGRESS", "WAITING_FOR_DEPOSIT", "DONE",
+            "CANCELED", "PARTIAL_CANCELED", "ABORTED", "EXPIRED"
+    );
+
+    private final PaymentWebhookEventRepository eventRepository;
+    private final PaymentTransitionService paymentTransitionService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Long> queue;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final boolean verifyWithApi;
+    private final long sweepDelaySeconds;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder ignored = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PaymentWebhookService(
+            PaymentWebhookEventRepository eventRepository,
+            PaymentTransitionService paymentTransitionService,
+            TossPaymentsClient tossPaymentsClient,
+            ObjectMapper objectMapper,
+            @Value("${toss.webhook.queue-capacity:10000}") int queueCapacity,
+            @Value("${toss.webhook.batch-size:50}") int batchSize,
+            @Value("${toss.webhook.max-attempts:5}") int maxAttempts,
+            @Value("${toss.webhook.verify-with-api:true}") boolean verifyWithApi,
+            @Value("${toss.webhook.sweep-delay-seconds:10}") long sweepDelaySeconds
+    ) {
+        this.eventRepository = eventRepository;
+        this.paymentTransitionService = paymentTransitionService;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.objectMapper = objectMapper;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.verifyWithApi = verifyWithApi;
+        this.sweepDelaySeconds = sweepDelaySeconds;
+    }
+
+    /**
+     * 웹훅 수신: 저장 + 대기열 추가만 하고 반환 (상태 반영은 워커)
+     * - 토스 상태값이 아니면 PAYMENT_WEBHOOK_INVALID
+     * - 이미 받은 (paymentKey, status) 는 무시. 단 처리 때 조회 결과가 그 상태가 아니었으면 다시 처리
+     */
+    public void receive(String body) {
+        TossWebhookPayload payload;
+        try {
+            payload = objectMapper.readValue(body, TossWebhookPayload.class);
+        } catch (JacksonException e) {
+            throw new CustomException(ErrorCode.PAYMENT_WEBHOOK_INVALID);
+        }
+        TossPaymentConfirmResponse data = payload.getData();
+        if (data == null || isBlank(data.getPaymentKey()) || isBlank(data.getOrderId()) || isBlank(data.getStatus())) {
+            throw new CustomException(ErrorCode.PAYMENT_WEBHOOK_INVALID);
+        }
+        String status = data.getStatus().toUpperCase();
+        if (!TOSS_STATUSES.contains(status)) {
+            throw new CustomException(ErrorCode.PAYMENT_WEBHOOK_INVALID);
+        }
+        received.increment();
+
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = eventRepository.insertIgnore(
+                data.getPaymentKey(), data.getOrderId(), status,
+                payload.getEventType(), body, now
+        );
+        if (inserted == 0 && eventRepository.reopenUnverified(
+                data.getPaymentKey(), data.getOrderId(), status, payload.getEventType(), body, now) == 0) {
+            duplicates.increment();
+            return;
+        }
+        eventRepository.findIdByPaymentKeyAndStatus(data.getPaymentKey(), status)
+                .ifPresent(this::offer);
+    }
+
+    /** 수신 시각 [from, to) 이벤트를 미처리로 되돌려 다시 처리. 되돌린 건수 반환 */
+    public int replay(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int reset = eventRepository.resetForReplay(from, to);
+        enqueueUnprocessed(LocalDateTime.now().plusSeconds(1));
+        return reset;
+    }
+
+    public PaymentWebhookStatsResponse stats() {
+        return PaymentWebhookStatsResponse.builder()
+                .received(received.sum())
+                .duplicates(duplicates.sum())
+                .overflowed(overflowed.sum())
+                .applied(applied.sum())
+                .ignored(ignored.sum())
+                .retried(retried.sum())
+                .failed(failed.sum())
+                .queueSize(queue.size())
+                .queueCapacity(queueCapacity)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "payment-webhook-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /** 대기열에 못 들어갔거나 재시도 대상인 미처리 이벤트를 다시 대기열에 추가 */
+    @Scheduled(fixedDelayString = "${toss.webhook.sweep-interval-ms:30000}")
+    public void sweep() {
+        if (running) {
+            enqueueUnprocessed(LocalDateTime.now().minusSeconds(sweepDelaySeconds));
+        }
+    }
+
+    private void enqueueUnprocessed(LocalDateTime receivedBefore) {
+        int room = queue.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        eventRepository.findUnprocessedIds(receivedBefore, PageRequest.of(0, room))
+                .forEach(this::offer);
+    }
+
+    private void offer(Long eventId) {
+        if (!queue.offer(eventId)) {
+            // 테이블에 남아 있으므로 주기 작업이 다시 넣음
+            overflowed.increment();
+        }
+    }
+
+    private void runWorker() {
+        List<Long> ids = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                ids.add(first);
+                queue.drainTo(ids, batchSize - 1);
+                processBatch(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 묶음 전체가 미처리로 남고 주기 작업이 다시 넣음
+                log.error("Payment webhook batch failed: size={}", ids.size(), e);
+            } finally {
+                ids.clear();
+            }
+        }
+    }
+
+    private void processBatch(List<Long> ids) {
+        List<PaymentWebhookEvent> events = new ArrayList<>(
+                eventRepository.findUnprocessedByIdIn(new LinkedHashSet<>(ids))
+        );
+        if (events.isEmpty()) {
+            return;
+        }
+        events.sort(Comparator.comparing(PaymentWebhookEvent::getId));
+
+        List<Long> changeIds = new ArrayList<>();
+        List<TossStatusChange> changes = new ArrayList<>();
+        List<Long> ignoredIds = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        Map<String, List<Long>> verified = new HashMap<>();
+
+        // 토스 조회는 트랜잭션 밖에서
+        for (PaymentWebhookEvent event : events) {
+            try {
+                TossStatusChange change = resolve(event);
+                if (change == null) {
+                    ignoredIds.add(event.getId());
+                } else {
+                    changeIds.add(event.getId());
+                    changes.add(change);
+                    if (change.status() != null) {
+                        verified.computeIfAbsent(change.status().toUpperCase(), k -> new ArrayList<>()).add(event.getId());
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Toss lookup for webhook failed: eventId={}, orderId={}, {}",
+                        event.getId(), event.getOrderId(), e.getMessage());
+                (event.getAttempts() + 1 >= maxAttempts ? failedIds : retryIds).add(event.getId());
+            }
+        }
+
+        verified.forEach((status, verifiedIds) -> eventRepository.markVerified(verifiedIds, status));
+        if (!changes.isEmpty()) {
+            List<Boolean> results = paymentTransitionService.applyTossStatuses(changes);
+            List<Long> appliedIds = new ArrayList<>();
+            for (int i = 0; i < results.size(); i++) {
+                (results.get(i) ? appliedIds : ignoredIds).add(changeIds.get(i));
+            }
+            markProcessed(appliedIds, PaymentWebhookEvent.Result.APPLIED);
+            applied.add(appliedIds.size());
+        }
+        markProcessed(ignoredIds, PaymentWebhookEvent.Result.IGNORED);
+        ignored.add(ignoredIds.size());
+        markProcessed(failedIds, PaymentWebhookEvent.Result.FAILED);
+        failed.add(failedIds.size());
+        if (!retryIds.isEmpty()) {
+            eventRepository.incrementAttempts(retryIds);
+            retried.add(retryIds.size());
+        }
+    }
+
+    /** 반영 기준 상태. 토스에 없는 주문이면 null (무시) */
+    private TossStatusChange resolve(PaymentWebhookEvent event) {
+        if (!verifyWithApi) {
+            return new TossStatusChange(event.getOrderId(), event.getPaymentKey(), event.getStatus(), null, null);
+        }
+        try {
+            TossPaymentConfirmResponse payment = tossPaymentsClient.getPaymentByOrderId(event.getOrderId());
+            return payment == null ? null : TossStatusChange.from(payment);
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
+
+    private void markProcessed(List<Long> ids, PaymentWebhookEvent.Result result) {
+        if (!ids.isEmpty()) {
+            eventRepository.markProcessed(ids, result, LocalDateTime.now());
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
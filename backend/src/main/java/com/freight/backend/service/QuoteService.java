@@ -11,11 +11,13 @@ import com.freight.backend.dto.quote.QuoteStopRequest;
 import com.freight.backend.dto.quote.QuoteStopResponse;
 import com.freight.backend.dto.quote.QuoteUpdateRequest;
 import com.freight.backend.dto.quote.QuoteValidationResponse;
+import com.freight.backend.dto.route.RouteSequenceResponse;
 import com.freight.backend.entity.Quote;
 import com.freight.backend.entity.QuoteChecklistItem;
 import com.freight.backend.entity.QuoteStop;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.geo.QuoteSpatialIndex;
 import com.freight.backend.pricing.LoadHandlingMethod;
 import com.freight.backend.pricing.PricingCalculator;
 import com.freight.backend.pricing.PricingResult;
@@ -27,9 +29,11 @@ import com.freight.backend.repository.QuoteRepository;
 import com.freight.backend.repository.QuoteStopRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -49,10 +53,13 @@ public class QuoteService {
     private final PricingCalculator pricingCalculator;
     private final SurchargeOptionService surchargeOptionService;
     private final DeepSeekClient deepSeekClient;
+    private final QuoteSpatialIndex quoteSpatialIndex;
+    private final RouteSequenceService routeSequenceService;
 
     @Transactional
     public QuoteCreateResponse createQuote(QuoteCreateRequest req) {
         Long shipperId = getCurrentShipperId();
+        validateSchedule(req.getPickupAt(), req.getDeliveryAt());
 
         PricingResult pricing = calculatePricing(
                 req.getDistanceKm(),
@@ -95,6 +102,8 @@ public class QuoteService {
                 .allowCombine(Boolean.TRUE.equals(req.getAllowCombine()))
                 .loadMethod(req.getLoadMethod())
                 .unloadMethod(req.getUnloadMethod())
+                .pickupAt(req.getPickupAt())
+                .deliveryAt(req.getDeliveryAt())
                 .status("OPEN")
                 .build();
 
@@ -102,6 +111,7 @@ public class QuoteService {
 
         saveChecklistItems(saved.getQuoteId(), req.getChecklistItems());
         saveStops(saved.getQuoteId(), req.getStops());
+        quoteSpatialIndex.indexAfterCommit(saved);
 
         return new QuoteCreateResponse(saved.getQuoteId());
     }
@@ -131,6 +141,12 @@ public class QuoteService {
     public QuoteDetailResponse updateQuote(Long quoteId, QuoteUpdateRequest req) {
         Long shipperId = getCurrentShipperId();
         Quote quote = getOwnedQuote(quoteId, shipperId);
+        validateSchedule(req.getPickupAt(), req.getDeliveryAt());
+        // 기사가 수락한 뒤에는 일정 변경 불가 (기사 일정 예약이 수락 시점 구간 기준)
+        if (!quote.isOpen() && (!Objects.equals(quote.getPickupAt(), req.getPickupAt())
+                || !Objects.equals(quote.getDeliveryAt(), req.getDeliveryAt()))) {
+            throw new CustomException(ErrorCode.QUOTE_NOT_OPEN);
+        }
 
         PricingResult pricing = calculatePricing(
                 req.getDistanceKm(),
@@ -173,12 +189,14 @@ public class QuoteService {
                 req.getLoadMethod(),
                 req.getUnloadMethod()
         );
+        quote.updateSchedule(req.getPickupAt(), req.getDeliveryAt());
 
         quoteChecklistItemRepository.deleteByQuoteId(quoteId);
         saveChecklistItems(quoteId, req.getChecklistItems());
 
         quoteStopRepository.deleteByQuoteId(quoteId);
         saveStops(quoteId, req.getStops());
+        quoteSpatialIndex.indexAfterCommit(quote);
 
         List<QuoteChecklistItemResponse> responses = req.getChecklistItems() == null
                 ? Collections.emptyList()
@@ -202,6 +220,18 @@ public class QuoteService {
         quoteChecklistItemRepository.deleteByQuoteId(quoteId);
         quoteStopRepository.deleteByQuoteId(quoteId);
         quoteRepository.delete(quote);
+        quoteSpatialIndex.removeAfterCommit(quoteId);
+    }
+
+    /**
+     * 경유지 방문 순서 최적화 (출발지 → 경유지 → 도착지), 결과 순서로 seq 저장
+     */
+    @Transactional
+    public RouteSequenceResponse optimizeStops(Long quoteId) {
+        Long shipperId = getCurrentShipperId();
+        Quote quote = getOwnedQuote(quoteId, shipperId);
+        List<QuoteStop> stops = quoteStopRepository.findByQuoteIdOrderBySeqAsc(quoteId);
+        return routeSequenceService.optimizeQuoteStops(quote, stops);
     }
 
     @Transactional(readOnly = true)
@@ -271,6 +301,12 @@ public class QuoteService {
         );
     }
 
+    private void validateSchedule(LocalDateTime pickupAt, LocalDateTime deliveryAt) {
+        if (deliveryAt != null && (pickupAt == null || !deliveryAt.isAfter(pickupAt))) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
     private Quote getOwnedQuote(Long quoteId, Long shipperId) {
         Quote quote = quoteRepository.findById(quoteId)
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
@@ -354,6 +390,8 @@ public class QuoteService {
                 quote.getAllowCombine(),
                 quote.getLoadMethod(),
                 quote.getUnloadMethod(),
+                quote.getPickupAt(),
+                quote.getDeliveryAt(),
                 quote.getStatus(),
                 quote.getCreatedAt(),
                 quote.getUpdatedAt(),
@@ -489,7 +527,6 @@ public class QuoteService {
         if (!isShipper) {
             throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
         }
-        String principal = String.valueOf(authentication.getPrincipal());
-        return Long.valueOf(principal);
+        return Long.valueOf(authentication.getName());
     }
 }
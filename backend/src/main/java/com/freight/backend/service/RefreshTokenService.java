@@ -0,0 +1,118 @@
+package com.freight.backend.service;
+
+import com.freight.backend.entity.RefreshToken;
+import com.freight.backend.repository.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * refresh token 발급/회전/폐기
+ * - 토큰은 임의 256bit 값(base64url). DB 에는 SHA-256 만 저장
+ * - 재발급(rotate)마다 기존 토큰을 폐기하고 같은 family 로 새 토큰 발급, 이미 쓰인 토큰이 다시 오면 family 전체 폐기
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long expirationSeconds;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token-expiration-seconds:1209600}") long expirationSeconds
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expirationSeconds = Math.max(1, expirationSeconds);
+    }
+
+    public long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+
+    /** 로그인 시 새 family 로 발급. 원문 반환 */
+    @Transactional
+    public String issue(String accountType, Long userId) {
+        return insert(UUID.randomUUID().toString(), accountType, userId);
+    }
+
+    /**
+     * 토큰 회전. 유효하면 기존 토큰을 폐기하고 새 토큰 발급, 아니면 empty
+     * - 이미 폐기된 토큰의 재사용이면 family 전체 폐기 (예외 없이 커밋되도록 empty 로 알림)
+     */
+    @Transactional
+    public Optional<Rotated> rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Optional.empty();
+        }
+        String hash = sha256(rawToken);
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.consume(hash, now) == 1) {
+            RefreshToken current = refreshTokenRepository.findByTokenHash(hash).orElseThrow();
+            String next = insert(current.getFamilyId(), current.getAccountType(), current.getUserId());
+            return Optional.of(new Rotated(current.getAccountType(), current.getUserId(), next));
+        }
+        refreshTokenRepository.findByTokenHash(hash)
+                .filter(t -> t.getRevokedAt() != null)
+                .ifPresent(t -> {
+                    int revoked = refreshTokenRepository.revokeFamily(t.getFamilyId(), now);
+                    log.warn("Refresh token reuse detected: accountType={}, userId={}, family={}, revoked={}",
+                            t.getAccountType(), t.getUserId(), t.getFamilyId(), revoked);
+                });
+        return Optional.empty();
+    }
+
+    /** 로그아웃 시 토큰의 family 전체 폐기 */
+    @Transactional
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(sha256(rawToken))
+                .ifPresent(t -> refreshTokenRepository.revokeFamily(t.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Refresh token purge failed: {}", e.toString());
+        }
+    }
+
+    private String insert(String familyId, String accountType, Long userId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insert(sha256(raw), familyId, accountType, userId, now.plusSeconds(expirationSeconds), now);
+        return raw;
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rotated(String accountType, Long userId, String refreshToken) {
+    }
+}
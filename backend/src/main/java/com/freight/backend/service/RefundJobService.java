@@ -0,0 +1,101 @@
+package com.freight.backend.service;
+
+import com.freight.backend.entity.Payment;
+import com.freight.backend.entity.Payment.PaymentStatus;
+import com.freight.backend.entity.RefundJob;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.repository.RefundJobRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 환불 작업 상태 전이 (짧은 트랜잭션). 토스 호출은 RefundService 가 트랜잭션 밖에서 함
+ */
+@Service
+@RequiredArgsConstructor
+public class RefundJobService {
+
+    private static final List<RefundJob.Status> CLAIMABLE =
+            List.of(RefundJob.Status.PENDING, RefundJob.Status.IN_PROGRESS);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RefundJobRepository refundJobRepository;
+    private final PaymentRepository paymentRepository;
+    private final MatchRepository matchRepository;
+
+    /**
+     * 매칭의 완료된 토스 결제마다 환불 작업 생성 (호출 측 트랜잭션에 참여)
+     * - 매칭 → 결제 순서로 잠가 읽어, 동시에 확정된 결제도 빠짐없이 봄 (PaymentTransitionService 와 같은 순서)
+     * @return 환불 작업 ID (이미 있던 작업 포함)
+     */
+    @Transactional
+    public List<Long> enqueueForMatch(Long matchId, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> jobIds = new ArrayList<>();
+        matchRepository.lockStatusForUpdate(matchId);
+        for (Payment payment : paymentRepository.findByMatchIdForUpdate(matchId)) {
+            if (payment.getStatus() != PaymentStatus.COMPLETED || payment.getPgRef() == null) {
+                continue;
+            }
+            refundJobRepository.insertIgnore(
+                    payment.getPaymentId(), matchId, payment.getPgRef(), payment.getTotalAmount(), reason, now
+            );
+            refundJobRepository.findIdByPaymentId(payment.getPaymentId()).ifPresent(jobIds::add);
+        }
+        return jobIds;
+    }
+
+    /** 시도 선점. 이미 다른 노드가 가져갔거나 아직 시도 시각 전이면 empty */
+    @Transactional
+    public Optional<RefundJob> claim(Long jobId, LocalDateTime leaseUntil) {
+        int updated = refundJobRepository.claim(
+                jobId, CLAIMABLE, RefundJob.Status.IN_PROGRESS, leaseUntil, LocalDateTime.now()
+        );
+        return updated == 1 ? refundJobRepository.findById(jobId) : Optional.empty();
+    }
+
+    /** 취소 성공: 작업 완료 + 결제 COMPLETED → REFUNDED */
+    @Transactional
+    public void succeed(RefundJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = refundJobRepository.updateStatusIfStatus(
+                job.getId(), RefundJob.Status.IN_PROGRESS, RefundJob.Status.SUCCEEDED, now, null, now, now
+        );
+        if (updated == 1) {
+            paymentRepository.updateStatusIfStatus(job.getPaymentId(), PaymentStatus.COMPLETED, PaymentStatus.REFUNDED);
+        }
+    }
+
+    @Transactional
+    public void retryAt(RefundJob job, LocalDateTime nextAttemptAt, String error) {
+        refundJobRepository.updateStatusIfStatus(
+                job.getId(), RefundJob.Status.IN_PROGRESS, RefundJob.Status.PENDING,
+                nextAttemptAt, truncate(error), null, LocalDateTime.now()
+        );
+    }
+
+    @Transactional
+    public void fail(RefundJob job, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        refundJobRepository.updateStatusIfStatus(
+                job.getId(), RefundJob.Status.IN_PROGRESS, RefundJob.Status.FAILED, now, truncate(error), now, now
+        );
+    }
+
+    @Transactional
+    public boolean resetFailed(Long jobId) {
+        return refundJobRepository.resetFailed(
+                jobId, RefundJob.Status.FAILED, RefundJob.Status.PENDING, LocalDateTime.now()
+        ) == 1;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
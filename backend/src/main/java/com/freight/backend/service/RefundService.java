@@ -0,0 +1,278 @@
+package com.freight.backend.service;
+
+import com.freight.backend.common.TimingWheel;
+import com.freight.backend.common.TransactionCallbacks;
+import com.freight.backend.common.WorkerThreads;
+import com.freight.backend.dto.common.SliceResponse;
+import com.freight.backend.dto.refund.RefundJobResponse;
+import com.freight.backend.dto.refund.RefundStatsResponse;
+import com.freight.backend.entity.RefundJob;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.http.LatencyHistogram;
+import com.freight.backend.repository.RefundJobRepository;
+import com.freight.backend.tosspayments.TossPaymentsClient;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 환불 파이프라인 (매칭 취소 → 토스 결제 취소)
+ * - 매칭 취소 트랜잭션에서 refund_jobs 에 작업 생성, 커밋 후 타이밍 휠에 즉시 시도 예약
+ * - 휠이 만기 작업을 워커 풀(max-concurrency 개)로 넘김. 풀이 가득 차면 1초 뒤 다시 넘김
+ * - 일시 오류(네트워크/5xx/429/서킷 open)는 지수 백오프 + 지터로 재시도, 4xx 는 즉시 FAILED
+ * - 재기동/다른 노드 장애로 휠에서 사라진 작업은 주기 작업이 테이블에서 다시 예약
+ */
+@Service
+public class RefundService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefundService.class);
+    private static final List<RefundJob.Status> DUE_STATUSES =
+            List.of(RefundJob.Status.PENDING, RefundJob.Status.IN_PROGRESS);
+    private static final long REDISPATCH_DELAY_MS = 1_000;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RefundJobService refundJobService;
+    private final RefundJobRepository refundJobRepository;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final ThreadPoolExecutor workers;
+    private final TimingWheel wheel;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final Duration lease;
+    private final int sweepBatchSize;
+
+    /** 이 노드의 휠/풀에 들어 있는 작업 (중복 예약 방지) */
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram callLatency = new LatencyHistogram();
+    private final LatencyHistogram completionLatency = new LatencyHistogram();
+
+    private volatile boolean running;
+
+    public RefundService(
+            RefundJobService refundJobService,
+            RefundJobRepository refundJobRepository,
+            TossPaymentsClient tossPaymentsClient,
+            WorkerThreads workerThreads,
+            @Value("${toss.refund.max-concurrency:8}") int maxConcurrency,
+            @Value("${toss.refund.queue-capacity:256}") int queueCapacity,
+            @Value("${toss.refund.max-attempts:8}") int maxAttempts,
+            @Value("${toss.refund.backoff-base-ms:1000}") long backoffBaseMs,
+            @Value("${toss.refund.backoff-max-ms:600000}") long backoffMaxMs,
+            @Value("${toss.refund.lease-seconds:60}") long leaseSeconds,
+            @Value("${toss.refund.sweep-batch-size:500}") int sweepBatchSize,
+            @Value("${toss.refund.wheel.tick-ms:100}") long tickMs,
+            @Value("${toss.refund.wheel.size:512}") int wheelSize
+    ) {
+        this.refundJobService = refundJobService;
+        this.refundJobRepository = refundJobRepository;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMs = Math.max(1, backoffBaseMs);
+        this.backoffMaxMs = Math.max(this.backoffBaseMs, backoffMaxMs);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.sweepBatchSize = Math.max(1, sweepBatchSize);
+        this.workers = new ThreadPoolExecutor(
+                this.maxConcurrency, this.maxConcurrency,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                workerThreads.io("refund-worker"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.workers.allowCoreThreadTimeOut(true);
+        this.wheel = new TimingWheel("refund", tickMs, wheelSize, this::dispatch);
+    }
+
+    /**
+     * 매칭 취소 시 호출 (매칭 취소 트랜잭션 안). 완료된 결제마다 환불 작업 생성, 커밋 후 바로 시도
+     */
+    public void requestRefunds(Long matchId, String reason) {
+        List<Long> jobIds = refundJobService.enqueueForMatch(matchId, reason);
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        enqueued.add(jobIds.size());
+        TransactionCallbacks.afterCommit(() -> jobIds.forEach(id -> schedule(id, 0)));
+    }
+
+    /** FAILED 작업 재시도 (관리자) */
+    public RefundJobResponse retry(Long jobId) {
+        RefundJob job = refundJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REFUND_JOB_NOT_FOUND));
+        if (!refundJobService.resetFailed(job.getId())) {
+            throw new CustomException(ErrorCode.REFUND_JOB_NOT_FAILED);
+        }
+        schedule(jobId, 0);
+        return refundJobRepository.findById(jobId)
+                .map(RefundJobResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.REFUND_JOB_NOT_FOUND));
+    }
+
+    public SliceResponse<RefundJobResponse> getJobs(RefundJob.Status status, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return SliceResponse.of(
+                refundJobRepository.findByStatusOrderByIdDesc(status, PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE))),
+                RefundJobResponse::from
+        );
+    }
+
+    public RefundStatsResponse stats() {
+        return RefundStatsResponse.builder()
+                .enqueued(enqueued.sum())
+                .attempts(attempts.sum())
+                .succeeded(succeeded.sum())
+                .retried(retried.sum())
+                .failed(failed.sum())
+                .inFlight(inFlight.get())
+                .maxConcurrency(maxConcurrency)
+                .scheduled(wheel.size() + workers.getQueue().size())
+                .pendingJobs(refundJobRepository.countByStatus(RefundJob.Status.PENDING))
+                .failedJobs(refundJobRepository.countByStatus(RefundJob.Status.FAILED))
+                .callMeanMs(callLatency.meanMs())
+                .callP50Ms(callLatency.percentileMs(0.50))
+                .callP95Ms(callLatency.percentileMs(0.95))
+                .callP99Ms(callLatency.percentileMs(0.99))
+                .completionP50Ms(completionLatency.percentileMs(0.50))
+                .completionP95Ms(completionLatency.percentileMs(0.95))
+                .completionP99Ms(completionLatency.percentileMs(0.99))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        wheel.start();
+        sweep();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        wheel.stop();
+        workers.shutdown();
+    }
+
+    /** 시도 시각이 된 작업(다른 노드가 처리 중 죽은 작업 포함)을 휠에 다시 예약 */
+    @Scheduled(fixedDelayString = "${toss.refund.sweep-interval-ms:30000}")
+    public void sweep() {
+        if (!running || !tossPaymentsClient.isConfigured()) {
+            return;
+        }
+        refundJobRepository.findDueIds(DUE_STATUSES, LocalDateTime.now(), PageRequest.of(0, sweepBatchSize))
+                .forEach(id -> schedule(id, 0));
+    }
+
+    private void schedule(Long jobId, long delayMs) {
+        if (scheduled.add(jobId)) {
+            wheel.schedule(() -> attempt(jobId), delayMs);
+        }
+    }
+
+    /** 휠 스레드에서 호출: 워커 풀로 넘김 (가득 차면 잠시 뒤 다시) */
+    private void dispatch(Runnable task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (running) {
+                wheel.schedule(task, REDISPATCH_DELAY_MS);
+            }
+        }
+    }
+
+    private void attempt(Long jobId) {
+        scheduled.remove(jobId);
+        if (!running || !tossPaymentsClient.isConfigured()) {
+            return;
+        }
+        try {
+            Optional<RefundJob> claimed = refundJobService.claim(jobId, LocalDateTime.now().plus(lease));
+            if (claimed.isPresent()) {
+                execute(claimed.get());
+            }
+        } catch (RuntimeException e) {
+            // 작업은 IN_PROGRESS 로 남고 임대 만료 후 주기 작업이 다시 예약
+            log.error("Refund attempt failed: jobId={}", jobId, e);
+        }
+    }
+
+    private void execute(RefundJob job) {
+        attempts.increment();
+        inFlight.incrementAndGet();
+        long startedAt = System.nanoTime();
+        String error = null;
+        boolean retryable = false;
+        try {
+            tossPaymentsClient.cancel(job.getPaymentKey(), job.getReason(), "refund-" + job.getId());
+        } catch (HttpClientErrorException e) {
+            if (!e.getResponseBodyAsString().contains("ALREADY_CANCELED_PAYMENT")) {
+                int status = e.getStatusCode().value();
+                retryable = status == 408 || status == 429;
+                error = status + " " + e.getResponseBodyAsString();
+            }
+        } catch (RestClientException e) {
+            // 네트워크 오류, 5xx, 서킷 open / 동시 호출 상한 (OutboundRejectedException)
+            retryable = true;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        } finally {
+            inFlight.decrementAndGet();
+            callLatency.record(System.nanoTime() - startedAt);
+        }
+
+        if (error == null) {
+            refundJobService.succeed(job);
+            succeeded.increment();
+            completionLatency.record(Duration.between(job.getCreatedAt(), LocalDateTime.now()).toNanos());
+            return;
+        }
+        if (retryable && job.getAttempts() < maxAttempts) {
+            long delayMs = backoffMs(job.getAttempts());
+            refundJobService.retryAt(job, LocalDateTime.now().plus(Duration.ofMillis(delayMs)), error);
+            retried.increment();
+            schedule(job.getId(), delayMs);
+            return;
+        }
+        log.warn("Refund failed: jobId={}, paymentId={}, attempts={}, {}",
+                job.getId(), job.getPaymentId(), job.getAttempts(), error);
+        refundJobService.fail(job, error);
+        failed.increment();
+    }
+
+    /** attempt 번째 실패 후 대기: base × 2^(attempt-1) (상한 max), 절반은 고정 + 절반은 임의 */
+    private long backoffMs(int attempt) {
+        long capped = Math.min(backoffMaxMs, backoffBaseMs << Math.min(Math.max(0, attempt - 1), 20));
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+}
@@ -0,0 +1,176 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.driver.DriverHomeRequest;
+import com.freight.backend.dto.driver.DriverHomeResponse;
+import com.freight.backend.dto.route.ReturnRouteQuoteResponse;
+import com.freight.backend.entity.Driver;
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Quote;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.geo.CorridorMatch;
+import com.freight.backend.geo.GeoUtils;
+import com.freight.backend.geo.QuoteSpatialIndex;
+import com.freight.backend.repository.DriverRepository;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.QuoteRepository;
+import com.freight.backend.schedule.DriverScheduleRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 귀가노선 추천 서비스
+ * - 기사 귀가 위치 등록/조회
+ * - 현재 위치 → 귀가 위치 경로 주변의 공개 견적 추천
+ */
+@Service
+@RequiredArgsConstructor
+public class ReturnRouteService {
+
+    private final DriverRepository driverRepository;
+    private final QuoteRepository quoteRepository;
+    private final MatchRepository matchRepository;
+    private final QuoteSpatialIndex quoteSpatialIndex;
+    private final DriverScheduleRegistry driverScheduleRegistry;
+
+    @Value("${route.return.corridor-km:10}")
+    private double defaultCorridorKm;
+
+    @Value("${route.return.max-corridor-km:50}")
+    private double maxCorridorKm;
+
+    @Value("${route.return.max-results:50}")
+    private int maxResults;
+
+    @Transactional
+    public DriverHomeResponse updateHome(Long driverId, DriverHomeRequest req) {
+        if (req == null || !GeoUtils.isValid(req.getHomeLat(), req.getHomeLng())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        Driver driver = driverRepository.findById(driverId)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_FORBIDDEN));
+        driver.updateHome(req.getHomeAddress(), req.getHomeLat(), req.getHomeLng());
+        return DriverHomeResponse.from(driver);
+    }
+
+    @Transactional(readOnly = true)
+    public DriverHomeResponse getHome(Long driverId) {
+        Driver driver = driverRepository.findById(driverId)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_FORBIDDEN));
+        return DriverHomeResponse.from(driver);
+    }
+
+    /**
+     * 귀가노선 추천
+     * - 출발지/도착지가 모두 경로 폭(corridorKm) 안에 있고, 귀가 방향과 같은 견적만
+     * - 인덱스 결과는 DB에서 OPEN 여부를 다시 확인 (다른 노드 변경 반영 지연 대비)
+     * - 기사의 확정 일정과 상/하차 시간이 겹치는 견적은 제외
+     */
+    @Transactional(readOnly = true)
+    public List<ReturnRouteQuoteResponse> findReturnRouteQuotes(
+            Long driverId,
+            Double currentLat,
+            Double currentLng,
+            Double corridorKm
+    ) {
+        if (!GeoUtils.isValid(currentLat, currentLng)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        Driver driver = driverRepository.findById(driverId)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTH_FORBIDDEN));
+        if (!driver.hasHomeLocation()) {
+            throw new CustomException(ErrorCode.DRIVER_HOME_NOT_SET);
+        }
+        double corridor = resolveCorridorKm(corridorKm);
+
+        // 인덱스 결과에서 닫힌 견적/일정 겹침을 걸러낸 뒤 maxResults 로 자르도록 후보는 전부 받고,
+        // DB 확인은 우회 거리 순으로 maxResults 건씩 나눠서 결과가 차면 멈춤
+        List<CorridorMatch> candidates = quoteSpatialIndex.findAlongSegment(
+                currentLat,
+                currentLng,
+                driver.getHomeLat(),
+                driver.getHomeLng(),
+                corridor,
+                Integer.MAX_VALUE
+        );
+        List<ReturnRouteQuoteResponse> result = new ArrayList<>();
+        for (int from = 0; from < candidates.size() && result.size() < maxResults; from += maxResults) {
+            List<CorridorMatch> chunk = candidates.subList(from, Math.min(from + maxResults, candidates.size()));
+            addAvailable(driverId, chunk, result);
+        }
+        return result;
+    }
+
+    /** 후보 중 DB 기준 OPEN 이고 기사 일정과 겹치지 않는 견적을 maxResults 까지 result 에 추가 */
+    private void addAvailable(Long driverId, List<CorridorMatch> candidates, List<ReturnRouteQuoteResponse> result) {
+        List<Long> quoteIds = candidates.stream()
+                .map(CorridorMatch::quoteId)
+                .collect(Collectors.toList());
+        Map<Long, Quote> quotes = quoteRepository.findAllById(quoteIds).stream()
+                .collect(Collectors.toMap(Quote::getQuoteId, Function.identity()));
+        Map<Long, Long> openMatchIds = new HashMap<>();
+        for (Match match : matchRepository.findByQuoteIdIn(quoteIds)) {
+            if (!Boolean.TRUE.equals(match.getAccepted()) && match.getStatus() == Match.Status.READY) {
+                openMatchIds.put(match.getQuoteId(), match.getMatchId());
+            }
+        }
+
+        for (CorridorMatch candidate : candidates) {
+            if (result.size() >= maxResults) {
+                return;
+            }
+            Quote quote = quotes.get(candidate.quoteId());
+            if (quote == null || !quote.isOpen()) {
+                continue;
+            }
+            if (driverScheduleRegistry.conflicts(
+                    driverId, driverScheduleRegistry.window(quote.getPickupAt(), quote.getDeliveryAt()))) {
+                continue;
+            }
+            result.add(toResponse(quote, openMatchIds.get(quote.getQuoteId()), candidate));
+        }
+    }
+
+    private double resolveCorridorKm(Double corridorKm) {
+        if (corridorKm == null) {
+            return defaultCorridorKm;
+        }
+        if (corridorKm.isNaN() || corridorKm <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return Math.min(corridorKm, maxCorridorKm);
+    }
+
+    private ReturnRouteQuoteResponse toResponse(Quote quote, Long matchId, CorridorMatch candidate) {
+        return ReturnRouteQuoteResponse.builder()
+                .quoteId(quote.getQuoteId())
+                .matchId(matchId)
+                .originAddress(quote.getOriginAddress())
+                .destinationAddress(quote.getDestinationAddress())
+                .originLat(quote.getOriginLat())
+                .originLng(quote.getOriginLng())
+                .destinationLat(quote.getDestinationLat())
+                .destinationLng(quote.getDestinationLng())
+                .distanceKm(quote.getDistanceKm())
+                .vehicleType(quote.getVehicleType())
+                .cargoName(quote.getCargoName())
+                .finalPrice(quote.getFinalPrice())
+                .pickupAt(quote.getPickupAt())
+                .deliveryAt(quote.getDeliveryAt())
+                .offRouteKm(round1(candidate.offRouteKm()))
+                .detourKm(round1(candidate.detourKm()))
+                .build();
+    }
+
+    private static double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
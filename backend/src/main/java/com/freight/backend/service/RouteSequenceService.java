@@ -0,0 +1,220 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.route.RouteSequenceRequest;
+import com.freight.backend.dto.route.RouteSequenceResponse;
+import com.freight.backend.dto.route.RouteSequenceStopResponse;
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Quote;
+import com.freight.backend.entity.QuoteStop;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.geo.GeoUtils;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.QuoteRepository;
+import com.freight.backend.repository.QuoteStopRepository;
+import com.freight.backend.route.RoutePlan;
+import com.freight.backend.route.RouteSequencer;
+import com.freight.backend.route.RouteStop;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다중 경유지 순서 최적화 서비스
+ * - 화주: 견적 경유지(QuoteStop) 순서를 최적화해 seq 저장 (출발지 → 경유지 → 도착지)
+ * - 기사: 여러 견적 묶음의 상/하차 순서 미리보기 (상차 후 하차)
+ */
+@Service
+@RequiredArgsConstructor
+public class RouteSequenceService {
+
+    private final QuoteRepository quoteRepository;
+    private final QuoteStopRepository quoteStopRepository;
+    private final MatchRepository matchRepository;
+    private final RouteSequencer routeSequencer;
+
+    @Value("${route.sequence.max-stops:200}")
+    private int maxStops;
+
+    /**
+     * 견적 경유지 순서 최적화 후 seq(1부터) 저장
+     * - 출발지는 시작점, 도착지 좌표가 있으면 마지막 지점으로 고정
+     */
+    @Transactional
+    public RouteSequenceResponse optimizeQuoteStops(Quote quote, List<QuoteStop> quoteStops) {
+        if (!GeoUtils.isValid(quote.getOriginLat(), quote.getOriginLng())) {
+            throw new CustomException(ErrorCode.ROUTE_STOP_LOCATION_MISSING);
+        }
+        if (quoteStops.size() + 1 > maxStops) {
+            throw new CustomException(ErrorCode.ROUTE_TOO_MANY_STOPS);
+        }
+
+        List<RouteStop> stops = new ArrayList<>(quoteStops.size() + 1);
+        for (QuoteStop quoteStop : quoteStops) {
+            stops.add(toDropoff(quote.getQuoteId(), quoteStop, -1));
+        }
+        boolean destinationFixed = GeoUtils.isValid(quote.getDestinationLat(), quote.getDestinationLng());
+        if (destinationFixed) {
+            stops.add(destinationStop(quote, -1));
+        }
+
+        RoutePlan plan = routeSequencer.sequence(stops, quote.getOriginLat(), quote.getOriginLng(), destinationFixed);
+
+        Map<Long, QuoteStop> byId = quoteStops.stream()
+                .collect(Collectors.toMap(QuoteStop::getQuoteStopId, s -> s));
+        int seq = 1;
+        for (int index : plan.order()) {
+            Long quoteStopId = stops.get(index).quoteStopId();
+            if (quoteStopId != null) {
+                byId.get(quoteStopId).updateSeq(seq++);
+            }
+        }
+
+        List<RouteSequenceStopResponse> responses = new ArrayList<>();
+        responses.add(new RouteSequenceStopResponse(
+                0,
+                RouteStop.Type.PICKUP.name(),
+                quote.getQuoteId(),
+                null,
+                quote.getOriginAddress(),
+                quote.getOriginLat(),
+                quote.getOriginLng(),
+                0.0
+        ));
+        responses.addAll(toResponses(stops, plan, 1));
+        return new RouteSequenceResponse(round1(plan.totalKm()), responses);
+    }
+
+    /**
+     * 여러 견적 묶음의 상/하차 순서 계산 (저장하지 않음)
+     * - 각 견적 출발지는 상차, 경유지/도착지는 해당 상차 이후 하차
+     * - 공개(OPEN) 견적 또는 본인이 수락한 매칭의 견적만 가능
+     * - 2건 이상 묶을 때는 모든 견적이 합짐 허용이어야 함
+     */
+    @Transactional(readOnly = true)
+    public RouteSequenceResponse sequenceBundle(Long driverId, RouteSequenceRequest req) {
+        if (req == null || req.getQuoteIds() == null || req.getQuoteIds().isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        boolean hasStart = req.getStartLat() != null || req.getStartLng() != null;
+        if (hasStart && !GeoUtils.isValid(req.getStartLat(), req.getStartLng())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        List<Long> quoteIds = new ArrayList<>(new LinkedHashSet<>(req.getQuoteIds()));
+        Map<Long, Quote> quotes = quoteRepository.findAllById(quoteIds).stream()
+                .collect(Collectors.toMap(Quote::getQuoteId, q -> q));
+        if (quotes.size() != quoteIds.size()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        ensureDriverCanView(driverId, quoteIds, quotes);
+        if (quoteIds.size() > 1 && quotes.values().stream().anyMatch(q -> !Boolean.TRUE.equals(q.getAllowCombine()))) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Map<Long, List<QuoteStop>> stopsByQuote = new HashMap<>();
+        for (QuoteStop stop : quoteStopRepository.findByQuoteIdInOrderByQuoteIdAscSeqAsc(quoteIds)) {
+            stopsByQuote.computeIfAbsent(stop.getQuoteId(), k -> new ArrayList<>()).add(stop);
+        }
+
+        List<RouteStop> stops = new ArrayList<>();
+        for (Long quoteId : quoteIds) {
+            Quote quote = quotes.get(quoteId);
+            if (!GeoUtils.isValid(quote.getOriginLat(), quote.getOriginLng())) {
+                throw new CustomException(ErrorCode.ROUTE_STOP_LOCATION_MISSING);
+            }
+            int pickup = stops.size();
+            stops.add(new RouteStop(
+                    RouteStop.Type.PICKUP,
+                    quoteId,
+                    null,
+                    quote.getOriginAddress(),
+                    quote.getOriginLat(),
+                    quote.getOriginLng(),
+                    -1
+            ));
+            for (QuoteStop quoteStop : stopsByQuote.getOrDefault(quoteId, List.of())) {
+                stops.add(toDropoff(quoteId, quoteStop, pickup));
+            }
+            if (GeoUtils.isValid(quote.getDestinationLat(), quote.getDestinationLng())) {
+                stops.add(destinationStop(quote, pickup));
+            }
+            if (stops.size() > maxStops) {
+                throw new CustomException(ErrorCode.ROUTE_TOO_MANY_STOPS);
+            }
+        }
+
+        RoutePlan plan = routeSequencer.sequence(stops, req.getStartLat(), req.getStartLng(), false);
+        return new RouteSequenceResponse(round1(plan.totalKm()), toResponses(stops, plan, 1));
+    }
+
+    private void ensureDriverCanView(Long driverId, List<Long> quoteIds, Map<Long, Quote> quotes) {
+        Set<Long> assigned = matchRepository.findByQuoteIdIn(quoteIds).stream()
+                .filter(m -> m.getStatus() != Match.Status.CANCELLED && driverId.equals(m.getDriverId()))
+                .map(Match::getQuoteId)
+                .collect(Collectors.toSet());
+        for (Quote quote : quotes.values()) {
+            if (!quote.isOpen() && !assigned.contains(quote.getQuoteId())) {
+                throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
+            }
+        }
+    }
+
+    private RouteStop toDropoff(Long quoteId, QuoteStop quoteStop, int pickup) {
+        if (!GeoUtils.isValid(quoteStop.getLat(), quoteStop.getLng())) {
+            throw new CustomException(ErrorCode.ROUTE_STOP_LOCATION_MISSING);
+        }
+        return new RouteStop(
+                RouteStop.Type.DROPOFF,
+                quoteId,
+                quoteStop.getQuoteStopId(),
+                quoteStop.getAddress(),
+                quoteStop.getLat(),
+                quoteStop.getLng(),
+                pickup
+        );
+    }
+
+    private RouteStop destinationStop(Quote quote, int pickup) {
+        return new RouteStop(
+                RouteStop.Type.DROPOFF,
+                quote.getQuoteId(),
+                null,
+                quote.getDestinationAddress(),
+                quote.getDestinationLat(),
+                quote.getDestinationLng(),
+                pickup
+        );
+    }
+
+    private List<RouteSequenceStopResponse> toResponses(List<RouteStop> stops, RoutePlan plan, int firstSeq) {
+        List<RouteSequenceStopResponse> responses = new ArrayList<>(stops.size());
+        int[] order = plan.order();
+        for (int i = 0; i < order.length; i++) {
+            RouteStop stop = stops.get(order[i]);
+            responses.add(new RouteSequenceStopResponse(
+                    firstSeq + i,
+                    stop.type().name(),
+                    stop.quoteId(),
+                    stop.quoteStopId(),
+                    stop.address(),
+                    stop.lat(),
+                    stop.lng(),
+                    round1(plan.legKm()[i])
+            ));
+        }
+        return responses;
+    }
+
+    private static double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
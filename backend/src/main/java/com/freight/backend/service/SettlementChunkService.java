@@ -0,0 +1,90 @@
+package com.freight.backend.service;
+
+import com.freight.backend.entity.Payment.PaymentStatus;
+import com.freight.backend.entity.SettlementBatch;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.repository.SettlementBatchRepository;
+import com.freight.backend.repository.SettlementDriverPayoutRepository;
+import com.freight.backend.repository.SettlementItemRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정산 배치 단계별 짧은 트랜잭션
+ * - chunk 마다 항목 생성 + checkpoint 이동을 한 트랜잭션으로 (중간에 중단돼도 checkpoint 이후부터 다시 하면 됨)
+ */
+@Service
+@RequiredArgsConstructor
+public class SettlementChunkService {
+
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final SettlementItemRepository settlementItemRepository;
+    private final SettlementDriverPayoutRepository settlementDriverPayoutRepository;
+    private final PaymentRepository paymentRepository;
+
+    /**
+     * 배치 생성. 처리할 paymentId 구간은 이때 고정
+     * @param paidFrom 대상 결제 완료 시각 하한 (이전 기간 미정산분 포함)
+     */
+    @Transactional
+    public SettlementBatch create(LocalDate periodFrom, LocalDate periodTo, LocalDateTime paidFrom, BigDecimal feeRate) {
+        LocalDateTime paidBefore = periodTo.atStartOfDay();
+        Long minId = paymentRepository.findMinPaymentIdByStatusAndPaidAt(PaymentStatus.COMPLETED, paidFrom, paidBefore);
+        Long maxId = paymentRepository.findMaxPaymentIdByStatusAndPaidAt(PaymentStatus.COMPLETED, paidFrom, paidBefore);
+        long checkpoint = minId == null ? 0L : minId - 1;
+        return settlementBatchRepository.save(SettlementBatch.builder()
+                .periodFrom(periodFrom)
+                .periodTo(periodTo)
+                .paidFrom(paidFrom)
+                .status(SettlementBatch.Status.RUNNING)
+                .feeRate(feeRate)
+                .minPaymentId(minId == null ? 0L : minId)
+                .maxPaymentId(maxId == null ? 0L : maxId)
+                .checkpointPaymentId(checkpoint)
+                .build());
+    }
+
+    /** (afterId, uptoId] 처리 후 checkpoint 이동. 다른 실행이 이미 처리했으면 롤백 */
+    @Transactional
+    public int processChunk(SettlementBatch batch, long afterId, long uptoId) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = settlementItemRepository.insertChunk(
+                batch.getBatchId(), afterId, uptoId,
+                batch.getPaidFrom(), batch.getPeriodTo().atStartOfDay(), batch.getFeeRate(), now
+        );
+        if (settlementBatchRepository.advanceCheckpoint(batch.getBatchId(), afterId, uptoId, now) != 1) {
+            throw new CustomException(ErrorCode.SETTLEMENT_ALREADY_RUNNING);
+        }
+        return inserted;
+    }
+
+    /** 기사별 지급액 집계 + 배치 합계/완료 처리 */
+    @Transactional
+    public void complete(Long batchId) {
+        LocalDateTime now = LocalDateTime.now();
+        settlementDriverPayoutRepository.deleteByBatch(batchId);
+        settlementDriverPayoutRepository.insertForBatch(batchId, now);
+        settlementBatchRepository.complete(batchId, now);
+    }
+
+    @Transactional
+    public boolean resume(Long batchId) {
+        return settlementBatchRepository.updateStatusIfStatus(
+                batchId, SettlementBatch.Status.FAILED, SettlementBatch.Status.RUNNING, null, LocalDateTime.now()
+        ) == 1;
+    }
+
+    @Transactional
+    public void fail(Long batchId, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage;
+        settlementBatchRepository.updateStatusIfStatus(
+                batchId, SettlementBatch.Status.RUNNING, SettlementBatch.Status.FAILED, message, LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,184 @@
+package com.freight.backend.service;
+
+import com.freight.backend.dto.common.SliceResponse;
+import com.freight.backend.dto.settlement.SettlementBatchResponse;
+import com.freight.backend.dto.settlement.SettlementDriverPayoutResponse;
+import com.freight.backend.entity.SettlementBatch;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.SettlementBatchRepository;
+import com.freight.backend.repository.SettlementDriverPayoutRepository;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 정산 서비스 (결제 금액 - 플랫폼 수수료 - 체크리스트 미이행 차감 = 기사 실수령액)
+ * - 기간별 배치 1개. 실행은 백그라운드 단일 스레드, 다중 노드 중 job_locks 를 잡은 한 노드만
+ * - paymentId 구간을 chunk-size 폭으로 나눠 INSERT ... SELECT (행을 애플리케이션으로 읽지 않아 메모리 사용량 일정)
+ * - 실패/중단된 배치는 같은 기간으로 다시 실행하면 checkpoint 부터 이어서 처리
+ */
+@Service
+public class SettlementService {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlementService.class);
+    private static final String JOB_NAME = "settlement";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SettlementChunkService settlementChunkService;
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final SettlementDriverPayoutRepository settlementDriverPayoutRepository;
+    private final JobLockService jobLockService;
+    private final BigDecimal feeRate;
+    private final long chunkSize;
+    private final long carryOverDays;
+    private final Duration lockTtl;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "settlement-runner");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SettlementService(
+            SettlementChunkService settlementChunkService,
+            SettlementBatchRepository settlementBatchRepository,
+            SettlementDriverPayoutRepository settlementDriverPayoutRepository,
+            JobLockService jobLockService,
+            @Value("${settlement.platform-fee-rate:0.10}") BigDecimal feeRate,
+            @Value("${settlement.chunk-size:5000}") long chunkSize,
+            @Value("${settlement.carry-over-days:31}") long carryOverDays,
+            @Value("${settlement.lock-ttl-seconds:300}") long lockTtlSeconds
+    ) {
+        this.settlementChunkService = settlementChunkService;
+        this.settlementBatchRepository = settlementBatchRepository;
+        this.settlementDriverPayoutRepository = settlementDriverPayoutRepository;
+        this.jobLockService = jobLockService;
+        this.feeRate = feeRate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.carryOverDays = Math.max(0, carryOverDays);
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+    }
+
+    /**
+     * 기간 정산 시작 (백그라운드). 완료된 기간이면 기존 결과 그대로 반환
+     */
+    public SettlementBatchResponse start(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        SettlementBatch batch = settlementBatchRepository.findByPeriodFromAndPeriodTo(from, to)
+                .orElseGet(() -> create(from, to));
+        if (batch.getStatus() == SettlementBatch.Status.COMPLETED) {
+            return SettlementBatchResponse.from(batch);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorCode.SETTLEMENT_ALREADY_RUNNING);
+        }
+        if (!jobLockService.tryAcquire(JOB_NAME, lockTtl)) {
+            running.set(false);
+            throw new CustomException(ErrorCode.SETTLEMENT_ALREADY_RUNNING);
+        }
+        Long batchId = batch.getBatchId();
+        settlementChunkService.resume(batchId);
+        try {
+            runner.execute(() -> {
+                try {
+                    run(batchId);
+                } finally {
+                    jobLockService.release(JOB_NAME);
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            jobLockService.release(JOB_NAME);
+            running.set(false);
+            throw e;
+        }
+        return SettlementBatchResponse.from(settlementBatchRepository.findById(batchId).orElse(batch));
+    }
+
+    public SettlementBatchResponse getBatch(Long batchId) {
+        return settlementBatchRepository.findById(batchId)
+                .map(SettlementBatchResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.SETTLEMENT_NOT_FOUND));
+    }
+
+    public SliceResponse<SettlementBatchResponse> getBatches(int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return SliceResponse.of(
+                settlementBatchRepository.findAllByOrderByBatchIdDesc(PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE))),
+                SettlementBatchResponse::from
+        );
+    }
+
+    public SliceResponse<SettlementDriverPayoutResponse> getPayouts(Long batchId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (!settlementBatchRepository.existsById(batchId)) {
+            throw new CustomException(ErrorCode.SETTLEMENT_NOT_FOUND);
+        }
+        return SliceResponse.of(
+                settlementDriverPayoutRepository.findByBatchIdOrderByDriverIdAsc(
+                        batchId, PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE))
+                ),
+                SettlementDriverPayoutResponse::from
+        );
+    }
+
+    private SettlementBatch create(LocalDate from, LocalDate to) {
+        try {
+            return settlementChunkService.create(from, to, from.minusDays(carryOverDays).atStartOfDay(), feeRate);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 기간을 동시에 생성한 경우
+            return settlementBatchRepository.findByPeriodFromAndPeriodTo(from, to)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private void run(Long batchId) {
+        long startedAt = System.nanoTime();
+        try {
+            SettlementBatch batch = settlementBatchRepository.findById(batchId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.SETTLEMENT_NOT_FOUND));
+            long after = batch.getCheckpointPaymentId();
+            long max = batch.getMaxPaymentId();
+            long items = 0;
+            while (after < max) {
+                long upto = Math.min(after + chunkSize, max);
+                items += settlementChunkService.processChunk(batch, after, upto);
+                after = upto;
+                if (!jobLockService.renew(JOB_NAME, lockTtl)) {
+                    // 다른 노드가 잠금을 가져가 이어서 처리 중 → 상태는 건드리지 않고 중단
+                    log.warn("Settlement batch {} lock lost, stopping at paymentId={}", batchId, after);
+                    return;
+                }
+            }
+            settlementChunkService.complete(batchId);
+            log.info("Settlement batch {} completed: {} new items in {} ms",
+                    batchId, items, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (RuntimeException e) {
+            log.error("Settlement batch {} failed", batchId, e);
+            settlementChunkService.fail(batchId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+}
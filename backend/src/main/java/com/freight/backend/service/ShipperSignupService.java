@@ -5,9 +5,9 @@ import com.freight.backend.dto.shipper.ShipperSignupResponse;
 import com.freight.backend.entity.Shipper;
 import com.freight.backend.exception.CustomException;
 import com.freight.backend.exception.ErrorCode;
-import com.freight.backend.odcloud.OdcloudClient;
+import com.freight.backend.odcloud.BusinessValidationService;
+import com.freight.backend.odcloud.OdcloudUnavailableException;
 import com.freight.backend.odcloud.OdcloudValidateRequest;
-import com.freight.backend.odcloud.OdcloudValidateResponse;
 import com.freight.backend.repository.ShipperRepository;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +20,7 @@ public class ShipperSignupService {
 
     private final ShipperRepository shipperRepository;
     private final BCryptPasswordEncoder passwordEncoder;
-    private final OdcloudClient odcloudClient;
+    private final BusinessValidationService businessValidationService;
 
     public ShipperSignupResponse signup(ShipperSignupRequest req) {
         if (shipperRepository.findByEmail(req.getEmail()).isPresent()) {
@@ -38,12 +38,14 @@ public class ShipperSignupService {
                 null,
                 req.getAddress()
         );
-        OdcloudValidateResponse response = odcloudClient.validateBusiness(business);
-        if (response == null
-                || response.getData() == null
-                || response.getData().isEmpty()
-                || response.getData().get(0) == null
-                || !"01".equals(response.getData().get(0).getValid())) {
+        boolean valid;
+        try {
+            valid = businessValidationService.isValid(business);
+        } catch (OdcloudUnavailableException e) {
+            // 타임아웃/서킷 open 등 진위확인 API 장애
+            throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
+        }
+        if (!valid) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
@@ -128,7 +128,6 @@ public class TruckService {
         if (!isDriver) {
             throw new CustomException(ErrorCode.AUTH_FORBIDDEN);
         }
-        String principal = String.valueOf(authentication.getPrincipal());
-        return Long.valueOf(principal);
+        return Long.valueOf(authentication.getName());
     }
 }
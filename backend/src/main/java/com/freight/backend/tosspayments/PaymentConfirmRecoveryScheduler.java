@@ -0,0 +1,32 @@
+package com.freight.backend.tosspayments;
+
+import com.freight.backend.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 승인 결과 미반영(CONFIRMING) 결제 주기 복구
+ * - 서버가 PG 호출 중 종료되었거나 승인 응답이 타임아웃된 결제를 토스 조회로 확정
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmRecoveryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentConfirmRecoveryScheduler.class);
+
+    private final PaymentService paymentService;
+
+    @Scheduled(
+            initialDelayString = "${toss.payments.confirm.recovery.interval-ms:60000}",
+            fixedDelayString = "${toss.payments.confirm.recovery.interval-ms:60000}"
+    )
+    public void recover() {
+        int resolved = paymentService.recoverStaleConfirms();
+        if (resolved > 0) {
+            log.info("Resolved {} stale CONFIRMING payments", resolved);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.freight.backend.tosspayments;
+
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.service.PaymentReconcileService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대사 주기 실행
+ * - 여러 노드가 같은 주기로 돌아도 job_locks 를 잡은 한 노드만 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentReconcileScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconcileScheduler.class);
+
+    private final PaymentReconcileService paymentReconcileService;
+    private final TossPaymentsClient tossPaymentsClient;
+
+    @Value("${toss.payments.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(
+            initialDelayString = "${toss.payments.reconcile.interval-ms:600000}",
+            fixedDelayString = "${toss.payments.reconcile.interval-ms:600000}"
+    )
+    public void reconcile() {
+        if (!enabled || !tossPaymentsClient.isConfigured()) {
+            return;
+        }
+        try {
+            paymentReconcileService.start();
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.RECONCILE_ALREADY_RUNNING) {
+                throw e;
+            }
+            log.debug("Payment reconcile skipped: already running");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.freight.backend.tosspayments;
+
+import jakarta.annotation.PreDestroy;
+import com.freight.backend.common.WorkerThreads;
+import com.freight.backend.http.OutboundRejectedException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * 토스 승인 호출 전용 실행기
+ * - 스레드/대기열 크기를 제한해 결제 폭주 시 PG 호출이 요청 스레드를 모두 점유하지 않도록 함
+ *   (초과, 또는 토스 클라이언트 서킷 open / 동시 호출 상한으로 요청을 보내지 않은 경우 REJECTED)
+ * - 호출 측은 timeout-ms 까지만 기다림. 초과/네트워크 오류/5xx 는 UNKNOWN 으로 돌려주고 결과 확정은 복구 작업에 맡김
+ * - DB 트랜잭션 밖에서만 호출할 것
+ */
+@Component
+public class TossConfirmExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(TossConfirmExecutor.class);
+
+    private final TossPaymentsClient tossPaymentsClient;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public TossConfirmExecutor(
+            TossPaymentsClient tossPaymentsClient,
+            WorkerThreads workerThreads,
+            @Value("${toss.payments.confirm.max-concurrency:16}") int maxConcurrency,
+            @Value("${toss.payments.confirm.queue-capacity:64}") int queueCapacity,
+            @Value("${toss.payments.confirm.timeout-ms:10000}") long timeoutMs
+    ) {
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrency, maxConcurrency,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                workerThreads.io("toss-confirm"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /** 토스 승인 호출 (최대 timeout-ms 대기) */
+    public TossConfirmOutcome confirm(String paymentKey, String orderId, long amount) {
+        Future<TossPaymentConfirmResponse> future;
+        try {
+            future = executor.submit(() -> tossPaymentsClient.confirm(paymentKey, orderId, amount));
+        } catch (RejectedExecutionException e) {
+            return TossConfirmOutcome.of(TossConfirmOutcome.Result.REJECTED);
+        }
+
+        try {
+            TossPaymentConfirmResponse response = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            if (response != null && response.isDone()) {
+                return new TossConfirmOutcome(TossConfirmOutcome.Result.APPROVED, response);
+            }
+            return new TossConfirmOutcome(TossConfirmOutcome.Result.DECLINED, response);
+        } catch (TimeoutException e) {
+            // 요청은 이미 PG로 나갔을 수 있으므로 취소하지 않고 결과는 복구 작업이 조회로 확정
+            log.warn("Toss confirm timed out after {}ms: orderId={}", timeoutMs, orderId);
+            return TossConfirmOutcome.of(TossConfirmOutcome.Result.UNKNOWN);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return TossConfirmOutcome.of(TossConfirmOutcome.Result.UNKNOWN);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OutboundRejectedException) {
+                // 서킷 open / 동시 호출 상한: 요청이 PG로 나가지 않았음
+                log.info("Toss confirm not sent: orderId={}, {}", orderId, e.getCause().getMessage());
+                return TossConfirmOutcome.of(TossConfirmOutcome.Result.REJECTED);
+            }
+            if (e.getCause() instanceof HttpClientErrorException clientError && isDefinitiveDecline(clientError)) {
+                log.info("Toss confirm declined: orderId={}, status={}", orderId, clientError.getStatusCode());
+                return TossConfirmOutcome.of(TossConfirmOutcome.Result.DECLINED);
+            }
+            log.warn("Toss confirm failed: orderId={}", orderId, e.getCause());
+            return TossConfirmOutcome.of(TossConfirmOutcome.Result.UNKNOWN);
+        }
+    }
+
+    /**
+     * 4xx 중 승인되지 않았음이 확실한 경우만 거절로 봄.
+     * 이미 처리된 결제(재시도로 먼저 승인된 경우)와 429 는 조회로 확정해야 하므로 제외.
+     */
+    private static boolean isDefinitiveDecline(HttpClientErrorException e) {
+        if (e.getStatusCode().value() == 429) {
+            return false;
+        }
+        return !e.getResponseBodyAsString().contains("ALREADY_PROCESSED_PAYMENT");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
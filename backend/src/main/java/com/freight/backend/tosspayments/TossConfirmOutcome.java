@@ -0,0 +1,19 @@
+package com.freight.backend.tosspayments;
+
+/**
+ * 토스 승인 호출 결과
+ * - APPROVED: 승인 완료 (response.isDone())
+ * - DECLINED: PG가 명시적으로 거절 (4xx 응답 또는 DONE 이 아닌 응답)
+ * - UNKNOWN: 타임아웃/네트워크/5xx 로 승인 여부를 알 수 없음 → 복구 작업이 토스 조회로 확정
+ * - REJECTED: 동시 승인 한도 초과 또는 서킷 open 으로 PG 호출 자체를 하지 않음
+ */
+public record TossConfirmOutcome(Result result, TossPaymentConfirmResponse response) {
+
+    public enum Result {
+        APPROVED, DECLINED, UNKNOWN, REJECTED
+    }
+
+    public static TossConfirmOutcome of(Result result) {
+        return new TossConfirmOutcome(result, null);
+    }
+}
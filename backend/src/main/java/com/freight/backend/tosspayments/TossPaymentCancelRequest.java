@@ -0,0 +1,16 @@
+package com.freight.backend.tosspayments;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 결제 취소 요청 (cancelAmount 없이 보내면 전액 취소) */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TossPaymentCancelRequest {
+
+    @JsonProperty("cancelReason")
+    private String cancelReason;
+}
@@ -31,6 +31,13 @@ public class TossPaymentConfirmResponse {
         return "DONE".equalsIgnoreCase(status);
     }
 
+    /** 승인되지 않은 채 끝난 상태 (취소/만료/중단) */
+    public boolean isTerminalFailure() {
+        return "CANCELED".equalsIgnoreCase(status)
+                || "ABORTED".equalsIgnoreCase(status)
+                || "EXPIRED".equalsIgnoreCase(status);
+    }
+
     public LocalDateTime getApprovedAtAsLocalDateTime() {
         if (approvedAt == null || approvedAt.isBlank()) {
             return null;
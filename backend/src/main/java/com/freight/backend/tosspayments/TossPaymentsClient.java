@@ -1,5 +1,6 @@
 package com.freight.backend.tosspayments;
 
+import com.freight.backend.http.OutboundHttpClients;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,47 +10,78 @@ import org.springframework.web.client.RestClient;
 
 /**
  * 토스페이먼츠 API 클라이언트
- * - 결제 승인(confirm)만 사용. 준비는 프론트 결제창에서 orderId/amount/clientKey로 진행.
+ * - 결제 승인(confirm), 주문번호로 결제 조회(승인 결과 복구용), 결제 취소(환불). 준비는 프론트 결제창에서 orderId/amount/clientKey로 진행.
  * - 실제 결제 여부: API URL은 동일. 테스트 시크릿 키를 쓰면 실제 청구되지 않고, 라이브 키를 쓰면 실결제됨.
+ * - 타임아웃/동시 호출 상한/서킷은 outbound-http.clients.toss (base-url 은 로컬 stub 서버로 바꿔 테스트 가능)
  */
 @Component
 public class TossPaymentsClient {
 
-    private static final String CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String ORDER_PATH = "/v1/payments/orders/{orderId}";
+    private static final String CANCEL_PATH = "/v1/payments/{paymentKey}/cancel";
 
     private final RestClient restClient;
     private final String secretKey;
 
     public TossPaymentsClient(
-            RestClient.Builder restClientBuilder,
+            OutboundHttpClients outboundHttpClients,
+            @Value("${toss.payments.base-url:https://api.tosspayments.com}") String baseUrl,
             @Value("${toss.payments.secret-key:}") String secretKey
     ) {
         this.secretKey = secretKey != null ? secretKey : "";
-        this.restClient = restClientBuilder.build();
+        this.restClient = outboundHttpClients.builder("toss")
+                .baseUrl(baseUrl)
+                .build();
     }
 
     /** 결제창 성공 후 전달받은 paymentKey, orderId, amount로 토스 승인 API 호출 */
     public TossPaymentConfirmResponse confirm(String paymentKey, String orderId, long amount) {
-        if (secretKey.isBlank()) {
-            throw new IllegalStateException("toss.payments.secret-key is not set");
-        }
-
-        String auth = "Basic " + Base64.getEncoder()
-                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
         TossPaymentConfirmRequest body = new TossPaymentConfirmRequest(paymentKey, orderId, amount);
 
         return restClient.post()
-                .uri(CONFIRM_URL)
-                .header("Authorization", auth)
+                .uri(CONFIRM_PATH)
+                .header("Authorization", authorization())
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body)
                 .retrieve()
                 .body(TossPaymentConfirmResponse.class);
     }
 
+    /** 주문번호(orderId)로 토스 결제 조회 (승인 결과가 반영되지 않은 결제 복구용) */
+    public TossPaymentConfirmResponse getPaymentByOrderId(String orderId) {
+        return restClient.get()
+                .uri(ORDER_PATH, orderId)
+                .header("Authorization", authorization())
+                .retrieve()
+                .body(TossPaymentConfirmResponse.class);
+    }
+
+    /**
+     * 결제 전액 취소 (환불)
+     * idempotencyKey 가 같은 재요청은 토스가 처음 결과를 그대로 돌려줌 (재시도 중복 취소 방지)
+     */
+    public TossPaymentConfirmResponse cancel(String paymentKey, String cancelReason, String idempotencyKey) {
+        return restClient.post()
+                .uri(CANCEL_PATH, paymentKey)
+                .header("Authorization", authorization())
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new TossPaymentCancelRequest(cancelReason))
+                .retrieve()
+                .body(TossPaymentConfirmResponse.class);
+    }
+
     /** secretKey 설정 여부 (prepare/confirm 사용 가능 여부 판단용) */
     public boolean isConfigured() {
         return secretKey != null && !secretKey.isBlank();
     }
+
+    private String authorization() {
+        if (secretKey.isBlank()) {
+            throw new IllegalStateException("toss.payments.secret-key is not set");
+        }
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,25 @@
+package com.freight.backend.tosspayments;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토스 기준 결제 상태 (웹훅/조회 결과). 결제 상태 반영 입력
+ */
+public record TossStatusChange(
+        String orderId,
+        String paymentKey,
+        String status,
+        Long totalAmount,
+        LocalDateTime approvedAt
+) {
+
+    public static TossStatusChange from(TossPaymentConfirmResponse payment) {
+        return new TossStatusChange(
+                payment.getOrderId(),
+                payment.getPaymentKey(),
+                payment.getStatus(),
+                payment.getTotalAmount(),
+                payment.getApprovedAtAsLocalDateTime()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.freight.backend.tosspayments;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토스 결제 상태 변경 웹훅 본문 (eventType=PAYMENT_STATUS_CHANGED, data=결제 객체)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TossWebhookPayload {
+
+    @JsonProperty("eventType")
+    private String eventType;
+
+    @JsonProperty("createdAt")
+    private String createdAt;
+
+    @JsonProperty("data")
+    private TossPaymentConfirmResponse data;
+}
@@ -0,0 +1,94 @@
+package com.freight.backend.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.freight.backend.http.OutboundHttpClients;
+import com.freight.backend.http.StubHttpServer;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** 로컬 stub 서버로 DeepSeek 클라이언트 확인. 실패(타임아웃/5xx/서킷 open)는 예외 대신 조언 없음 */
+class DeepSeekClientTest {
+
+    private static final String ADVICE = """
+            {"choices":[{"message":{"role":"assistant","content":" 운임이 시세보다 낮습니다. "}}]}
+            """;
+
+    private StubHttpServer stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubHttpServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void adviceIsReadFromFirstChoice() {
+        stub.respond(200, ADVICE);
+
+        assertThat(client(clients(Duration.ofHours(1))).generateAdvice("견적 검증")).hasValue("운임이 시세보다 낮습니다.");
+        StubHttpServer.Request request = stub.requests().get(0);
+        assertThat(request.uri()).isEqualTo("/chat/completions");
+        assertThat(request.header("Authorization")).isEqualTo("Bearer sk-test");
+        assertThat(request.body()).contains("\"max_tokens\":200").contains("견적 검증");
+    }
+
+    /** 응답 타임아웃도 실패로 세어 서킷을 엶 */
+    @Test
+    void slowResponsesTimeOutAndOpenTheCircuit() {
+        stub.respond(200, ADVICE);
+        stub.delay(Duration.ofSeconds(2));
+        OutboundHttpClients clients = clients(Duration.ofHours(1));
+        DeepSeekClient client = client(clients);
+
+        long start = System.nanoTime();
+        assertThat(client.generateAdvice("견적 검증")).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(client.generateAdvice("견적 검증")).isEmpty();
+
+        assertThat(clients.stats().get(0).getCircuitState()).isEqualTo("OPEN");
+    }
+
+    /** open 상태에서는 upstream 에 요청을 보내지 않고 조언 없이 진행 */
+    @Test
+    void openCircuitSkipsUpstream() {
+        stub.respond(500, "{}");
+        DeepSeekClient client = client(clients(Duration.ofHours(1)));
+        assertThat(client.generateAdvice("견적 검증")).isEmpty();
+        assertThat(client.generateAdvice("견적 검증")).isEmpty();
+
+        assertThat(client.generateAdvice("견적 검증")).isEmpty();
+        assertThat(stub.requests()).hasSize(2);
+    }
+
+    /** open-duration 이 지나면 시험 호출 1건을 보내고, 성공하면 다시 닫힘 */
+    @Test
+    void successfulProbeClosesTheCircuit() throws InterruptedException {
+        stub.respond(500, "{}");
+        OutboundHttpClients clients = clients(Duration.ofMillis(100));
+        DeepSeekClient client = client(clients);
+        client.generateAdvice("견적 검증");
+        client.generateAdvice("견적 검증");
+
+        stub.respond(200, ADVICE);
+        Thread.sleep(200);
+
+        assertThat(client.generateAdvice("견적 검증")).hasValue("운임이 시세보다 낮습니다.");
+        assertThat(clients.stats().get(0).getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    private static OutboundHttpClients clients(Duration openDuration) {
+        return StubHttpServer.outboundClients("deepseek", openDuration);
+    }
+
+    private DeepSeekClient client(OutboundHttpClients clients) {
+        return new DeepSeekClient(clients, true, "sk-test", stub.baseUrl(), "deepseek-chat");
+    }
+}
@@ -0,0 +1,64 @@
+package com.freight.backend.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    // 칸 4개 × 5ms → 20ms 보다 긴 지연은 여러 바퀴(rounds)를 돌아야 실행됨
+    private final TimingWheel wheel = new TimingWheel("test", 5, 4, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void runsTasksInDeadlineOrderAndNotEarly() throws InterruptedException {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long start = System.nanoTime();
+        long[] ranAtMs = new long[3];
+        wheel.start();
+
+        wheel.schedule(() -> {
+            ranAtMs[2] = elapsedMs(start);
+            ran.add("late");
+            done.countDown();
+        }, 120);
+        wheel.schedule(() -> {
+            ranAtMs[0] = elapsedMs(start);
+            ran.add("now");
+            done.countDown();
+        }, 0);
+        wheel.schedule(() -> {
+            ranAtMs[1] = elapsedMs(start);
+            ran.add("mid");
+            done.countDown();
+        }, 45);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly("now", "mid", "late");
+        assertThat(ranAtMs[1]).isGreaterThanOrEqualTo(45);
+        assertThat(ranAtMs[2]).isGreaterThanOrEqualTo(120);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void sizeCountsPendingTasks() {
+        wheel.schedule(() -> { }, 10_000);
+        wheel.schedule(() -> { }, 10_000);
+
+        assertThat(wheel.size()).isEqualTo(2);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,118 @@
+package com.freight.backend.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AuctionAssignmentSolverTest {
+
+    private static final double EPS = 0.001;
+
+    private final AuctionAssignmentSolver solver = new AuctionAssignmentSolver(EPS, 5000);
+
+    @Test
+    void picksTheBestPairing() {
+        // 행 0 은 열 0 을 더 원하지만, 행 1 이 열 0 만 갈 수 있으므로 0→1, 1→0 이 최적
+        SparseBenefitMatrix matrix = matrix(2, 2, new double[][]{
+                {10, 9},
+                {8, Double.NaN}
+        });
+
+        assertThat(solver.solve(matrix)).containsExactly(1, 0);
+    }
+
+    @Test
+    void rowWithoutArcsStaysUnassigned() {
+        SparseBenefitMatrix matrix = matrix(2, 1, new double[][]{
+                {Double.NaN},
+                {5}
+        });
+
+        assertThat(solver.solve(matrix)).containsExactly(-1, 0);
+    }
+
+    @Test
+    void moreRowsThanColumnsLeavesLowestBenefitOut() {
+        SparseBenefitMatrix matrix = matrix(3, 1, new double[][]{
+                {3},
+                {7},
+                {5}
+        });
+
+        assertThat(solver.solve(matrix)).containsExactly(-1, 0, -1);
+    }
+
+    /** 작은 무작위 행렬에서 전수 탐색 최적값과 비교 (오차 ≤ rows × eps) */
+    @Test
+    void nearOptimalOnRandomMatrices() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            int rows = 1 + random.nextInt(5);
+            int cols = 1 + random.nextInt(5);
+            double[][] benefit = new double[rows][cols];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    benefit[i][j] = random.nextInt(4) == 0 ? Double.NaN : 1 + random.nextInt(100);
+                }
+            }
+
+            int[] assignment = solver.solve(matrix(rows, cols, benefit));
+
+            boolean[] taken = new boolean[cols];
+            double total = 0;
+            for (int i = 0; i < rows; i++) {
+                int col = assignment[i];
+                if (col < 0) {
+                    continue;
+                }
+                assertThat(taken[col]).isFalse();
+                assertThat(Double.isNaN(benefit[i][col])).isFalse();
+                taken[col] = true;
+                total += benefit[i][col];
+            }
+            assertThat(total).isGreaterThanOrEqualTo(bestTotal(benefit, 0, new boolean[cols]) - rows * EPS);
+        }
+    }
+
+    private static double bestTotal(double[][] benefit, int row, boolean[] taken) {
+        if (row == benefit.length) {
+            return 0;
+        }
+        double best = bestTotal(benefit, row + 1, taken);
+        for (int col = 0; col < taken.length; col++) {
+            if (taken[col] || Double.isNaN(benefit[row][col])) {
+                continue;
+            }
+            taken[col] = true;
+            best = Math.max(best, benefit[row][col] + bestTotal(benefit, row + 1, taken));
+            taken[col] = false;
+        }
+        return best;
+    }
+
+    /** NaN 칸은 간선 없음 */
+    private static SparseBenefitMatrix matrix(int rows, int cols, double[][] dense) {
+        int[] rowStart = new int[rows + 1];
+        List<Integer> colIdx = new ArrayList<>();
+        List<Double> benefit = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (!Double.isNaN(dense[i][j])) {
+                    colIdx.add(j);
+                    benefit.add(dense[i][j]);
+                }
+            }
+            rowStart[i + 1] = colIdx.size();
+        }
+        return new SparseBenefitMatrix(
+                rows,
+                cols,
+                rowStart,
+                colIdx.stream().mapToInt(Integer::intValue).toArray(),
+                benefit.stream().mapToDouble(Double::doubleValue).toArray()
+        );
+    }
+}
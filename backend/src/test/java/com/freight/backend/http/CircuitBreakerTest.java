@@ -0,0 +1,97 @@
+package com.freight.backend.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(50, 4, 4, Duration.ofHours(1));
+
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(breaker, true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.opens()).isEqualTo(1);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(50, 10, 5, Duration.ofHours(1));
+
+        for (int i = 0; i < 4; i++) {
+            call(breaker, true);
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void oldCallsSlideOutOfTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(50, 4, 4, Duration.ofHours(1));
+
+        call(breaker, true);
+        for (int i = 0; i < 5; i++) {
+            call(breaker, false);
+        }
+        call(breaker, true);
+
+        // 창에는 [실패, 성공, 성공, 성공] 만 남음 → 25%
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsOneProbe() {
+        CircuitBreaker breaker = new CircuitBreaker(50, 2, 2, Duration.ZERO);
+        call(breaker, true);
+        call(breaker, true);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedProbeOpensAgain() {
+        CircuitBreaker breaker = new CircuitBreaker(50, 2, 2, Duration.ZERO);
+        call(breaker, true);
+        call(breaker, true);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.opens()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoredProbeReleasesTheSlot() {
+        CircuitBreaker breaker = new CircuitBreaker(50, 2, 2, Duration.ZERO);
+        call(breaker, true);
+        call(breaker, true);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private static void call(CircuitBreaker breaker, boolean fail) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (fail) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.freight.backend.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 외부 API 클라이언트 테스트용 로컬 stub 서버 (JDK HttpServer, 루프백 임의 포트)
+ * - 모든 경로에 같은 응답 (respond 로 상태/본문, delay 로 응답 지연 지정), 받은 요청은 requests() 로 확인
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    /** stub 응답 지연보다 짧게 잡은 응답 타임아웃 */
+    public static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile long delayMs;
+
+    public StubHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * name 용 클라이언트 생성기 (클라이언트 생성자에 baseUrl() 을 넘겨 이 서버로 보냄)
+     * - 응답 타임아웃 READ_TIMEOUT, 최근 2건 중 1건 이상 실패(50%)면 서킷 open, openDuration 뒤 시험 호출 1건
+     */
+    public static OutboundHttpClients outboundClients(String name, Duration openDuration) {
+        OutboundHttpProperties.Client settings = new OutboundHttpProperties.Client();
+        settings.setReadTimeout(READ_TIMEOUT);
+        settings.setSlidingWindowSize(2);
+        settings.setMinimumCalls(2);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(openDuration);
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        properties.setClients(Map.of(name, settings));
+        return new OutboundHttpClients(RestClient.builder(), properties);
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    public void delay(Duration delay) {
+        this.delayMs = delay.toMillis();
+    }
+
+    public List<Request> requests() {
+        return requests;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(new Request(exchange.getRequestMethod(), exchange.getRequestURI().toString(),
+                    exchange.getRequestHeaders(), requestBody));
+            if (delayMs > 0) {
+                Thread.sleep(delayMs);
+            }
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length == 0 ? -1 : response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    public record Request(String method, String uri, Headers headers, String body) {
+
+        public String header(String name) {
+            return headers.getFirst(name);
+        }
+    }
+}
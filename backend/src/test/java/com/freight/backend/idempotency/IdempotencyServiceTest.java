@@ -0,0 +1,206 @@
+package com.freight.backend.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyServiceTest {
+
+    private static final String PATH = "/api/shipper/payments/confirm";
+
+    private final CountingStore store = new CountingStore();
+    private final IdempotencyService service = new IdempotencyService(store, List.of(PATH), 24, 10, 60, 5000);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void appliesOnlyToConfiguredPaths() {
+        assertThat(service.appliesTo(PATH)).isTrue();
+        assertThat(service.appliesTo("/api/shipper/quotes/1")).isFalse();
+    }
+
+    /** 같은 노드의 동시 중복 요청은 저장소를 거치지 않고 먼저 온 요청의 결과를 받음, 실제 실행은 1회 */
+    @Test
+    void concurrentDuplicateWaitsForTheFirstResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        StoredResponse ok = response(200, "paid");
+
+        Future<StoredResponse> first = executor.submit(() -> service.execute("k1", "fp", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(finish);
+            return ok;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicReference<StoredResponse> secondResult = new AtomicReference<>();
+        Thread second = new Thread(() -> {
+            try {
+                secondResult.set(service.execute("k1", "fp", () -> {
+                    runs.incrementAndGet();
+                    return response(200, "second");
+                }));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        second.start();
+        waitUntilParked(second);
+
+        finish.countDown();
+        second.join(5000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(secondResult.get()).isSameAs(ok);
+        assertThat(runs).hasValue(1);
+        assertThat(store.claims).hasValue(1);
+    }
+
+    @Test
+    void concurrentDuplicateWithDifferentBodyIsRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<StoredResponse> first = executor.submit(() -> service.execute("k2", "fp-a", () -> {
+            started.countDown();
+            await(finish);
+            return response(200, "a");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.execute("k2", "fp-b", () -> response(200, "b")))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    /** 완료된 키는 저장된 응답을 재생하고 다시 실행하지 않음 */
+    @Test
+    void completedResponseIsReplayed() throws Exception {
+        StoredResponse ok = response(200, "paid");
+
+        assertThat(service.execute("k3", "fp", () -> {
+            runs.incrementAndGet();
+            return ok;
+        })).isNull();
+        StoredResponse replayed = service.execute("k3", "fp", () -> {
+            runs.incrementAndGet();
+            return response(200, "again");
+        });
+
+        assertThat(replayed.status()).isEqualTo(200);
+        assertThat(new String(replayed.body(), StandardCharsets.UTF_8)).isEqualTo("paid");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void replayWithDifferentBodyIsRejected() throws Exception {
+        service.execute("k4", "fp-a", () -> response(201, "created"));
+
+        assertThatThrownBy(() -> service.execute("k4", "fp-b", () -> response(201, "other")))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    /** 5xx/예외는 저장하지 않으므로 같은 키로 다시 실행됨 */
+    @Test
+    void serverErrorReleasesTheKey() throws Exception {
+        service.execute("k5", "fp", () -> {
+            runs.incrementAndGet();
+            return response(503, "busy");
+        });
+        assertThatThrownBy(() -> service.execute("k5", "fp", () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(service.execute("k5", "fp", () -> {
+            runs.incrementAndGet();
+            return response(200, "ok");
+        })).isNull();
+        assertThat(runs).hasValue(3);
+    }
+
+    /** 다른 노드가 처리 중인 키 (저장소에만 처리 중으로 남아 있음) 는 409 */
+    @Test
+    void keyClaimedElsewhereIsInProgress() {
+        Instant now = Instant.now();
+        store.claim("k6", "fp", now, now.plus(Duration.ofMinutes(1)));
+
+        assertThatThrownBy(() -> service.execute("k6", "fp", () -> response(200, "ok")))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+    }
+
+    /** 202 는 accepted-ttl 동안만 재생, 이후에는 다시 실행 */
+    @Test
+    void acceptedResponseIsReplayedOnlyBriefly() throws Exception {
+        IdempotencyService shortAccepted = new IdempotencyService(store, List.of(PATH), 24, 0, 60, 5000);
+        shortAccepted.execute("k7", "fp", () -> {
+            runs.incrementAndGet();
+            return response(202, "checking");
+        });
+
+        assertThat(shortAccepted.execute("k7", "fp", () -> {
+            runs.incrementAndGet();
+            return response(200, "paid");
+        })).isNull();
+        assertThat(runs).hasValue(2);
+    }
+
+    /** 먼저 온 요청의 결과를 기다리는 중(future.get)이 될 때까지 대기 */
+    private static void waitUntilParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static StoredResponse response(int status, String body) {
+        return new StoredResponse(status, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class CountingStore extends InMemoryIdempotencyStore {
+        private final AtomicInteger claims = new AtomicInteger();
+
+        @Override
+        public IdempotencyClaim claim(String key, String fingerprint, Instant now, Instant leaseExpiresAt) {
+            claims.incrementAndGet();
+            return super.claim(key, fingerprint, now, leaseExpiresAt);
+        }
+    }
+}
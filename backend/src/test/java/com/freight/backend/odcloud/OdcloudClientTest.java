@@ -0,0 +1,107 @@
+package com.freight.backend.odcloud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.freight.backend.http.OutboundHttpClients;
+import com.freight.backend.http.OutboundRejectedException;
+import com.freight.backend.http.StubHttpServer;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/** 로컬 stub 서버로 사업자 진위확인 클라이언트의 요청 형식, 타임아웃, 서킷 open/half-open 확인 */
+class OdcloudClientTest {
+
+    private static final String VALID = """
+            {"status_code":"OK","request_cnt":1,"valid_cnt":1,
+             "data":[{"b_no":"1234567890","valid":"01"}]}
+            """;
+    private static final OdcloudValidateRequest.Business BUSINESS = new OdcloudValidateRequest.Business(
+            "1234567890", "20200101", "홍길동", null, null, null, null, null, null
+    );
+
+    private StubHttpServer stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubHttpServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void validateSendsServiceKeyAndParsesResponse() {
+        stub.respond(200, VALID);
+
+        OdcloudValidateResponse response = client(clients(Duration.ofHours(1))).validateBusiness(BUSINESS);
+
+        assertThat(response.getValidCount()).isEqualTo(1);
+        assertThat(response.getData().get(0).getValid()).isEqualTo("01");
+        StubHttpServer.Request request = stub.requests().get(0);
+        assertThat(request.uri()).startsWith("/api/nts-businessman/v1/validate?")
+                .contains("serviceKey=test-key")
+                .contains("returnType=JSON");
+        assertThat(request.body()).contains("\"b_no\":\"1234567890\"");
+    }
+
+    /** 응답 타임아웃도 실패로 세어 서킷을 엶 */
+    @Test
+    void slowResponsesTimeOutAndOpenTheCircuit() {
+        stub.respond(200, VALID);
+        stub.delay(Duration.ofSeconds(2));
+        OutboundHttpClients clients = clients(Duration.ofHours(1));
+        OdcloudClient client = client(clients);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.validateBusiness(BUSINESS)).isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(clients.stats().get(0).getCircuitState()).isEqualTo("OPEN");
+    }
+
+    /** open 상태에서는 upstream 에 요청을 보내지 않고 바로 거절 */
+    @Test
+    void openCircuitRejectsWithoutCallingUpstream() {
+        stub.respond(503, "{}");
+        OdcloudClient client = client(clients(Duration.ofHours(1)));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.validateBusiness(BUSINESS)).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThatThrownBy(() -> client.validateBusiness(BUSINESS)).isInstanceOf(OutboundRejectedException.class);
+        assertThat(stub.requests()).hasSize(2);
+    }
+
+    /** open-duration 이 지나면 시험 호출 1건을 보내고, 성공하면 다시 닫힘 */
+    @Test
+    void successfulProbeClosesTheCircuit() throws InterruptedException {
+        stub.respond(503, "{}");
+        OutboundHttpClients clients = clients(Duration.ofMillis(100));
+        OdcloudClient client = client(clients);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.validateBusiness(BUSINESS)).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        stub.respond(200, VALID);
+        Thread.sleep(200);
+
+        assertThat(client.validateBusiness(BUSINESS).getValidCount()).isEqualTo(1);
+        assertThat(clients.stats().get(0).getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    private static OutboundHttpClients clients(Duration openDuration) {
+        return StubHttpServer.outboundClients("odcloud", openDuration);
+    }
+
+    private OdcloudClient client(OutboundHttpClients clients) {
+        return new OdcloudClient(clients, stub.baseUrl(), "test-key");
+    }
+}
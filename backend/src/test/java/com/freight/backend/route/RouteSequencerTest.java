@@ -0,0 +1,131 @@
+package com.freight.backend.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.freight.backend.geo.GeoUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RouteSequencerTest {
+
+    private final RouteSequencer sequencer = new RouteSequencer(1000);
+
+    @Test
+    void emptyStops() {
+        RoutePlan plan = sequencer.sequence(List.of(), 37.5, 127.0, false);
+
+        assertThat(plan.order()).isEmpty();
+        assertThat(plan.totalKm()).isZero();
+    }
+
+    @Test
+    void pointsOnALineAreVisitedInOrder() {
+        // 경도 순서를 섞어서 입력 → 출발 위치에서 한 방향으로 훑는 경로가 최적
+        List<RouteStop> stops = List.of(
+                stop(127.03, -1),
+                stop(127.01, -1),
+                stop(127.04, -1),
+                stop(127.02, -1)
+        );
+
+        RoutePlan plan = sequencer.sequence(stops, 37.5, 127.00, false);
+
+        assertThat(plan.order()).containsExactly(1, 3, 0, 2);
+        assertThat(plan.totalKm()).isCloseTo(GeoUtils.haversineKm(37.5, 127.00, 37.5, 127.04), within(1e-3));
+    }
+
+    @Test
+    void dropoffNeverBeforeItsPickup() {
+        // 하차지(1)가 출발 위치에 가장 가깝지만 상차지(0)를 먼저 방문해야 함
+        List<RouteStop> stops = List.of(
+                stop(127.10, -1),
+                stop(127.01, 0),
+                stop(127.05, -1),
+                stop(127.06, 2)
+        );
+
+        RoutePlan plan = sequencer.sequence(stops, 37.5, 127.00, false);
+
+        int[] pos = positions(plan.order());
+        assertThat(pos[0]).isLessThan(pos[1]);
+        assertThat(pos[2]).isLessThan(pos[3]);
+    }
+
+    @Test
+    void lastStopStaysLastWhenFixed() {
+        List<RouteStop> stops = List.of(
+                stop(127.05, -1),
+                stop(127.02, -1),
+                stop(127.04, -1),
+                stop(127.01, -1)
+        );
+
+        RoutePlan plan = sequencer.sequence(stops, 37.5, 127.00, true);
+
+        assertThat(plan.order()[plan.order().length - 1]).isEqualTo(3);
+    }
+
+    /** 무작위 입력에서도 결과가 순열이고 제약을 지키며, 구간 거리 합이 총 거리와 같아야 함 */
+    @Test
+    void randomPlansAreFeasible() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            List<RouteStop> stops = new ArrayList<>();
+            int pairs = 1 + random.nextInt(6);
+            for (int i = 0; i < pairs; i++) {
+                int pickup = stops.size();
+                stops.add(stop(37.4 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2, -1));
+                stops.add(stop(37.4 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2, pickup));
+            }
+            boolean hasStart = random.nextBoolean();
+
+            RoutePlan plan = sequencer.sequence(
+                    stops, hasStart ? 37.5 : null, hasStart ? 127.0 : null, false);
+
+            int[] sorted = plan.order().clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                assertThat(sorted[i]).isEqualTo(i);
+            }
+            int[] pos = positions(plan.order());
+            for (int i = 0; i < stops.size(); i++) {
+                int predecessor = stops.get(i).predecessor();
+                if (predecessor >= 0) {
+                    assertThat(pos[predecessor]).isLessThan(pos[i]);
+                }
+            }
+            assertThat(Arrays.stream(plan.legKm()).sum()).isCloseTo(plan.totalKm(), within(1e-6));
+        }
+    }
+
+    @Test
+    void rejectsInvalidPredecessor() {
+        List<RouteStop> stops = List.of(stop(127.01, 5), stop(127.02, -1));
+
+        assertThatThrownBy(() -> sequencer.sequence(stops, null, null, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RouteStop stop(double lng, int predecessor) {
+        return stop(37.5, lng, predecessor);
+    }
+
+    private static RouteStop stop(double lat, double lng, int predecessor) {
+        return new RouteStop(
+                predecessor < 0 ? RouteStop.Type.PICKUP : RouteStop.Type.DROPOFF,
+                null, null, null, lat, lng, predecessor);
+    }
+
+    private static int[] positions(int[] order) {
+        int[] pos = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            pos[order[i]] = i;
+        }
+        return pos;
+    }
+}
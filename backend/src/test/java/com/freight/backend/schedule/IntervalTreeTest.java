@@ -0,0 +1,80 @@
+package com.freight.backend.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    @Test
+    void overlapsIsHalfOpen() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(10, 20, 1);
+
+        assertThat(tree.overlaps(0, 10)).isFalse();
+        assertThat(tree.overlaps(20, 30)).isFalse();
+        assertThat(tree.overlaps(0, 11)).isTrue();
+        assertThat(tree.overlaps(19, 30)).isTrue();
+        assertThat(tree.overlaps(12, 15)).isTrue();
+        assertThat(tree.overlaps(5, 25)).isTrue();
+    }
+
+    @Test
+    void sameStartIsKeptPerId() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(10, 20, 1);
+        tree.insert(10, 40, 2);
+
+        assertThat(tree.remove(10, 2)).isTrue();
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.overlaps(30, 35)).isFalse();
+        assertThat(tree.overlaps(15, 16)).isTrue();
+    }
+
+    @Test
+    void removeMissingReturnsFalse() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(10, 20, 1);
+
+        assertThat(tree.remove(10, 2)).isFalse();
+        assertThat(tree.remove(11, 1)).isFalse();
+        assertThat(tree.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsEmptyInterval() {
+        IntervalTree tree = new IntervalTree();
+
+        assertThatThrownBy(() -> tree.insert(10, 10, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** 무작위 삽입/삭제 후 겹침 결과를 전수 비교 (회전 후 maxEnd 갱신 누락 검출) */
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> intervals = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            if (!intervals.isEmpty() && random.nextInt(3) == 0) {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                assertThat(tree.remove(removed[0], removed[2])).isTrue();
+            } else {
+                long start = random.nextInt(1000);
+                long[] added = {start, start + 1 + random.nextInt(50), step};
+                intervals.add(added);
+                tree.insert(added[0], added[1], added[2]);
+            }
+
+            long start = random.nextInt(1050);
+            long end = start + 1 + random.nextInt(30);
+            boolean expected = intervals.stream().anyMatch(i -> i[0] < end && i[1] > start);
+            assertThat(tree.overlaps(start, end)).isEqualTo(expected);
+            assertThat(tree.size()).isEqualTo(intervals.size());
+        }
+    }
+}
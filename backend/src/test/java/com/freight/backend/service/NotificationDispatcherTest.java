@@ -0,0 +1,129 @@
+package com.freight.backend.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.freight.backend.entity.NotificationOutbox;
+import com.freight.backend.notification.NotificationChannel;
+import com.freight.backend.notification.NotificationMessage;
+import com.freight.backend.repository.NotificationOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+
+/** outbox 디스패처의 전달/삭제/재전달 판단. 행 선점 SQL 은 NotificationOutboxServiceTest */
+class NotificationDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long WAIT_MS = 5000;
+
+    private final NotificationOutboxService outboxService = mock(NotificationOutboxService.class);
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final NotificationChannel first = mock(NotificationChannel.class);
+    private final NotificationChannel second = mock(NotificationChannel.class);
+
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(
+            outboxService, outboxRepository, List.of(first, second), BATCH_SIZE, 10, 30, MAX_ATTEMPTS
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(first.name()).thenReturn("first");
+        when(second.name()).thenReturn("second");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void storedRowsArePushedToEveryChannelThenDeleted() {
+        List<NotificationOutbox> rows = List.of(row(1L, 1), row(2L, 1));
+        when(outboxService.storePending(BATCH_SIZE)).thenReturn(rows, List.of());
+        dispatcher.start();
+
+        dispatcher.wakeUp(2);
+
+        verify(first, timeout(WAIT_MS)).deliver(argThat(eventIds(1L, 2L)));
+        verify(second, timeout(WAIT_MS)).deliver(argThat(eventIds(1L, 2L)));
+        verify(outboxRepository, timeout(WAIT_MS)).deleteByIdIn(List.of(1L, 2L));
+    }
+
+    /** 채널 하나라도 실패하면 행을 남겨 두고 (재전달 대상) 뒤 채널에는 보내지 않음 */
+    @Test
+    void channelFailureKeepsRowsForRetry() {
+        List<NotificationOutbox> rows = List.of(row(1L, 1));
+        when(outboxService.storePending(BATCH_SIZE)).thenReturn(rows, List.of());
+        doThrow(new IllegalStateException("push down")).when(first).deliver(any());
+        dispatcher.start();
+
+        dispatcher.wakeUp(1);
+
+        verify(first, timeout(WAIT_MS)).deliver(any());
+        verify(second, after(200).never()).deliver(any());
+        verify(outboxRepository, never()).deleteByIdIn(any());
+    }
+
+    /** 한 묶음이 batch-size 만큼 차 있으면 남은 행을 바로 이어서 처리 */
+    @Test
+    void drainContinuesWhileBatchesAreFull() {
+        List<NotificationOutbox> full = List.of(row(1L, 1), row(2L, 1));
+        List<NotificationOutbox> rest = List.of(row(3L, 1));
+        when(outboxService.storePending(BATCH_SIZE)).thenReturn(full, rest, List.of());
+        dispatcher.start();
+
+        dispatcher.wakeUp(3);
+
+        verify(outboxRepository, timeout(WAIT_MS)).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxRepository, timeout(WAIT_MS)).deleteByIdIn(List.of(3L));
+    }
+
+    /** 재전달: max-attempts 에 닿은 행은 버리고 나머지만 다시 전달 */
+    @Test
+    void retryDropsRowsPastMaxAttempts() {
+        List<NotificationOutbox> stale = List.of(row(1L, MAX_ATTEMPTS), row(2L, 1));
+        when(outboxService.claimStaleStored(any(LocalDateTime.class), anyInt())).thenReturn(stale, List.of());
+        dispatcher.start();
+
+        dispatcher.retryStored();
+
+        verify(outboxRepository).deleteByIdIn(List.of(1L));
+        verify(first).deliver(argThat(eventIds(2L)));
+        verify(second).deliver(argThat(eventIds(2L)));
+        verify(outboxRepository).deleteByIdIn(List.of(2L));
+    }
+
+    @Test
+    void retryBeforeStartDoesNothing() {
+        dispatcher.retryStored();
+
+        verify(outboxService, never()).claimStaleStored(any(), anyInt());
+    }
+
+    private static NotificationOutbox row(Long id, int attempts) {
+        NotificationOutbox row = mock(NotificationOutbox.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getReceiverId()).thenReturn(100L + id);
+        when(row.getAttempts()).thenReturn(attempts);
+        when(row.getCreatedAt()).thenReturn(LocalDateTime.now());
+        return row;
+    }
+
+    private static ArgumentMatcher<List<NotificationMessage>> eventIds(Long... ids) {
+        List<Long> expected = List.of(ids);
+        return messages -> messages.stream().map(NotificationMessage::eventId).toList().equals(expected);
+    }
+}
@@ -0,0 +1,90 @@
+package com.freight.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.freight.backend.entity.Notification;
+import com.freight.backend.entity.NotificationOutbox;
+import com.freight.backend.notification.UnreadCountCache;
+import com.freight.backend.repository.NotificationOutboxRepository;
+import com.freight.backend.repository.NotificationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/** outbox 단계별 SQL (PENDING → notifications 저장 + STORED, 오래된 STORED 재선점). H2 MySQL 모드 */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({NotificationOutboxService.class, UnreadCountCache.class})
+class NotificationOutboxServiceTest {
+
+    @Autowired
+    private NotificationOutboxService outboxService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void storePendingCopiesRowsToNotificationsAndMarksThemStored() {
+        write(1L, 2L);
+
+        List<NotificationOutbox> rows = outboxService.storePending(10);
+
+        assertThat(rows).extracting(NotificationOutbox::getReceiverId).containsExactly(1L, 2L);
+        assertThat(notificationRepository.count()).isEqualTo(2);
+        for (NotificationOutbox row : rows) {
+            NotificationOutbox stored = outboxRepository.findById(row.getId()).orElseThrow();
+            assertThat(stored.getStatus()).isEqualTo(NotificationOutbox.Status.STORED);
+            assertThat(stored.getAttempts()).isEqualTo(1);
+            assertThat(stored.getStoredAt()).isNotNull();
+        }
+        assertThat(outboxService.storePending(10)).isEmpty();
+    }
+
+    @Test
+    void storePendingTakesOldestRowsUpToLimit() {
+        write(1L, 2L, 3L);
+
+        assertThat(outboxService.storePending(2)).extracting(NotificationOutbox::getReceiverId).containsExactly(1L, 2L);
+        assertThat(outboxService.storePending(2)).extracting(NotificationOutbox::getReceiverId).containsExactly(3L);
+        assertThat(outboxRepository.countByStatus(NotificationOutbox.Status.PENDING)).isZero();
+    }
+
+    /** 푸시가 끝나지 않은 STORED 행만 재선점, 선점할 때마다 시도 횟수 증가 */
+    @Test
+    void claimStaleStoredReclaimsOnlyRowsStoredBeforeCutoff() {
+        write(1L);
+        Long id = outboxService.storePending(10).get(0).getId();
+
+        assertThat(outboxService.claimStaleStored(LocalDateTime.now().minusMinutes(1), 10)).isEmpty();
+        assertThat(outboxService.claimStaleStored(LocalDateTime.now().plusSeconds(1), 10))
+                .extracting(NotificationOutbox::getId).containsExactly(id);
+        assertThat(outboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void pendingRowsAreNotReclaimedAsStored() {
+        write(1L);
+
+        assertThat(outboxService.claimStaleStored(LocalDateTime.now().plusSeconds(1), 10)).isEmpty();
+    }
+
+    private void write(Long... receiverIds) {
+        outboxRepository.insertAll(List.of(receiverIds).stream()
+                .map(receiverId -> Notification.builder()
+                        .receiverId(receiverId)
+                        .matchId(10L)
+                        .type(Notification.Type.MATCH_OFFERED)
+                        .message("새 매칭 제안")
+                        .build())
+                .toList());
+    }
+}
@@ -0,0 +1,161 @@
+package com.freight.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Payment;
+import com.freight.backend.entity.Payment.PaymentStatus;
+import com.freight.backend.entity.RefundJob;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.repository.RefundJobRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/** 환불 작업 상태 전이 SQL (선점/임대, 성공 시 결제 REFUNDED). H2 MySQL 모드 */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(RefundJobService.class)
+class RefundJobServiceTest {
+
+    @Autowired
+    private RefundJobService refundJobService;
+
+    @Autowired
+    private RefundJobRepository refundJobRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void enqueuesOnlyCompletedTossPaymentsOnce() {
+        Long matchId = match();
+        Payment completed = payment(matchId, PaymentStatus.COMPLETED, "pk_1");
+        payment(matchId, PaymentStatus.PENDING, "pk_2");
+        payment(matchId, PaymentStatus.COMPLETED, null);
+
+        List<Long> first = refundJobService.enqueueForMatch(matchId, "매칭 취소");
+        List<Long> second = refundJobService.enqueueForMatch(matchId, "매칭 취소");
+
+        assertThat(first).hasSize(1);
+        assertThat(second).isEqualTo(first);
+        RefundJob job = refundJobRepository.findById(first.get(0)).orElseThrow();
+        assertThat(job.getPaymentId()).isEqualTo(completed.getPaymentId());
+        assertThat(job.getPaymentKey()).isEqualTo("pk_1");
+        assertThat(job.getStatus()).isEqualTo(RefundJob.Status.PENDING);
+        assertThat(job.getAttempts()).isZero();
+    }
+
+    /** 임대 중인 작업은 다른 시도가 선점하지 못함 */
+    @Test
+    void secondClaimWithinLeaseIsRejected() {
+        Long jobId = enqueue();
+
+        Optional<RefundJob> first = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60));
+        Optional<RefundJob> second = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60));
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getStatus()).isEqualTo(RefundJob.Status.IN_PROGRESS);
+        assertThat(first.get().getAttempts()).isEqualTo(1);
+        assertThat(second).isEmpty();
+    }
+
+    /** 시도 중 죽은 노드의 작업은 임대 만료 후 다시 선점 가능 (시도 횟수 누적) */
+    @Test
+    void expiredLeaseCanBeReclaimed() {
+        Long jobId = enqueue();
+        refundJobService.claim(jobId, LocalDateTime.now().minusSeconds(1));
+
+        Optional<RefundJob> reclaimed = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60));
+
+        assertThat(reclaimed).isPresent();
+        assertThat(reclaimed.get().getAttempts()).isEqualTo(2);
+    }
+
+    /** 재시도 대기 중(시도 시각 전)인 작업은 선점하지 않음 */
+    @Test
+    void retryBeforeNextAttemptIsNotClaimed() {
+        Long jobId = enqueue();
+        RefundJob job = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60)).orElseThrow();
+        refundJobService.retryAt(job, LocalDateTime.now().plusMinutes(5), "429 PROVIDER_ERROR");
+
+        RefundJob pending = refundJobRepository.findById(jobId).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(RefundJob.Status.PENDING);
+        assertThat(pending.getLastError()).isEqualTo("429 PROVIDER_ERROR");
+        assertThat(refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60))).isEmpty();
+    }
+
+    @Test
+    void succeedMarksPaymentRefunded() {
+        Long matchId = match();
+        Payment payment = payment(matchId, PaymentStatus.COMPLETED, "pk_1");
+        Long jobId = refundJobService.enqueueForMatch(matchId, "매칭 취소").get(0);
+        RefundJob job = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60)).orElseThrow();
+
+        refundJobService.succeed(job);
+
+        RefundJob done = refundJobRepository.findById(jobId).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(RefundJob.Status.SUCCEEDED);
+        assertThat(done.getCompletedAt()).isNotNull();
+        assertThat(paymentRepository.findById(payment.getPaymentId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.REFUNDED);
+    }
+
+    /** 임대가 만료돼 다른 시도가 이미 끝낸 작업의 늦은 결과는 반영하지 않음 */
+    @Test
+    void lateResultAfterCompletionIsIgnored() {
+        Long jobId = enqueue();
+        RefundJob job = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60)).orElseThrow();
+        refundJobService.succeed(job);
+
+        refundJobService.fail(job, "400 NOT_CANCELABLE_AMOUNT");
+
+        RefundJob done = refundJobRepository.findById(jobId).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(RefundJob.Status.SUCCEEDED);
+        assertThat(done.getLastError()).isNull();
+    }
+
+    @Test
+    void failedJobCanBeResetOnce() {
+        Long jobId = enqueue();
+        RefundJob job = refundJobService.claim(jobId, LocalDateTime.now().plusSeconds(60)).orElseThrow();
+        refundJobService.fail(job, "400 NOT_CANCELABLE_AMOUNT");
+
+        assertThat(refundJobService.resetFailed(jobId)).isTrue();
+        assertThat(refundJobService.resetFailed(jobId)).isFalse();
+        RefundJob reset = refundJobRepository.findById(jobId).orElseThrow();
+        assertThat(reset.getStatus()).isEqualTo(RefundJob.Status.PENDING);
+        assertThat(reset.getAttempts()).isZero();
+    }
+
+    private Long enqueue() {
+        Long matchId = match();
+        payment(matchId, PaymentStatus.COMPLETED, "pk_" + matchId);
+        return refundJobService.enqueueForMatch(matchId, "매칭 취소").get(0);
+    }
+
+    private Long match() {
+        return matchRepository.saveAndFlush(Match.builder().quoteId(1L).status(Match.Status.CANCELLED).build())
+                .getMatchId();
+    }
+
+    private Payment payment(Long matchId, PaymentStatus status, String paymentKey) {
+        return paymentRepository.saveAndFlush(Payment.builder()
+                .matchId(matchId)
+                .status(status)
+                .pgRef(paymentKey)
+                .totalAmount(50_000)
+                .build());
+    }
+}
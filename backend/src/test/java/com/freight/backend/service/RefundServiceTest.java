@@ -0,0 +1,157 @@
+package com.freight.backend.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.freight.backend.common.WorkerThreads;
+import com.freight.backend.entity.RefundJob;
+import com.freight.backend.repository.RefundJobRepository;
+import com.freight.backend.tosspayments.TossPaymentsClient;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/** 토스 취소 결과 분류 (성공 / 재시도 / 즉시 FAILED). 작업 상태 전이 SQL 은 RefundJobServiceTest */
+class RefundServiceTest {
+
+    private static final long JOB_ID = 10L;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long WAIT_MS = 5000;
+
+    private final RefundJobService refundJobService = mock(RefundJobService.class);
+    private final RefundJobRepository refundJobRepository = mock(RefundJobRepository.class);
+    private final TossPaymentsClient tossPaymentsClient = mock(TossPaymentsClient.class);
+    private final RefundJob job = mock(RefundJob.class);
+
+    // 백오프를 길게 잡아 재시도 예약이 테스트 중에 다시 실행되지 않게 함
+    private final RefundService refundService = new RefundService(
+            refundJobService, refundJobRepository, tossPaymentsClient,
+            new WorkerThreads(new StandardEnvironment()),
+            2, 16, MAX_ATTEMPTS, 60_000, 600_000, 60, 100, 5, 64
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(tossPaymentsClient.isConfigured()).thenReturn(true);
+        when(job.getId()).thenReturn(JOB_ID);
+        when(job.getPaymentId()).thenReturn(20L);
+        when(job.getPaymentKey()).thenReturn("pk_test");
+        when(job.getReason()).thenReturn("매칭 취소");
+        when(job.getAttempts()).thenReturn(1);
+        when(job.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(refundJobService.enqueueForMatch(1L, "매칭 취소")).thenReturn(List.of(JOB_ID));
+        when(refundJobService.claim(eq(JOB_ID), any(LocalDateTime.class))).thenReturn(Optional.of(job));
+        refundService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refundService.stop();
+    }
+
+    @Test
+    void successfulCancelCompletesTheJob() {
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS)).succeed(job);
+        verify(tossPaymentsClient).cancel("pk_test", "매칭 취소", "refund-" + JOB_ID);
+        verify(refundJobService, never()).fail(any(), anyString());
+    }
+
+    /** 이전 시도가 토스에서는 성공했지만 결과 반영 전에 끊긴 경우: 이미 취소됨 = 성공 */
+    @Test
+    void alreadyCanceledPaymentCountsAsSuccess() {
+        when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+                .thenThrow(clientError(HttpStatus.BAD_REQUEST, "ALREADY_CANCELED_PAYMENT"));
+
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS)).succeed(job);
+        verify(refundJobService, never()).fail(any(), anyString());
+        verify(refundJobService, never()).retryAt(any(), any(), anyString());
+    }
+
+    @Test
+    void clientErrorFailsWithoutRetry() {
+        when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+                .thenThrow(clientError(HttpStatus.BAD_REQUEST, "NOT_CANCELABLE_AMOUNT"));
+
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS)).fail(eq(job), contains("NOT_CANCELABLE_AMOUNT"));
+        verify(refundJobService, never()).retryAt(any(), any(), anyString());
+        verify(refundJobService, never()).succeed(any());
+    }
+
+    @Test
+    void tooManyRequestsIsRetried() {
+        when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+                .thenThrow(clientError(HttpStatus.TOO_MANY_REQUESTS, "PROVIDER_ERROR"));
+
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS))
+                .retryAt(eq(job), any(LocalDateTime.class), contains("429"));
+        verify(refundJobService, never()).fail(any(), anyString());
+    }
+
+    @Test
+    void networkErrorIsRetried() {
+        when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS))
+                .retryAt(eq(job), any(LocalDateTime.class), contains("ResourceAccessException"));
+        verify(refundJobService, never()).fail(any(), anyString());
+    }
+
+    @Test
+    void retryableErrorFailsAfterMaxAttempts() {
+        when(job.getAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS)).fail(eq(job), contains("ResourceAccessException"));
+        verify(refundJobService, never()).retryAt(any(), any(), anyString());
+    }
+
+    /** 다른 노드가 먼저 선점한 작업은 토스를 호출하지 않음 */
+    @Test
+    void lostClaimSkipsTheCall() {
+        when(refundJobService.claim(eq(JOB_ID), any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        refundService.requestRefunds(1L, "매칭 취소");
+
+        verify(refundJobService, timeout(WAIT_MS)).claim(eq(JOB_ID), any(LocalDateTime.class));
+        verify(tossPaymentsClient, after(200).never()).cancel(anyString(), anyString(), anyString());
+    }
+
+    private static HttpClientErrorException clientError(HttpStatus status, String code) {
+        String body = "{\"code\":\"" + code + "\",\"message\":\"test\"}";
+        return HttpClientErrorException.create(
+                status, status.getReasonPhrase(), new HttpHeaders(),
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8
+        );
+    }
+}
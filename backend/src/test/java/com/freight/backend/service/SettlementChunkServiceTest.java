@@ -0,0 +1,211 @@
+package com.freight.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.freight.backend.entity.Match;
+import com.freight.backend.entity.Payment;
+import com.freight.backend.entity.Payment.PaymentStatus;
+import com.freight.backend.entity.QuoteChecklistItem;
+import com.freight.backend.entity.SettlementBatch;
+import com.freight.backend.entity.SettlementDriverPayout;
+import com.freight.backend.entity.SettlementItem;
+import com.freight.backend.exception.CustomException;
+import com.freight.backend.exception.ErrorCode;
+import com.freight.backend.repository.MatchRepository;
+import com.freight.backend.repository.PaymentRepository;
+import com.freight.backend.repository.QuoteChecklistItemRepository;
+import com.freight.backend.repository.SettlementBatchRepository;
+import com.freight.backend.repository.SettlementDriverPayoutRepository;
+import com.freight.backend.repository.SettlementItemRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 정산 chunk SQL (대상 선별, 수수료/차감 계산, 매칭당 1행, checkpoint). H2 MySQL 모드
+ * - 배치 완료 합계(SettlementBatchRepository.complete)는 MySQL 전용 UPDATE ... JOIN 이라 여기서는 다루지 않음
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(SettlementChunkService.class)
+class SettlementChunkServiceTest {
+
+    private static final LocalDate PERIOD_FROM = LocalDate.of(2026, 9, 1);
+    private static final LocalDate PERIOD_TO = LocalDate.of(2026, 10, 1);
+    private static final LocalDateTime IN_PERIOD = LocalDateTime.of(2026, 9, 15, 12, 0);
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.1000");
+    private static final long DRIVER_ID = 7L;
+
+    @Autowired
+    private SettlementChunkService settlementChunkService;
+
+    @Autowired
+    private SettlementItemRepository settlementItemRepository;
+
+    @Autowired
+    private SettlementBatchRepository settlementBatchRepository;
+
+    @Autowired
+    private SettlementDriverPayoutRepository settlementDriverPayoutRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private QuoteChecklistItemRepository quoteChecklistItemRepository;
+
+    /** 수수료 = 결제 금액 × rate / (1 + rate), 차감 = 미이행 추가 요금 합, 지급 = 결제 - 수수료 - 차감 */
+    @Test
+    void itemAmountsFollowFeeAndUnfulfilledChecklist() {
+        Long matchId = match(100L, Match.Status.COMPLETED, DRIVER_ID);
+        Payment payment = payment(matchId, PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        checklist(100L, "1500.40", false);
+        checklist(100L, "499.60", false);
+        checklist(100L, "3000", true);
+
+        assertThat(run()).isEqualTo(1);
+
+        SettlementItem item = settlementItemRepository.findAll().get(0);
+        assertThat(item.getMatchId()).isEqualTo(matchId);
+        assertThat(item.getPaymentId()).isEqualTo(payment.getPaymentId());
+        assertThat(item.getDriverId()).isEqualTo(DRIVER_ID);
+        assertThat(item.getGrossAmount()).isEqualTo(11_000L);
+        assertThat(item.getFeeAmount()).isEqualTo(1_000L);
+        assertThat(item.getAdjustmentAmount()).isEqualTo(2_000L);
+        assertThat(item.getPayoutAmount()).isEqualTo(8_000L);
+    }
+
+    /** 차감이 지급액보다 크면 0 으로 (음수 지급 없음) */
+    @Test
+    void payoutIsFlooredAtZero() {
+        Long matchId = match(100L, Match.Status.COMPLETED, DRIVER_ID);
+        payment(matchId, PaymentStatus.COMPLETED, IN_PERIOD, 1_100);
+        checklist(100L, "5000", false);
+
+        run();
+
+        SettlementItem item = settlementItemRepository.findAll().get(0);
+        assertThat(item.getAdjustmentAmount()).isEqualTo(5_000L);
+        assertThat(item.getPayoutAmount()).isZero();
+    }
+
+    /** 결제 COMPLETED + 기간 안 + 매칭 COMPLETED(기사 배정) 만 대상 */
+    @Test
+    void onlyCompletedPaymentsOfCompletedMatchesInPeriodAreSettled() {
+        Long settled = match(100L, Match.Status.COMPLETED, DRIVER_ID);
+        payment(settled, PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        payment(match(101L, Match.Status.COMPLETED, DRIVER_ID), PaymentStatus.REFUNDED, IN_PERIOD, 11_000);
+        payment(match(102L, Match.Status.IN_TRANSIT, DRIVER_ID), PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        payment(match(103L, Match.Status.CANCELLED, DRIVER_ID), PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        payment(match(104L, Match.Status.COMPLETED, null), PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        payment(match(105L, Match.Status.COMPLETED, DRIVER_ID), PaymentStatus.COMPLETED, PERIOD_TO.atStartOfDay(), 11_000);
+
+        assertThat(run()).isEqualTo(1);
+
+        assertThat(settlementItemRepository.findAll()).extracting(SettlementItem::getMatchId).containsExactly(settled);
+    }
+
+    /** 한 매칭에 완료 결제가 여러 건이어도, 배치를 다시 돌려도 매칭당 1행 */
+    @Test
+    void eachMatchIsSettledOnce() {
+        Long matchId = match(100L, Match.Status.COMPLETED, DRIVER_ID);
+        payment(matchId, PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        payment(matchId, PaymentStatus.COMPLETED, IN_PERIOD.plusHours(1), 5_500);
+
+        assertThat(run()).isEqualTo(1);
+        assertThat(run()).isZero();
+        assertThat(settlementItemRepository.count()).isEqualTo(1);
+    }
+
+    /** 같은 구간을 다른 실행이 이미 처리했으면 (checkpoint 이동됨) 충돌 */
+    @Test
+    void chunkFromStaleCheckpointIsRejected() {
+        payment(match(100L, Match.Status.COMPLETED, DRIVER_ID), PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        SettlementBatch batch = settlementChunkService.create(PERIOD_FROM, PERIOD_TO, PERIOD_FROM.atStartOfDay(), FEE_RATE);
+        long afterId = batch.getCheckpointPaymentId();
+
+        settlementChunkService.processChunk(batch, afterId, batch.getMaxPaymentId());
+
+        assertThat(settlementBatchRepository.findById(batch.getBatchId()).orElseThrow().getCheckpointPaymentId())
+                .isEqualTo(batch.getMaxPaymentId());
+        assertThatThrownBy(() -> settlementChunkService.processChunk(batch, afterId, batch.getMaxPaymentId()))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SETTLEMENT_ALREADY_RUNNING);
+    }
+
+    @Test
+    void driverPayoutsSumItemsPerDriver() {
+        payment(match(100L, Match.Status.COMPLETED, DRIVER_ID), PaymentStatus.COMPLETED, IN_PERIOD, 11_000);
+        payment(match(101L, Match.Status.COMPLETED, DRIVER_ID), PaymentStatus.COMPLETED, IN_PERIOD, 22_000);
+        payment(match(102L, Match.Status.COMPLETED, 8L), PaymentStatus.COMPLETED, IN_PERIOD, 5_500);
+        Long batchId = runBatch();
+
+        settlementDriverPayoutRepository.insertForBatch(batchId, LocalDateTime.now());
+
+        List<SettlementDriverPayout> payouts = settlementDriverPayoutRepository
+                .findByBatchIdOrderByDriverIdAsc(batchId, PageRequest.of(0, 10)).getContent();
+        assertThat(payouts).extracting(SettlementDriverPayout::getDriverId).containsExactly(DRIVER_ID, 8L);
+        assertThat(payouts.get(0).getMatchCount()).isEqualTo(2L);
+        assertThat(payouts.get(0).getPayoutAmount()).isEqualTo(30_000L);
+        assertThat(payouts.get(1).getPayoutAmount()).isEqualTo(5_000L);
+    }
+
+    /** 기간 전체를 한 chunk 로 (배치는 기간당 1개라 다시 돌리면 같은 배치 사용) */
+    private int run() {
+        SettlementBatch batch = settlementBatchRepository.findByPeriodFromAndPeriodTo(PERIOD_FROM, PERIOD_TO)
+                .orElseGet(() -> settlementChunkService.create(PERIOD_FROM, PERIOD_TO, PERIOD_FROM.atStartOfDay(), FEE_RATE));
+        return settlementItemRepository.insertChunk(
+                batch.getBatchId(), 0L, Long.MAX_VALUE,
+                batch.getPaidFrom(), PERIOD_TO.atStartOfDay(), FEE_RATE, LocalDateTime.now()
+        );
+    }
+
+    private Long runBatch() {
+        SettlementBatch batch = settlementChunkService.create(PERIOD_FROM, PERIOD_TO, PERIOD_FROM.atStartOfDay(), FEE_RATE);
+        settlementChunkService.processChunk(batch, batch.getCheckpointPaymentId(), batch.getMaxPaymentId());
+        return batch.getBatchId();
+    }
+
+    private Long match(Long quoteId, Match.Status status, Long driverId) {
+        return matchRepository.saveAndFlush(Match.builder()
+                        .quoteId(quoteId)
+                        .driverId(driverId)
+                        .accepted(driverId != null)
+                        .status(status)
+                        .build())
+                .getMatchId();
+    }
+
+    private Payment payment(Long matchId, PaymentStatus status, LocalDateTime paidAt, int amount) {
+        return paymentRepository.saveAndFlush(Payment.builder()
+                .matchId(matchId)
+                .status(status)
+                .paidAt(paidAt)
+                .pgRef("pk_" + matchId)
+                .totalAmount(amount)
+                .build());
+    }
+
+    private void checklist(Long quoteId, String extraFee, boolean fulfilled) {
+        quoteChecklistItemRepository.saveAndFlush(QuoteChecklistItem.builder()
+                .quoteId(quoteId)
+                .checklistItemId(1L)
+                .extraFee(new BigDecimal(extraFee))
+                .fulfilled(fulfilled)
+                .build());
+    }
+}
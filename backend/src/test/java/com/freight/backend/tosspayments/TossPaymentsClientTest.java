@@ -0,0 +1,111 @@
+package com.freight.backend.tosspayments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.freight.backend.http.OutboundHttpClients;
+import com.freight.backend.http.OutboundRejectedException;
+import com.freight.backend.http.StubHttpServer;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/** 로컬 stub 서버로 토스 클라이언트의 요청 형식, 타임아웃, 서킷 open/half-open 확인 */
+class TossPaymentsClientTest {
+
+    private static final String CANCELED = """
+            {"paymentKey":"pk_1","orderId":"order-1","status":"CANCELED","totalAmount":50000}
+            """;
+
+    private StubHttpServer stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubHttpServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void cancelSendsIdempotencyKeyAndParsesResponse() {
+        stub.respond(200, CANCELED);
+
+        TossPaymentConfirmResponse response = client(clients(Duration.ofHours(1))).cancel("pk_1", "매칭 취소", "refund-10");
+
+        assertThat(response.getStatus()).isEqualTo("CANCELED");
+        assertThat(response.getTotalAmount()).isEqualTo(50_000L);
+        StubHttpServer.Request request = stub.requests().get(0);
+        assertThat(request.method()).isEqualTo("POST");
+        assertThat(request.uri()).isEqualTo("/v1/payments/pk_1/cancel");
+        assertThat(request.header("Idempotency-Key")).isEqualTo("refund-10");
+        assertThat(request.header("Authorization")).startsWith("Basic ");
+        assertThat(request.body()).contains("매칭 취소");
+    }
+
+    /** 응답 타임아웃도 실패로 세어 서킷을 엶 */
+    @Test
+    void slowResponsesTimeOutAndOpenTheCircuit() {
+        stub.respond(200, CANCELED);
+        stub.delay(Duration.ofSeconds(2));
+        OutboundHttpClients clients = clients(Duration.ofHours(1));
+        TossPaymentsClient client = client(clients);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.cancel("pk_1", "매칭 취소", "refund-10"))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThatThrownBy(() -> client.cancel("pk_1", "매칭 취소", "refund-10"))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(clients.stats().get(0).getCircuitState()).isEqualTo("OPEN");
+    }
+
+    /** open 상태에서는 upstream 에 요청을 보내지 않고 바로 거절 */
+    @Test
+    void openCircuitRejectsWithoutCallingUpstream() {
+        stub.respond(500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+        TossPaymentsClient client = client(clients(Duration.ofHours(1)));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.cancel("pk_1", "매칭 취소", "refund-10"))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThatThrownBy(() -> client.cancel("pk_1", "매칭 취소", "refund-10"))
+                .isInstanceOf(OutboundRejectedException.class);
+        assertThat(stub.requests()).hasSize(2);
+    }
+
+    /** open-duration 이 지나면 시험 호출 1건을 보내고, 성공하면 다시 닫힘 */
+    @Test
+    void successfulProbeClosesTheCircuit() throws InterruptedException {
+        stub.respond(500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+        OutboundHttpClients clients = clients(Duration.ofMillis(100));
+        TossPaymentsClient client = client(clients);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.cancel("pk_1", "매칭 취소", "refund-10"))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        stub.respond(200, CANCELED);
+        Thread.sleep(200);
+
+        assertThat(client.cancel("pk_1", "매칭 취소", "refund-10").getStatus()).isEqualTo("CANCELED");
+        assertThat(clients.stats().get(0).getCircuitState()).isEqualTo("CLOSED");
+        assertThat(client.cancel("pk_1", "매칭 취소", "refund-10").getStatus()).isEqualTo("CANCELED");
+    }
+
+    private static OutboundHttpClients clients(Duration openDuration) {
+        return StubHttpServer.outboundClients("toss", openDuration);
+    }
+
+    private TossPaymentsClient client(OutboundHttpClients clients) {
+        return new TossPaymentsClient(clients, stub.baseUrl(), "test_sk");
+    }
+}